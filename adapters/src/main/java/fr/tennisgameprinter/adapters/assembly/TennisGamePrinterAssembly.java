@@ -0,0 +1,218 @@
+package fr.tennisgameprinter.adapters.assembly;
+
+import fr.tennisgameprinter.adapters.deserializer.ByteBufferDeserializer;
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.adapters.input.TennisGameBatchFileReader;
+import fr.tennisgameprinter.adapters.input.TennisGameInputReader;
+import fr.tennisgameprinter.adapters.listener.BufferedPointRenderingListener;
+import fr.tennisgameprinter.adapters.metrics.JmxPipelineMetrics;
+import fr.tennisgameprinter.adapters.network.TennisGameServer;
+import fr.tennisgameprinter.domain.CachingTennisGameProcessor;
+import fr.tennisgameprinter.domain.CharCachingTennisGameProcessor;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.engine.CharTennisGame;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+
+import javax.management.JMException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Scanner;
+
+/**
+ * Wires our adapters to the domain, in plain Java, so that every entrypoint of our application assembles the exact same
+ * components, whether through Spring or by hand.
+ * <p>
+ * Every {@link TennisGameProcessor} it creates shares the same {@link GameConsistencyValidator},
+ * {@link BufferedPointRenderingListener} and {@link PipelineMetrics}, and simulates each game through a
+ * {@link CharTennisGame}, as our players are always identified by a {@link Character}.
+ */
+public class TennisGamePrinterAssembly {
+
+    /** The default maximum number of games whose outcome is remembered. */
+    public static final int DEFAULT_CACHE_MAXIMUM_SIZE = 1024;
+    /** The default port of the TCP server. */
+    public static final int DEFAULT_SERVER_PORT = 7070;
+
+    /** The {@link StringDeserializer} adapter of the interactive and piped input, and of the TCP server. */
+    private final StringDeserializer stringDeserializer;
+    /** The {@link ByteBufferDeserializer} adapter of the batch files. */
+    private final ByteBufferDeserializer byteBufferDeserializer;
+    /** The {@link GameConsistencyValidator} shared by every {@link TennisGameProcessor}. */
+    private final GameConsistencyValidator<Character> gameConsistencyValidator;
+    /** The {@link BufferedPointRenderingListener} adapter shared by every {@link TennisGameProcessor}. */
+    private final BufferedPointRenderingListener bufferedPointRenderingProbe;
+    /** The {@link PipelineMetrics} shared by every {@link TennisGameProcessor}. */
+    private final PipelineMetrics pipelineMetrics;
+
+    /**
+     * Creates a new {@link TennisGamePrinterAssembly} whose points are rendered into the standard output, once per game,
+     * and validated by a {@link CharGameConsistencyValidator}.
+     * @param pipelineMetrics the {@link PipelineMetrics} to record each stage of the pipeline into.
+     */
+    public TennisGamePrinterAssembly(final PipelineMetrics pipelineMetrics) {
+        this(
+                new StringDeserializer(),
+                new ByteBufferDeserializer(),
+                new CharGameConsistencyValidator(),
+                new BufferedPointRenderingListener('A', 'B', System.out, true),
+                pipelineMetrics
+        );
+    }
+
+    /**
+     * Creates a new {@link TennisGamePrinterAssembly} from the provided components.
+     * @param stringDeserializer the {@link StringDeserializer} adapter.
+     * @param byteBufferDeserializer the {@link ByteBufferDeserializer} adapter.
+     * @param gameConsistencyValidator the {@link GameConsistencyValidator}.
+     * @param bufferedPointRenderingProbe the {@link BufferedPointRenderingListener} adapter.
+     * @param pipelineMetrics the {@link PipelineMetrics} to record each stage of the pipeline into.
+     */
+    public TennisGamePrinterAssembly(final StringDeserializer stringDeserializer,
+                                     final ByteBufferDeserializer byteBufferDeserializer,
+                                     final GameConsistencyValidator<Character> gameConsistencyValidator,
+                                     final BufferedPointRenderingListener bufferedPointRenderingProbe,
+                                     final PipelineMetrics pipelineMetrics) {
+        this.stringDeserializer = Objects.requireNonNull(stringDeserializer, "the provided string deserializer must not be null.");
+        this.byteBufferDeserializer = Objects.requireNonNull(byteBufferDeserializer, "the provided byte buffer deserializer must not be null.");
+        this.gameConsistencyValidator = Objects.requireNonNull(gameConsistencyValidator, "the provided game consistency validator must not be null.");
+        this.bufferedPointRenderingProbe = Objects.requireNonNull(bufferedPointRenderingProbe, "the provided probe must not be null.");
+        this.pipelineMetrics = Objects.requireNonNull(pipelineMetrics, "the provided pipeline metrics must not be null.");
+    }
+
+    /**
+     * Creates a new {@link CharCachingTennisGameProcessor} for the interactive input and the TCP server. Each game is
+     * simulated a single time, as the {@link GameConsistencyValidator} only forwards its points once the game is proven
+     * consistent, and the outcome of the most recently processed games is replayed rather than processed again. The
+     * points of each game are buffered as the bytes of their transitions and replayed through the primitive callbacks
+     * of the {@link BufferedPointRenderingListener}, so that the whole path is char-specialized.
+     * @param cacheMaximumSize the maximum number of games whose outcome is remembered.
+     * @param cacheMaximumWeight the maximum number of points remembered across all games.
+     * @return a {@link CachingTennisGameProcessor} initialized with our adapters.
+     */
+    public CachingTennisGameProcessor<String, Character> tennisGameProcessor(final int cacheMaximumSize, final long cacheMaximumWeight) {
+        return new CharCachingTennisGameProcessor<>(
+                stringDeserializer,
+                gameConsistencyValidator,
+                bufferedPointRenderingProbe,
+                SimulationMode.SPECULATIVE,
+                pipelineMetrics,
+                cacheMaximumSize,
+                cacheMaximumWeight
+        );
+    }
+
+    /**
+     * Creates a new plain {@link TennisGameProcessor} for the piped input, whose games are seldom repeated enough to be
+     * worth caching.
+     * @return a {@link TennisGameProcessor} initialized with our adapters.
+     */
+    public TennisGameProcessor<String, Character> pipeTennisGameProcessor() {
+        return new TennisGameProcessor<>(
+                stringDeserializer,
+                gameConsistencyValidator,
+                bufferedPointRenderingProbe,
+                CharTennisGame::new,
+                SimulationMode.SPECULATIVE,
+                pipelineMetrics
+        );
+    }
+
+    /**
+     * Creates a new {@link TennisGameProcessor} which processes the games of a batch file, whose points are rendered by
+     * the {@link TennisGameBatchFileReader} into a non-flushing renderer of its own rather than the shared
+     * {@link BufferedPointRenderingListener}.
+     * @return a {@link TennisGameProcessor} initialized with our adapters.
+     */
+    public TennisGameProcessor<ByteBuffer, Character> batchTennisGameProcessor() {
+        return new TennisGameProcessor<>(
+                byteBufferDeserializer,
+                gameConsistencyValidator,
+                bufferedPointRenderingProbe,
+                CharTennisGame::new,
+                SimulationMode.SPECULATIVE,
+                pipelineMetrics
+        );
+    }
+
+    /**
+     * Creates a new {@link TennisGameInputReader} to read user input, whose piped input is processed by a plain
+     * {@link TennisGameProcessor} rather than through the cache of the interactive one.
+     * @param tennisGameProcessor the {@link TennisGameProcessor} that will process the interactive input.
+     * @param scanner the {@link Scanner} which will read user input.
+     * @return a {@link TennisGameInputReader} initialized with the provided {@link TennisGameProcessor} and {@link Scanner}.
+     */
+    public TennisGameInputReader tennisGameInputReader(final TennisGameProcessor<String, Character> tennisGameProcessor,
+                                                       final Scanner scanner) {
+        return new TennisGameInputReader(tennisGameProcessor, pipeTennisGameProcessor(), scanner);
+    }
+
+    /**
+     * Creates a new {@link TennisGameBatchFileReader} to read batch files.
+     * @param batchTennisGameProcessor the {@link TennisGameProcessor} that will process each game of a batch file.
+     * @return a {@link TennisGameBatchFileReader} initialized with the provided {@link TennisGameProcessor}.
+     */
+    public TennisGameBatchFileReader tennisGameBatchFileReader(final TennisGameProcessor<ByteBuffer, Character> batchTennisGameProcessor) {
+        return new TennisGameBatchFileReader(batchTennisGameProcessor);
+    }
+
+    /**
+     * Creates a new {@link TennisGameServer} to serve games over TCP, which is only started on demand.
+     * @param tennisGameProcessor the {@link TennisGameProcessor} that will process the games of every connection.
+     * @param port the port to listen on.
+     * @return a {@link TennisGameServer} initialized with the provided {@link TennisGameProcessor}.
+     */
+    public TennisGameServer tennisGameServer(final TennisGameProcessor<String, Character> tennisGameProcessor, final int port) {
+        return new TennisGameServer(tennisGameProcessor, port);
+    }
+
+    /**
+     * Exposes our {@link PipelineMetrics} over JMX, along with the cache usage of the provided
+     * {@link CachingTennisGameProcessor}, which initializes JMX on first use.
+     * @param cachingTennisGameProcessor the {@link CachingTennisGameProcessor} whose cache usage is exposed.
+     * @return the registered {@link JmxPipelineMetrics}, to be closed once the metrics should no longer be exposed.
+     * @throws JMException if the metrics could not be registered.
+     */
+    public JmxPipelineMetrics jmxPipelineMetrics(final CachingTennisGameProcessor<?, ?> cachingTennisGameProcessor) throws JMException {
+        JmxPipelineMetrics jmxPipelineMetrics = new JmxPipelineMetrics(pipelineMetrics, cachingTennisGameProcessor);
+        jmxPipelineMetrics.register();
+        return jmxPipelineMetrics;
+    }
+
+    /**
+     * @return the {@link StringDeserializer} adapter.
+     */
+    public StringDeserializer getStringDeserializer() {
+        return stringDeserializer;
+    }
+
+    /**
+     * @return the {@link ByteBufferDeserializer} adapter.
+     */
+    public ByteBufferDeserializer getByteBufferDeserializer() {
+        return byteBufferDeserializer;
+    }
+
+    /**
+     * @return the {@link GameConsistencyValidator} shared by every {@link TennisGameProcessor}.
+     */
+    public GameConsistencyValidator<Character> getGameConsistencyValidator() {
+        return gameConsistencyValidator;
+    }
+
+    /**
+     * @return the {@link BufferedPointRenderingListener} adapter shared by every {@link TennisGameProcessor}.
+     */
+    public BufferedPointRenderingListener getBufferedPointRenderingProbe() {
+        return bufferedPointRenderingProbe;
+    }
+
+    /**
+     * @return the {@link PipelineMetrics} shared by every {@link TennisGameProcessor}.
+     */
+    public PipelineMetrics getPipelineMetrics() {
+        return pipelineMetrics;
+    }
+}
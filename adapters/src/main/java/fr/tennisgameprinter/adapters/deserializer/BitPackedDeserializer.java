@@ -0,0 +1,55 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.InputDeserializer;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An adapter implementation of the {@link InputDeserializer} port which takes a game encoded in the bit-packed binary
+ * format described by {@link BitPackedPointSource}, starting at the position of a {@link ByteBuffer}, and builds a
+ * {@link List} of {@link Point}s that identify the winner as a {@link Character}, or a {@link PointSource} that reads
+ * each winner straight from the {@link ByteBuffer}.
+ * <p>
+ * Games are encoded from their text representation by a {@link BitPackedGameEncoder}.
+ */
+public class BitPackedDeserializer implements InputDeserializer<ByteBuffer, Character> {
+
+    private final char firstPlayerId;
+    private final char secondPlayerId;
+
+    /**
+     * Creates a new {@link BitPackedDeserializer} for games between players identified by 'A' and 'B'.
+     */
+    public BitPackedDeserializer() {
+        this('A', 'B');
+    }
+
+    /**
+     * Creates a new {@link BitPackedDeserializer} for games between the two provided players.
+     * @param firstPlayerId the identifier of the first player, whose points are encoded as cleared bits.
+     * @param secondPlayerId the identifier of the second player, whose points are encoded as set bits.
+     */
+    public BitPackedDeserializer(final char firstPlayerId, final char secondPlayerId) {
+        this.firstPlayerId = firstPlayerId;
+        this.secondPlayerId = secondPlayerId;
+    }
+
+    @Override
+    public List<Point<Character>> deserialize(final ByteBuffer input) {
+        BitPackedPointSource pointSource = deserializeToSource(input);
+        List<Point<Character>> points = new ArrayList<>(pointSource.size());
+        for (int i = 0; i < pointSource.size(); ++i) {
+            points.add(new Point<>(pointSource.winner(i)));
+        }
+        return points;
+    }
+
+    @Override
+    public BitPackedPointSource deserializeToSource(final ByteBuffer input) {
+        return new BitPackedPointSource(input, firstPlayerId, secondPlayerId);
+    }
+}
@@ -0,0 +1,100 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+
+/**
+ * Encodes tennis games from their text representation, where each {@link Character} identifies the winner of a point,
+ * into the bit-packed binary format described by {@link BitPackedPointSource}, be it a single game or a whole archive.
+ * <p>
+ * A binary archive is simply the concatenation of its encoded games, which may be read back one after the other
+ * through {@link BitPackedPointSource#encodedLength()}.
+ */
+public class BitPackedGameEncoder {
+
+    private final char firstPlayerId;
+    private final char secondPlayerId;
+
+    /**
+     * Creates a new {@link BitPackedGameEncoder} for games between players identified by 'A' and 'B'.
+     */
+    public BitPackedGameEncoder() {
+        this('A', 'B');
+    }
+
+    /**
+     * Creates a new {@link BitPackedGameEncoder} for games between the two provided players.
+     * @param firstPlayerId the identifier of the first player, whose points are encoded as cleared bits.
+     * @param secondPlayerId the identifier of the second player, whose points are encoded as set bits.
+     */
+    public BitPackedGameEncoder(final char firstPlayerId, final char secondPlayerId) {
+        if (firstPlayerId == secondPlayerId) {
+            throw new IllegalArgumentException("A tennis game must have two different players.");
+        }
+        this.firstPlayerId = firstPlayerId;
+        this.secondPlayerId = secondPlayerId;
+    }
+
+    /**
+     * @param game the text representation of a game.
+     * @return the provided game, encoded in the bit-packed binary format.
+     * @throws IllegalArgumentException if a point of the provided game is won by neither of our players.
+     */
+    public byte[] encode(final CharSequence game) {
+        int points = game.length();
+        int headerLength = 1;
+        for (int remaining = points >>> 7; remaining != 0; remaining >>>= 7) {
+            ++headerLength;
+        }
+        byte[] encoded = new byte[headerLength + BitPackedPointSource.packedLength(points)];
+        int index = 0;
+        int remaining = points;
+        while ((remaining & ~0x7F) != 0) {
+            encoded[index++] = (byte) (remaining & 0x7F | 0x80);
+            remaining >>>= 7;
+        }
+        encoded[index++] = (byte) remaining;
+        for (int i = 0; i < points; ++i) {
+            char winner = game.charAt(i);
+            if (winner == secondPlayerId) {
+                encoded[index + (i >>> 3)] |= (byte) (1 << (i & 7));
+            } else if (winner != firstPlayerId) {
+                throw new IllegalArgumentException("the point " + i + " is won by '" + winner
+                        + "', which is neither '" + firstPlayerId + "' nor '" + secondPlayerId + "'.");
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Encodes every game of the provided text archive, which holds one game per line, into the provided binary archive.
+     * Blank lines are skipped.
+     * @param textArchive the text archive to read the games from.
+     * @param binaryArchive the binary archive to write the encoded games into, which is neither flushed nor closed.
+     * @return the amount of encoded games.
+     * @throws IOException if the text archive could not be read, or if the binary archive could not be written.
+     * @throws IllegalArgumentException if a point of a game is won by neither of our players.
+     */
+    public long encode(final Reader textArchive, final OutputStream binaryArchive) throws IOException {
+        BufferedReader reader = textArchive instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(textArchive);
+        long games = 0;
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            ++lineNumber;
+            String game = line.trim();
+            if (game.isEmpty()) {
+                continue;
+            }
+            try {
+                binaryArchive.write(encode(game));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("the game at line " + lineNumber + " could not be encoded: " + e.getMessage(), e);
+            }
+            ++games;
+        }
+        return games;
+    }
+}
@@ -0,0 +1,101 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A {@link PointSource} that reads each winner straight from a game encoded in the bit-packed binary format, starting
+ * at the position of a {@link ByteBuffer}.
+ * <p>
+ * A game is encoded as its amount of points, written as an unsigned LEB128 variable-length integer, followed by one bit
+ * per point, packed eight points per byte from the least significant bit onwards. A bit is set when the point was won
+ * by the second player, and cleared when it was won by the first player. A game of up to 56 points, that is, nearly any
+ * game, thus fits in a single {@code long}.
+ * <p>
+ * Reading the points allocates nothing and never moves the position of the {@link ByteBuffer}.
+ */
+public class BitPackedPointSource implements CharPointSource {
+
+    /** The {@link ByteBuffer} that holds the encoded game. */
+    private final ByteBuffer input;
+    /** The index of the first byte of points within the {@link ByteBuffer}. */
+    private final int pointsOffset;
+    /** The amount of points. */
+    private final int size;
+    /** The amount of bytes the game is encoded with, length header included. */
+    private final int encodedLength;
+    private final char firstPlayerId;
+    private final char secondPlayerId;
+
+    /**
+     * Creates a new {@link BitPackedPointSource} over the game encoded at the position of the provided {@link ByteBuffer},
+     * whose points are won by the two provided players. Any byte that follows the encoded game is ignored.
+     * @param input the {@link ByteBuffer} that holds the encoded game.
+     * @param firstPlayerId the identifier of the first player, whose points are encoded as cleared bits.
+     * @param secondPlayerId the identifier of the second player, whose points are encoded as set bits.
+     * @throws IllegalArgumentException if the provided input does not hold a whole encoded game.
+     */
+    public BitPackedPointSource(final ByteBuffer input, final char firstPlayerId, final char secondPlayerId) {
+        this.input = Objects.requireNonNull(input, "the provided input must not be null.");
+        this.firstPlayerId = firstPlayerId;
+        this.secondPlayerId = secondPlayerId;
+        int index = input.position();
+        int points = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (index >= input.limit() || shift > 28) {
+                throw new IllegalArgumentException("the provided input does not start with a valid length header.");
+            }
+            byte header = input.get(index++);
+            points |= (header & 0x7F) << shift;
+            if (header >= 0) {
+                break;
+            }
+        }
+        if (points < 0 || packedLength(points) > input.limit() - index) {
+            throw new IllegalArgumentException("the provided input is truncated, as it holds less than " + points + " points.");
+        }
+        this.pointsOffset = index;
+        this.size = points;
+        this.encodedLength = index - input.position() + packedLength(points);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public char charWinner(final int index) {
+        return isWonBySecondPlayer(index) ? secondPlayerId : firstPlayerId;
+    }
+
+    /**
+     * @return the amount of bytes the game is encoded with, length header included, that is, the offset of the next
+     * encoded game within a binary archive.
+     */
+    public int encodedLength() {
+        return encodedLength;
+    }
+
+    /**
+     * @param points an amount of points.
+     * @return the amount of bytes the provided amount of points is packed into, length header excluded.
+     */
+    static int packedLength(final int points) {
+        return (points + 7) >>> 3;
+    }
+
+    /**
+     * @param index the index of the point.
+     * @return whether the bit of the point at the provided index is set.
+     */
+    private boolean isWonBySecondPlayer(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (input.get(pointsOffset + (index >>> 3)) >>> (index & 7) & 1) != 0;
+    }
+}
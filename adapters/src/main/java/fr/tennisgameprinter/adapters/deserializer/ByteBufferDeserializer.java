@@ -0,0 +1,30 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.InputDeserializer;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An adapter implementation of the {@link InputDeserializer} port which takes the remaining bytes of a {@link ByteBuffer},
+ * each byte being an ASCII character, and builds a {@link List} of {@link Point}s that identify the winner as a
+ * {@link Character}, or a {@link PointSource} that reads each winner straight from the {@link ByteBuffer}.
+ */
+public class ByteBufferDeserializer implements InputDeserializer<ByteBuffer, Character> {
+    @Override
+    public List<Point<Character>> deserialize(final ByteBuffer input) {
+        List<Point<Character>> points = new ArrayList<>();
+        for (int i = input.position(); i < input.limit(); ++i) {
+            points.add(new Point<>((char) (input.get(i) & 0xFF)));
+        }
+        return points;
+    }
+
+    @Override
+    public PointSource<Character> deserializeToSource(final ByteBuffer input) {
+        return new ByteBufferPointSource(input);
+    }
+}
@@ -0,0 +1,42 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A {@link PointSource} that reads each winner straight from the remaining bytes of a {@link ByteBuffer}, where each
+ * byte is an ASCII character that identifies the winner of a point. Reading the points allocates nothing and never
+ * moves the position of the {@link ByteBuffer}.
+ */
+public class ByteBufferPointSource implements CharPointSource {
+
+    /** The {@link ByteBuffer} that holds the winner of each point. */
+    private final ByteBuffer input;
+    /** The index of the first point within the {@link ByteBuffer}. */
+    private final int offset;
+    /** The amount of points. */
+    private final int size;
+
+    /**
+     * Creates a new {@link ByteBufferPointSource} over the remaining bytes of the provided {@link ByteBuffer}.
+     * @param input the {@link ByteBuffer} that holds the winner of each point.
+     */
+    public ByteBufferPointSource(final ByteBuffer input) {
+        this.input = Objects.requireNonNull(input, "the provided input must not be null.");
+        this.offset = input.position();
+        this.size = input.remaining();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public char charWinner(final int index) {
+        return (char) (input.get(offset + index) & 0xFF);
+    }
+}
@@ -0,0 +1,18 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.deserializer.StreamingInputDeserializer;
+
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * An adapter implementation of the {@link StreamingInputDeserializer} port which takes a blocking
+ * {@link ReadableByteChannel}, each byte being an ASCII character that identifies the winner of a point, and returns a
+ * {@link PointStream} that reads each winner lazily from it.
+ */
+public class ByteChannelDeserializer implements StreamingInputDeserializer<ReadableByteChannel, Character> {
+    @Override
+    public PointStream<Character> deserializeToStream(final ReadableByteChannel input) {
+        return new ByteChannelPointStream(input);
+    }
+}
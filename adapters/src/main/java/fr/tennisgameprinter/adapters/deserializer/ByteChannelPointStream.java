@@ -0,0 +1,87 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointStream;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * A {@link PointStream} that reads each winner lazily from a blocking {@link ReadableByteChannel}, where each byte is an
+ * ASCII character that identifies the winner of a point. The bytes are read in chunks into a fixed-size
+ * {@link ByteBuffer}, so that a game of any length is read with constant memory and without allocating anything per
+ * point. A line terminator that ends the input is trimmed, as long as it is {@code \n}, {@code \r\n} or {@code \r}.
+ * The {@link ReadableByteChannel} is never closed.
+ */
+public class ByteChannelPointStream implements CharPointStream {
+
+    /** The size of the buffer the bytes are read into. */
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /** The {@link ReadableByteChannel} that holds the winner of each point. */
+    private final ReadableByteChannel input;
+    /** The buffer the bytes are read into, which is kept ready to be read from. */
+    private final ByteBuffer buffer;
+    /** The number of bytes held back right after the limit of the buffer, as they may be the line terminator that ends the input. */
+    private int heldBack;
+
+    /**
+     * Creates a new {@link ByteChannelPointStream} over the provided {@link ReadableByteChannel}.
+     * @param input the blocking {@link ReadableByteChannel} that holds the winner of each point.
+     */
+    public ByteChannelPointStream(final ReadableByteChannel input) {
+        this(input, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new {@link ByteChannelPointStream} over the provided {@link ReadableByteChannel}, with a buffer of the
+     * provided size.
+     * @param input the blocking {@link ReadableByteChannel} that holds the winner of each point.
+     * @param bufferSize the size of the buffer the bytes are read into, which must leave room for a byte past a line terminator.
+     */
+    ByteChannelPointStream(final ReadableByteChannel input, final int bufferSize) {
+        this.input = Objects.requireNonNull(input, "the provided input must not be null.");
+        if (bufferSize <= LineTerminators.MAXIMUM_LENGTH) {
+            throw new IllegalArgumentException("the provided buffer size must be greater than " + LineTerminators.MAXIMUM_LENGTH + ".");
+        }
+        this.buffer = ByteBuffer.allocate(bufferSize).limit(0);
+    }
+
+    @Override
+    public int nextChar() {
+        if (!buffer.hasRemaining() && !fill()) {
+            return END_OF_STREAM;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    /**
+     * Reads the next bytes of the {@link ReadableByteChannel} after the bytes held back, if any, into the buffer.
+     * @return whether any byte was read, rather than the end of the input being reached.
+     */
+    private boolean fill() {
+        try {
+            // moves the bytes held back to the beginning of the buffer, and makes it ready to be written into after them
+            buffer.limit(buffer.limit() + heldBack).compact();
+            while (true) {
+                if (input.read(buffer) < 0) {
+                    // the bytes held back, if any, are the line terminator that ends the input
+                    buffer.clear().limit(0);
+                    heldBack = 0;
+                    return false;
+                }
+                int length = buffer.position();
+                heldBack = LineTerminators.suffixLength(buffer.array(), length);
+                if (length > heldBack) {
+                    buffer.flip().limit(length - heldBack);
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
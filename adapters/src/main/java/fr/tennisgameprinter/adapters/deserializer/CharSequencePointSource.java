@@ -0,0 +1,35 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+
+import java.util.Objects;
+
+/**
+ * A {@link PointSource} that reads each winner straight from a {@link CharSequence}, where each {@link Character}
+ * identifies the winner of a point. Comparing a winner with a player's identifier is a primitive comparison, and
+ * reading the points allocates nothing.
+ */
+public class CharSequencePointSource implements CharPointSource {
+
+    /** The {@link CharSequence} that holds the winner of each point. */
+    private final CharSequence input;
+
+    /**
+     * Creates a new {@link CharSequencePointSource} over the provided {@link CharSequence}.
+     * @param input the {@link CharSequence} that holds the winner of each point.
+     */
+    public CharSequencePointSource(final CharSequence input) {
+        this.input = Objects.requireNonNull(input, "the provided input must not be null.");
+    }
+
+    @Override
+    public int size() {
+        return input.length();
+    }
+
+    @Override
+    public char charWinner(final int index) {
+        return input.charAt(index);
+    }
+}
@@ -0,0 +1,18 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.deserializer.StreamingInputDeserializer;
+
+import java.io.InputStream;
+
+/**
+ * An adapter implementation of the {@link StreamingInputDeserializer} port which takes an {@link InputStream}, each byte
+ * being an ASCII character that identifies the winner of a point, and returns a {@link PointStream} that reads each
+ * winner lazily from it.
+ */
+public class InputStreamDeserializer implements StreamingInputDeserializer<InputStream, Character> {
+    @Override
+    public PointStream<Character> deserializeToStream(final InputStream input) {
+        return new InputStreamPointStream(input);
+    }
+}
@@ -0,0 +1,90 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointStream;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * A {@link PointStream} that reads each winner lazily from an {@link InputStream}, where each byte is an ASCII character
+ * that identifies the winner of a point. The bytes are read in chunks straight into a fixed-size buffer, so that a game
+ * of any length is read with constant memory and without allocating anything per point. A line terminator that ends the
+ * input is trimmed, as long as it is {@code \n}, {@code \r\n} or {@code \r}. The {@link InputStream} is never closed.
+ */
+public class InputStreamPointStream implements CharPointStream {
+
+    /** The size of the buffer the bytes are read into. */
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /** The {@link InputStream} that holds the winner of each point. */
+    private final InputStream input;
+    /** The buffer the bytes are read into. */
+    private final byte[] buffer;
+    /** The index of the next winner within the buffer. */
+    private int position;
+    /** The amount of bytes of the buffer that may be read. */
+    private int limit;
+    /** The number of bytes held back right after the limit, as they may be the line terminator that ends the input. */
+    private int heldBack;
+
+    /**
+     * Creates a new {@link InputStreamPointStream} over the provided {@link InputStream}.
+     * @param input the {@link InputStream} that holds the winner of each point.
+     */
+    public InputStreamPointStream(final InputStream input) {
+        this(input, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new {@link InputStreamPointStream} over the provided {@link InputStream}, with a buffer of the provided size.
+     * @param input the {@link InputStream} that holds the winner of each point.
+     * @param bufferSize the size of the buffer the bytes are read into, which must leave room for a byte past a line terminator.
+     */
+    InputStreamPointStream(final InputStream input, final int bufferSize) {
+        this.input = Objects.requireNonNull(input, "the provided input must not be null.");
+        if (bufferSize <= LineTerminators.MAXIMUM_LENGTH) {
+            throw new IllegalArgumentException("the provided buffer size must be greater than " + LineTerminators.MAXIMUM_LENGTH + ".");
+        }
+        this.buffer = new byte[bufferSize];
+    }
+
+    @Override
+    public int nextChar() {
+        if (position == limit && !fill()) {
+            return END_OF_STREAM;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * Reads the next bytes of the {@link InputStream} after the bytes held back, if any, into the buffer.
+     * @return whether any byte was read, rather than the end of the {@link InputStream} being reached.
+     */
+    private boolean fill() {
+        try {
+            System.arraycopy(buffer, limit, buffer, 0, heldBack);
+            int length = heldBack;
+            position = 0;
+            while (true) {
+                int read = input.read(buffer, length, buffer.length - length);
+                if (read < 0) {
+                    // the bytes held back, if any, are the line terminator that ends the input
+                    limit = 0;
+                    heldBack = 0;
+                    return false;
+                }
+                length += read;
+                heldBack = LineTerminators.suffixLength(buffer, length);
+                limit = length - heldBack;
+                if (limit > 0) {
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+/**
+ * Detects the line terminator that may end a chunk of a streamed game, so that a game read from a line-oriented input,
+ * such as a file or a pipe, is not rejected because of the {@code \n} or {@code \r\n} that ends its line.
+ */
+final class LineTerminators {
+
+    /** The maximum length of a line terminator, that is, the length of {@code \r\n}. */
+    static final int MAXIMUM_LENGTH = 2;
+
+    private LineTerminators() {
+    }
+
+    /**
+     * @param bytes the bytes of a chunk.
+     * @param length the number of bytes of the chunk.
+     * @return the length of the {@code \n}, {@code \r\n} or {@code \r} that ends the chunk, or 0 if there is none.
+     */
+    static int suffixLength(final byte[] bytes, final int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (bytes[length - 1] == '\n') {
+            return length > 1 && bytes[length - 2] == '\r' ? 2 : 1;
+        }
+        return bytes[length - 1] == '\r' ? 1 : 0;
+    }
+
+    /**
+     * @param chars the characters of a chunk.
+     * @param length the number of characters of the chunk.
+     * @return the length of the {@code \n}, {@code \r\n} or {@code \r} that ends the chunk, or 0 if there is none.
+     */
+    static int suffixLength(final char[] chars, final int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (chars[length - 1] == '\n') {
+            return length > 1 && chars[length - 2] == '\r' ? 2 : 1;
+        }
+        return chars[length - 1] == '\r' ? 1 : 0;
+    }
+}
@@ -0,0 +1,17 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.deserializer.StreamingInputDeserializer;
+
+import java.io.Reader;
+
+/**
+ * An adapter implementation of the {@link StreamingInputDeserializer} port which takes a {@link Reader}, each character
+ * identifying the winner of a point, and returns a {@link PointStream} that reads each winner lazily from it.
+ */
+public class ReaderDeserializer implements StreamingInputDeserializer<Reader, Character> {
+    @Override
+    public PointStream<Character> deserializeToStream(final Reader input) {
+        return new ReaderPointStream(input);
+    }
+}
@@ -0,0 +1,90 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointStream;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * A {@link PointStream} that reads each winner lazily from a {@link Reader}, where each character identifies the winner
+ * of a point. The characters are read in chunks into a fixed-size buffer, so that a game of any length is read with
+ * constant memory and without allocating anything per point. A line terminator that ends the input is trimmed, as long
+ * as it is {@code \n}, {@code \r\n} or {@code \r}. The {@link Reader} is never closed.
+ */
+public class ReaderPointStream implements CharPointStream {
+
+    /** The size of the buffer the characters are read into. */
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /** The {@link Reader} that holds the winner of each point. */
+    private final Reader input;
+    /** The buffer the characters are read into. */
+    private final char[] buffer;
+    /** The index of the next winner within the buffer. */
+    private int position;
+    /** The amount of characters of the buffer that may be read. */
+    private int limit;
+    /** The number of characters held back right after the limit, as they may be the line terminator that ends the input. */
+    private int heldBack;
+
+    /**
+     * Creates a new {@link ReaderPointStream} over the provided {@link Reader}.
+     * @param input the {@link Reader} that holds the winner of each point.
+     */
+    public ReaderPointStream(final Reader input) {
+        this(input, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new {@link ReaderPointStream} over the provided {@link Reader}, with a buffer of the provided size.
+     * @param input the {@link Reader} that holds the winner of each point.
+     * @param bufferSize the size of the buffer the characters are read into, which must leave room for a character past a line terminator.
+     */
+    ReaderPointStream(final Reader input, final int bufferSize) {
+        this.input = Objects.requireNonNull(input, "the provided input must not be null.");
+        if (bufferSize <= LineTerminators.MAXIMUM_LENGTH) {
+            throw new IllegalArgumentException("the provided buffer size must be greater than " + LineTerminators.MAXIMUM_LENGTH + ".");
+        }
+        this.buffer = new char[bufferSize];
+    }
+
+    @Override
+    public int nextChar() {
+        if (position == limit && !fill()) {
+            return END_OF_STREAM;
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Reads the next characters of the {@link Reader} after the characters held back, if any, into the buffer.
+     * @return whether any character was read, rather than the end of the {@link Reader} being reached.
+     */
+    private boolean fill() {
+        try {
+            System.arraycopy(buffer, limit, buffer, 0, heldBack);
+            int length = heldBack;
+            position = 0;
+            while (true) {
+                int read = input.read(buffer, length, buffer.length - length);
+                if (read < 0) {
+                    // the characters held back, if any, are the line terminator that ends the input
+                    limit = 0;
+                    heldBack = 0;
+                    return false;
+                }
+                length += read;
+                heldBack = LineTerminators.suffixLength(buffer, length);
+                limit = length - heldBack;
+                if (limit > 0) {
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,13 +2,15 @@ package fr.tennisgameprinter.adapters.deserializer;
 
 import fr.tennisgameprinter.domain.game.point.input.Point;
 import fr.tennisgameprinter.domain.ports.deserializer.InputDeserializer;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * An adapter implementation of the {@link InputDeserializer} port which takes a {@link String} and builds a {@link List}
- * of {@link Point}s that identify the winner as a {@link Character}.
+ * of {@link Point}s that identify the winner as a {@link Character}, or a {@link PointSource} that reads each winner
+ * straight from the {@link String}.
  */
 public class StringDeserializer implements InputDeserializer<String, Character> {
     @Override
@@ -19,4 +21,9 @@ public class StringDeserializer implements InputDeserializer<String, Character>
         }
         return points;
     }
+
+    @Override
+    public PointSource<Character> deserializeToSource(final String input) {
+        return new CharSequencePointSource(input);
+    }
 }
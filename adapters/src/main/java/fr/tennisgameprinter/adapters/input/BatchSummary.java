@@ -0,0 +1,24 @@
+package fr.tennisgameprinter.adapters.input;
+
+/**
+ * A summary of the processing of a batch of tennis games.
+ * @param games the amount of processed games.
+ * @param invalidGames the amount of games that could not be processed, as they were inconsistent.
+ * @param bytes the amount of bytes read.
+ * @param elapsedNanos the time spent processing the batch, in nanoseconds.
+ */
+public record BatchSummary(long games, long invalidGames, long bytes, long elapsedNanos) {
+
+    /**
+     * @return the amount of games processed per second.
+     */
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Processed %d games (%d invalid) from %d bytes in %d ms, that is %.0f games/sec.",
+                games, invalidGames, bytes, elapsedNanos / 1_000_000, gamesPerSecond());
+    }
+}
@@ -0,0 +1,168 @@
+package fr.tennisgameprinter.adapters.input;
+
+import fr.tennisgameprinter.adapters.listener.BufferedPointRenderingListener;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Reads a file of newline-delimited tennis games in the form of ASCII strings that represent two players respectively
+ * identified by {@link Character} 'A' and {@link Character} 'B'. The file is memory-mapped, and each game is handed to
+ * the {@link TennisGameProcessor} as a slice of the mapping, without ever building a {@link String} per game.
+ * The rendered points of every game, along with the message of each inconsistent game, are batched into a buffer of
+ * {@link #BATCH_BUFFER_CAPACITY} bytes of its own, which is only written once full, and flushed once at the end of the
+ * batch. Blank lines are skipped, and a summary of the whole batch is printed once every game is processed.
+ */
+public class TennisGameBatchFileReader {
+
+    /** The capacity of the output buffer of a batch, in bytes. */
+    public static final int BATCH_BUFFER_CAPACITY = 1024 * 1024;
+    /** The maximum amount of bytes mapped at once, as a mapping is indexed by an int. */
+    private static final long DEFAULT_MAPPING_SIZE = Integer.MAX_VALUE;
+
+    /** The {@link TennisGameProcessor} instance which will process each game. */
+    private final TennisGameProcessor<ByteBuffer, Character> tennisGameProcessor;
+    /** The maximum amount of bytes mapped at once. */
+    private final long mappingSize;
+
+    /**
+     * Creates a new {@link TennisGameBatchFileReader} from the provided {@link TennisGameProcessor}.
+     * @param tennisGameProcessor the {@link TennisGameProcessor}.
+     */
+    public TennisGameBatchFileReader(final TennisGameProcessor<ByteBuffer, Character> tennisGameProcessor) {
+        this(tennisGameProcessor, DEFAULT_MAPPING_SIZE);
+    }
+
+    /**
+     * Creates a new {@link TennisGameBatchFileReader} from the provided {@link TennisGameProcessor}, which maps at most
+     * the provided amount of bytes at once.
+     * @param tennisGameProcessor the {@link TennisGameProcessor}.
+     * @param mappingSize the maximum amount of bytes mapped at once, which bounds the length of a game.
+     */
+    public TennisGameBatchFileReader(final TennisGameProcessor<ByteBuffer, Character> tennisGameProcessor, final long mappingSize) {
+        this.tennisGameProcessor = Objects.requireNonNull(tennisGameProcessor, "the provided TennisGameProcessor instance must not be null.");
+        if (mappingSize <= 0 || mappingSize > DEFAULT_MAPPING_SIZE) {
+            throw new IllegalArgumentException("the provided mapping size must be between 1 and " + DEFAULT_MAPPING_SIZE + ".");
+        }
+        this.mappingSize = mappingSize;
+    }
+
+    /**
+     * Processes every game of the provided file, rendering its points into the standard output, then prints a summary
+     * of the batch.
+     * @param file the {@link Path} of the file of newline-delimited tennis games.
+     * @return the {@link BatchSummary} of the batch.
+     * @throws IOException when the file cannot be read, or holds a game longer than the mapping size.
+     */
+    public BatchSummary process(final Path file) throws IOException {
+        return process(file, System.out);
+    }
+
+    /**
+     * Processes every game of the provided file, rendering its points into the provided {@link PrintStream} through a
+     * non-flushing {@link BufferedPointRenderingListener}, which is flushed once every game is processed, then prints a
+     * summary of the batch.
+     * @param file the {@link Path} of the file of newline-delimited tennis games.
+     * @param printStream the {@link PrintStream} to render the points and the summary into.
+     * @return the {@link BatchSummary} of the batch.
+     * @throws IOException when the file cannot be read, or holds a game longer than the mapping size.
+     */
+    public BatchSummary process(final Path file, final PrintStream printStream) throws IOException {
+        BufferedPointRenderingListener renderer = new BufferedPointRenderingListener(
+                'A', 'B', printStream, printStream.charset(), BATCH_BUFFER_CAPACITY, false);
+        long start = System.nanoTime();
+        long games = 0;
+        long invalidGames = 0;
+        long fileSize;
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            fileSize = fileChannel.size();
+            long mappingStart = 0;
+            while (mappingStart < fileSize) {
+                long size = Math.min(mappingSize, fileSize - mappingStart);
+                boolean isLastMapping = mappingStart + size == fileSize;
+                MappedByteBuffer mapping = fileChannel.map(FileChannel.MapMode.READ_ONLY, mappingStart, size);
+                int lineStart = 0;
+                for (int i = 0; i < mapping.limit(); ++i) {
+                    if (mapping.get(i) == '\n') {
+                        LineOutcome lineOutcome = processLine(mapping, lineStart, i, renderer);
+                        games += lineOutcome == LineOutcome.BLANK ? 0 : 1;
+                        invalidGames += lineOutcome == LineOutcome.INCONSISTENT_GAME ? 1 : 0;
+                        lineStart = i + 1;
+                    }
+                }
+                if (isLastMapping) {
+                    LineOutcome lineOutcome = processLine(mapping, lineStart, mapping.limit(), renderer);
+                    games += lineOutcome == LineOutcome.BLANK ? 0 : 1;
+                    invalidGames += lineOutcome == LineOutcome.INCONSISTENT_GAME ? 1 : 0;
+                    break;
+                }
+                if (lineStart == 0) {
+                    throw new IOException("The file " + file + " holds a game longer than " + mappingSize + " bytes.");
+                }
+                mappingStart += lineStart;
+            }
+        } finally {
+            renderer.flush();
+        }
+        BatchSummary batchSummary = new BatchSummary(games, invalidGames, fileSize, System.nanoTime() - start);
+        printStream.println(batchSummary);
+        return batchSummary;
+    }
+
+    /**
+     * Processes the game held by the provided line, unless it is blank.
+     * @param mapping the mapping that holds the line.
+     * @param from the index of the first byte of the line.
+     * @param to the index right after the last byte of the line.
+     * @param renderer the {@link BufferedPointRenderingListener} to render the points into.
+     * @return the {@link LineOutcome} of the line.
+     */
+    private LineOutcome processLine(final MappedByteBuffer mapping, final int from, final int to, final BufferedPointRenderingListener renderer) {
+        int start = from;
+        int end = to;
+        while (start < end && isWhitespace(mapping.get(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(mapping.get(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return LineOutcome.BLANK;
+        }
+        try {
+            ValidationResult validationResult = tennisGameProcessor.tryProcess(new TennisGameInput<>(mapping.slice(start, end - start), 'A', 'B'), renderer);
+            if (validationResult.isValid()) {
+                return LineOutcome.CONSISTENT_GAME;
+            }
+            renderer.writeLine(validationResult.getMessage());
+            return LineOutcome.INCONSISTENT_GAME;
+        } catch (Exception e) {
+            renderer.writeLine(e.getMessage());
+            return LineOutcome.INCONSISTENT_GAME;
+        }
+    }
+
+    /**
+     * @param b a byte.
+     * @return whether the provided byte is an ASCII whitespace, carriage returns included.
+     */
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    /** The outcomes of the processing of a line. */
+    private enum LineOutcome {
+        BLANK,
+        CONSISTENT_GAME,
+        INCONSISTENT_GAME
+    }
+}
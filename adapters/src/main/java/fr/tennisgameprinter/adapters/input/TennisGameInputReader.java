@@ -1,18 +1,44 @@
 package fr.tennisgameprinter.adapters.input;
 
+import fr.tennisgameprinter.adapters.deserializer.InputStreamDeserializer;
+import fr.tennisgameprinter.adapters.listener.BufferedPointRenderingListener;
 import fr.tennisgameprinter.domain.TennisGameProcessor;
 import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.ports.deserializer.StreamingInputDeserializer;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Scanner;
 
 /**
  * Starts an infinite loop that reads the standard input for tennis games in the form of {@link String}s that
  * represent two players respectively identified by {@link Character} 'A' and {@link Character} 'B'.
+ * <p>
+ * Rather than prompting for each game, it may also act as a non-interactive filter over piped input through
+ * {@link #startPipe(InputStream, PrintStream)}, with a {@link TennisGameProcessor} of its own: piped games are mostly
+ * distinct and arbitrarily long, so that they are better left out of any cache of the interactive mode. A single game
+ * too long to be held in memory may also be streamed through {@link #startStream(InputStream, PrintStream)}.
 */
 public class TennisGameInputReader {
+
+    /** The capacity of both the input and output buffers of the pipe mode, in bytes. */
+    public static final int PIPE_BUFFER_CAPACITY = 1024 * 1024;
+    /** The message written after the points of a streamed game which turned out to be inconsistent. */
+    static final String STREAM_REJECTION_FORMAT = "The %d points above were rejected. %s";
+
+    /** The {@link StreamingInputDeserializer} adapter of the stream mode. */
+    private final StreamingInputDeserializer<InputStream, Character> streamingInputDeserializer = new InputStreamDeserializer();
+
     /** The {@link TennisGameProcessor} instance which will process the user input. */
     private final TennisGameProcessor<String, Character> tennisGameProcessor;
+    /** The {@link TennisGameProcessor} instance which will process the piped input. */
+    private final TennisGameProcessor<String, Character> pipeTennisGameProcessor;
     /** The {@link Scanner} which will read user input. */
     private final Scanner scanner;
 
@@ -22,7 +48,20 @@ public class TennisGameInputReader {
      * @param scanner the {@link Scanner}.
      */
     public TennisGameInputReader(TennisGameProcessor<String, Character> tennisGameProcessor, Scanner scanner) {
+        this(tennisGameProcessor, tennisGameProcessor, scanner);
+    }
+
+    /**
+     * Creates a new {@link TennisGameInputReader} from the provided {@link TennisGameProcessor}s and {@link Scanner}.
+     * @param tennisGameProcessor the {@link TennisGameProcessor} of the user input.
+     * @param pipeTennisGameProcessor the {@link TennisGameProcessor} of the piped input.
+     * @param scanner the {@link Scanner}.
+     */
+    public TennisGameInputReader(TennisGameProcessor<String, Character> tennisGameProcessor,
+                                 TennisGameProcessor<String, Character> pipeTennisGameProcessor,
+                                 Scanner scanner) {
         this.tennisGameProcessor = Objects.requireNonNull(tennisGameProcessor, "the provided TennisGameProcessor instance must not be null.");
+        this.pipeTennisGameProcessor = Objects.requireNonNull(pipeTennisGameProcessor, "the provided pipe TennisGameProcessor instance must not be null.");
         this.scanner = Objects.requireNonNull(scanner, "the provided Scanner instance must not be null.");
     }
 
@@ -40,11 +79,146 @@ public class TennisGameInputReader {
             }
 
             try {
-                tennisGameProcessor.process(new TennisGameInput<>(input, 'A', 'B'));
+                ValidationResult validationResult = tennisGameProcessor.tryProcess(new TennisGameInput<>(input, 'A', 'B'));
+                if (!validationResult.isValid()) {
+                    System.out.println(validationResult.getMessage());
+                }
             } catch (Exception e) {
                 System.out.println(e.getMessage());
             }
         }
     }
 
+    /**
+     * Reads newline-delimited tennis games from the provided {@link InputStream} until its end or an 'exit' line, without
+     * printing any prompt. The input is read in chunks of {@link #PIPE_BUFFER_CAPACITY} bytes, each game being decoded
+     * straight from the chunk, and the rendered points of every game, along with the message of each inconsistent game,
+     * are batched into a single buffer of the same capacity, which is only written once full, and at the end.
+     * Blank lines are skipped.
+     * @param inputStream the {@link InputStream} to read the games from, as ASCII characters.
+     * @param printStream the {@link PrintStream} to render the points into.
+     * @throws IOException if the games could not be read.
+     */
+    public void startPipe(final InputStream inputStream, final PrintStream printStream) throws IOException {
+        BufferedPointRenderingListener renderer = new BufferedPointRenderingListener(
+                'A', 'B', printStream, printStream.charset(), PIPE_BUFFER_CAPACITY, false);
+        try {
+            byte[] chunk = new byte[PIPE_BUFFER_CAPACITY];
+            // the beginning of a line which spans over two chunks
+            byte[] pendingLine = new byte[0];
+            int pendingLength = 0;
+            int read;
+            while ((read = inputStream.read(chunk)) != -1) {
+                int lineStart = 0;
+                for (int i = 0; i < read; ++i) {
+                    if (chunk[i] != '\n') {
+                        continue;
+                    }
+                    boolean isExit;
+                    if (pendingLength == 0) {
+                        isExit = processLine(chunk, lineStart, i, renderer);
+                    } else {
+                        pendingLine = append(pendingLine, pendingLength, chunk, lineStart, i);
+                        isExit = processLine(pendingLine, 0, pendingLength + i - lineStart, renderer);
+                        pendingLength = 0;
+                    }
+                    if (isExit) {
+                        return;
+                    }
+                    lineStart = i + 1;
+                }
+                pendingLine = append(pendingLine, pendingLength, chunk, lineStart, read);
+                pendingLength += read - lineStart;
+            }
+            processLine(pendingLine, 0, pendingLength, renderer);
+        } finally {
+            renderer.flush();
+        }
+    }
+
+    /**
+     * Reads a single tennis game from the provided {@link InputStream} until its end, whatever its length, in a single
+     * pass with constant memory, through the {@link TennisGameProcessor} of the piped input. Each point is rendered as
+     * soon as it is read into a buffer of {@link #PIPE_BUFFER_CAPACITY} bytes, which is only written once full, and at
+     * the end. As a streamed game may only be proven inconsistent once some of its points were rendered, the message of
+     * its rejection is then written right after them, along with how many of them were rejected.
+     * @param inputStream the {@link InputStream} to read the game from, as ASCII characters.
+     * @param printStream the {@link PrintStream} to render the points into.
+     * @throws IOException if the game could not be read.
+     */
+    public void startStream(final InputStream inputStream, final PrintStream printStream) throws IOException {
+        BufferedPointRenderingListener renderer = new BufferedPointRenderingListener(
+                'A', 'B', printStream, printStream.charset(), PIPE_BUFFER_CAPACITY, false);
+        try {
+            pipeTennisGameProcessor.tryProcess('A', 'B', streamingInputDeserializer.deserializeToStream(inputStream), renderer,
+                    (validationResult, pointsNotified) -> renderer.writeLine(pointsNotified == 0
+                            ? validationResult.getMessage()
+                            : String.format(STREAM_REJECTION_FORMAT, pointsNotified, validationResult.getMessage())));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            renderer.flush();
+        }
+    }
+
+    /**
+     * Processes the game held by the provided line, unless it is blank or the 'exit' command.
+     * @param bytes the bytes that hold the line.
+     * @param from the index of the first byte of the line.
+     * @param to the index right after the last byte of the line.
+     * @param renderer the {@link BufferedPointRenderingListener} to render the points into.
+     * @return whether the line is the 'exit' command.
+     */
+    private boolean processLine(final byte[] bytes, final int from, final int to, final BufferedPointRenderingListener renderer) {
+        int start = from;
+        int end = to;
+        while (start < end && isWhitespace(bytes[start])) {
+            start++;
+        }
+        while (end > start && isWhitespace(bytes[end - 1])) {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+        String input = new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+        if (input.equalsIgnoreCase("exit")) {
+            return true;
+        }
+        try {
+            ValidationResult validationResult = pipeTennisGameProcessor.tryProcess(new TennisGameInput<>(input, 'A', 'B'), renderer);
+            if (!validationResult.isValid()) {
+                renderer.writeLine(validationResult.getMessage());
+            }
+        } catch (Exception e) {
+            renderer.writeLine(e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * @param pendingLine the beginning of a line.
+     * @param pendingLength the length of the beginning of the line.
+     * @param chunk the chunk that holds the rest of the line.
+     * @param from the index of the first byte of the rest of the line.
+     * @param to the index right after the last byte of the rest of the line.
+     * @return the provided beginning of the line, grown as needed to hold the rest of the line appended after it.
+     */
+    private static byte[] append(final byte[] pendingLine, final int pendingLength, final byte[] chunk, final int from, final int to) {
+        byte[] line = pendingLine;
+        if (pendingLength + to - from > line.length) {
+            line = Arrays.copyOf(line, Math.max(2 * line.length, pendingLength + to - from));
+        }
+        System.arraycopy(chunk, from, line, pendingLength, to - from);
+        return line;
+    }
+
+    /**
+     * @param b a byte.
+     * @return whether the provided byte is an ASCII whitespace, carriage returns included.
+     */
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
 }
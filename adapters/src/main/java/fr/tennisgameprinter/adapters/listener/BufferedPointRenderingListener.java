@@ -0,0 +1,224 @@
+package fr.tennisgameprinter.adapters.listener;
+
+import fr.tennisgameprinter.domain.ports.listener.CharGameStateListener;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * An adapter implementation of the {@link CharGameStateListener} port that renders each tennis game point with the exact
+ * same format as the {@link StdoutPointPrintingListener}, yet without formatting anything per point.
+ * <p>
+ * For two known players, a game only ever prints 16 regular score lines, 2 advantage lines, 2 victory lines and a deuce
+ * line. All of them are encoded once and for all upon creation, and each point simply copies its line into a reusable
+ * buffer, which is written to the underlying {@link OutputStream} once full, once per game when flushing on victory,
+ * or upon {@link #flush()}. Points involving any other player or score are formatted on the fly.
+ * <p>
+ * This listener is stateful, and is thus not meant to be shared across threads.
+ */
+public class BufferedPointRenderingListener implements CharGameStateListener, Flushable {
+
+    /** The default capacity of the buffer, in bytes. */
+    public static final int DEFAULT_BUFFER_CAPACITY = 64 * 1024;
+
+    /** The scores a player can have in a regular point, in increasing order. */
+    private static final int[] SCORES = {0, 15, 30, 40};
+
+    private final char firstPlayerId;
+    private final char secondPlayerId;
+    private final OutputStream outputStream;
+    private final Charset charset;
+    private final boolean flushOnVictory;
+
+    /** The regular score lines, indexed by the index of the first player's score times 4, plus the one of the second player's score. */
+    private final byte[][] regularPointLines = new byte[SCORES.length * SCORES.length][];
+    private final byte[] firstPlayerAdvantageLine;
+    private final byte[] secondPlayerAdvantageLine;
+    private final byte[] deuceLine;
+    private final byte[] firstPlayerVictoryLine;
+    private final byte[] secondPlayerVictoryLine;
+
+    private final byte[] buffer;
+    private int position;
+
+    /**
+     * Creates a new {@link BufferedPointRenderingListener} which renders the points of the two provided players into
+     * the provided {@link PrintStream}, with its own charset and a buffer of {@link #DEFAULT_BUFFER_CAPACITY} bytes.
+     * @param firstPlayerId the identifier of the first player.
+     * @param secondPlayerId the identifier of the second player.
+     * @param printStream the {@link PrintStream} to render the points into.
+     * @param flushOnVictory whether the buffer is written and flushed at the end of each game, rather than upon {@link #flush()} only.
+     */
+    public BufferedPointRenderingListener(final char firstPlayerId,
+                                          final char secondPlayerId,
+                                          final PrintStream printStream,
+                                          final boolean flushOnVictory) {
+        this(firstPlayerId, secondPlayerId, printStream, Objects.requireNonNull(printStream, "the provided print stream must not be null.").charset(),
+                DEFAULT_BUFFER_CAPACITY, flushOnVictory);
+    }
+
+    /**
+     * Creates a new {@link BufferedPointRenderingListener} which renders the points of the two provided players into
+     * the provided {@link OutputStream}.
+     * @param firstPlayerId the identifier of the first player.
+     * @param secondPlayerId the identifier of the second player.
+     * @param outputStream the {@link OutputStream} to render the points into.
+     * @param charset the {@link Charset} each line is encoded with.
+     * @param bufferCapacity the capacity of the buffer, in bytes.
+     * @param flushOnVictory whether the buffer is written and flushed at the end of each game, rather than upon {@link #flush()} only.
+     */
+    public BufferedPointRenderingListener(final char firstPlayerId,
+                                          final char secondPlayerId,
+                                          final OutputStream outputStream,
+                                          final Charset charset,
+                                          final int bufferCapacity,
+                                          final boolean flushOnVictory) {
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("the capacity of the buffer must be positive.");
+        }
+        this.firstPlayerId = firstPlayerId;
+        this.secondPlayerId = secondPlayerId;
+        this.outputStream = Objects.requireNonNull(outputStream, "the provided output stream must not be null.");
+        this.charset = Objects.requireNonNull(charset, "the provided charset must not be null.");
+        this.flushOnVictory = flushOnVictory;
+        for (int first = 0; first < SCORES.length; ++first) {
+            for (int second = 0; second < SCORES.length; ++second) {
+                regularPointLines[first * SCORES.length + second] =
+                        encode(StdoutPointPrintingListener.REGULAR_POINT_FORMAT, firstPlayerId, SCORES[first], secondPlayerId, SCORES[second]);
+            }
+        }
+        this.firstPlayerAdvantageLine = encode(StdoutPointPrintingListener.ADVANTAGE_FORMAT, firstPlayerId);
+        this.secondPlayerAdvantageLine = encode(StdoutPointPrintingListener.ADVANTAGE_FORMAT, secondPlayerId);
+        this.deuceLine = ("Deuce" + System.lineSeparator()).getBytes(charset);
+        this.firstPlayerVictoryLine = encode(StdoutPointPrintingListener.WIN_FORMAT, firstPlayerId);
+        this.secondPlayerVictoryLine = encode(StdoutPointPrintingListener.WIN_FORMAT, secondPlayerId);
+        this.buffer = new byte[bufferCapacity];
+    }
+
+    @Override
+    public void onPoint(final char playerId, final char otherPlayerId, final int playerScore, final int otherPlayerScore) {
+        int firstScoreIndex = scoreIndex(playerScore);
+        int secondScoreIndex = scoreIndex(otherPlayerScore);
+        if (playerId == firstPlayerId && otherPlayerId == secondPlayerId && firstScoreIndex >= 0 && secondScoreIndex >= 0) {
+            write(regularPointLines[firstScoreIndex * SCORES.length + secondScoreIndex]);
+        } else {
+            write(encode(StdoutPointPrintingListener.REGULAR_POINT_FORMAT, playerId, playerScore, otherPlayerId, otherPlayerScore));
+        }
+    }
+
+    @Override
+    public void onAdvantage(final char advantagedPlayerId) {
+        write(select(advantagedPlayerId, firstPlayerAdvantageLine, secondPlayerAdvantageLine, StdoutPointPrintingListener.ADVANTAGE_FORMAT));
+    }
+
+    @Override
+    public void onDeuce() {
+        write(deuceLine);
+    }
+
+    @Override
+    public void onVictory(final char winner) {
+        write(select(winner, firstPlayerVictoryLine, secondPlayerVictoryLine, StdoutPointPrintingListener.WIN_FORMAT));
+        if (flushOnVictory) {
+            flush();
+        }
+    }
+
+    /**
+     * Copies the provided line, followed by a line separator, into the buffer, so that it is rendered in order with the points.
+     * @param line the line, such as the message of an inconsistent game.
+     */
+    public void writeLine(final String line) {
+        write((line + System.lineSeparator()).getBytes(charset));
+    }
+
+    /**
+     * Writes the buffered lines into the underlying {@link OutputStream}, then flushes it.
+     */
+    @Override
+    public void flush() {
+        try {
+            drain();
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Copies the provided line into the buffer, after writing the buffered lines into the underlying {@link OutputStream}
+     * should the buffer be too full to hold it.
+     * @param line the encoded line.
+     */
+    private void write(final byte[] line) {
+        try {
+            if (line.length > buffer.length - position) {
+                drain();
+                if (line.length > buffer.length) {
+                    outputStream.write(line);
+                    return;
+                }
+            }
+            System.arraycopy(line, 0, buffer, position, line.length);
+            position += line.length;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the buffered lines into the underlying {@link OutputStream}, and empties the buffer.
+     * @throws IOException if the lines could not be written.
+     */
+    private void drain() throws IOException {
+        if (position > 0) {
+            outputStream.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * @param playerId the identifier of the player.
+     * @param firstPlayerLine the precomputed line of the first player.
+     * @param secondPlayerLine the precomputed line of the second player.
+     * @param format the format of the line, for any other player.
+     * @return the line of the provided player.
+     */
+    private byte[] select(final char playerId, final byte[] firstPlayerLine, final byte[] secondPlayerLine, final String format) {
+        if (playerId == firstPlayerId) {
+            return firstPlayerLine;
+        }
+        if (playerId == secondPlayerId) {
+            return secondPlayerLine;
+        }
+        return encode(format, playerId);
+    }
+
+    /**
+     * @param format the format of the line.
+     * @param args the arguments of the format.
+     * @return the formatted line, encoded with our {@link Charset}.
+     */
+    private byte[] encode(final String format, final Object... args) {
+        return String.format(format, args).getBytes(charset);
+    }
+
+    /**
+     * @param score the score of a player.
+     * @return the index of the provided score within {@link #SCORES}, or -1 if it is not a regular score.
+     */
+    private static int scoreIndex(final int score) {
+        return switch (score) {
+            case 0 -> 0;
+            case 15 -> 1;
+            case 30 -> 2;
+            case 40 -> 3;
+            default -> -1;
+        };
+    }
+}
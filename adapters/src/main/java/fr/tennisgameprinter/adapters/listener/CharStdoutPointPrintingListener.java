@@ -0,0 +1,31 @@
+package fr.tennisgameprinter.adapters.listener;
+
+import fr.tennisgameprinter.domain.ports.listener.CharGameStateListener;
+
+/**
+ * An adapter implementation of the {@link CharGameStateListener} port that prints each tennis game point into the
+ * standard output with the exact same format as the {@link StdoutPointPrintingListener}, yet from primitive player
+ * identifiers and scores, which are concatenated rather than boxed and formatted.
+ */
+public class CharStdoutPointPrintingListener implements CharGameStateListener {
+
+    @Override
+    public void onPoint(final char playerId, final char otherPlayerId, final int playerScore, final int otherPlayerScore) {
+        System.out.println("Player " + playerId + " : " + playerScore + " / Player " + otherPlayerId + " : " + otherPlayerScore);
+    }
+
+    @Override
+    public void onAdvantage(final char advantagedPlayerId) {
+        System.out.println("Player " + advantagedPlayerId + " has advantage");
+    }
+
+    @Override
+    public void onDeuce() {
+        System.out.println("Deuce");
+    }
+
+    @Override
+    public void onVictory(final char winner) {
+        System.out.println("Player " + winner + " wins the game");
+    }
+}
@@ -11,9 +11,9 @@ import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
  */
 public class StdoutPointPrintingListener implements GameStateListener<Character> {
 
-    private static final String REGULAR_POINT_FORMAT = "Player %s : %s / Player %s : %s%n";
-    private static final String ADVANTAGE_FORMAT = "Player %s has advantage%n";
-    private static final String WIN_FORMAT = "Player %s wins the game%n";
+    static final String REGULAR_POINT_FORMAT = "Player %s : %s / Player %s : %s%n";
+    static final String ADVANTAGE_FORMAT = "Player %s has advantage%n";
+    static final String WIN_FORMAT = "Player %s wins the game%n";
 
     @Override
     public void onPoint(final RegularPoint<Character> regularPoint) {
@@ -0,0 +1,233 @@
+package fr.tennisgameprinter.adapters.listener.async;
+
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.DeucePoint;
+import fr.tennisgameprinter.domain.game.point.output.PointOutcome;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link GameStateListener} that decouples the simulation from slow downstream listeners (the standard output, a file,
+ * a socket...): each point outcome is published into a preallocated ring buffer, and a dedicated dispatcher thread
+ * notifies every downstream listener, in order.
+ * <p>
+ * The ring buffer has a single producer: this listener must be notified from a single thread at a time, as is the case
+ * of any {@link GameStateListener}. The downstream listeners are only ever notified from the dispatcher thread, and do not
+ * need to be thread-safe. Should the downstream listeners fall behind, the {@link BackpressurePolicy} decides whether the
+ * simulation waits, drops point outcomes or fails.
+ * <p>
+ * Closing this listener drains every point outcome already published to the downstream listeners, then stops the
+ * dispatcher thread.
+ * @param <P> the type of players' identifier.
+ */
+public class AsyncGameStateListener<P> implements GameStateListener<P>, AutoCloseable {
+
+    /** The default capacity of the ring buffer, in point outcomes. */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** The downstream listeners, notified in order of each point outcome. */
+    private final List<GameStateListener<P>> gameStateListeners;
+    /** The ring buffer of published point outcomes, whose slots are cleared once dispatched. */
+    private final PointOutcome<P>[] events;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final BackpressurePolicy backpressurePolicy;
+    /** The amount of point outcomes published so far, only written by the producer. */
+    private final AtomicLong published = new AtomicLong();
+    /** The amount of point outcomes dispatched so far, only written by the dispatcher. */
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final Thread dispatcher;
+
+    /** The last known amount of dispatched point outcomes, only read and written by the producer. */
+    private long cachedDispatched;
+    private volatile boolean closed;
+    /** The first exception thrown by a downstream listener, if any. */
+    private volatile RuntimeException failure;
+
+    /**
+     * Creates a new {@link AsyncGameStateListener} that notifies the provided downstream listeners, with a ring buffer of
+     * {@value #DEFAULT_CAPACITY} point outcomes, {@link WaitStrategy#PARK} and {@link BackpressurePolicy#BLOCK}.
+     * @param gameStateListeners the downstream listeners.
+     */
+    public AsyncGameStateListener(final List<? extends GameStateListener<P>> gameStateListeners) {
+        this(gameStateListeners, DEFAULT_CAPACITY, WaitStrategy.PARK, BackpressurePolicy.BLOCK);
+    }
+
+    /**
+     * Creates a new {@link AsyncGameStateListener} that notifies the provided downstream listeners, and starts its
+     * dispatcher thread.
+     * @param gameStateListeners the downstream listeners.
+     * @param capacity the capacity of the ring buffer, in point outcomes, which must be a power of two.
+     * @param waitStrategy the {@link WaitStrategy} of both the dispatcher and, with {@link BackpressurePolicy#BLOCK}, the producer.
+     * @param backpressurePolicy the {@link BackpressurePolicy} applied when the ring buffer is full.
+     */
+    public AsyncGameStateListener(final List<? extends GameStateListener<P>> gameStateListeners,
+                                  final int capacity,
+                                  final WaitStrategy waitStrategy,
+                                  final BackpressurePolicy backpressurePolicy) {
+        this.gameStateListeners = List.copyOf(Objects.requireNonNull(gameStateListeners, "the provided game listeners must not be null."));
+        if (this.gameStateListeners.isEmpty()) {
+            throw new IllegalArgumentException("at least one game listener must be provided.");
+        }
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("the capacity of the ring buffer must be a positive power of two.");
+        }
+        this.events = newRing(capacity);
+        this.mask = capacity - 1;
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, "the provided wait strategy must not be null.");
+        this.backpressurePolicy = Objects.requireNonNull(backpressurePolicy, "the provided backpressure policy must not be null.");
+        this.dispatcher = Thread.ofPlatform().name("tennis-game-listener-dispatcher").daemon().start(this::dispatch);
+    }
+
+    @Override
+    public void onPoint(final RegularPoint<P> regularPoint) {
+        publish(regularPoint);
+    }
+
+    @Override
+    public void onAdvantage(final AdvantagePoint<P> advantagePoint) {
+        publish(advantagePoint);
+    }
+
+    @Override
+    public void onDeuce() {
+        publish(DeucePoint.deuce());
+    }
+
+    @Override
+    public void onVictory(final VictoryPoint<P> victoryPoint) {
+        publish(victoryPoint);
+    }
+
+    /**
+     * @return the amount of point outcomes dropped so far, with {@link BackpressurePolicy#DROP}.
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Stops accepting point outcomes, waits for every point outcome already published to be dispatched to the downstream
+     * listeners, then stops the dispatcher thread. Closing this listener more than once has no further effect.
+     * @throws IllegalStateException if a downstream listener threw an exception, which is then the cause, or if the
+     * calling thread was interrupted while waiting.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the point outcomes to be dispatched.", e);
+        }
+        if (failure != null) {
+            throw new IllegalStateException("a downstream game listener failed.", failure);
+        }
+    }
+
+    /**
+     * Publishes the provided point outcome into the ring buffer, unless it is full and the {@link BackpressurePolicy}
+     * says otherwise.
+     * @param event the point outcome.
+     */
+    private void publish(final PointOutcome<P> event) {
+        if (closed) {
+            throw new IllegalStateException("the listener was already closed.");
+        }
+        long sequence = published.getPlain();
+        if (sequence - cachedDispatched == events.length) {
+            cachedDispatched = dispatched.get();
+            if (sequence - cachedDispatched == events.length && !awaitCapacity(sequence)) {
+                return;
+            }
+        }
+        events[(int) sequence & mask] = event;
+        published.lazySet(sequence + 1);
+    }
+
+    /**
+     * Applies the {@link BackpressurePolicy} to a full ring buffer.
+     * @param sequence the sequence of the point outcome to publish.
+     * @return whether the ring buffer now has room for the point outcome, which must otherwise be dropped.
+     */
+    private boolean awaitCapacity(final long sequence) {
+        switch (backpressurePolicy) {
+            case DROP -> {
+                droppedEvents.lazySet(droppedEvents.getPlain() + 1);
+                return false;
+            }
+            case FAIL -> throw new IllegalStateException("the ring buffer of the listener is full.");
+            default -> {
+                int idleCount = 0;
+                while (sequence - (cachedDispatched = dispatched.get()) == events.length) {
+                    if (!dispatcher.isAlive()) {
+                        throw new IllegalStateException("the dispatcher of the listener is not running anymore.");
+                    }
+                    waitStrategy.idle(idleCount++);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Dispatches every published point outcome, by batches, until this listener is closed and fully drained.
+     */
+    private void dispatch() {
+        long sequence = 0;
+        int idleCount = 0;
+        while (true) {
+            long available = published.get();
+            if (sequence == available) {
+                // the producer publishes before closing, so a second read sees its last point outcomes
+                if (closed && sequence == published.get()) {
+                    return;
+                }
+                waitStrategy.idle(idleCount++);
+                continue;
+            }
+            idleCount = 0;
+            for (; sequence < available; ++sequence) {
+                int index = (int) sequence & mask;
+                PointOutcome<P> event = events[index];
+                events[index] = null;
+                notifyListeners(event);
+            }
+            dispatched.lazySet(sequence);
+        }
+    }
+
+    /**
+     * Notifies every downstream listener of the provided point outcome. Should a listener throw an exception, the first
+     * one is kept for {@link #close()}, and the remaining point outcomes are still dispatched.
+     * @param event the point outcome.
+     */
+    private void notifyListeners(final PointOutcome<P> event) {
+        for (GameStateListener<P> gameStateListener : gameStateListeners) {
+            try {
+                event.notifyTo(gameStateListener);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param capacity the capacity of the ring buffer.
+     * @param <P> the type of players' identifier.
+     * @return a new ring buffer of the provided capacity.
+     */
+    @SuppressWarnings("unchecked")
+    private static <P> PointOutcome<P>[] newRing(final int capacity) {
+        return (PointOutcome<P>[]) new PointOutcome<?>[capacity];
+    }
+}
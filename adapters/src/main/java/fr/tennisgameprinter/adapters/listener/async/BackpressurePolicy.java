@@ -0,0 +1,14 @@
+package fr.tennisgameprinter.adapters.listener.async;
+
+/**
+ * What an {@link AsyncGameStateListener} does with a point outcome when its ring buffer is full, that is, when the
+ * downstream listeners cannot keep up with the simulation.
+ */
+public enum BackpressurePolicy {
+    /** Waits for the ring buffer to have room, with the {@link WaitStrategy} of the listener. No point outcome is lost. */
+    BLOCK,
+    /** Drops the point outcome, and counts it. The simulation never waits, yet the downstream listeners miss points. */
+    DROP,
+    /** Throws an {@link IllegalStateException}, so that the caller may decide what to do with the game. */
+    FAIL
+}
@@ -0,0 +1,37 @@
+package fr.tennisgameprinter.adapters.listener.async;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The ways an {@link AsyncGameStateListener} may wait, be it its dispatcher waiting for point outcomes to be published,
+ * or the simulating thread waiting for the ring buffer to have room, with {@link BackpressurePolicy#BLOCK}.
+ * The lower the latency of a strategy, the more CPU it burns while idle.
+ */
+public enum WaitStrategy {
+    /** Spins on the CPU, for the lowest latency, as long as the waiting thread has a core of its own. */
+    BUSY_SPIN,
+    /** Spins a while, then yields the CPU to any other runnable thread. */
+    YIELD,
+    /** Spins a while, then parks for {@value #PARK_MICROSECONDS} microseconds at a time, for the lowest CPU usage. */
+    PARK;
+
+    /** The amount of times the {@link #YIELD} and {@link #PARK} strategies spin before yielding or parking. */
+    private static final int SPIN_TRIES = 100;
+    /** The duration of each park of the {@link #PARK} strategy, in microseconds. */
+    private static final long PARK_MICROSECONDS = 50;
+
+    /**
+     * Waits a little, once more.
+     * @param idleCount the amount of times the calling thread already waited without making progress.
+     */
+    public void idle(final int idleCount) {
+        if (this == BUSY_SPIN || idleCount < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (this == YIELD) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(PARK_MICROSECONDS));
+        }
+    }
+}
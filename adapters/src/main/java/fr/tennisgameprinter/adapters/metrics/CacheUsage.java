@@ -0,0 +1,68 @@
+package fr.tennisgameprinter.adapters.metrics;
+
+import fr.tennisgameprinter.domain.CacheStatistics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * A snapshot of the {@link CacheStatistics} of the cache of processed games, exposed over JMX as a composite value.
+ */
+public class CacheUsage {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+    private final double hitRatio;
+
+    /**
+     * Creates a new {@link CacheUsage} from the provided statistics.
+     * @param hits the number of games which were replayed from the cache.
+     * @param misses the number of games which had to be processed.
+     * @param evictions the number of games which were evicted from the cache.
+     * @param size the number of games held by the cache.
+     * @param hitRatio the ratio of games which were replayed from the cache.
+     */
+    @ConstructorProperties({"hits", "misses", "evictions", "size", "hitRatio"})
+    public CacheUsage(final long hits, final long misses, final long evictions, final int size, final double hitRatio) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.hitRatio = hitRatio;
+    }
+
+    /**
+     * @param cacheStatistics some {@link CacheStatistics}.
+     * @return a snapshot of the provided {@link CacheStatistics}.
+     */
+    public static CacheUsage of(final CacheStatistics cacheStatistics) {
+        return new CacheUsage(
+                cacheStatistics.hits(),
+                cacheStatistics.misses(),
+                cacheStatistics.evictions(),
+                cacheStatistics.size(),
+                cacheStatistics.hitRatio()
+        );
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getHitRatio() {
+        return hitRatio;
+    }
+}
@@ -0,0 +1,184 @@
+package fr.tennisgameprinter.adapters.metrics;
+
+import fr.tennisgameprinter.domain.CacheStatistics;
+import fr.tennisgameprinter.domain.CachingTennisGameProcessor;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+import fr.tennisgameprinter.domain.metrics.PipelineStage;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Exposes {@link PipelineMetrics} over JMX, under the {@value #OBJECT_NAME} name, so that they may be browsed with
+ * JConsole or scraped by any JMX exporter, and switched on and off at runtime through the {@code Enabled} attribute.
+ * The {@link CacheStatistics} of the cache of processed games, if any, are exposed alongside them.
+ */
+public class JmxPipelineMetrics implements PipelineMetricsMXBean, AutoCloseable {
+
+    /** The name the metrics are registered under. */
+    public static final String OBJECT_NAME = "fr.tennisgameprinter:type=PipelineMetrics";
+    /** The {@link CacheStatistics} exposed when there is no cache of processed games. */
+    private static final CacheStatistics NO_CACHE_STATISTICS = new CacheStatistics(0, 0, 0, 0);
+
+    private final PipelineMetrics pipelineMetrics;
+    private final Supplier<CacheStatistics> cacheStatistics;
+    private final MBeanServer mBeanServer;
+    private final ObjectName objectName;
+
+    /**
+     * Creates a new {@link JmxPipelineMetrics} which exposes the provided {@link PipelineMetrics} on the platform {@link MBeanServer}.
+     * @param pipelineMetrics the {@link PipelineMetrics}.
+     */
+    public JmxPipelineMetrics(final PipelineMetrics pipelineMetrics) {
+        this(pipelineMetrics, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Creates a new {@link JmxPipelineMetrics} which exposes the provided {@link PipelineMetrics} on the provided {@link MBeanServer}.
+     * @param pipelineMetrics the {@link PipelineMetrics}.
+     * @param mBeanServer the {@link MBeanServer}.
+     */
+    public JmxPipelineMetrics(final PipelineMetrics pipelineMetrics, final MBeanServer mBeanServer) {
+        this(pipelineMetrics, () -> NO_CACHE_STATISTICS, mBeanServer);
+    }
+
+    /**
+     * Creates a new {@link JmxPipelineMetrics} which exposes the provided {@link PipelineMetrics}, along with the
+     * {@link CacheStatistics} of the provided {@link CachingTennisGameProcessor}, on the platform {@link MBeanServer}.
+     * @param pipelineMetrics the {@link PipelineMetrics}.
+     * @param cachingTennisGameProcessor the {@link CachingTennisGameProcessor} whose cache usage is exposed.
+     */
+    public JmxPipelineMetrics(final PipelineMetrics pipelineMetrics, final CachingTennisGameProcessor<?, ?> cachingTennisGameProcessor) {
+        this(pipelineMetrics, cachingTennisGameProcessor, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Creates a new {@link JmxPipelineMetrics} which exposes the provided {@link PipelineMetrics}, along with the
+     * {@link CacheStatistics} of the provided {@link CachingTennisGameProcessor}, on the provided {@link MBeanServer}.
+     * @param pipelineMetrics the {@link PipelineMetrics}.
+     * @param cachingTennisGameProcessor the {@link CachingTennisGameProcessor} whose cache usage is exposed.
+     * @param mBeanServer the {@link MBeanServer}.
+     */
+    public JmxPipelineMetrics(final PipelineMetrics pipelineMetrics,
+                              final CachingTennisGameProcessor<?, ?> cachingTennisGameProcessor,
+                              final MBeanServer mBeanServer) {
+        this(pipelineMetrics,
+                Objects.requireNonNull(cachingTennisGameProcessor, "the provided caching tennis game processor must not be null.")::getStatistics,
+                mBeanServer);
+    }
+
+    /**
+     * Creates a new {@link JmxPipelineMetrics} which exposes the provided {@link PipelineMetrics} and {@link CacheStatistics}
+     * on the provided {@link MBeanServer}.
+     * @param pipelineMetrics the {@link PipelineMetrics}.
+     * @param cacheStatistics the {@link Supplier} of the {@link CacheStatistics}.
+     * @param mBeanServer the {@link MBeanServer}.
+     */
+    private JmxPipelineMetrics(final PipelineMetrics pipelineMetrics, final Supplier<CacheStatistics> cacheStatistics, final MBeanServer mBeanServer) {
+        this.pipelineMetrics = Objects.requireNonNull(pipelineMetrics, "the provided pipeline metrics must not be null.");
+        this.cacheStatistics = cacheStatistics;
+        this.mBeanServer = Objects.requireNonNull(mBeanServer, "the provided MBean server must not be null.");
+        try {
+            this.objectName = new ObjectName(OBJECT_NAME);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Registers the metrics on the {@link MBeanServer}, in place of any metrics previously registered under the same name.
+     * @throws JMException if the metrics could not be registered.
+     */
+    public void register() throws JMException {
+        if (mBeanServer.isRegistered(objectName)) {
+            mBeanServer.unregisterMBean(objectName);
+        }
+        mBeanServer.registerMBean(this, objectName);
+    }
+
+    /**
+     * Unregisters the metrics from the {@link MBeanServer}, should they still be registered.
+     * @throws JMException if the metrics could not be unregistered.
+     */
+    @Override
+    public void close() throws JMException {
+        if (mBeanServer.isRegistered(objectName)) {
+            mBeanServer.unregisterMBean(objectName);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return pipelineMetrics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(final boolean enabled) {
+        pipelineMetrics.setEnabled(enabled);
+    }
+
+    @Override
+    public long getGames() {
+        return pipelineMetrics.getGames();
+    }
+
+    @Override
+    public long getPoints() {
+        return pipelineMetrics.getPoints();
+    }
+
+    @Override
+    public long getDeuces() {
+        return pipelineMetrics.getDeuces();
+    }
+
+    @Override
+    public long getAdvantages() {
+        return pipelineMetrics.getAdvantages();
+    }
+
+    @Override
+    public long getRejections() {
+        return pipelineMetrics.getRejections();
+    }
+
+    @Override
+    public long getReplays() {
+        return pipelineMetrics.getReplays();
+    }
+
+    @Override
+    public StageLatency getDeserializeLatency() {
+        return StageLatency.of(pipelineMetrics.getLatency(PipelineStage.DESERIALIZE));
+    }
+
+    @Override
+    public StageLatency getValidateLatency() {
+        return StageLatency.of(pipelineMetrics.getLatency(PipelineStage.VALIDATE));
+    }
+
+    @Override
+    public StageLatency getSimulateLatency() {
+        return StageLatency.of(pipelineMetrics.getLatency(PipelineStage.SIMULATE));
+    }
+
+    @Override
+    public StageLatency getDispatchLatency() {
+        return StageLatency.of(pipelineMetrics.getLatency(PipelineStage.DISPATCH));
+    }
+
+    @Override
+    public CacheUsage getCacheUsage() {
+        return CacheUsage.of(cacheStatistics.get());
+    }
+
+    @Override
+    public void reset() {
+        pipelineMetrics.reset();
+    }
+}
@@ -0,0 +1,45 @@
+package fr.tennisgameprinter.adapters.metrics;
+
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+
+/**
+ * The management interface of {@link PipelineMetrics}, which exposes the latency of each stage of the pipeline, every
+ * counter, and the usage of the cache of processed games as attributes, and allows switching the metrics on and off at
+ * runtime.
+ */
+public interface PipelineMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getGames();
+
+    long getPoints();
+
+    long getDeuces();
+
+    long getAdvantages();
+
+    long getRejections();
+
+    long getReplays();
+
+    StageLatency getDeserializeLatency();
+
+    StageLatency getValidateLatency();
+
+    StageLatency getSimulateLatency();
+
+    StageLatency getDispatchLatency();
+
+    /**
+     * @return the usage of the cache of processed games, which is counted whether the metrics are switched on or not.
+     */
+    CacheUsage getCacheUsage();
+
+    /**
+     * Forgets every recorded latency, and resets every counter.
+     */
+    void reset();
+}
@@ -0,0 +1,76 @@
+package fr.tennisgameprinter.adapters.metrics;
+
+import fr.tennisgameprinter.domain.metrics.LatencyHistogram;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * A snapshot of the {@link LatencyHistogram} of a stage of the pipeline, in nanoseconds, exposed over JMX as a composite value.
+ */
+public class StageLatency {
+
+    private final long count;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    /**
+     * Creates a new {@link StageLatency} from the provided statistics.
+     * @param count the amount of recorded latencies.
+     * @param meanNanos the mean latency.
+     * @param p50Nanos the median latency.
+     * @param p99Nanos the 99th percentile of the latencies.
+     * @param p999Nanos the 99.9th percentile of the latencies.
+     * @param maxNanos the largest latency.
+     */
+    @ConstructorProperties({"count", "meanNanos", "p50Nanos", "p99Nanos", "p999Nanos", "maxNanos"})
+    public StageLatency(final long count, final double meanNanos, final long p50Nanos, final long p99Nanos, final long p999Nanos, final long maxNanos) {
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * @param latencyHistogram a {@link LatencyHistogram}, in nanoseconds.
+     * @return a snapshot of the provided {@link LatencyHistogram}.
+     */
+    public static StageLatency of(final LatencyHistogram latencyHistogram) {
+        return new StageLatency(
+                latencyHistogram.getCount(),
+                latencyHistogram.getMean(),
+                latencyHistogram.getValueAtPercentile(50),
+                latencyHistogram.getValueAtPercentile(99),
+                latencyHistogram.getValueAtPercentile(99.9),
+                latencyHistogram.getMax()
+        );
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+}
@@ -0,0 +1,180 @@
+package fr.tennisgameprinter.adapters.network;
+
+import fr.tennisgameprinter.adapters.listener.BufferedPointRenderingListener;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A TCP server that reads tennis games in the form of newline-delimited {@link String}s that represent two players
+ * respectively identified by {@link Character} 'A' and {@link Character} 'B', and writes the rendered points of each
+ * game back on the same connection, with the exact same format as the standard output.
+ * <p>
+ * Each connection is served by its own virtual thread, and may pipeline as many games as it wants: the rendered points
+ * are buffered while further games are already available, and are only written back once the connection has no
+ * pending game left. Should a game be inconsistent, the message of the exception is written back in place of its points.
+ */
+public class TennisGameServer implements AutoCloseable {
+
+    /** The capacity of the buffer of each connection, in bytes. */
+    private static final int BUFFER_CAPACITY = 64 * 1024;
+
+    /** The {@link TennisGameProcessor} instance which will process the games of every connection. */
+    private final TennisGameProcessor<String, Character> tennisGameProcessor;
+    /** The address the server listens on. */
+    private final InetSocketAddress address;
+    /** The executor which serves each connection on its own virtual thread. */
+    private final ExecutorService connectionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    /** The connections currently being served. */
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    private ServerSocket serverSocket;
+    private Thread acceptor;
+
+    /**
+     * Creates a new {@link TennisGameServer} from the provided {@link TennisGameProcessor}, which listens on the
+     * provided port of every local address.
+     * @param tennisGameProcessor the {@link TennisGameProcessor}.
+     * @param port the port to listen on, or 0 to pick any free port.
+     */
+    public TennisGameServer(final TennisGameProcessor<String, Character> tennisGameProcessor, final int port) {
+        this(tennisGameProcessor, new InetSocketAddress(port));
+    }
+
+    /**
+     * Creates a new {@link TennisGameServer} from the provided {@link TennisGameProcessor}, which listens on the provided address.
+     * @param tennisGameProcessor the {@link TennisGameProcessor}.
+     * @param address the address to listen on.
+     */
+    public TennisGameServer(final TennisGameProcessor<String, Character> tennisGameProcessor, final InetSocketAddress address) {
+        this.tennisGameProcessor = Objects.requireNonNull(tennisGameProcessor, "the provided TennisGameProcessor instance must not be null.");
+        this.address = Objects.requireNonNull(address, "the provided address must not be null.");
+    }
+
+    /**
+     * Binds the server to its address, and starts accepting connections in the background.
+     * @throws IOException if the server could not be bound.
+     */
+    public synchronized void start() throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("the server was already started.");
+        }
+        serverSocket = new ServerSocket();
+        serverSocket.bind(address);
+        acceptor = Thread.ofPlatform().name("tennis-game-server").start(this::accept);
+        System.out.println("Tennis Game Printer listening on port " + getPort() + ".");
+    }
+
+    /**
+     * @return the port the server listens on, which is only known once the server is started.
+     */
+    public synchronized int getPort() {
+        if (serverSocket == null) {
+            throw new IllegalStateException("the server was not started yet.");
+        }
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Waits until the server is closed.
+     * @throws InterruptedException if the calling thread was interrupted while waiting.
+     */
+    public void awaitTermination() throws InterruptedException {
+        Thread acceptorThread;
+        synchronized (this) {
+            acceptorThread = acceptor;
+        }
+        if (acceptorThread != null) {
+            acceptorThread.join();
+        }
+    }
+
+    /**
+     * Stops accepting connections, and closes every connection being served.
+     * @throws IOException if the server could not be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+        for (Socket connection : connections) {
+            connection.close();
+        }
+        connectionExecutor.shutdownNow();
+    }
+
+    /**
+     * Accepts connections until the server is closed, and serves each one on its own virtual thread.
+     */
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket connection = serverSocket.accept();
+                connections.add(connection);
+                connectionExecutor.execute(() -> serve(connection));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.out.println("Could not accept a connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads each game of the provided connection, and writes its rendered points back, until the connection is closed.
+     * @param connection the connection.
+     */
+    private void serve(final Socket connection) {
+        try (connection;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8), BUFFER_CAPACITY);
+             OutputStream outputStream = connection.getOutputStream()) {
+            BufferedPointRenderingListener renderer =
+                    new BufferedPointRenderingListener('A', 'B', outputStream, StandardCharsets.UTF_8, BUFFER_CAPACITY, false);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String input = line.trim();
+                if (!input.isEmpty()) {
+                    String message;
+                    try {
+                        ValidationResult validationResult = tennisGameProcessor.tryProcess(new TennisGameInput<>(input, 'A', 'B'), renderer);
+                        message = validationResult.isValid() ? null : validationResult.getMessage();
+                    } catch (Exception e) {
+                        message = e.getMessage();
+                    }
+                    if (message != null) {
+                        renderer.flush();
+                        outputStream.write((message + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                if (!reader.ready()) {
+                    // no other game was pipelined yet, so every pending point is written back
+                    renderer.flush();
+                }
+            }
+            renderer.flush();
+        } catch (SocketException e) {
+            // the connection was reset by the client, or closed along with the server
+        } catch (IOException | UncheckedIOException e) {
+            System.out.println("Could not serve a connection: " + e.getMessage());
+        } finally {
+            connections.remove(connection);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package fr.tennisgameprinter.adapters.reactive;
+
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.validator.listener.BufferingGameStateListener;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link Flow.Processor} that subscribes to {@link TennisGameInput}s, processes each of them through a
+ * {@link TennisGameProcessor}, and publishes its {@link TennisGameOutcome} to a single downstream subscriber: the batch of
+ * point outcomes of a consistent game, or the {@link ValidationResult} of an inconsistent one.
+ * <p>
+ * Each input is processed on the thread that delivers it, and yields exactly one outcome. Backpressure is thus honoured
+ * by forwarding the demand of the downstream subscriber to the upstream publisher as is: no input is requested before
+ * the downstream subscriber asks for its outcome, and nothing is ever buffered between both. Demand signalled before
+ * subscribing upstream is accumulated, then requested upon subscription.
+ * <p>
+ * Processing a game that fails with anything but an inconsistency cancels the upstream subscription, and signals the
+ * failure downstream. Cancelling downstream cancels the upstream subscription as well.
+ * <p>
+ * Signals are delivered downstream serially: a terminal signal recorded while an outcome is being delivered, such as the
+ * failure of a non-positive request made from another thread, is only delivered once that outcome was, by whichever
+ * thread finishes last.
+ * @param <I> the type of the input.
+ * @param <P> the type of players' identifier.
+ */
+public class ReactiveTennisGameProcessor<I, P> implements Flow.Processor<TennisGameInput<I, P>, TennisGameOutcome<I, P>> {
+
+    /** The subscription handed out to any subscriber but the first one, which ignores its calls. */
+    private static final Flow.Subscription REJECTED_SUBSCRIPTION = new Flow.Subscription() {
+        @Override
+        public void request(final long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private final TennisGameProcessor<I, P> tennisGameProcessor;
+
+    /** The downstream subscriber, set once. */
+    private volatile Flow.Subscriber<? super TennisGameOutcome<I, P>> downstream;
+    /** Whether the downstream subscriber received its subscription, and may thus receive a terminal signal. */
+    private boolean downstreamSubscribed;
+    /** The upstream subscription, set once. */
+    private Flow.Subscription upstream;
+    /** The demand signalled downstream before subscribing upstream. */
+    private long pendingDemand;
+    /** Whether the processing stopped, upon cancellation or upon failure. */
+    private volatile boolean done;
+    /** Whether the upstream publisher completed. */
+    private boolean completed;
+    /** The failure to signal downstream, if any. */
+    private Throwable failure;
+    /** Whether an outcome is being delivered downstream, in which case any terminal signal is deferred until it was. */
+    private boolean emitting;
+    /** Whether the terminal signal was delivered downstream, or the downstream subscriber cancelled, so that it receives none. */
+    private boolean terminated;
+
+    /**
+     * Creates a new {@link ReactiveTennisGameProcessor} which processes each game through the provided
+     * {@link TennisGameProcessor}, along with its {@code GameConsistencyValidator} and {@code TennisGameFactory}.
+     * @param tennisGameProcessor the {@link TennisGameProcessor} which processes each game.
+     */
+    public ReactiveTennisGameProcessor(final TennisGameProcessor<I, P> tennisGameProcessor) {
+        this.tennisGameProcessor = Objects.requireNonNull(tennisGameProcessor, "the provided tennis game processor must not be null.");
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super TennisGameOutcome<I, P>> subscriber) {
+        Objects.requireNonNull(subscriber, "the provided subscriber must not be null.");
+        boolean accepted;
+        synchronized (this) {
+            accepted = downstream == null;
+            if (accepted) {
+                downstream = subscriber;
+            }
+        }
+        if (!accepted) {
+            subscriber.onSubscribe(REJECTED_SUBSCRIPTION);
+            subscriber.onError(new IllegalStateException("the processor only supports a single subscriber."));
+            return;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        synchronized (this) {
+            downstreamSubscribed = true;
+        }
+        terminateIfDone();
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "the provided subscription must not be null.");
+        synchronized (this) {
+            if (upstream != null || done) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            if (pendingDemand > 0) {
+                subscription.request(pendingDemand);
+                pendingDemand = 0;
+            }
+        }
+    }
+
+    @Override
+    public void onNext(final TennisGameInput<I, P> tennisGameInput) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            emitting = true;
+        }
+        try {
+            BufferingGameStateListener<P> pointOutcomes = new BufferingGameStateListener<>();
+            ValidationResult validationResult;
+            try {
+                validationResult = tennisGameProcessor.tryProcess(tennisGameInput, pointOutcomes);
+            } catch (RuntimeException e) {
+                cancelUpstream();
+                fail(e);
+                return;
+            }
+            downstream.onNext(new TennisGameOutcome<>(tennisGameInput, validationResult, pointOutcomes));
+        } finally {
+            synchronized (this) {
+                emitting = false;
+            }
+            // delivers any terminal signal recorded meanwhile, now that it may no longer overlap with an outcome
+            terminateIfDone();
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        fail(Objects.requireNonNull(throwable, "the provided throwable must not be null."));
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            completed = true;
+        }
+        terminateIfDone();
+    }
+
+    /**
+     * Records the provided failure, unless a terminal signal was already recorded, then signals it downstream.
+     * @param throwable the failure.
+     */
+    private void fail(final Throwable throwable) {
+        synchronized (this) {
+            done = true;
+            if (!completed && failure == null) {
+                failure = throwable;
+            }
+        }
+        terminateIfDone();
+    }
+
+    /**
+     * Delivers the recorded terminal signal downstream, once the downstream subscriber received its subscription and
+     * no outcome is being delivered, and only once.
+     */
+    private void terminateIfDone() {
+        Throwable throwable;
+        synchronized (this) {
+            if (!downstreamSubscribed || emitting || terminated || !(completed || failure != null)) {
+                return;
+            }
+            terminated = true;
+            throwable = failure;
+        }
+        if (throwable != null) {
+            downstream.onError(throwable);
+        } else {
+            downstream.onComplete();
+        }
+    }
+
+    /**
+     * Stops the processing, and cancels the upstream subscription, if any.
+     */
+    private void cancelUpstream() {
+        Flow.Subscription subscription;
+        synchronized (this) {
+            done = true;
+            subscription = upstream;
+        }
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * The {@link Flow.Subscription} of the downstream subscriber, which forwards its demand upstream.
+     */
+    private class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                cancelUpstream();
+                fail(new IllegalArgumentException("the requested demand must be positive."));
+                return;
+            }
+            synchronized (ReactiveTennisGameProcessor.this) {
+                if (done) {
+                    return;
+                }
+                if (upstream == null) {
+                    pendingDemand = pendingDemand + n < 0 ? Long.MAX_VALUE : pendingDemand + n;
+                    return;
+                }
+                // requests are forwarded while holding the lock, so that they reach the upstream subscription serially
+                upstream.request(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (ReactiveTennisGameProcessor.this) {
+                terminated = true;
+            }
+            cancelUpstream();
+        }
+    }
+}
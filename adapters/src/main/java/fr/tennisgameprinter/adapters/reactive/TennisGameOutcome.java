@@ -0,0 +1,35 @@
+package fr.tennisgameprinter.adapters.reactive;
+
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.listener.BufferingGameStateListener;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+
+/**
+ * The outcome of a {@link TennisGameInput} published by a {@link ReactiveTennisGameProcessor}: either the batch of the
+ * point outcomes of a consistent game, or the {@link ValidationResult} of an inconsistent one, whose batch is empty.
+ * @param tennisGameInput the processed {@link TennisGameInput}.
+ * @param validationResult the {@link ValidationResult} of the game.
+ * @param pointOutcomes the {@link BufferingGameStateListener} holding the outcome of each point of the game.
+ * @param <I> the type of the input.
+ * @param <P> the type of players' identifier.
+ */
+public record TennisGameOutcome<I, P>(TennisGameInput<I, P> tennisGameInput,
+                                      ValidationResult validationResult,
+                                      BufferingGameStateListener<P> pointOutcomes) {
+
+    /**
+     * @return whether the game is consistent.
+     */
+    public boolean isValid() {
+        return validationResult.isValid();
+    }
+
+    /**
+     * Renders the batch of point outcomes, by notifying the provided {@link GameStateListener} of each of them, in order.
+     * @param gameStateListener the {@link GameStateListener} to notify, such as a {@code StdoutPointPrintingListener}.
+     */
+    public void replayTo(final GameStateListener<P> gameStateListener) {
+        pointOutcomes.replayTo(gameStateListener);
+    }
+}
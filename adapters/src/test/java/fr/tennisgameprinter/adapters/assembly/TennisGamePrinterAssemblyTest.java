@@ -0,0 +1,71 @@
+package fr.tennisgameprinter.adapters.assembly;
+
+import fr.tennisgameprinter.adapters.deserializer.ByteBufferDeserializer;
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.adapters.listener.BufferedPointRenderingListener;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TennisGamePrinterAssemblyTest {
+
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private PipelineMetrics pipelineMetrics;
+    private TennisGamePrinterAssembly tennisGamePrinterAssembly;
+
+    @BeforeEach
+    void setUp() {
+        pipelineMetrics = new PipelineMetrics(true);
+        tennisGamePrinterAssembly = new TennisGamePrinterAssembly(
+                new StringDeserializer(),
+                new ByteBufferDeserializer(),
+                new CharGameConsistencyValidator(),
+                new BufferedPointRenderingListener('A', 'B', new PrintStream(output), true),
+                pipelineMetrics
+        );
+    }
+
+    @Test
+    void testTennisGameProcessor() {
+        // GIVEN the processor of the interactive input
+        // WHEN we process a consistent game twice
+        tennisGamePrinterAssembly.tennisGameProcessor(16, 1024).process(new TennisGameInput<>("AAAA", 'A', 'B'));
+        tennisGamePrinterAssembly.tennisGameProcessor(16, 1024).process(new TennisGameInput<>("AAAA", 'A', 'B'));
+
+        // THEN its points are rendered through the shared probe, and recorded into the shared metrics
+        String points = "Player A : 15 / Player B : 0" + NEW_LINE + "Player A : 30 / Player B : 0" + NEW_LINE
+                + "Player A : 40 / Player B : 0" + NEW_LINE + "Player A wins the game" + NEW_LINE;
+        assertEquals(points + points, output.toString());
+        assertEquals(2, pipelineMetrics.getGames());
+    }
+
+    @Test
+    void testBatchTennisGameProcessor() {
+        // GIVEN the processor of the batch files
+        // WHEN we process an inconsistent game
+        ByteBuffer input = ByteBuffer.wrap("AAAAA".getBytes(StandardCharsets.US_ASCII));
+
+        // THEN it is rejected by the shared validator, and recorded into the shared metrics
+        assertThrows(InconsistentGameException.class,
+                () -> tennisGamePrinterAssembly.batchTennisGameProcessor().process(new TennisGameInput<>(input, 'A', 'B')));
+        assertEquals(1, pipelineMetrics.getRejections());
+    }
+
+    @Test
+    void testConstructor_withNullMetrics() {
+        // GIVEN no metrics, WHEN we create our assembly, THEN it is rejected
+        assertThrows(NullPointerException.class, () -> new TennisGamePrinterAssembly(null));
+    }
+}
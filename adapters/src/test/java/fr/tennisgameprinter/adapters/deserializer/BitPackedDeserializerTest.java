@@ -0,0 +1,80 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitPackedDeserializerTest {
+
+    @Test
+    void testDeserialize() {
+        // GIVEN a ByteBuffer input which holds the game "AAABA", that is, 5 points with only the fourth bit set
+        ByteBuffer input = ByteBuffer.wrap(new byte[]{5, 0b01000});
+        // AND our BitPackedDeserializer
+        BitPackedDeserializer bitPackedDeserializer = new BitPackedDeserializer();
+        // WHEN we deserialize the input into points
+        List<Point<Character>> points = bitPackedDeserializer.deserialize(input);
+        // THEN the points match our expectations
+        assertEquals(List.of(new Point<>('A'), new Point<>('A'), new Point<>('A'), new Point<>('B'), new Point<>('A')), points);
+    }
+
+    @Test
+    void testDeserializeToSource() {
+        // GIVEN a ByteBuffer input which holds, from its position onwards, the game "BAAAAAAAB" followed by another byte
+        ByteBuffer input = ByteBuffer.wrap(new byte[]{42, 9, 0b00000001, 0b1, 42}).position(1);
+        // AND our BitPackedDeserializer
+        BitPackedDeserializer bitPackedDeserializer = new BitPackedDeserializer();
+        // WHEN we deserialize the input into a PointSource
+        BitPackedPointSource points = bitPackedDeserializer.deserializeToSource(input);
+        // THEN the points match our expectations
+        String expected = "BAAAAAAAB";
+        assertEquals(expected.length(), points.size());
+        for (int i = 0; i < expected.length(); ++i) {
+            assertEquals(expected.charAt(i), points.winner(i));
+            assertTrue(points.isWonBy(i, expected.charAt(i)));
+        }
+        // AND the game is known to be encoded with 3 bytes, regardless of the byte that follows it
+        assertEquals(3, points.encodedLength());
+        // AND the position of the input did not move
+        assertEquals(1, input.position());
+    }
+
+    @Test
+    void testDeserializeToSource_withMultiByteLengthHeader() {
+        // GIVEN a ByteBuffer input which holds a game of 300 points, all won by the second player
+        byte[] encoded = new byte[2 + 38];
+        encoded[0] = (byte) (300 & 0x7F | 0x80);
+        encoded[1] = (byte) (300 >>> 7);
+        for (int i = 2; i < encoded.length; ++i) {
+            encoded[i] = (byte) 0xFF;
+        }
+        // WHEN we deserialize the input into a PointSource with our own players
+        PointSource<Character> points = new BitPackedDeserializer('X', 'Y').deserializeToSource(ByteBuffer.wrap(encoded));
+        // THEN it holds 300 points, each won by the second player
+        assertEquals(300, points.size());
+        for (int i = 0; i < points.size(); ++i) {
+            assertEquals('Y', points.winner(i));
+        }
+    }
+
+    @Test
+    void testDeserializeToSource_withTruncatedInput() {
+        // GIVEN a ByteBuffer input which announces 9 points, yet only holds the first 8 of them
+        ByteBuffer input = ByteBuffer.wrap(new byte[]{9, 0});
+        // WHEN we deserialize the input, THEN an IllegalArgumentException is thrown
+        assertThrows(IllegalArgumentException.class, () -> new BitPackedDeserializer().deserializeToSource(input));
+    }
+
+    @Test
+    void testDeserializeToSource_withEmptyInput() {
+        // GIVEN a ByteBuffer input without any length header
+        ByteBuffer input = ByteBuffer.allocate(0);
+        // WHEN we deserialize the input, THEN an IllegalArgumentException is thrown
+        assertThrows(IllegalArgumentException.class, () -> new BitPackedDeserializer().deserializeToSource(input));
+    }
+}
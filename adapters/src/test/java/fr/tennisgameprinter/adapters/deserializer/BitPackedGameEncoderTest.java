@@ -0,0 +1,95 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitPackedGameEncoderTest {
+
+    @Test
+    void testEncode() {
+        // GIVEN our BitPackedGameEncoder
+        BitPackedGameEncoder bitPackedGameEncoder = new BitPackedGameEncoder();
+        // WHEN we encode the game "AAABA"
+        byte[] encoded = bitPackedGameEncoder.encode("AAABA");
+        // THEN it is encoded as its length followed by a single byte with only the fourth bit set
+        assertArrayEquals(new byte[]{5, 0b01000}, encoded);
+    }
+
+    @Test
+    void testEncode_roundTrip() {
+        // GIVEN our BitPackedGameEncoder and BitPackedDeserializer
+        BitPackedGameEncoder bitPackedGameEncoder = new BitPackedGameEncoder();
+        BitPackedDeserializer bitPackedDeserializer = new BitPackedDeserializer();
+        // AND a game long enough to need a multi-byte length header
+        String game = "AAABBB" + "AB".repeat(100) + "AA";
+        // WHEN we encode the game, then decode it back
+        BitPackedPointSource points = bitPackedDeserializer.deserializeToSource(ByteBuffer.wrap(bitPackedGameEncoder.encode(game)));
+        // THEN the decoded points match the game
+        StringBuilder decoded = new StringBuilder();
+        for (int i = 0; i < points.size(); ++i) {
+            decoded.append(points.winner(i));
+        }
+        assertEquals(game, decoded.toString());
+        // AND the game is encoded with 2 bytes of header, plus one byte per 8 points
+        assertEquals(2 + 26, points.encodedLength());
+    }
+
+    @Test
+    void testEncode_withUnknownPlayer() {
+        // GIVEN our BitPackedGameEncoder
+        BitPackedGameEncoder bitPackedGameEncoder = new BitPackedGameEncoder();
+        // WHEN we encode a game with a point won by an unknown player, THEN an IllegalArgumentException is thrown
+        assertThrows(IllegalArgumentException.class, () -> bitPackedGameEncoder.encode("AACA"));
+    }
+
+    @Test
+    void testEncode_archive() throws IOException {
+        // GIVEN a text archive of three games, with a blank line in between
+        String textArchive = "AAAA\n\n  ABABAAA \nBBBB\n";
+        // AND our BitPackedGameEncoder
+        BitPackedGameEncoder bitPackedGameEncoder = new BitPackedGameEncoder();
+        // WHEN we encode the text archive into a binary archive
+        ByteArrayOutputStream binaryArchive = new ByteArrayOutputStream();
+        long games = bitPackedGameEncoder.encode(new StringReader(textArchive), binaryArchive);
+        // THEN three games were encoded
+        assertEquals(3, games);
+        // AND reading the binary archive game after game gives back each game of the text archive
+        ByteBuffer input = ByteBuffer.wrap(binaryArchive.toByteArray());
+        BitPackedDeserializer bitPackedDeserializer = new BitPackedDeserializer();
+        List<String> decodedGames = new ArrayList<>();
+        while (input.hasRemaining()) {
+            BitPackedPointSource points = bitPackedDeserializer.deserializeToSource(input);
+            StringBuilder decoded = new StringBuilder();
+            for (int i = 0; i < points.size(); ++i) {
+                decoded.append(points.winner(i));
+            }
+            decodedGames.add(decoded.toString());
+            input.position(input.position() + points.encodedLength());
+        }
+        assertEquals(List.of("AAAA", "ABABAAA", "BBBB"), decodedGames);
+    }
+
+    @Test
+    void testEncode_archiveWithUnknownPlayer() {
+        // GIVEN a text archive whose second game has a point won by an unknown player
+        String textArchive = "AAAA\nAAXA\n";
+        // WHEN we encode the text archive, THEN an IllegalArgumentException is thrown with the line of the game
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new BitPackedGameEncoder().encode(new StringReader(textArchive), new ByteArrayOutputStream()));
+        assertTrue(exception.getMessage().contains("line 2"));
+    }
+
+    @Test
+    void testConstructor_withSamePlayers() {
+        // WHEN we create a BitPackedGameEncoder with twice the same player, THEN an IllegalArgumentException is thrown
+        assertThrows(IllegalArgumentException.class, () -> new BitPackedGameEncoder('A', 'A'));
+    }
+}
@@ -0,0 +1,44 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ByteBufferDeserializerTest {
+
+    @Test
+    void testDeserialize() {
+        // GIVEN a ByteBuffer input whose remaining bytes represent a game
+        ByteBuffer input = ByteBuffer.wrap("xAAABA".getBytes(StandardCharsets.US_ASCII)).position(1);
+        // AND our ByteBufferDeserializer
+        ByteBufferDeserializer byteBufferDeserializer = new ByteBufferDeserializer();
+        // WHEN we deserialize the input into points
+        List<Point<Character>> points = byteBufferDeserializer.deserialize(input);
+        // THEN the points match our expectations
+        assertEquals(List.of(new Point<>('A'), new Point<>('A'), new Point<>('A'), new Point<>('B'), new Point<>('A')), points);
+    }
+
+    @Test
+    void testDeserializeToSource() {
+        // GIVEN a ByteBuffer input whose remaining bytes represent a game
+        ByteBuffer input = ByteBuffer.wrap("xAAABA".getBytes(StandardCharsets.US_ASCII)).position(1);
+        // AND our ByteBufferDeserializer
+        ByteBufferDeserializer byteBufferDeserializer = new ByteBufferDeserializer();
+        // WHEN we deserialize the input into a PointSource
+        PointSource<Character> points = byteBufferDeserializer.deserializeToSource(input);
+        // THEN the points match our expectations
+        assertEquals(5, points.size());
+        String expected = "AAABA";
+        for (int i = 0; i < expected.length(); ++i) {
+            assertEquals(expected.charAt(i), points.winner(i));
+        }
+        // AND the position of the input did not move
+        assertEquals(1, input.position());
+    }
+}
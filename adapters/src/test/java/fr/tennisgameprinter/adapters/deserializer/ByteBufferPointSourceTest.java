@@ -0,0 +1,35 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteBufferPointSourceTest {
+
+    @Test
+    void testPointSource() {
+        // GIVEN a ByteBuffer whose remaining bytes are "AB"
+        ByteBuffer input = ByteBuffer.wrap("BAB".getBytes(StandardCharsets.US_ASCII)).position(1);
+        // WHEN we create a ByteBufferPointSource over this input
+        ByteBufferPointSource byteBufferPointSource = new ByteBufferPointSource(input);
+        // THEN it holds as many points as the input has remaining bytes
+        assertEquals(2, byteBufferPointSource.size());
+        // AND each winner matches the character at the same index
+        assertEquals('A', byteBufferPointSource.winner(0));
+        assertEquals('B', byteBufferPointSource.winner(1));
+        // AND each point is only won by the player identified by that character
+        assertTrue(byteBufferPointSource.isWonBy(0, 'A'));
+        assertFalse(byteBufferPointSource.isWonBy(0, 'B'));
+        assertTrue(byteBufferPointSource.isWonBy(1, 'B'));
+        assertFalse(byteBufferPointSource.isWonBy(1, 'A'));
+    }
+
+    @Test
+    void testConstructor_withNullInput() {
+        // WHEN we create a ByteBufferPointSource over a null input, THEN a NullPointerException is thrown
+        assertThrows(NullPointerException.class, () -> new ByteBufferPointSource(null));
+    }
+}
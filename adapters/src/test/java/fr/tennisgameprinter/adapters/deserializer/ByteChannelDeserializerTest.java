@@ -0,0 +1,29 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteChannelDeserializerTest {
+
+    @Test
+    void testDeserializeToStream() {
+        // GIVEN a ReadableByteChannel input representing a game
+        ReadableByteChannel input = Channels.newChannel(new ByteArrayInputStream("AAABA".getBytes(StandardCharsets.US_ASCII)));
+        // AND our ByteChannelDeserializer
+        ByteChannelDeserializer byteChannelDeserializer = new ByteChannelDeserializer();
+        // WHEN we deserialize the input into a PointStream
+        PointStream<Character> points = byteChannelDeserializer.deserializeToStream(input);
+        // THEN the points match our expectations, in order
+        for (char expected : "AAABA".toCharArray()) {
+            assertEquals(expected, points.next());
+        }
+        assertNull(points.next());
+    }
+}
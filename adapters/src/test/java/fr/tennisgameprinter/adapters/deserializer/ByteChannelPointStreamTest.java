@@ -0,0 +1,79 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteChannelPointStreamTest {
+
+    @Test
+    void testNextChar() {
+        // GIVEN a ByteChannelPointStream whose buffer is smaller than its input
+        ByteChannelPointStream points = new ByteChannelPointStream(channel("AAABBBA"), 3);
+        // WHEN we read every point, THEN the winners match our expectations, across several refills of the buffer
+        for (char expected : "AAABBBA".toCharArray()) {
+            assertEquals(expected, points.nextChar());
+        }
+        // AND the end of the stream is reported once every point was read, and from then on
+        assertEquals(CharPointStream.END_OF_STREAM, points.nextChar());
+        assertEquals(CharPointStream.END_OF_STREAM, points.nextChar());
+    }
+
+    @Test
+    void testNextChar_withLineTerminators() {
+        // GIVEN ByteChannelPointStreams whose buffer is smaller than their input, which holds line terminators
+        ByteChannelPointStream trailingTerminator = new ByteChannelPointStream(channel("AAAA\r\n"), 3);
+        ByteChannelPointStream innerTerminator = new ByteChannelPointStream(channel("AB\r\nC"), 3);
+        // WHEN we read every point, THEN the line terminator that ends the input is trimmed
+        for (char expected : "AAAA".toCharArray()) {
+            assertEquals(expected, trailingTerminator.nextChar());
+        }
+        assertEquals(CharPointStream.END_OF_STREAM, trailingTerminator.nextChar());
+        // AND any other line terminator is read as is
+        for (char expected : "AB\r\nC".toCharArray()) {
+            assertEquals(expected, innerTerminator.nextChar());
+        }
+        assertEquals(CharPointStream.END_OF_STREAM, innerTerminator.nextChar());
+    }
+
+    @Test
+    void testNextChar_withFailingChannel() {
+        // GIVEN a ByteChannelPointStream over a ReadableByteChannel that fails to be read
+        ByteChannelPointStream points = new ByteChannelPointStream(new ReadableByteChannel() {
+            @Override
+            public int read(final ByteBuffer buffer) throws IOException {
+                throw new IOException("unreadable");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        // WHEN we read a point, THEN an UncheckedIOException is thrown
+        UncheckedIOException uncheckedIOException = assertThrows(UncheckedIOException.class, points::nextChar);
+        // AND its cause is the failure of the ReadableByteChannel
+        assertEquals("unreadable", uncheckedIOException.getCause().getMessage());
+    }
+
+    /**
+     * @param input the content of the channel.
+     * @return a {@link ReadableByteChannel} over the provided content.
+     */
+    private static ReadableByteChannel channel(final String input) {
+        return Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,33 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharSequencePointSourceTest {
+
+    @Test
+    void testPointSource() {
+        // GIVEN a String input
+        String input = "AAB";
+        // WHEN we create a CharSequencePointSource over this input
+        CharSequencePointSource charSequencePointSource = new CharSequencePointSource(input);
+        // THEN it holds as many points as the input has characters
+        assertEquals(3, charSequencePointSource.size());
+        // AND each winner matches the character at the same index
+        assertEquals('A', charSequencePointSource.winner(0));
+        assertEquals('A', charSequencePointSource.winner(1));
+        assertEquals('B', charSequencePointSource.winner(2));
+        // AND each point is only won by the player identified by that character
+        assertTrue(charSequencePointSource.isWonBy(0, 'A'));
+        assertFalse(charSequencePointSource.isWonBy(0, 'B'));
+        assertTrue(charSequencePointSource.isWonBy(2, 'B'));
+        assertFalse(charSequencePointSource.isWonBy(2, 'A'));
+    }
+
+    @Test
+    void testConstructor_withNullInput() {
+        // WHEN we create a CharSequencePointSource over a null input, THEN a NullPointerException is thrown
+        assertThrows(NullPointerException.class, () -> new CharSequencePointSource(null));
+    }
+}
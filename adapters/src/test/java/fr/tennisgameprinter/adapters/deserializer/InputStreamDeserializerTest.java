@@ -0,0 +1,41 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InputStreamDeserializerTest {
+
+    @Test
+    void testDeserializeToStream_withArbitrarilyLargeGame() {
+        // GIVEN an InputStream generating a game of ten million points, which alternate between deuces and
+        // advantages before player A's victory, without ever holding the game in memory
+        long deuces = 5_000_000L;
+        InputStream input = new InputStream() {
+            private long position;
+
+            @Override
+            public int read() {
+                long index = position++;
+                if (index < 6) {
+                    return index < 3 ? 'A' : 'B';
+                } else if (index < 6 + 2 * deuces) {
+                    return (index & 1) == 0 ? 'A' : 'B';
+                }
+                return index < 8 + 2 * deuces ? 'A' : -1;
+            }
+        };
+        // AND our InputStreamDeserializer
+        InputStreamDeserializer inputStreamDeserializer = new InputStreamDeserializer();
+        // WHEN we deserialize the input into a PointStream, and check the game it streams
+        PointStream<Character> points = inputStreamDeserializer.deserializeToStream(input);
+        ValidationResult validationResult = new CharGameConsistencyValidator().check('A', 'B', points);
+        // THEN the game is valid
+        assertEquals(ValidationResult.VALID, validationResult);
+    }
+}
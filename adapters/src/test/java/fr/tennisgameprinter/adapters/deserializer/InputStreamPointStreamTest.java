@@ -0,0 +1,72 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputStreamPointStreamTest {
+
+    @Test
+    void testNextChar() {
+        // GIVEN an InputStreamPointStream over an InputStream whose bytes are beyond the range of signed bytes
+        InputStreamPointStream points = new InputStreamPointStream(new ByteArrayInputStream(new byte[]{'A', (byte) 0xE9}));
+        // WHEN we read the points, THEN each byte is read as an unsigned character
+        assertEquals('A', points.nextChar());
+        assertEquals('é', points.nextChar());
+        // AND the end of the stream is reported once every point was read, and from then on
+        assertEquals(CharPointStream.END_OF_STREAM, points.nextChar());
+        assertEquals(CharPointStream.END_OF_STREAM, points.nextChar());
+    }
+
+    @Test
+    void testNextChar_withLineTerminators() {
+        // GIVEN InputStreamPointStreams whose buffer is smaller than their input, which holds line terminators
+        InputStreamPointStream trailingTerminator = new InputStreamPointStream(stream("AAAA\r\n"), 3);
+        InputStreamPointStream innerTerminator = new InputStreamPointStream(stream("AB\r\nC"), 3);
+        // WHEN we read every point, THEN the line terminator that ends the input is trimmed
+        for (char expected : "AAAA".toCharArray()) {
+            assertEquals(expected, trailingTerminator.nextChar());
+        }
+        assertEquals(CharPointStream.END_OF_STREAM, trailingTerminator.nextChar());
+        // AND any other line terminator is read as is
+        for (char expected : "AB\r\nC".toCharArray()) {
+            assertEquals(expected, innerTerminator.nextChar());
+        }
+        assertEquals(CharPointStream.END_OF_STREAM, innerTerminator.nextChar());
+    }
+
+    @Test
+    void testNextChar_withFailingInputStream() {
+        // GIVEN an InputStreamPointStream over an InputStream that fails to be read
+        InputStreamPointStream points = new InputStreamPointStream(new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("unreadable");
+            }
+
+            @Override
+            public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+                throw new IOException("unreadable");
+            }
+        });
+        // WHEN we read a point, THEN an UncheckedIOException is thrown
+        UncheckedIOException uncheckedIOException = assertThrows(UncheckedIOException.class, points::nextChar);
+        // AND its cause is the failure of the InputStream
+        assertEquals("unreadable", uncheckedIOException.getCause().getMessage());
+    }
+
+    /**
+     * @param input the content of the stream.
+     * @return an {@link InputStream} over the provided content.
+     */
+    private static InputStream stream(final String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII));
+    }
+}
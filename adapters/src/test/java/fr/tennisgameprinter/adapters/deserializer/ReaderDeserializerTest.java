@@ -0,0 +1,25 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReaderDeserializerTest {
+
+    @Test
+    void testDeserializeToStream() {
+        // GIVEN a Reader input representing a game
+        StringReader input = new StringReader("AAABA");
+        // AND our ReaderDeserializer
+        ReaderDeserializer readerDeserializer = new ReaderDeserializer();
+        // WHEN we deserialize the input into a PointStream
+        PointStream<Character> points = readerDeserializer.deserializeToStream(input);
+        // THEN the game it streams is valid
+        assertEquals(ValidationResult.VALID, new CharGameConsistencyValidator().check('A', 'B', points));
+    }
+}
@@ -0,0 +1,72 @@
+package fr.tennisgameprinter.adapters.deserializer;
+
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReaderPointStreamTest {
+
+    @Test
+    void testNextChar() {
+        // GIVEN a ReaderPointStream whose buffer is smaller than its input
+        ReaderPointStream points = new ReaderPointStream(new StringReader("AAABBBA"), 3);
+        // WHEN we read every point, THEN the winners match our expectations, across several refills of the buffer
+        for (char expected : "AAABBBA".toCharArray()) {
+            assertEquals(expected, points.nextChar());
+        }
+        // AND the end of the stream is reported once every point was read, and from then on
+        assertEquals(CharPointStream.END_OF_STREAM, points.nextChar());
+        assertEquals(CharPointStream.END_OF_STREAM, points.nextChar());
+    }
+
+    @Test
+    void testNextChar_withLineTerminators() {
+        // GIVEN ReaderPointStreams whose buffer is smaller than their input, which holds line terminators
+        ReaderPointStream trailingTerminator = new ReaderPointStream(new StringReader("AAAA\r\n"), 3);
+        ReaderPointStream innerTerminator = new ReaderPointStream(new StringReader("AB\r\nC"), 3);
+        // WHEN we read every point, THEN the line terminator that ends the input is trimmed
+        for (char expected : "AAAA".toCharArray()) {
+            assertEquals(expected, trailingTerminator.nextChar());
+        }
+        assertEquals(CharPointStream.END_OF_STREAM, trailingTerminator.nextChar());
+        // AND any other line terminator is read as is
+        for (char expected : "AB\r\nC".toCharArray()) {
+            assertEquals(expected, innerTerminator.nextChar());
+        }
+        assertEquals(CharPointStream.END_OF_STREAM, innerTerminator.nextChar());
+    }
+
+    @Test
+    void testNext() {
+        // GIVEN a ReaderPointStream over a game of a single point
+        ReaderPointStream points = new ReaderPointStream(new StringReader("B"));
+        // WHEN we read the points the generic way, THEN the winner is boxed, and the end of the stream is null
+        assertEquals('B', points.next());
+        assertNull(points.next());
+    }
+
+    @Test
+    void testNextChar_withFailingReader() {
+        // GIVEN a ReaderPointStream over a Reader that fails to be read
+        ReaderPointStream points = new ReaderPointStream(new Reader() {
+            @Override
+            public int read(final char[] buffer, final int offset, final int length) throws IOException {
+                throw new IOException("unreadable");
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        // WHEN we read a point, THEN an UncheckedIOException is thrown
+        UncheckedIOException uncheckedIOException = assertThrows(UncheckedIOException.class, points::nextChar);
+        // AND its cause is the failure of the Reader
+        assertEquals("unreadable", uncheckedIOException.getCause().getMessage());
+    }
+}
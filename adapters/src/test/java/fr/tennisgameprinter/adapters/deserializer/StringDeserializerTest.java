@@ -1,6 +1,7 @@
 package fr.tennisgameprinter.adapters.deserializer;
 
 import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -21,4 +22,19 @@ class StringDeserializerTest {
             assertEquals(input.charAt(i), points.get(i).winner());
         }
     }
+
+    @Test
+    void testDeserializeToSource() {
+        // GIVEN a String input
+        String input = "AAABA";
+        // AND our StringDeserializer
+        StringDeserializer stringDeserializer = new StringDeserializer();
+        // WHEN we deserialize the input into a PointSource
+        PointSource<Character> points = stringDeserializer.deserializeToSource(input);
+        // THEN the points match our expectations
+        assertEquals(input.length(), points.size());
+        for (int i = 0; i < input.length(); ++i) {
+            assertEquals(input.charAt(i), points.winner(i));
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package fr.tennisgameprinter.adapters.input;
+
+import fr.tennisgameprinter.adapters.listener.BufferedPointRenderingListener;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class TennisGameBatchFileReaderTest {
+
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream standardOutput = System.out;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(standardOutput);
+    }
+
+    @Test
+    void testProcess() throws IOException {
+        // GIVEN a file of newline-delimited games, with a blank line, a carriage return and no trailing newline
+        Path file = Files.writeString(tempDir.resolve("games.txt"), "AAAA\n\nBBBB\r\n AAABA");
+        // AND a TennisGameProcessor
+        TennisGameProcessor<ByteBuffer, Character> tennisGameProcessor = mock(TennisGameProcessor.class);
+        when(tennisGameProcessor.tryProcess(any(), any())).thenReturn(ValidationResult.VALID);
+        // AND our TennisGameBatchFileReader, which maps a few bytes at once so that games straddle mappings
+        TennisGameBatchFileReader tennisGameBatchFileReader = new TennisGameBatchFileReader(tennisGameProcessor, 7);
+
+        // WHEN we process the file
+        BatchSummary batchSummary = tennisGameBatchFileReader.process(file);
+
+        // THEN each game was processed, without its surrounding whitespaces
+        verify(tennisGameProcessor).tryProcess(argThat(input -> isGame(input, "AAAA")), any(BufferedPointRenderingListener.class));
+        verify(tennisGameProcessor).tryProcess(argThat(input -> isGame(input, "BBBB")), any(BufferedPointRenderingListener.class));
+        verify(tennisGameProcessor).tryProcess(argThat(input -> isGame(input, "AAABA")), any(BufferedPointRenderingListener.class));
+        verifyNoMoreInteractions(tennisGameProcessor);
+        // AND the summary matches our expectations
+        assertEquals(3, batchSummary.games());
+        assertEquals(0, batchSummary.invalidGames());
+        assertEquals(Files.size(file), batchSummary.bytes());
+        // AND the summary was printed
+        assertEquals(batchSummary + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    void testProcess_withInconsistentGame() throws IOException {
+        // GIVEN a file of newline-delimited games
+        Path file = Files.writeString(tempDir.resolve("games.txt"), "AAAA\nAAA\n");
+        // AND a TennisGameProcessor that is expected to reject the second game
+        TennisGameProcessor<ByteBuffer, Character> tennisGameProcessor = mock(TennisGameProcessor.class);
+        when(tennisGameProcessor.tryProcess(any(), any())).thenReturn(ValidationResult.VALID);
+        when(tennisGameProcessor.tryProcess(argThat(input -> isGame(input, "AAA")), any())).thenReturn(ValidationResult.tooFewPoints(2));
+        // AND our TennisGameBatchFileReader
+        TennisGameBatchFileReader tennisGameBatchFileReader = new TennisGameBatchFileReader(tennisGameProcessor);
+
+        // WHEN we process the file
+        BatchSummary batchSummary = tennisGameBatchFileReader.process(file);
+
+        // THEN the inconsistent game was counted
+        assertEquals(2, batchSummary.games());
+        assertEquals(1, batchSummary.invalidGames());
+        // AND its message was printed before the summary
+        assertEquals(ValidationResult.tooFewPoints(2).getMessage() + System.lineSeparator() + batchSummary + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    void testProcess_withPrintStream() throws IOException {
+        // GIVEN a file of newline-delimited games
+        Path file = Files.writeString(tempDir.resolve("games.txt"), "AAAA\nBBBB\nAAA\n");
+        // AND a TennisGameProcessor that renders a line per consistent game, and rejects the third game
+        TennisGameProcessor<ByteBuffer, Character> tennisGameProcessor = mock(TennisGameProcessor.class);
+        when(tennisGameProcessor.tryProcess(any(), any())).thenAnswer(invocation -> {
+            invocation.<BufferedPointRenderingListener>getArgument(1).writeLine("rendered");
+            return ValidationResult.VALID;
+        });
+        doReturn(ValidationResult.tooFewPoints(2)).when(tennisGameProcessor).tryProcess(argThat(input -> isGame(input, "AAA")), any());
+        // AND our TennisGameBatchFileReader
+        TennisGameBatchFileReader tennisGameBatchFileReader = new TennisGameBatchFileReader(tennisGameProcessor);
+        // AND a PrintStream which counts how many times it is written to
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        PrintStream printStream = spy(new PrintStream(printed, false, StandardCharsets.US_ASCII));
+
+        // WHEN we process the file into the PrintStream
+        BatchSummary batchSummary = tennisGameBatchFileReader.process(file, printStream);
+
+        // THEN the rendered lines and the message of the inconsistent game were printed before the summary
+        assertEquals(
+                "rendered" + System.lineSeparator()
+                        + "rendered" + System.lineSeparator()
+                        + ValidationResult.tooFewPoints(2).getMessage() + System.lineSeparator()
+                        + batchSummary + System.lineSeparator(),
+                printed.toString(StandardCharsets.US_ASCII));
+        // AND every game was written at once, rather than once per game
+        verify(printStream, times(1)).write(any(byte[].class), anyInt(), anyInt());
+        // AND nothing was printed into the standard output
+        assertEquals("", outContent.toString());
+    }
+
+    @Test
+    void testProcess_withGameLongerThanMappingSize() throws IOException {
+        // GIVEN a file holding a game longer than the mapping size
+        Path file = Files.writeString(tempDir.resolve("games.txt"), "AAABBBABBAAA\nAAAA\n");
+        // AND our TennisGameBatchFileReader
+        TennisGameBatchFileReader tennisGameBatchFileReader = new TennisGameBatchFileReader(mock(TennisGameProcessor.class), 8);
+
+        // WHEN we process the file, THEN an IOException is thrown
+        assertThrows(IOException.class, () -> tennisGameBatchFileReader.process(file));
+    }
+
+    /**
+     * @param input the {@link TennisGameInput}.
+     * @param game the expected game.
+     * @return whether the provided input holds the expected game between players 'A' and 'B'.
+     */
+    private static boolean isGame(final TennisGameInput<ByteBuffer, Character> input, final String game) {
+        return input != null
+                && StandardCharsets.US_ASCII.decode(input.input().duplicate()).toString().equals(game)
+                && input.firstPlayerId() == 'A'
+                && input.secondPlayerId() == 'B';
+    }
+}
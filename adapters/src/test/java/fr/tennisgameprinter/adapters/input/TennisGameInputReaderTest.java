@@ -1,10 +1,21 @@
 package fr.tennisgameprinter.adapters.input;
 
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
 import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.engine.CharTennisGame;
 import fr.tennisgameprinter.domain.game.input.TennisGameInput;
-import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -15,6 +26,7 @@ class TennisGameInputReaderTest {
     void testStart() {
         // GIVEN a TennisGameProcessor
         TennisGameProcessor<String, Character> tennisGameProcessor = mock(TennisGameProcessor.class);
+        when(tennisGameProcessor.tryProcess(any())).thenReturn(ValidationResult.VALID);
         // AND a Scanner from which we simulate user input
         Scanner scannerMock = mock(Scanner.class);
         when(scannerMock.nextLine()).thenReturn("AAABA", "BBAABB", "exit");
@@ -25,29 +37,118 @@ class TennisGameInputReaderTest {
         tennisGameInputReader.start();
 
         // THEN the TennisGameProcessor instance has processed the user input
-        verify(tennisGameProcessor).process(new TennisGameInput<>("AAABA", 'A', 'B'));
-        verify(tennisGameProcessor).process(new TennisGameInput<>("BBAABB", 'A', 'B'));
+        verify(tennisGameProcessor).tryProcess(new TennisGameInput<>("AAABA", 'A', 'B'));
+        verify(tennisGameProcessor).tryProcess(new TennisGameInput<>("BBAABB", 'A', 'B'));
     }
 
     @Test
-    void testStart_withExceptionFromDomainLayer() {
+    void testStart_withInconsistentGame() {
         // GIVEN the expected input that does not form a consistent tennis game
         String inconsistentInput = "AAA";
-        // AND a TennisGameProcessor that is expected to throw an exception when processing this input
+        // AND a TennisGameProcessor that is expected to reject this input
         TennisGameProcessor<String, Character> tennisGameProcessor = mock(TennisGameProcessor.class);
         TennisGameInput<String, Character> tennisGameInput = new TennisGameInput<>(inconsistentInput, 'A', 'B');
-        doThrow(new InconsistentGameException(("the provided tennis game is inconsistent")))
-                .when(tennisGameProcessor)
-                .process(tennisGameInput);
+        when(tennisGameProcessor.tryProcess(tennisGameInput)).thenReturn(ValidationResult.tooFewPoints(2));
         // AND a Scanner from which we simulate user input
         Scanner scannerMock = mock(Scanner.class);
         when(scannerMock.nextLine()).thenReturn(inconsistentInput, "exit");
         // AND our TennisGameInputReader built from the previously defined dependencies
         TennisGameInputReader tennisGameInputReader = new TennisGameInputReader(tennisGameProcessor, scannerMock);
 
-        // WHEN we start the TennisGameInputReader, THEN no exception occurs as it was caught by our TennisGameInputReader
+        // WHEN we start the TennisGameInputReader, THEN no exception occurs
         assertDoesNotThrow(tennisGameInputReader::start);
-        // AND yet, our TennisGameProcessor was called with the expected input that triggered an InconsistentGameException
-        verify(tennisGameProcessor).process(tennisGameInput);
+        // AND yet, our TennisGameProcessor was called with the expected input that it rejected
+        verify(tennisGameProcessor).tryProcess(tennisGameInput);
+    }
+
+    @Test
+    void testStartPipe() throws IOException {
+        // GIVEN a TennisGameProcessor for the user input, and another one for the piped input
+        TennisGameProcessor<String, Character> tennisGameProcessor = mock(TennisGameProcessor.class);
+        TennisGameProcessor<String, Character> pipeTennisGameProcessor = mock(TennisGameProcessor.class);
+        when(pipeTennisGameProcessor.tryProcess(any(), any())).thenReturn(ValidationResult.VALID);
+        // AND piped input made of two games, a blank line, the exit command and yet another game
+        InputStream input = new ByteArrayInputStream("AAABA\r\n\n  BBAABB \nexit\nAAAA\n".getBytes(StandardCharsets.US_ASCII));
+        // AND our TennisGameInputReader
+        TennisGameInputReader tennisGameInputReader = new TennisGameInputReader(tennisGameProcessor, pipeTennisGameProcessor, mock(Scanner.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // WHEN we start the TennisGameInputReader in pipe mode
+        tennisGameInputReader.startPipe(input, new PrintStream(output));
+
+        // THEN the pipe TennisGameProcessor instance has processed each game until the exit command
+        verify(pipeTennisGameProcessor).tryProcess(eq(new TennisGameInput<>("AAABA", 'A', 'B')), any(GameStateListener.class));
+        verify(pipeTennisGameProcessor).tryProcess(eq(new TennisGameInput<>("BBAABB", 'A', 'B')), any(GameStateListener.class));
+        verifyNoMoreInteractions(pipeTennisGameProcessor);
+        // AND the TennisGameProcessor of the user input was left untouched
+        verifyNoInteractions(tennisGameProcessor);
+        // AND no prompt was printed
+        assertEquals("", output.toString());
+    }
+
+    @Test
+    void testStartPipe_withInconsistentGame() throws IOException {
+        // GIVEN a TennisGameProcessor that renders a deuce, then rejects an inconsistent game
+        TennisGameProcessor<String, Character> tennisGameProcessor = mock(TennisGameProcessor.class);
+        doAnswer(invocation -> {
+            invocation.<GameStateListener<Character>>getArgument(1).onDeuce();
+            return ValidationResult.VALID;
+        }).when(tennisGameProcessor).tryProcess(eq(new TennisGameInput<>("ABABAB", 'A', 'B')), any(GameStateListener.class));
+        when(tennisGameProcessor.tryProcess(eq(new TennisGameInput<>("AAA", 'A', 'B')), any(GameStateListener.class)))
+                .thenReturn(ValidationResult.tooFewPoints(2));
+        // AND piped input made of both games, without any trailing line separator, read 3 bytes at a time
+        InputStream input = new FilterInputStream(new ByteArrayInputStream("ABABAB\nAAA".getBytes(StandardCharsets.US_ASCII))) {
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                return super.read(b, off, Math.min(len, 3));
+            }
+        };
+        // AND our TennisGameInputReader
+        TennisGameInputReader tennisGameInputReader = new TennisGameInputReader(tennisGameProcessor, mock(Scanner.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // WHEN we start the TennisGameInputReader in pipe mode
+        tennisGameInputReader.startPipe(input, new PrintStream(output));
+
+        // THEN the rendered points and the message of the rejection were written in order, once the input was over
+        assertEquals("Deuce" + System.lineSeparator() + ValidationResult.tooFewPoints(2).getMessage() + System.lineSeparator(), output.toString());
+    }
+
+    @Test
+    void testStartStream() throws IOException {
+        // GIVEN a TennisGameProcessor made of real components for the piped input
+        TennisGameProcessor<String, Character> pipeTennisGameProcessor = new TennisGameProcessor<>(
+                new StringDeserializer(), new CharGameConsistencyValidator(), mock(GameStateListener.class), CharTennisGame::new);
+        // AND our TennisGameInputReader
+        TennisGameInputReader tennisGameInputReader = new TennisGameInputReader(mock(TennisGameProcessor.class), pipeTennisGameProcessor, mock(Scanner.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // WHEN we stream a game whose last point comes after the victory
+        tennisGameInputReader.startStream(new ByteArrayInputStream("AAAAB\n".getBytes(StandardCharsets.US_ASCII)), new PrintStream(output));
+
+        // THEN the points read before the last one were rendered, followed by the rejection of all four of them
+        assertEquals(
+                "Player A : 15 / Player B : 0" + System.lineSeparator()
+                        + "Player A : 30 / Player B : 0" + System.lineSeparator()
+                        + "Player A : 40 / Player B : 0" + System.lineSeparator()
+                        + "Player A wins the game" + System.lineSeparator()
+                        + String.format(TennisGameInputReader.STREAM_REJECTION_FORMAT, 4, ValidationResult.tooManyPoints(4).getMessage()) + System.lineSeparator(),
+                output.toString());
+    }
+
+    @Test
+    void testStartStream_withUnknownPlayer() throws IOException {
+        // GIVEN a TennisGameProcessor made of real components for the piped input
+        TennisGameProcessor<String, Character> pipeTennisGameProcessor = new TennisGameProcessor<>(
+                new StringDeserializer(), new CharGameConsistencyValidator(), mock(GameStateListener.class), CharTennisGame::new);
+        // AND our TennisGameInputReader
+        TennisGameInputReader tennisGameInputReader = new TennisGameInputReader(mock(TennisGameProcessor.class), pipeTennisGameProcessor, mock(Scanner.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // WHEN we stream a game whose first point was won by a non-declared player
+        tennisGameInputReader.startStream(new ByteArrayInputStream("CAAAA".getBytes(StandardCharsets.US_ASCII)), new PrintStream(output));
+
+        // THEN only the message of its rejection was written, as no point was rendered
+        assertEquals(ValidationResult.unknownPlayer(0).getMessage() + System.lineSeparator(), output.toString());
     }
 }
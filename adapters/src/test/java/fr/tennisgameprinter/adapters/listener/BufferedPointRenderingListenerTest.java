@@ -0,0 +1,129 @@
+package fr.tennisgameprinter.adapters.listener;
+
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BufferedPointRenderingListenerTest {
+
+    private final PrintStream standardOutput = System.out;
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(standardOutput);
+    }
+
+    @Test
+    void testRendering_isIdenticalToStdoutPointPrintingListener() {
+        // GIVEN every point a game between 'A' and 'B' may notify, as well as points involving another player or score
+        Consumer<GameStateListener<Character>> points = listener -> {
+            int[] scores = {0, 15, 30, 40};
+            for (int firstScore : scores) {
+                for (int secondScore : scores) {
+                    listener.onPoint(new RegularPoint<>('A', 'B', firstScore, secondScore));
+                }
+            }
+            listener.onPoint(new RegularPoint<>('B', 'A', 15, 0));
+            listener.onPoint(new RegularPoint<>('A', 'C', 45, 0));
+            listener.onAdvantage(new AdvantagePoint<>('A'));
+            listener.onAdvantage(new AdvantagePoint<>('B'));
+            listener.onAdvantage(new AdvantagePoint<>('C'));
+            listener.onDeuce();
+            listener.onVictory(new VictoryPoint<>('C'));
+            listener.onVictory(new VictoryPoint<>('B'));
+            listener.onVictory(new VictoryPoint<>('A'));
+        };
+        // AND the output of our StdoutPointPrintingListener for these points
+        ByteArrayOutputStream expectedOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(expectedOutput));
+        points.accept(new StdoutPointPrintingListener());
+        // AND our BufferedPointRenderingListener, rendering into a PrintStream
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BufferedPointRenderingListener listener = new BufferedPointRenderingListener('A', 'B', new PrintStream(output), false);
+
+        // WHEN our listener gets notified of these points, and is flushed
+        points.accept(listener);
+        listener.flush();
+
+        // THEN its output is byte-identical to the one of our StdoutPointPrintingListener
+        assertArrayEquals(expectedOutput.toByteArray(), output.toByteArray());
+    }
+
+    @Test
+    void testOnVictory_withFlushOnVictory() {
+        // GIVEN our BufferedPointRenderingListener, which flushes at the end of each game
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BufferedPointRenderingListener listener = new BufferedPointRenderingListener('A', 'B', new PrintStream(output), true);
+        // WHEN our listener gets notified of points, THEN nothing is written yet
+        listener.onPoint(new RegularPoint<>('A', 'B', 15, 0));
+        listener.onDeuce();
+        assertEquals(0, output.size());
+        // WHEN our listener gets notified of a victory, THEN the whole game is written
+        listener.onVictory(new VictoryPoint<>('A'));
+        assertEquals(
+                "Player A : 15 / Player B : 0" + System.lineSeparator() + "Deuce" + System.lineSeparator() + "Player A wins the game" + System.lineSeparator(),
+                output.toString()
+        );
+    }
+
+    @Test
+    void testOnVictory_withoutFlushOnVictory() {
+        // GIVEN our BufferedPointRenderingListener, which only flushes on demand
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BufferedPointRenderingListener listener = new BufferedPointRenderingListener('A', 'B', new PrintStream(output), false);
+        // WHEN our listener gets notified of a whole game, THEN nothing is written yet
+        listener.onPoint(new RegularPoint<>('A', 'B', 15, 0));
+        listener.onVictory(new VictoryPoint<>('A'));
+        assertEquals(0, output.size());
+        // WHEN our listener is flushed, THEN the whole game is written
+        listener.flush();
+        assertEquals("Player A : 15 / Player B : 0" + System.lineSeparator() + "Player A wins the game" + System.lineSeparator(), output.toString());
+    }
+
+    @Test
+    void testWrite_withSmallBuffer() {
+        // GIVEN our BufferedPointRenderingListener with a buffer smaller than some lines
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BufferedPointRenderingListener listener = new BufferedPointRenderingListener('A', 'B', output, StandardCharsets.UTF_8, 16, false);
+        // WHEN our listener gets notified of points which do not fit in the buffer
+        listener.onDeuce();
+        listener.onDeuce();
+        listener.onPoint(new RegularPoint<>('A', 'B', 40, 30));
+        listener.onDeuce();
+        // THEN the lines that could not fit were written in order
+        assertEquals("Deuce" + System.lineSeparator() + "Deuce" + System.lineSeparator() + "Player A : 40 / Player B : 30" + System.lineSeparator(), output.toString());
+        // AND the last line is written upon flushing
+        listener.flush();
+        assertTrue(output.toString().endsWith("Player B : 30" + System.lineSeparator() + "Deuce" + System.lineSeparator()));
+    }
+
+    @Test
+    void testWriteLine() {
+        // GIVEN our BufferedPointRenderingListener, which only flushes on demand
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BufferedPointRenderingListener listener = new BufferedPointRenderingListener('A', 'B', new PrintStream(output), false);
+        // WHEN our listener gets notified of a point, then writes a line, and is flushed
+        listener.onDeuce();
+        listener.writeLine("The provided tennis game is inconsistent.");
+        listener.flush();
+        // THEN the line was written in order with the point
+        assertEquals("Deuce" + System.lineSeparator() + "The provided tennis game is inconsistent." + System.lineSeparator(), output.toString());
+    }
+
+    @Test
+    void testConstructor_withInvalidBufferCapacity() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertThrows(IllegalArgumentException.class,
+                () -> new BufferedPointRenderingListener('A', 'B', output, StandardCharsets.UTF_8, 0, false));
+    }
+}
@@ -0,0 +1,73 @@
+package fr.tennisgameprinter.adapters.listener;
+
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CharStdoutPointPrintingListenerTest {
+
+    private final PrintStream standardOutput = System.out;
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final CharStdoutPointPrintingListener listener = new CharStdoutPointPrintingListener();
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(standardOutput);
+    }
+
+    @Test
+    void testOnPoint() {
+        // WHEN we call our listener's primitive onPoint() method
+        listener.onPoint('A', 'B', 30, 15);
+        // THEN the expected output was printed with the expected format
+        assertEquals("Player A : 30 / Player B : 15" + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    void testOnAdvantage() {
+        // WHEN we call our listener's primitive onAdvantage() method
+        listener.onAdvantage('B');
+        // THEN the expected output was printed with the expected format
+        assertEquals("Player B has advantage" + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    void testOnVictory() {
+        // WHEN we call our listener's primitive onVictory() method
+        listener.onVictory('A');
+        // THEN the expected output was printed with the expected format
+        assertEquals("Player A wins the game" + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    void testGenericCallbacks_matchStdoutPointPrintingListener() {
+        // GIVEN the output of a StdoutPointPrintingListener notified of each kind of point
+        StdoutPointPrintingListener stdoutPointPrintingListener = new StdoutPointPrintingListener();
+        stdoutPointPrintingListener.onPoint(new RegularPoint<>('A', 'B', 40, 0));
+        stdoutPointPrintingListener.onDeuce();
+        stdoutPointPrintingListener.onAdvantage(new AdvantagePoint<>('A'));
+        stdoutPointPrintingListener.onVictory(new VictoryPoint<>('B'));
+        String expected = outContent.toString();
+        outContent.reset();
+        // WHEN our listener is notified of the same points, the generic way
+        listener.onPoint(new RegularPoint<>('A', 'B', 40, 0));
+        listener.onDeuce();
+        listener.onAdvantage(new AdvantagePoint<>('A'));
+        listener.onVictory(new VictoryPoint<>('B'));
+        // THEN it printed the exact same output
+        assertEquals(expected, outContent.toString());
+    }
+}
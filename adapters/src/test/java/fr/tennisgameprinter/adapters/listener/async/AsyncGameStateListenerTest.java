@@ -0,0 +1,194 @@
+package fr.tennisgameprinter.adapters.listener.async;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.adapters.listener.BufferedPointRenderingListener;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncGameStateListenerTest {
+
+    /** A game of 10 points, with 2 deuces and 2 advantages. */
+    private static final String GAME = "AAABBBABAA";
+
+    @Test
+    void testFanOut() {
+        for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+            // GIVEN two renderers, behind an AsyncGameStateListener whose ring buffer is smaller than the game
+            ByteArrayOutputStream firstOutput = new ByteArrayOutputStream();
+            ByteArrayOutputStream secondOutput = new ByteArrayOutputStream();
+            BufferedPointRenderingListener firstRenderer = new BufferedPointRenderingListener('A', 'B', new PrintStream(firstOutput), false);
+            BufferedPointRenderingListener secondRenderer = new BufferedPointRenderingListener('A', 'B', new PrintStream(secondOutput), false);
+            AsyncGameStateListener<Character> asyncGameStateListener =
+                    new AsyncGameStateListener<>(List.of(firstRenderer, secondRenderer), 4, waitStrategy, BackpressurePolicy.BLOCK);
+            // WHEN we simulate the game against the AsyncGameStateListener, then close it
+            simulate(GAME, asyncGameStateListener);
+            asyncGameStateListener.close();
+            firstRenderer.flush();
+            secondRenderer.flush();
+            // THEN both renderers rendered exactly what a renderer notified synchronously renders
+            ByteArrayOutputStream expectedOutput = new ByteArrayOutputStream();
+            BufferedPointRenderingListener renderer = new BufferedPointRenderingListener('A', 'B', new PrintStream(expectedOutput), false);
+            simulate(GAME, renderer);
+            renderer.flush();
+            assertEquals(expectedOutput.toString(), firstOutput.toString(), waitStrategy.name());
+            assertEquals(expectedOutput.toString(), secondOutput.toString(), waitStrategy.name());
+            // AND no point outcome was dropped
+            assertEquals(0, asyncGameStateListener.getDroppedEvents());
+        }
+    }
+
+    @Test
+    void testClose_withSlowListener() {
+        // GIVEN a listener that takes a millisecond for each point outcome, behind an AsyncGameStateListener
+        RecordingListener slowListener = new RecordingListener(null, 1);
+        AsyncGameStateListener<Character> asyncGameStateListener = new AsyncGameStateListener<>(List.of(slowListener));
+        // WHEN we simulate the game against the AsyncGameStateListener, then immediately close it
+        simulate(GAME, asyncGameStateListener);
+        asyncGameStateListener.close();
+        // THEN every point outcome was dispatched before the AsyncGameStateListener was closed
+        assertEquals(10, slowListener.events.size());
+        assertEquals("VICTORY A", slowListener.events.getLast());
+    }
+
+    @Test
+    void testBackpressure_withDrop() throws InterruptedException {
+        // GIVEN a listener that blocks on its first point outcome, behind an AsyncGameStateListener with room for 2 of them
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener blockedListener = new RecordingListener(release, 0);
+        AsyncGameStateListener<Character> asyncGameStateListener =
+                new AsyncGameStateListener<>(List.of(blockedListener), 2, WaitStrategy.PARK, BackpressurePolicy.DROP);
+        asyncGameStateListener.onDeuce();
+        assertTrue(blockedListener.blocked.await(10, TimeUnit.SECONDS));
+        // WHEN we publish 10 more point outcomes while the listener is still blocked
+        for (int i = 0; i < 10; ++i) {
+            asyncGameStateListener.onDeuce();
+        }
+        // THEN only one of them found room, and the 9 others were dropped
+        assertEquals(9, asyncGameStateListener.getDroppedEvents());
+        // AND once released, the listener is notified of the 2 published point outcomes only
+        release.countDown();
+        asyncGameStateListener.close();
+        assertEquals(List.of("DEUCE", "DEUCE"), blockedListener.events);
+    }
+
+    @Test
+    void testBackpressure_withFail() throws InterruptedException {
+        // GIVEN a listener that blocks on its first point outcome, behind an AsyncGameStateListener with room for 2 of them
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener blockedListener = new RecordingListener(release, 0);
+        AsyncGameStateListener<Character> asyncGameStateListener =
+                new AsyncGameStateListener<>(List.of(blockedListener), 2, WaitStrategy.PARK, BackpressurePolicy.FAIL);
+        asyncGameStateListener.onDeuce();
+        assertTrue(blockedListener.blocked.await(10, TimeUnit.SECONDS));
+        asyncGameStateListener.onDeuce();
+        // WHEN we publish one more point outcome while the ring buffer is full, THEN an IllegalStateException is thrown
+        assertThrows(IllegalStateException.class, asyncGameStateListener::onDeuce);
+        release.countDown();
+        asyncGameStateListener.close();
+    }
+
+    @Test
+    void testClose_withFailingListener() {
+        // GIVEN a failing listener and a recording listener, behind an AsyncGameStateListener
+        GameStateListener<Character> failingListener = new RecordingListener(null, 0) {
+            @Override
+            public void onDeuce() {
+                throw new UnsupportedOperationException("deuce");
+            }
+        };
+        RecordingListener recordingListener = new RecordingListener(null, 0);
+        AsyncGameStateListener<Character> asyncGameStateListener =
+                new AsyncGameStateListener<>(List.of(failingListener, recordingListener));
+        // WHEN we simulate the game against the AsyncGameStateListener, then close it
+        simulate(GAME, asyncGameStateListener);
+        // THEN an IllegalStateException is thrown, caused by the failure of the failing listener
+        IllegalStateException exception = assertThrows(IllegalStateException.class, asyncGameStateListener::close);
+        assertInstanceOf(UnsupportedOperationException.class, exception.getCause());
+        // AND the recording listener was still notified of every point outcome
+        assertEquals(10, recordingListener.events.size());
+    }
+
+    @Test
+    void testPublish_afterClose() {
+        // GIVEN a closed AsyncGameStateListener
+        AsyncGameStateListener<Character> asyncGameStateListener = new AsyncGameStateListener<>(List.of(new RecordingListener(null, 0)));
+        asyncGameStateListener.close();
+        // WHEN we publish a point outcome, THEN an IllegalStateException is thrown
+        assertThrows(IllegalStateException.class, asyncGameStateListener::onDeuce);
+    }
+
+    @Test
+    void testConstructor_withInvalidCapacity() {
+        // WHEN we create an AsyncGameStateListener whose capacity is not a power of two, THEN an IllegalArgumentException is thrown
+        assertThrows(IllegalArgumentException.class, () -> new AsyncGameStateListener<>(
+                List.of(new RecordingListener(null, 0)), 3, WaitStrategy.PARK, BackpressurePolicy.BLOCK));
+    }
+
+    private static void simulate(final String game, final GameStateListener<Character> gameStateListener) {
+        new TennisGame<>(new Player<>('A'), new Player<>('B'), gameStateListener).process(new StringDeserializer().deserialize(game));
+    }
+
+    /**
+     * A {@link GameStateListener} that records each point outcome as a {@link String}, after sleeping the provided
+     * duration, and which may block on its first point outcome until released.
+     */
+    private static class RecordingListener implements GameStateListener<Character> {
+
+        private final List<String> events = new ArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private final long sleepMillis;
+
+        RecordingListener(final CountDownLatch release, final long sleepMillis) {
+            this.release = release;
+            this.sleepMillis = sleepMillis;
+        }
+
+        @Override
+        public void onPoint(final RegularPoint<Character> regularPoint) {
+            record(regularPoint.playerScore() + "-" + regularPoint.otherPlayerScore());
+        }
+
+        @Override
+        public void onAdvantage(final AdvantagePoint<Character> advantagePoint) {
+            record("ADVANTAGE " + advantagePoint.advantagedPlayerId());
+        }
+
+        @Override
+        public void onDeuce() {
+            record("DEUCE");
+        }
+
+        @Override
+        public void onVictory(final VictoryPoint<Character> victoryPoint) {
+            record("VICTORY " + victoryPoint.winner());
+        }
+
+        private void record(final String event) {
+            try {
+                blocked.countDown();
+                if (release != null) {
+                    release.await();
+                }
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+    }
+}
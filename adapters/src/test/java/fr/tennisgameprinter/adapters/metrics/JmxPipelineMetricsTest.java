@@ -0,0 +1,108 @@
+package fr.tennisgameprinter.adapters.metrics;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.CachingTennisGameProcessor;
+import fr.tennisgameprinter.domain.game.engine.CharTennisGame;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+import fr.tennisgameprinter.domain.metrics.PipelineStage;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JmxPipelineMetricsTest {
+
+    @Test
+    void testRegister() throws JMException {
+        // GIVEN switched off PipelineMetrics, which recorded a game and a rejection
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(false);
+        pipelineMetrics.onGame(10, 2, 2);
+        pipelineMetrics.onRejection();
+        pipelineMetrics.record(PipelineStage.SIMULATE, 1_000);
+        // AND our JmxPipelineMetrics, registered on an MBeanServer
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        ObjectName objectName = new ObjectName(JmxPipelineMetrics.OBJECT_NAME);
+        try (JmxPipelineMetrics jmxPipelineMetrics = new JmxPipelineMetrics(pipelineMetrics, mBeanServer)) {
+            jmxPipelineMetrics.register();
+
+            // WHEN we read the attributes over JMX, THEN they match the metrics
+            assertEquals(false, mBeanServer.getAttribute(objectName, "Enabled"));
+            assertEquals(1L, mBeanServer.getAttribute(objectName, "Games"));
+            assertEquals(10L, mBeanServer.getAttribute(objectName, "Points"));
+            assertEquals(2L, mBeanServer.getAttribute(objectName, "Deuces"));
+            assertEquals(2L, mBeanServer.getAttribute(objectName, "Advantages"));
+            assertEquals(1L, mBeanServer.getAttribute(objectName, "Rejections"));
+            CompositeData simulateLatency = (CompositeData) mBeanServer.getAttribute(objectName, "SimulateLatency");
+            assertEquals(1L, simulateLatency.get("count"));
+            assertEquals(1_000L, simulateLatency.get("maxNanos"));
+
+            // WHEN we switch the metrics on over JMX, THEN they are switched on
+            mBeanServer.setAttribute(objectName, new Attribute("Enabled", true));
+            assertTrue(pipelineMetrics.isEnabled());
+
+            // WHEN we reset the metrics over JMX, THEN every counter is reset
+            mBeanServer.invoke(objectName, "reset", new Object[0], new String[0]);
+            assertEquals(0, pipelineMetrics.getGames());
+            assertEquals(0, pipelineMetrics.getLatency(PipelineStage.SIMULATE).getCount());
+        }
+        // AND once closed, the metrics are no longer registered
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
+    @Test
+    void testRegister_withCachingTennisGameProcessor() throws JMException {
+        // GIVEN a CachingTennisGameProcessor, which replayed a game once
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(true);
+        CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor = new CachingTennisGameProcessor<>(
+                new StringDeserializer(),
+                new CharGameConsistencyValidator(),
+                mock(GameStateListener.class),
+                CharTennisGame::new,
+                SimulationMode.SPECULATIVE,
+                pipelineMetrics,
+                8
+        );
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAAA", 'A', 'B'));
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAAA", 'A', 'B'));
+        // AND our JmxPipelineMetrics, registered on an MBeanServer
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        ObjectName objectName = new ObjectName(JmxPipelineMetrics.OBJECT_NAME);
+        try (JmxPipelineMetrics jmxPipelineMetrics = new JmxPipelineMetrics(pipelineMetrics, cachingTennisGameProcessor, mBeanServer)) {
+            jmxPipelineMetrics.register();
+
+            // WHEN we read the attributes over JMX, THEN the replayed game was counted
+            assertEquals(2L, mBeanServer.getAttribute(objectName, "Games"));
+            assertEquals(1L, mBeanServer.getAttribute(objectName, "Replays"));
+            // AND the cache usage matches its statistics
+            CompositeData cacheUsage = (CompositeData) mBeanServer.getAttribute(objectName, "CacheUsage");
+            assertEquals(1L, cacheUsage.get("hits"));
+            assertEquals(1L, cacheUsage.get("misses"));
+            assertEquals(0L, cacheUsage.get("evictions"));
+            assertEquals(1, cacheUsage.get("size"));
+            assertEquals(0.5, cacheUsage.get("hitRatio"));
+        }
+    }
+
+    @Test
+    void testRegister_twice() throws JMException {
+        // GIVEN two JmxPipelineMetrics, exposing different metrics on the same MBeanServer
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(false);
+        pipelineMetrics.onRejection();
+        new JmxPipelineMetrics(new PipelineMetrics(false), mBeanServer).register();
+        // WHEN the second one is registered, THEN it replaces the first one
+        new JmxPipelineMetrics(pipelineMetrics, mBeanServer).register();
+        assertEquals(1L, mBeanServer.getAttribute(new ObjectName(JmxPipelineMetrics.OBJECT_NAME), "Rejections"));
+    }
+}
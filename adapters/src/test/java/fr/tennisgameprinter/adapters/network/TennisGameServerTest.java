@@ -0,0 +1,123 @@
+package fr.tennisgameprinter.adapters.network;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TennisGameServerTest {
+
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private final PrintStream standardOutput = System.out;
+    private final GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+    private TennisGameServer tennisGameServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        TennisGameProcessor<String, Character> tennisGameProcessor = new TennisGameProcessor<>(
+                new StringDeserializer(),
+                new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                gameStateListener,
+                TennisGame::new,
+                SimulationMode.SPECULATIVE
+        );
+        tennisGameServer = new TennisGameServer(tennisGameProcessor, 0);
+        tennisGameServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        tennisGameServer.close();
+        System.setOut(standardOutput);
+    }
+
+    @Test
+    void testServe_withPipelinedGames() throws IOException {
+        // WHEN a client pipelines several games, among which a blank line and an inconsistent game
+        String output = exchange("AAAA\n\nAAA\r\nBABBB\n");
+
+        // THEN the rendered points of each game, or the message of its inconsistency, were written back in order
+        assertEquals(
+                "Player A : 15 / Player B : 0" + NEW_LINE
+                        + "Player A : 30 / Player B : 0" + NEW_LINE
+                        + "Player A : 40 / Player B : 0" + NEW_LINE
+                        + "Player A wins the game" + NEW_LINE
+                        + "The provided tennis game is inconsistent as it showcased less points than needed to end the game." + NEW_LINE
+                        + "Player A : 0 / Player B : 15" + NEW_LINE
+                        + "Player A : 15 / Player B : 15" + NEW_LINE
+                        + "Player A : 15 / Player B : 30" + NEW_LINE
+                        + "Player A : 15 / Player B : 40" + NEW_LINE
+                        + "Player B wins the game" + NEW_LINE,
+                output
+        );
+        // AND the listener of the processor was never notified, as each connection renders its own points
+        verifyNoInteractions(gameStateListener);
+    }
+
+    @Test
+    void testServe_withConcurrentConnections() throws Exception {
+        // GIVEN many clients which each pipeline many games
+        String games = "AAAA\nBBBB\n".repeat(100);
+        // WHEN they all exchange with the server at once
+        List<Future<String>> outputs = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < 32; ++client) {
+                outputs.add(clients.submit(() -> exchange(games)));
+            }
+        }
+        // THEN each client received the rendered points of all its games
+        String expected = ("Player A : 15 / Player B : 0" + NEW_LINE
+                + "Player A : 30 / Player B : 0" + NEW_LINE
+                + "Player A : 40 / Player B : 0" + NEW_LINE
+                + "Player A wins the game" + NEW_LINE
+                + "Player A : 0 / Player B : 15" + NEW_LINE
+                + "Player A : 0 / Player B : 30" + NEW_LINE
+                + "Player A : 0 / Player B : 40" + NEW_LINE
+                + "Player B wins the game" + NEW_LINE).repeat(100);
+        for (Future<String> output : outputs) {
+            assertEquals(expected, output.get());
+        }
+    }
+
+    @Test
+    void testStart_whenAlreadyStarted() {
+        assertThrows(IllegalStateException.class, () -> tennisGameServer.start());
+    }
+
+    /**
+     * Sends the provided games to the server on a new connection, and reads everything the server writes back.
+     * @param games the newline-delimited games.
+     * @return everything the server wrote back.
+     * @throws IOException if the exchange failed.
+     */
+    private String exchange(final String games) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), tennisGameServer.getPort())) {
+            socket.getOutputStream().write(games.getBytes(StandardCharsets.UTF_8));
+            socket.shutdownOutput();
+            return new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
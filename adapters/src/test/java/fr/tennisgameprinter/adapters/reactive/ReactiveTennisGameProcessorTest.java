@@ -0,0 +1,276 @@
+package fr.tennisgameprinter.adapters.reactive;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReactiveTennisGameProcessorTest {
+
+    private final TennisGameProcessor<String, Character> tennisGameProcessor = new TennisGameProcessor<>(
+            new StringDeserializer(),
+            new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+            mock(GameStateListener.class),
+            TennisGame::new
+    );
+
+    @Test
+    void testOnNext() throws InterruptedException {
+        // GIVEN our ReactiveTennisGameProcessor, subscribed to a publisher and by a subscriber
+        ReactiveTennisGameProcessor<String, Character> reactiveTennisGameProcessor = new ReactiveTennisGameProcessor<>(tennisGameProcessor);
+        RecordingSubscriber recordingSubscriber = new RecordingSubscriber(1);
+        reactiveTennisGameProcessor.subscribe(recordingSubscriber);
+        try (SubmissionPublisher<TennisGameInput<String, Character>> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(reactiveTennisGameProcessor);
+
+            // WHEN a consistent game and an inconsistent game are published
+            publisher.submit(new TennisGameInput<>("AAAA", 'A', 'B'));
+            publisher.submit(new TennisGameInput<>("AAAAB", 'A', 'B'));
+        }
+
+        // THEN the subscriber received their outcomes in order, then completed
+        assertTrue(recordingSubscriber.completion.await(10, TimeUnit.SECONDS));
+        assertNull(recordingSubscriber.failure);
+        assertEquals(2, recordingSubscriber.outcomes.size());
+        // AND the consistent game carries the batch of its point outcomes
+        TennisGameOutcome<String, Character> consistentGame = recordingSubscriber.outcomes.get(0);
+        assertTrue(consistentGame.isValid());
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        consistentGame.replayTo(gameStateListener);
+        verify(gameStateListener, times(3)).onPoint(any());
+        verify(gameStateListener).onVictory(new VictoryPoint<>('A'));
+        // AND the inconsistent game carries its validation result, without any point outcome
+        TennisGameOutcome<String, Character> inconsistentGame = recordingSubscriber.outcomes.get(1);
+        assertEquals(ValidationResult.tooManyPoints(4), inconsistentGame.validationResult());
+        assertEquals(0, inconsistentGame.pointOutcomes().getPointsCounter());
+    }
+
+    @Test
+    void testRequest_isForwardedUpstream() {
+        // GIVEN our ReactiveTennisGameProcessor, subscribed by a subscriber which requests three outcomes
+        ReactiveTennisGameProcessor<String, Character> reactiveTennisGameProcessor = new ReactiveTennisGameProcessor<>(tennisGameProcessor);
+        RecordingSubscriber recordingSubscriber = new RecordingSubscriber(3);
+        reactiveTennisGameProcessor.subscribe(recordingSubscriber);
+        // AND an upstream subscription
+        Flow.Subscription upstream = mock(Flow.Subscription.class);
+
+        // WHEN the processor subscribes upstream
+        reactiveTennisGameProcessor.onSubscribe(upstream);
+        // THEN the demand signalled beforehand is requested upstream
+        verify(upstream).request(3);
+
+        // WHEN the subscriber requests more outcomes
+        recordingSubscriber.subscription.request(2);
+        // THEN the very same demand is requested upstream
+        verify(upstream).request(2);
+
+        // WHEN the subscriber cancels its subscription
+        recordingSubscriber.subscription.cancel();
+        // THEN the upstream subscription is cancelled as well
+        verify(upstream).cancel();
+        verifyNoMoreInteractions(upstream);
+    }
+
+    @Test
+    void testRequest_withNonPositiveDemand() {
+        // GIVEN our ReactiveTennisGameProcessor, subscribed upstream and by a subscriber
+        ReactiveTennisGameProcessor<String, Character> reactiveTennisGameProcessor = new ReactiveTennisGameProcessor<>(tennisGameProcessor);
+        RecordingSubscriber recordingSubscriber = new RecordingSubscriber(1);
+        reactiveTennisGameProcessor.subscribe(recordingSubscriber);
+        Flow.Subscription upstream = mock(Flow.Subscription.class);
+        reactiveTennisGameProcessor.onSubscribe(upstream);
+
+        // WHEN the subscriber requests a non-positive demand
+        recordingSubscriber.subscription.request(0);
+
+        // THEN the upstream subscription is cancelled
+        verify(upstream).cancel();
+        // AND the subscriber is signalled an IllegalArgumentException
+        assertInstanceOf(IllegalArgumentException.class, recordingSubscriber.failure);
+    }
+
+    @Test
+    void testRequest_withNonPositiveDemandWhileDeliveringAnOutcome() {
+        // GIVEN our ReactiveTennisGameProcessor, subscribed upstream
+        ReactiveTennisGameProcessor<String, Character> reactiveTennisGameProcessor = new ReactiveTennisGameProcessor<>(tennisGameProcessor);
+        // AND by a subscriber which requests a non-positive demand while receiving an outcome
+        RecordingSubscriber recordingSubscriber = new RecordingSubscriber(1) {
+            private volatile boolean receiving;
+
+            @Override
+            public void onNext(final TennisGameOutcome<String, Character> outcome) {
+                receiving = true;
+                super.onNext(outcome);
+                super.subscription.request(0);
+                receiving = false;
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                assertFalse(receiving, "the failure overlapped with the delivery of an outcome");
+                super.onError(throwable);
+            }
+        };
+        reactiveTennisGameProcessor.subscribe(recordingSubscriber);
+        reactiveTennisGameProcessor.onSubscribe(mock(Flow.Subscription.class));
+
+        // WHEN a game is received
+        reactiveTennisGameProcessor.onNext(new TennisGameInput<>("AAAA", 'A', 'B'));
+
+        // THEN the subscriber received its outcome, then only was signalled an IllegalArgumentException
+        assertEquals(1, recordingSubscriber.outcomes.size());
+        assertInstanceOf(IllegalArgumentException.class, recordingSubscriber.failure);
+    }
+
+    @Test
+    void testOnNext_withFailingProcessor() {
+        // GIVEN our ReactiveTennisGameProcessor, whose TennisGameProcessor fails
+        TennisGameProcessor<String, Character> failingTennisGameProcessor = mock(TennisGameProcessor.class);
+        IllegalStateException failure = new IllegalStateException("failure");
+        when(failingTennisGameProcessor.tryProcess(any(), any())).thenThrow(failure);
+        ReactiveTennisGameProcessor<String, Character> reactiveTennisGameProcessor = new ReactiveTennisGameProcessor<>(failingTennisGameProcessor);
+        RecordingSubscriber recordingSubscriber = new RecordingSubscriber(1);
+        reactiveTennisGameProcessor.subscribe(recordingSubscriber);
+        Flow.Subscription upstream = mock(Flow.Subscription.class);
+        reactiveTennisGameProcessor.onSubscribe(upstream);
+
+        // WHEN a game is received
+        reactiveTennisGameProcessor.onNext(new TennisGameInput<>("AAAA", 'A', 'B'));
+        // AND the upstream publisher completes afterwards
+        reactiveTennisGameProcessor.onComplete();
+
+        // THEN the upstream subscription is cancelled
+        verify(upstream).cancel();
+        // AND the subscriber is signalled the failure, and nothing else
+        assertSame(failure, recordingSubscriber.failure);
+        assertTrue(recordingSubscriber.outcomes.isEmpty());
+        assertEquals(1, recordingSubscriber.completion.getCount());
+    }
+
+    @Test
+    void testSubscribe_withSecondSubscriber() {
+        // GIVEN our ReactiveTennisGameProcessor, subscribed by a subscriber
+        ReactiveTennisGameProcessor<String, Character> reactiveTennisGameProcessor = new ReactiveTennisGameProcessor<>(tennisGameProcessor);
+        reactiveTennisGameProcessor.subscribe(new RecordingSubscriber(1));
+
+        // WHEN a second subscriber subscribes
+        RecordingSubscriber secondSubscriber = new RecordingSubscriber(1);
+        reactiveTennisGameProcessor.subscribe(secondSubscriber);
+
+        // THEN it is signalled an IllegalStateException
+        assertInstanceOf(IllegalStateException.class, secondSubscriber.failure);
+    }
+
+    @Test
+    void testOnNext_withBurstyPublishers() throws InterruptedException {
+        // GIVEN our ReactiveTennisGameProcessor, subscribed to a publisher with a small buffer
+        int publishers = 4;
+        int bursts = 20;
+        int burstSize = 500;
+        ReactiveTennisGameProcessor<String, Character> reactiveTennisGameProcessor = new ReactiveTennisGameProcessor<>(tennisGameProcessor);
+        // AND by a subscriber which requests its outcomes 64 at a time
+        RecordingSubscriber recordingSubscriber = new RecordingSubscriber(64);
+        reactiveTennisGameProcessor.subscribe(recordingSubscriber);
+        ExecutorService executorService = Executors.newFixedThreadPool(publishers + 1);
+        SubmissionPublisher<TennisGameInput<String, Character>> publisher = new SubmissionPublisher<>(executorService, 32);
+        publisher.subscribe(reactiveTennisGameProcessor);
+
+        // WHEN several publishers submit bursts of games, one game out of ten being inconsistent, pausing between bursts
+        CountDownLatch published = new CountDownLatch(publishers);
+        for (int i = 0; i < publishers; ++i) {
+            executorService.execute(() -> {
+                for (int burst = 0; burst < bursts; ++burst) {
+                    for (int game = 0; game < burstSize; ++game) {
+                        publisher.submit(new TennisGameInput<>(game % 10 == 0 ? "AAA" : "AAABBBABAA", 'A', 'B'));
+                    }
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                }
+                published.countDown();
+            });
+        }
+        assertTrue(published.await(30, TimeUnit.SECONDS));
+        publisher.close();
+
+        // THEN every game reached the subscriber, which then completed
+        assertTrue(recordingSubscriber.completion.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        int games = publishers * bursts * burstSize;
+        assertNull(recordingSubscriber.failure);
+        assertEquals(games, recordingSubscriber.outcomes.size());
+        assertEquals(games / 10, recordingSubscriber.outcomes.stream().filter(outcome -> !outcome.isValid()).count());
+        // AND the subscriber never received more outcomes than it requested
+        assertFalse(recordingSubscriber.demandExceeded);
+    }
+
+    /**
+     * A {@link Flow.Subscriber} that requests outcomes a batch at a time, once the previous batch was received, and
+     * records every signal.
+     */
+    private static class RecordingSubscriber implements Flow.Subscriber<TennisGameOutcome<String, Character>> {
+
+        private final long batchSize;
+        private final List<TennisGameOutcome<String, Character>> outcomes = new ArrayList<>();
+        private final AtomicLong outstandingDemand = new AtomicLong();
+        private final CountDownLatch completion = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private volatile Throwable failure;
+        private volatile boolean demandExceeded;
+
+        private RecordingSubscriber(final long batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            request();
+        }
+
+        @Override
+        public void onNext(final TennisGameOutcome<String, Character> outcome) {
+            outcomes.add(outcome);
+            long remaining = outstandingDemand.decrementAndGet();
+            if (remaining < 0) {
+                demandExceeded = true;
+            } else if (remaining == 0) {
+                request();
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            failure = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completion.countDown();
+        }
+
+        private void request() {
+            outstandingDemand.addAndGet(batchSize);
+            subscription.request(batchSize);
+        }
+    }
+}
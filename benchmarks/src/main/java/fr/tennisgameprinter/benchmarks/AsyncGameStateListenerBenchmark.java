@@ -0,0 +1,81 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.adapters.listener.StdoutPointPrintingListener;
+import fr.tennisgameprinter.adapters.listener.async.AsyncGameStateListener;
+import fr.tennisgameprinter.adapters.listener.async.BackpressurePolicy;
+import fr.tennisgameprinter.adapters.listener.async.WaitStrategy;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the simulation of each {@link GameShape} against a {@link StdoutPointPrintingListener}, notified either
+ * synchronously or through an {@link AsyncGameStateListener} with each {@link WaitStrategy}, while the standard output
+ * is redirected to a null sink. The time measured is the one of the simulating thread: once the ring buffer is full,
+ * it waits for the printing thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncGameStateListenerBenchmark {
+
+    /**
+     * The way the printing listener is notified.
+     */
+    public enum Dispatch {
+        /** The printing listener is notified from the simulating thread. */
+        SYNCHRONOUS,
+        /** The printing listener is notified from a dispatcher thread which spins while idle. */
+        BUSY_SPIN,
+        /** The printing listener is notified from a dispatcher thread which yields while idle. */
+        YIELD,
+        /** The printing listener is notified from a dispatcher thread which parks while idle. */
+        PARK
+    }
+
+    @Param
+    private GameShape gameShape;
+
+    @Param
+    private Dispatch dispatch;
+
+    private List<Point<Character>> points;
+    private GameStateListener<Character> gameStateListener;
+    private PrintStream standardOutput;
+
+    @Setup
+    public void setUp() {
+        points = new StringDeserializer().deserialize(gameShape.input());
+        standardOutput = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        StdoutPointPrintingListener stdoutPointPrintingListener = new StdoutPointPrintingListener();
+        gameStateListener = dispatch == Dispatch.SYNCHRONOUS
+                ? stdoutPointPrintingListener
+                : new AsyncGameStateListener<>(List.of(stdoutPointPrintingListener), AsyncGameStateListener.DEFAULT_CAPACITY,
+                        WaitStrategy.valueOf(dispatch.name()), BackpressurePolicy.BLOCK);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (gameStateListener instanceof AsyncGameStateListener<Character> asyncGameStateListener) {
+            asyncGameStateListener.close();
+        }
+        System.setOut(standardOutput);
+    }
+
+    @Benchmark
+    public void simulate() {
+        new TennisGame<>(new Player<>('A'), new Player<>('B'), gameStateListener).process(points);
+    }
+}
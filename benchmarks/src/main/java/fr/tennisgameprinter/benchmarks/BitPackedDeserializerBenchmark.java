@@ -0,0 +1,57 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.BitPackedDeserializer;
+import fr.tennisgameprinter.adapters.deserializer.BitPackedGameEncoder;
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.player.Player;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the decoding and simulation of each {@link GameShape}, either from its text representation through a
+ * {@link StringDeserializer}, or from its bit-packed binary representation through a {@link BitPackedDeserializer}.
+ * The storage size of both representations is printed upon setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitPackedDeserializerBenchmark {
+
+    @Param
+    private GameShape gameShape;
+
+    private final StringDeserializer stringDeserializer = new StringDeserializer();
+    private final BitPackedDeserializer bitPackedDeserializer = new BitPackedDeserializer();
+    private String textInput;
+    private ByteBuffer binaryInput;
+
+    @Setup
+    public void setUp() {
+        textInput = gameShape.input();
+        binaryInput = ByteBuffer.wrap(new BitPackedGameEncoder().encode(textInput));
+        System.out.printf("%n%s storage size : text %d bytes, bit-packed %d bytes%n",
+                gameShape, textInput.getBytes(StandardCharsets.US_ASCII).length, binaryInput.capacity());
+    }
+
+    @Benchmark
+    public boolean decodeAndSimulateText(final Blackhole blackhole) {
+        TennisGame<Character> tennisGame = new TennisGame<>(new Player<>('A'), new Player<>('B'), new BlackholeGameStateListener<>(blackhole));
+        tennisGame.process(stringDeserializer.deserializeToSource(textInput));
+        return tennisGame.isGameOver();
+    }
+
+    @Benchmark
+    public boolean decodeAndSimulateBitPacked(final Blackhole blackhole) {
+        TennisGame<Character> tennisGame = new TennisGame<>(new Player<>('A'), new Player<>('B'), new BlackholeGameStateListener<>(blackhole));
+        tennisGame.process(bitPackedDeserializer.deserializeToSource(binaryInput));
+        return tennisGame.isGameOver();
+    }
+}
@@ -0,0 +1,45 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.domain.ports.listener.CharGameStateListener;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A {@link CharGameStateListener} that sinks every primitive notification into a {@link Blackhole} so that the JIT
+ * cannot eliminate the work that produced it.
+ */
+public class BlackholeCharGameStateListener implements CharGameStateListener {
+
+    /** The {@link Blackhole} that consumes every notification. */
+    private final Blackhole blackhole;
+
+    /**
+     * Creates a new {@link BlackholeCharGameStateListener} that sinks every notification into the provided {@link Blackhole}.
+     * @param blackhole the {@link Blackhole}.
+     */
+    public BlackholeCharGameStateListener(final Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void onPoint(final char playerId, final char otherPlayerId, final int playerScore, final int otherPlayerScore) {
+        blackhole.consume(playerId);
+        blackhole.consume(otherPlayerId);
+        blackhole.consume(playerScore);
+        blackhole.consume(otherPlayerScore);
+    }
+
+    @Override
+    public void onAdvantage(final char advantagedPlayerId) {
+        blackhole.consume(advantagedPlayerId);
+    }
+
+    @Override
+    public void onDeuce() {
+        blackhole.consume(0);
+    }
+
+    @Override
+    public void onVictory(final char winner) {
+        blackhole.consume(winner);
+    }
+}
@@ -0,0 +1,46 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A {@link GameStateListener} that sinks every notification into a {@link Blackhole} so that the JIT cannot eliminate
+ * the work that produced it.
+ * @param <P> the type of players' identifier.
+ */
+public class BlackholeGameStateListener<P> implements GameStateListener<P> {
+
+    /** The {@link Blackhole} that consumes every notification. */
+    private final Blackhole blackhole;
+
+    /**
+     * Creates a new {@link BlackholeGameStateListener} that sinks every notification into the provided {@link Blackhole}.
+     * @param blackhole the {@link Blackhole}.
+     */
+    public BlackholeGameStateListener(final Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void onPoint(final RegularPoint<P> regularPoint) {
+        blackhole.consume(regularPoint);
+    }
+
+    @Override
+    public void onAdvantage(final AdvantagePoint<P> advantagePoint) {
+        blackhole.consume(advantagePoint);
+    }
+
+    @Override
+    public void onDeuce() {
+        blackhole.consume(0);
+    }
+
+    @Override
+    public void onVictory(final VictoryPoint<P> victoryPoint) {
+        blackhole.consume(victoryPoint);
+    }
+}
@@ -0,0 +1,64 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.CachingTennisGameProcessor;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a {@link CachingTennisGameProcessor} replaying a game it already processed, for each {@link GameShape},
+ * against the regular {@link TennisGameProcessor} processing it again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachingTennisGameProcessorBenchmark {
+
+    @Param({"STRAIGHT_WIN", "LONG_DEUCE"})
+    private GameShape gameShape;
+
+    private TennisGameProcessor<String, Character> tennisGameProcessor;
+    private CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor;
+    private TennisGameInput<String, Character> tennisGameInput;
+
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        tennisGameProcessor = new TennisGameProcessor<>(
+                new StringDeserializer(),
+                new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                new BlackholeGameStateListener<>(blackhole),
+                TennisGame::new,
+                SimulationMode.SPECULATIVE
+        );
+        cachingTennisGameProcessor = new CachingTennisGameProcessor<>(
+                new StringDeserializer(),
+                new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                new BlackholeGameStateListener<>(blackhole),
+                TennisGame::new,
+                SimulationMode.SPECULATIVE,
+                1024
+        );
+        tennisGameInput = new TennisGameInput<>(gameShape.input(), 'A', 'B');
+    }
+
+    @Benchmark
+    public void process() {
+        tennisGameProcessor.process(tennisGameInput);
+    }
+
+    @Benchmark
+    public void replay() {
+        cachingTennisGameProcessor.process(tennisGameInput);
+    }
+}
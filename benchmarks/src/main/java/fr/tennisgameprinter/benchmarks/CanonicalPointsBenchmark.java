@@ -0,0 +1,98 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.game.engine.GameStates;
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the notification of each point outcome of a tennis game for each {@link GameShape}, with point outcomes
+ * allocated for each point against canonical point outcomes. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CanonicalPointsBenchmark {
+
+    /**
+     * How point outcomes are obtained.
+     */
+    public enum PointOutcomes {
+        /** A new record is allocated for each point. */
+        ALLOCATED,
+        /** The canonical records of the pair of players are handed out. */
+        CANONICAL
+    }
+
+    @Param
+    private GameShape gameShape;
+
+    @Param
+    private PointOutcomes pointOutcomes;
+
+    /** The transitions of the game, as encoded by {@link GameStates}. */
+    private int[] transitions;
+
+    @Setup
+    public void setUp() {
+        PointSource<Character> pointSource = new StringDeserializer().deserializeToSource(gameShape.input());
+        transitions = new int[pointSource.size()];
+        int state = GameStates.INITIAL;
+        int length = 0;
+        for (int i = 0; i < pointSource.size() && state != GameStates.GAME_OVER; ++i) {
+            transitions[length] = GameStates.transition(state, pointSource.winner(i) == 'A');
+            state = GameStates.nextState(transitions[length++]);
+        }
+        transitions = Arrays.copyOf(transitions, length);
+    }
+
+    @Benchmark
+    public void notifyPoints(final Blackhole blackhole) {
+        GameStateListener<Character> listener = new BlackholeGameStateListener<>(blackhole);
+        if (pointOutcomes == PointOutcomes.CANONICAL) {
+            CanonicalPoints<Character> canonicalPoints = CanonicalPoints.of('A', 'B');
+            for (int transition : transitions) {
+                GameStates.notify(listener, transition, canonicalPoints);
+            }
+        } else {
+            for (int transition : transitions) {
+                notifyAllocated(listener, transition);
+            }
+        }
+    }
+
+    /**
+     * Notifies the provided {@link GameStateListener} of the outcome of the provided transition, allocating a new record
+     * as every engine did before point outcomes were canonical.
+     * @param listener the {@link GameStateListener} to notify.
+     * @param transition the transition.
+     */
+    private static void notifyAllocated(final GameStateListener<Character> listener, final int transition) {
+        switch (GameStates.event(transition)) {
+            case GameStates.EVENT_REGULAR -> {
+                int state = GameStates.nextState(transition);
+                listener.onPoint(new RegularPoint<>('A', 'B', GameStates.firstPlayerScore(state), GameStates.secondPlayerScore(state)));
+            }
+            case GameStates.EVENT_DEUCE -> listener.onDeuce();
+            case GameStates.EVENT_ADVANTAGE_FIRST -> listener.onAdvantage(new AdvantagePoint<>('A'));
+            case GameStates.EVENT_ADVANTAGE_SECOND -> listener.onAdvantage(new AdvantagePoint<>('B'));
+            case GameStates.EVENT_VICTORY_FIRST -> listener.onVictory(new VictoryPoint<>('A'));
+            case GameStates.EVENT_VICTORY_SECOND -> listener.onVictory(new VictoryPoint<>('B'));
+            default -> {
+                // a game that is over ignores any further point
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.engine.CharTennisGame;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the whole {@link TennisGameProcessor#process(TennisGameInput)} pipeline for each {@link GameShape}, with
+ * the generic engine, validator and listener, against their char-specialized counterparts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharTennisGameProcessorBenchmark {
+
+    /**
+     * The pipelines being compared.
+     */
+    public enum Pipeline {
+        /** A {@link GameConsistencyValidator}, {@link TennisGame}s and a generic listener. */
+        GENERIC,
+        /** A {@link CharGameConsistencyValidator}, {@link CharTennisGame}s and a char-specialized listener. */
+        CHAR_SPECIALIZED
+    }
+
+    @Param
+    private GameShape gameShape;
+
+    @Param
+    private Pipeline pipeline;
+
+    private TennisGameProcessor<String, Character> tennisGameProcessor;
+    private TennisGameInput<String, Character> tennisGameInput;
+
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        tennisGameProcessor = pipeline == Pipeline.GENERIC
+                ? new TennisGameProcessor<>(new StringDeserializer(), new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                        new BlackholeGameStateListener<>(blackhole), TennisGame::new, SimulationMode.SPECULATIVE)
+                : new TennisGameProcessor<>(new StringDeserializer(), new CharGameConsistencyValidator(),
+                        new BlackholeCharGameStateListener(blackhole), CharTennisGame::new, SimulationMode.SPECULATIVE);
+        tennisGameInput = new TennisGameInput<>(gameShape.input(), 'A', 'B');
+    }
+
+    @Benchmark
+    public void process() {
+        tennisGameProcessor.process(tennisGameInput);
+    }
+}
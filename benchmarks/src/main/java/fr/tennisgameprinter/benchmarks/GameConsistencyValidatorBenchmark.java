@@ -0,0 +1,48 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link GameConsistencyValidator#validate(Object, Object, List)} and
+ * {@link GameConsistencyValidator#validate(Object, Object, PointSource)} for each {@link GameShape}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameConsistencyValidatorBenchmark {
+
+    @Param
+    private GameShape gameShape;
+
+    private final GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+    private List<Point<Character>> points;
+    private PointSource<Character> pointSource;
+
+    @Setup
+    public void setUp() {
+        points = new StringDeserializer().deserialize(gameShape.input());
+        pointSource = new StringDeserializer().deserializeToSource(gameShape.input());
+    }
+
+    @Benchmark
+    public void validate() {
+        gameConsistencyValidator.validate('A', 'B', points);
+    }
+
+    @Benchmark
+    public void validatePointSource() {
+        gameConsistencyValidator.validate('A', 'B', pointSource);
+    }
+}
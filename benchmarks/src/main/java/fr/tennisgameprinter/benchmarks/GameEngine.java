@@ -0,0 +1,32 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.engine.LookaheadTennisGame;
+import fr.tennisgameprinter.domain.game.engine.TableDrivenTennisGame;
+import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
+
+/**
+ * The tennis game engines used to parameterize benchmarks.
+ */
+public enum GameEngine {
+    /** The regular {@link TennisGame}. */
+    TENNIS_GAME(TennisGame::new),
+    /** The {@link TableDrivenTennisGame}. */
+    TABLE_DRIVEN(TableDrivenTennisGame::new),
+    /** The {@link LookaheadTennisGame}. */
+    LOOKAHEAD(LookaheadTennisGame::new);
+
+    /** The {@link TennisGameFactory} that creates games with this engine. */
+    private final TennisGameFactory<Character> tennisGameFactory;
+
+    GameEngine(final TennisGameFactory<Character> tennisGameFactory) {
+        this.tennisGameFactory = tennisGameFactory;
+    }
+
+    /**
+     * @return the {@link TennisGameFactory} that creates games with this engine.
+     */
+    public TennisGameFactory<Character> tennisGameFactory() {
+        return tennisGameFactory;
+    }
+}
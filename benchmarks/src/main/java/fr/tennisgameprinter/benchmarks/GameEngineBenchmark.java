@@ -0,0 +1,46 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.game.engine.TennisGameEngine;
+import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the simulation of a tennis game for each {@link GameShape} and {@link GameEngine}, with a listener that
+ * only sinks the notifications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEngineBenchmark {
+
+    @Param
+    private GameShape gameShape;
+
+    @Param
+    private GameEngine gameEngine;
+
+    private TennisGameFactory<Character> tennisGameFactory;
+    private PointSource<Character> pointSource;
+
+    @Setup
+    public void setUp() {
+        tennisGameFactory = gameEngine.tennisGameFactory();
+        pointSource = new StringDeserializer().deserializeToSource(gameShape.input());
+    }
+
+    @Benchmark
+    public boolean process(final Blackhole blackhole) {
+        TennisGameEngine<Character> tennisGame = tennisGameFactory.create(new Player<>('A'), new Player<>('B'), new BlackholeGameStateListener<>(blackhole));
+        tennisGame.process(pointSource);
+        return tennisGame.isGameOver();
+    }
+}
@@ -0,0 +1,28 @@
+package fr.tennisgameprinter.benchmarks;
+
+/**
+ * The shapes of tennis games used to parameterize benchmarks, each one being a consistent game between players
+ * identified by 'A' and 'B'.
+ */
+public enum GameShape {
+    /** A game won by player A without the other player scoring a single point. */
+    STRAIGHT_WIN("AAAA"),
+    /** A game that goes through fifty deuces before player A wins it. */
+    LONG_DEUCE("AAABBB" + "AB".repeat(50) + "AA"),
+    /** A game that goes through a million deuces, which represents an input of about two megabytes. */
+    MULTI_MEGABYTE("AAABBB" + "AB".repeat(1_000_000) + "AA");
+
+    /** The input that represents the sequence of points of this game shape. */
+    private final String input;
+
+    GameShape(final String input) {
+        this.input = input;
+    }
+
+    /**
+     * @return the input that represents the sequence of points of this game shape.
+     */
+    public String input() {
+        return input;
+    }
+}
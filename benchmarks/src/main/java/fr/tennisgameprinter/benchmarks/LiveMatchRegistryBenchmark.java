@@ -0,0 +1,99 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.game.session.LiveMatchRegistry;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmarks a {@link LiveMatchRegistry} fed by 64 producer threads at once, which either each play the points of their
+ * own matches, or all play the points of the same few matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+public class LiveMatchRegistryBenchmark {
+
+    /** How the matches are shared across producer threads. */
+    public enum Contention {
+        /** Each thread plays the points of its own matches. */
+        DISJOINT_MATCHES,
+        /** All threads play the points of the same matches. */
+        SHARED_MATCHES
+    }
+
+    /** The number of matches each thread plays points for. */
+    private static final int MATCHES_PER_THREAD = 64;
+
+    @Param
+    private Contention contention;
+
+    private LiveMatchRegistry<Integer, Character> liveMatchRegistry;
+
+    /** The state of each producer thread. */
+    @State(Scope.Thread)
+    public static class Producer {
+
+        private int firstMatchId;
+        private int point;
+
+        @Setup
+        public void setUp(final LiveMatchRegistryBenchmark benchmark, final ThreadParams threadParams) {
+            firstMatchId = benchmark.contention == Contention.DISJOINT_MATCHES ? threadParams.getThreadIndex() * MATCHES_PER_THREAD : 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        GameStateListener<Character> gameStateListener = new CountingGameStateListener();
+        liveMatchRegistry = new LiveMatchRegistry<>(matchId -> gameStateListener, Duration.ofMinutes(1));
+    }
+
+    @Benchmark
+    public void onPoint(final Producer producer) {
+        int point = producer.point++;
+        // spreads the points across the matches, with a winner pattern that goes through deuces and advantages
+        int matchId = producer.firstMatchId + point % MATCHES_PER_THREAD;
+        char winner = (point / MATCHES_PER_THREAD * 0x9E3779B9 & 0x100) == 0 ? 'A' : 'B';
+        liveMatchRegistry.onPoint(matchId, 'A', 'B', winner);
+    }
+
+    /**
+     * A {@link GameStateListener} that only counts the notifications, which are sent from many threads at once.
+     */
+    private static final class CountingGameStateListener implements GameStateListener<Character> {
+
+        private final LongAdder notifications = new LongAdder();
+
+        @Override
+        public void onPoint(final RegularPoint<Character> regularPoint) {
+            notifications.increment();
+        }
+
+        @Override
+        public void onAdvantage(final AdvantagePoint<Character> advantagePoint) {
+            notifications.increment();
+        }
+
+        @Override
+        public void onDeuce() {
+            notifications.increment();
+        }
+
+        @Override
+        public void onVictory(final VictoryPoint<Character> victoryPoint) {
+            notifications.increment();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.engine.OffHeapGameStateArena;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks playing one point for each of a million in-flight games, either held by an {@link OffHeapGameStateArena}
+ * or by as many {@link TennisGame} instances.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffHeapGameStateArenaBenchmark {
+
+    /** The number of in-flight games. */
+    private static final int GAMES = 1_000_000;
+
+    private OffHeapGameStateArena offHeapGameStateArena;
+    private CanonicalPoints<Character> players;
+    private TennisGame<Character>[] tennisGames;
+    private BlackholeGameStateListener<Character> gameStateListener;
+    private int round;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp(final Blackhole blackhole) {
+        gameStateListener = new BlackholeGameStateListener<>(blackhole);
+        offHeapGameStateArena = new OffHeapGameStateArena(GAMES);
+        players = CanonicalPoints.of('A', 'B');
+        tennisGames = new TennisGame[GAMES];
+        for (int slot = 0; slot < GAMES; ++slot) {
+            tennisGames[slot] = new TennisGame<>(new Player<>('A'), new Player<>('B'), gameStateListener);
+        }
+    }
+
+    @Benchmark
+    public void onPointOffHeap() {
+        char winner = nextWinner();
+        for (int slot = 0; slot < GAMES; ++slot) {
+            if (offHeapGameStateArena.isGameOver(slot)) {
+                offHeapGameStateArena.reset(slot);
+            }
+            offHeapGameStateArena.onPoint(slot, players, winner, gameStateListener);
+        }
+    }
+
+    @Benchmark
+    public void onPointOnHeap() {
+        List<Point<Character>> point = List.of(new Point<>(nextWinner()));
+        for (int slot = 0; slot < GAMES; ++slot) {
+            if (tennisGames[slot].isGameOver()) {
+                tennisGames[slot] = new TennisGame<>(new Player<>('A'), new Player<>('B'), gameStateListener);
+            }
+            tennisGames[slot].process(point);
+        }
+    }
+
+    /**
+     * @return the winner of the next round of points, which alternates so that games go through deuces and advantages.
+     */
+    private char nextWinner() {
+        return (round++ % 5 & 1) == 0 ? 'A' : 'B';
+    }
+}
@@ -0,0 +1,97 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.ParallelTennisGameProcessor;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks processing a batch of games with a {@link ParallelTennisGameProcessor}, for each {@link GameShape} and
+ * kind of executor, against processing the same batch one game after the other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelTennisGameProcessorBenchmark {
+
+    /** The kinds of executor the games of a batch may be processed on. */
+    public enum Executor {
+        FORK_JOIN_POOL,
+        VIRTUAL_THREADS;
+
+        ExecutorService create() {
+            return switch (this) {
+                case FORK_JOIN_POOL -> new ForkJoinPool();
+                case VIRTUAL_THREADS -> Executors.newVirtualThreadPerTaskExecutor();
+            };
+        }
+    }
+
+    /** The number of games of each batch. */
+    private static final int BATCH_SIZE = 1_000;
+
+    /** The maximum number of games in flight, per available processor. */
+    private static final int GAMES_IN_FLIGHT_PER_PROCESSOR = 16;
+
+    @Param({"STRAIGHT_WIN", "LONG_DEUCE"})
+    private GameShape gameShape;
+
+    @Param
+    private Executor executor;
+
+    private ExecutorService executorService;
+    private TennisGameProcessor<String, Character> tennisGameProcessor;
+    private ParallelTennisGameProcessor<String, Character> parallelTennisGameProcessor;
+    private List<TennisGameInput<String, Character>> tennisGameInputs;
+
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        executorService = executor.create();
+        tennisGameProcessor = new TennisGameProcessor<>(
+                new StringDeserializer(),
+                new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                new BlackholeGameStateListener<>(blackhole),
+                TennisGame::new,
+                SimulationMode.SPECULATIVE
+        );
+        parallelTennisGameProcessor = new ParallelTennisGameProcessor<>(
+                tennisGameProcessor,
+                executorService,
+                GAMES_IN_FLIGHT_PER_PROCESSOR * Runtime.getRuntime().availableProcessors()
+        );
+        tennisGameInputs = Collections.nCopies(BATCH_SIZE, new TennisGameInput<>(gameShape.input(), 'A', 'B'));
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.close();
+    }
+
+    @Benchmark
+    public void processSequentially() {
+        for (TennisGameInput<String, Character> tennisGameInput : tennisGameInputs) {
+            tennisGameProcessor.process(tennisGameInput);
+        }
+    }
+
+    @Benchmark
+    public void processInParallel(final Blackhole blackhole) {
+        parallelTennisGameProcessor.process(tennisGameInputs, blackhole::consume);
+    }
+}
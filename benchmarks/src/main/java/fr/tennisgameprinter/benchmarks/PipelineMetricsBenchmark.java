@@ -0,0 +1,65 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the overhead of {@link PipelineMetrics} on the whole {@link TennisGameProcessor#process(TennisGameInput)}
+ * pipeline for each {@link GameShape}, with a listener that only sinks the notifications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineMetricsBenchmark {
+
+    /**
+     * The metrics the processor records into.
+     */
+    public enum Metrics {
+        /** The processor is created without any metrics. */
+        NONE,
+        /** The processor records into metrics which are switched off. */
+        SWITCHED_OFF,
+        /** The processor records into metrics which are switched on. */
+        SWITCHED_ON
+    }
+
+    @Param
+    private GameShape gameShape;
+
+    @Param
+    private Metrics metrics;
+
+    private TennisGameProcessor<String, Character> tennisGameProcessor;
+    private TennisGameInput<String, Character> tennisGameInput;
+
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        StringDeserializer stringDeserializer = new StringDeserializer();
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+        BlackholeGameStateListener<Character> gameStateListener = new BlackholeGameStateListener<>(blackhole);
+        tennisGameProcessor = metrics == Metrics.NONE
+                ? new TennisGameProcessor<>(stringDeserializer, gameConsistencyValidator, gameStateListener, TennisGame::new, SimulationMode.SPECULATIVE)
+                : new TennisGameProcessor<>(stringDeserializer, gameConsistencyValidator, gameStateListener, TennisGame::new, SimulationMode.SPECULATIVE,
+                        new PipelineMetrics(metrics == Metrics.SWITCHED_ON));
+        tennisGameInput = new TennisGameInput<>(gameShape.input(), 'A', 'B');
+    }
+
+    @Benchmark
+    public void process() {
+        tennisGameProcessor.process(tennisGameInput);
+    }
+}
@@ -0,0 +1,59 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.game.engine.TableDrivenTennisGame;
+import fr.tennisgameprinter.domain.game.factory.PoolingTennisGameFactory;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link GameConsistencyValidator#validate(Object, Object, PointSource)} for each {@link GameShape}, with a
+ * new game and counter for each validation against games and counters pooled by the validator and its factory. Run with
+ * {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoolingTennisGameFactoryBenchmark {
+
+    /**
+     * How the games and counters of each validation are obtained.
+     */
+    public enum Games {
+        /** A new game and counter are created for each validation. */
+        NEW,
+        /** A pooled game and counter are reset for each validation, then released. */
+        POOLED
+    }
+
+    @Param
+    private GameShape gameShape;
+
+    @Param
+    private Games games;
+
+    private GameConsistencyValidator<Character> gameConsistencyValidator;
+    private PointSource<Character> pointSource;
+
+    @Setup
+    public void setUp() {
+        if (games == Games.POOLED) {
+            gameConsistencyValidator = new GameConsistencyValidator<>(new PoolingTennisGameFactory<>(TableDrivenTennisGame::new));
+        } else {
+            gameConsistencyValidator = new GameConsistencyValidator<>(TableDrivenTennisGame::new, ProcessedPointsCounter::new);
+        }
+        pointSource = new StringDeserializer().deserializeToSource(gameShape.input());
+    }
+
+    @Benchmark
+    public void validatePointSource() {
+        gameConsistencyValidator.validate('A', 'B', pointSource);
+    }
+}
@@ -0,0 +1,150 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.adapters.reactive.ReactiveTennisGameProcessor;
+import fr.tennisgameprinter.adapters.reactive.TennisGameOutcome;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.engine.CharTennisGame;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.BufferingGameStateListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a burst of games published through a {@link ReactiveTennisGameProcessor}, for each amount of outcomes its
+ * subscriber requests at a time, against processing the same burst one game after the other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactiveTennisGameProcessorBenchmark {
+
+    /**
+     * The amount of outcomes the subscriber requests at a time.
+     */
+    public enum Demand {
+        /** A single outcome at a time, which stalls the publisher the most. */
+        ONE(1),
+        /** A batch of 64 outcomes at a time. */
+        BATCH(64),
+        /** Every outcome at once, which disables backpressure. */
+        UNBOUNDED(Long.MAX_VALUE);
+
+        private final long batchSize;
+
+        Demand(final long batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+
+    /** The number of games of each burst. */
+    private static final int BURST_SIZE = 1_000;
+
+    /** The capacity of the buffer of the publisher, in games. */
+    private static final int PUBLISHER_BUFFER_CAPACITY = 256;
+
+    @Param({"STRAIGHT_WIN", "LONG_DEUCE"})
+    private GameShape gameShape;
+
+    @Param
+    private Demand demand;
+
+    private ExecutorService executorService;
+    private TennisGameProcessor<String, Character> tennisGameProcessor;
+    private TennisGameInput<String, Character> tennisGameInput;
+
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        executorService = Executors.newSingleThreadExecutor();
+        tennisGameProcessor = new TennisGameProcessor<>(
+                new StringDeserializer(),
+                new CharGameConsistencyValidator(),
+                new BlackholeGameStateListener<>(blackhole),
+                CharTennisGame::new
+        );
+        tennisGameInput = new TennisGameInput<>(gameShape.input(), 'A', 'B');
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.close();
+    }
+
+    @Benchmark
+    public void processSequentially(final Blackhole blackhole) {
+        for (int game = 0; game < BURST_SIZE; ++game) {
+            BufferingGameStateListener<Character> pointOutcomes = new BufferingGameStateListener<>();
+            blackhole.consume(tennisGameProcessor.tryProcess(tennisGameInput, pointOutcomes));
+            blackhole.consume(pointOutcomes);
+        }
+    }
+
+    @Benchmark
+    public void processReactively(final Blackhole blackhole) throws InterruptedException {
+        ReactiveTennisGameProcessor<String, Character> reactiveTennisGameProcessor = new ReactiveTennisGameProcessor<>(tennisGameProcessor);
+        BatchingSubscriber batchingSubscriber = new BatchingSubscriber(demand.batchSize, blackhole);
+        reactiveTennisGameProcessor.subscribe(batchingSubscriber);
+        try (SubmissionPublisher<TennisGameInput<String, Character>> publisher = new SubmissionPublisher<>(executorService, PUBLISHER_BUFFER_CAPACITY)) {
+            publisher.subscribe(reactiveTennisGameProcessor);
+            for (int game = 0; game < BURST_SIZE; ++game) {
+                publisher.submit(tennisGameInput);
+            }
+        }
+        batchingSubscriber.completion.await();
+    }
+
+    /**
+     * A {@link Flow.Subscriber} that requests outcomes a batch at a time, once the previous batch was received, and sinks
+     * each of them into a {@link Blackhole}.
+     */
+    private static class BatchingSubscriber implements Flow.Subscriber<TennisGameOutcome<String, Character>> {
+
+        private final long batchSize;
+        private final Blackhole blackhole;
+        private final CountDownLatch completion = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private long outstandingDemand;
+
+        private BatchingSubscriber(final long batchSize, final Blackhole blackhole) {
+            this.batchSize = batchSize;
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            outstandingDemand = batchSize;
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public void onNext(final TennisGameOutcome<String, Character> outcome) {
+            blackhole.consume(outcome);
+            if (--outstandingDemand == 0) {
+                outstandingDemand = batchSize;
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            completion.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completion.countDown();
+        }
+    }
+}
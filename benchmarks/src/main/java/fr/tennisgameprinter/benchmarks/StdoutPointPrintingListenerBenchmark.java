@@ -0,0 +1,58 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.adapters.listener.BufferedPointRenderingListener;
+import fr.tennisgameprinter.adapters.listener.StdoutPointPrintingListener;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.validator.listener.BufferingGameStateListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link StdoutPointPrintingListener}, against {@link BufferedPointRenderingListener}, for each {@link GameShape}
+ * by replaying the buffered notifications of the game, while the standard output is redirected to a null sink.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StdoutPointPrintingListenerBenchmark {
+
+    @Param
+    private GameShape gameShape;
+
+    private final StdoutPointPrintingListener stdoutPointPrintingListener = new StdoutPointPrintingListener();
+    private final BufferingGameStateListener<Character> bufferingGameStateListener = new BufferingGameStateListener<>();
+    private BufferedPointRenderingListener bufferedPointRenderingListener;
+    private PrintStream standardOutput;
+
+    @Setup
+    public void setUp() {
+        new TennisGame<>(new Player<>('A'), new Player<>('B'), bufferingGameStateListener)
+                .process(new StringDeserializer().deserialize(gameShape.input()));
+        standardOutput = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        bufferedPointRenderingListener = new BufferedPointRenderingListener('A', 'B', System.out, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(standardOutput);
+    }
+
+    @Benchmark
+    public void print() {
+        bufferingGameStateListener.replayTo(stdoutPointPrintingListener);
+    }
+
+    @Benchmark
+    public void render() {
+        bufferingGameStateListener.replayTo(bufferedPointRenderingListener);
+    }
+}
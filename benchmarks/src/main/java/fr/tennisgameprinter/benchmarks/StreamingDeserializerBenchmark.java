@@ -0,0 +1,62 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.ByteBufferDeserializer;
+import fr.tennisgameprinter.adapters.deserializer.InputStreamDeserializer;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the validation of a game read from its bytes, either materialized as a {@link List} of {@link Point}s first,
+ * or streamed from an {@link java.io.InputStream} in a single pass with constant memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamingDeserializerBenchmark {
+
+    /**
+     * How the points are read from the bytes of the game.
+     */
+    public enum Reading {
+        /** The bytes are deserialized into a {@link List} of {@link Point}s, which is then validated. */
+        MATERIALIZED,
+        /** The bytes are read lazily through a {@link PointStream}, while the game is validated. */
+        STREAMED
+    }
+
+    @Param
+    private GameShape gameShape;
+
+    @Param
+    private Reading reading;
+
+    private final ByteBufferDeserializer byteBufferDeserializer = new ByteBufferDeserializer();
+    private final InputStreamDeserializer inputStreamDeserializer = new InputStreamDeserializer();
+    private final CharGameConsistencyValidator gameConsistencyValidator = new CharGameConsistencyValidator();
+    private byte[] input;
+
+    @Setup
+    public void setUp() {
+        input = gameShape.input().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public ValidationResult validate() {
+        if (reading == Reading.MATERIALIZED) {
+            return gameConsistencyValidator.check('A', 'B', byteBufferDeserializer.deserialize(ByteBuffer.wrap(input)));
+        }
+        return gameConsistencyValidator.check('A', 'B', inputStreamDeserializer.deserializeToStream(new ByteArrayInputStream(input)));
+    }
+}
@@ -0,0 +1,43 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link StringDeserializer#deserialize(String)} and {@link StringDeserializer#deserializeToSource(String)}
+ * for each {@link GameShape}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringDeserializerBenchmark {
+
+    @Param
+    private GameShape gameShape;
+
+    private final StringDeserializer stringDeserializer = new StringDeserializer();
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = gameShape.input();
+    }
+
+    @Benchmark
+    public List<Point<Character>> deserialize() {
+        return stringDeserializer.deserialize(input);
+    }
+
+    @Benchmark
+    public PointSource<Character> deserializeToSource() {
+        return stringDeserializer.deserializeToSource(input);
+    }
+}
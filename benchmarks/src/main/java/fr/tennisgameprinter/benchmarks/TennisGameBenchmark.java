@@ -0,0 +1,51 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link TennisGame#process(List)} and {@link TennisGame#process(PointSource)} for each {@link GameShape},
+ * with a listener that only sinks the notifications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TennisGameBenchmark {
+
+    @Param
+    private GameShape gameShape;
+
+    private List<Point<Character>> points;
+    private PointSource<Character> pointSource;
+
+    @Setup
+    public void setUp() {
+        points = new StringDeserializer().deserialize(gameShape.input());
+        pointSource = new StringDeserializer().deserializeToSource(gameShape.input());
+    }
+
+    @Benchmark
+    public boolean process(final Blackhole blackhole) {
+        TennisGame<Character> tennisGame = new TennisGame<>(new Player<>('A'), new Player<>('B'), new BlackholeGameStateListener<>(blackhole));
+        tennisGame.process(points);
+        return tennisGame.isGameOver();
+    }
+
+    @Benchmark
+    public boolean processPointSource(final Blackhole blackhole) {
+        TennisGame<Character> tennisGame = new TennisGame<>(new Player<>('A'), new Player<>('B'), new BlackholeGameStateListener<>(blackhole));
+        tennisGame.process(pointSource);
+        return tennisGame.isGameOver();
+    }
+}
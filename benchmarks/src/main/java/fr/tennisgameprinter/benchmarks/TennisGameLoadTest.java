@@ -0,0 +1,173 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.adapters.listener.StdoutPointPrintingListener;
+import fr.tennisgameprinter.adapters.network.TennisGameServer;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A load-test client of the {@link TennisGameServer}, which opens many connections at once, pipelines many games on
+ * each of them, and reports the throughput as well as the latency percentiles of the games.
+ * <p>
+ * Options are given as {@code key=value} arguments:
+ * <ul>
+ *     <li>{@code host} and {@code port} : the server to load, which is started within this process when no port is given.</li>
+ *     <li>{@code connections} : the number of connections, 16 by default.</li>
+ *     <li>{@code games} : the number of games sent on each connection, 100000 by default.</li>
+ *     <li>{@code pipeline} : the maximum number of games in flight on each connection, 64 by default.</li>
+ *     <li>{@code gameShape} : the {@link GameShape} of every game, {@code LONG_DEUCE} by default.</li>
+ * </ul>
+ */
+public class TennisGameLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "");
+        }
+        String host = options.getOrDefault("host", "localhost");
+        int connections = Integer.parseInt(options.getOrDefault("connections", "16"));
+        int games = Integer.parseInt(options.getOrDefault("games", "100000"));
+        int pipeline = Integer.parseInt(options.getOrDefault("pipeline", "64"));
+        GameShape gameShape = GameShape.valueOf(options.getOrDefault("gameShape", GameShape.LONG_DEUCE.name()));
+
+        TennisGameServer embeddedServer = null;
+        int port;
+        if (options.containsKey("port")) {
+            port = Integer.parseInt(options.get("port"));
+        } else {
+            embeddedServer = new TennisGameServer(new TennisGameProcessor<>(
+                    new StringDeserializer(),
+                    new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                    new StdoutPointPrintingListener(),
+                    TennisGame::new,
+                    SimulationMode.SPECULATIVE
+            ), 0);
+            embeddedServer.start();
+            port = embeddedServer.getPort();
+        }
+
+        try {
+            long start = System.nanoTime();
+            List<Future<long[]>> connectionLatencies = new ArrayList<>();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int connection = 0; connection < connections; ++connection) {
+                    connectionLatencies.add(clients.submit(() -> load(host, port, gameShape.input(), games, pipeline)));
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+
+            long[] latencies = new long[connections * games];
+            for (int connection = 0; connection < connections; ++connection) {
+                System.arraycopy(connectionLatencies.get(connection).get(), 0, latencies, connection * games, games);
+            }
+            Arrays.sort(latencies);
+            System.out.printf("Processed %d %s games over %d connections, with up to %d games in flight per connection, in %d ms, that is %.0f games/sec.%n",
+                    latencies.length, gameShape, connections, pipeline, elapsedNanos / 1_000_000, latencies.length * 1e9 / elapsedNanos);
+            System.out.printf("Latency : p50 %.1f us / p99 %.1f us / p99.9 %.1f us / max %.1f us%n",
+                    percentile(latencies, 0.5), percentile(latencies, 0.99), percentile(latencies, 0.999), latencies[latencies.length - 1] / 1e3);
+        } finally {
+            if (embeddedServer != null) {
+                embeddedServer.close();
+            }
+        }
+    }
+
+    /**
+     * Sends the provided game many times on a new connection, with at most {@code pipeline} games in flight, and
+     * measures the latency of each game, from the moment it is sent until its last line is received. The end of each
+     * game is detected by counting the lines it is answered with, rather than by matching their wording.
+     * @return the latency of each game, in nanoseconds.
+     */
+    private static long[] load(final String host, final int port, final String game, final int games, final int pipeline) throws Exception {
+        byte[] line = (game + "\n").getBytes(StandardCharsets.UTF_8);
+        int linesPerGame = expectedLines(game);
+        AtomicLongArray sendNanos = new AtomicLongArray(games);
+        long[] latencies = new long[games];
+        Semaphore gamesInFlight = new Semaphore(pipeline);
+        try (Socket socket = new Socket(host, port);
+             ExecutorService reader = Executors.newVirtualThreadPerTaskExecutor()) {
+            socket.setTcpNoDelay(true);
+            Future<?> responses = reader.submit(() -> {
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                int receivedLines = 0;
+                for (int received = 0; received < games; ) {
+                    if (in.readLine() == null) {
+                        throw new IOException("the connection was closed after " + received + " games.");
+                    }
+                    if (++receivedLines == linesPerGame) {
+                        latencies[received] = System.nanoTime() - sendNanos.get(received);
+                        ++received;
+                        receivedLines = 0;
+                        gamesInFlight.release();
+                    }
+                }
+                return null;
+            });
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream(), 64 * 1024);
+            for (int sent = 0; sent < games; ++sent) {
+                if (!gamesInFlight.tryAcquire()) {
+                    // every game in flight is sent before waiting for any of them to complete
+                    out.flush();
+                    gamesInFlight.acquire();
+                }
+                sendNanos.set(sent, System.nanoTime());
+                out.write(line);
+            }
+            out.flush();
+            responses.get();
+        }
+        return latencies;
+    }
+
+    /**
+     * @param game the game.
+     * @return the number of lines the server answers the provided game with, that is, one per point outcome of a
+     * consistent game, or the single message of an inconsistent one.
+     */
+    private static int expectedLines(final String game) {
+        ProcessedPointsCounter<Character> pointOutcomes = new ProcessedPointsCounter<>();
+        ValidationResult validationResult = new TennisGameProcessor<>(
+                new StringDeserializer(),
+                new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                pointOutcomes,
+                TennisGame::new
+        ).tryProcess(new TennisGameInput<>(game, 'A', 'B'));
+        return validationResult.isValid() ? pointOutcomes.getPointsCounter() : 1;
+    }
+
+    /**
+     * @param sortedValues the values, sorted in increasing order.
+     * @param percentile the percentile, between 0 and 1.
+     * @return the provided percentile of the values, in microseconds.
+     */
+    private static double percentile(final long[] sortedValues, final double percentile) {
+        int index = (int) Math.ceil(percentile * sortedValues.length) - 1;
+        return sortedValues[Math.max(index, 0)] / 1e3;
+    }
+}
@@ -0,0 +1,52 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the whole {@link TennisGameProcessor#process(TennisGameInput)} pipeline for each {@link GameShape} and
+ * {@link SimulationMode}, with a listener that only sinks the notifications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TennisGameProcessorBenchmark {
+
+    @Param
+    private GameShape gameShape;
+
+    @Param
+    private SimulationMode simulationMode;
+
+    private TennisGameProcessor<String, Character> tennisGameProcessor;
+    private TennisGameInput<String, Character> tennisGameInput;
+
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        tennisGameProcessor = new TennisGameProcessor<>(
+                new StringDeserializer(),
+                new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                new BlackholeGameStateListener<>(blackhole),
+                TennisGame::new,
+                simulationMode
+        );
+        tennisGameInput = new TennisGameInput<>(gameShape.input(), 'A', 'B');
+    }
+
+    @Benchmark
+    public void process() {
+        tennisGameProcessor.process(tennisGameInput);
+    }
+}
@@ -0,0 +1,75 @@
+package fr.tennisgameprinter.benchmarks;
+
+import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the rejection of an inconsistent game, which showcased more points than needed to end the game, through an
+ * exception with a stack trace, through a {@link fr.tennisgameprinter.domain.validator.exception.StacklessInconsistentGameException},
+ * and through a {@link ValidationResult}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationResultBenchmark {
+
+    /**
+     * How an inconsistent game is rejected.
+     */
+    public enum Rejection {
+        /** An {@link InconsistentGameException} with a stack trace is thrown, then caught. */
+        STACK_TRACE,
+        /** A stackless {@link InconsistentGameException} is thrown, then caught. */
+        STACKLESS,
+        /** A {@link ValidationResult} is returned. */
+        RESULT
+    }
+
+    @Param
+    private Rejection rejection;
+
+    private final CharGameConsistencyValidator gameConsistencyValidator = new CharGameConsistencyValidator();
+    private PointSource<Character> pointSource;
+
+    @Setup
+    public void setUp() {
+        pointSource = new StringDeserializer().deserializeToSource("AAAABBBB");
+    }
+
+    @Benchmark
+    public String reject() {
+        switch (rejection) {
+            case STACK_TRACE -> {
+                try {
+                    ValidationResult validationResult = gameConsistencyValidator.check('A', 'B', pointSource);
+                    if (!validationResult.isValid()) {
+                        throw new InconsistentGameException(validationResult.getMessage());
+                    }
+                    return null;
+                } catch (InconsistentGameException e) {
+                    return e.getMessage();
+                }
+            }
+            case STACKLESS -> {
+                try {
+                    gameConsistencyValidator.validate('A', 'B', pointSource);
+                    return null;
+                } catch (InconsistentGameException e) {
+                    return e.getMessage();
+                }
+            }
+            default -> {
+                return gameConsistencyValidator.check('A', 'B', pointSource).getMessage();
+            }
+        }
+    }
+}
@@ -1,75 +1,162 @@
 package fr.tennisgameprinter.bootstrap;
 
+import fr.tennisgameprinter.adapters.assembly.TennisGamePrinterAssembly;
+import fr.tennisgameprinter.adapters.deserializer.ByteBufferDeserializer;
 import fr.tennisgameprinter.adapters.deserializer.StringDeserializer;
+import fr.tennisgameprinter.adapters.input.TennisGameBatchFileReader;
 import fr.tennisgameprinter.adapters.input.TennisGameInputReader;
-import fr.tennisgameprinter.adapters.listener.StdoutPointPrintingListener;
-import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.adapters.listener.BufferedPointRenderingListener;
+import fr.tennisgameprinter.adapters.metrics.JmxPipelineMetrics;
+import fr.tennisgameprinter.adapters.network.TennisGameServer;
+import fr.tennisgameprinter.domain.CachingTennisGameProcessor;
 import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
 import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
-import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.management.JMException;
+import java.nio.ByteBuffer;
 import java.util.Scanner;
 
 /**
- * Configuration class that handles the bootstrap of our application.
+ * Configuration class that handles the bootstrap of our application, by exposing the components wired by a
+ * {@link TennisGamePrinterAssembly} as beans.
  */
 @Configuration
 public class TennisGamePrinterBootstrapConfig {
 
     /**
+     * @param enabled whether the metrics are initially switched on.
+     * @return the {@link PipelineMetrics} shared by every {@link TennisGameProcessor}.
+     */
+    @Bean
+    public PipelineMetrics pipelineMetrics(@Value("${tennis-game-printer.metrics.enabled:false}") final boolean enabled) {
+        return new PipelineMetrics(enabled);
+    }
+
+    /**
+     * @param pipelineMetrics the {@link PipelineMetrics} to record each stage of the pipeline into.
+     * @return a {@link TennisGamePrinterAssembly} which wires our adapters to the domain.
+     */
+    @Bean
+    public TennisGamePrinterAssembly tennisGamePrinterAssembly(final PipelineMetrics pipelineMetrics) {
+        return new TennisGamePrinterAssembly(pipelineMetrics);
+    }
+
+    /**
+     * @param tennisGamePrinterAssembly the {@link TennisGamePrinterAssembly}.
      * @return a {@link StringDeserializer}.
      */
     @Bean
-    public StringDeserializer stringDeserializer() {
-        return new StringDeserializer();
+    public StringDeserializer stringDeserializer(final TennisGamePrinterAssembly tennisGamePrinterAssembly) {
+        return tennisGamePrinterAssembly.getStringDeserializer();
     }
 
     /**
-     * @return a {@link StdoutPointPrintingListener}.
+     * @param tennisGamePrinterAssembly the {@link TennisGamePrinterAssembly}.
+     * @return a {@link ByteBufferDeserializer}.
      */
     @Bean
-    public StdoutPointPrintingListener stdoutPointPrintingProbe() {
-        return new StdoutPointPrintingListener();
+    public ByteBufferDeserializer byteBufferDeserializer(final TennisGamePrinterAssembly tennisGamePrinterAssembly) {
+        return tennisGamePrinterAssembly.getByteBufferDeserializer();
     }
 
     /**
-     * @return a {@link GameConsistencyValidator}.
+     * @param tennisGamePrinterAssembly the {@link TennisGamePrinterAssembly}.
+     * @return a {@link BufferedPointRenderingListener} which renders the points of players 'A' and 'B' into the standard
+     * output, once per game.
      */
     @Bean
-    public GameConsistencyValidator<Character> gameConsistencyValidator() {
-        return new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+    public BufferedPointRenderingListener bufferedPointRenderingProbe(final TennisGamePrinterAssembly tennisGamePrinterAssembly) {
+        return tennisGamePrinterAssembly.getBufferedPointRenderingProbe();
     }
 
     /**
-     * Creates a new {@link TennisGameProcessor} from the two provided adapters {@link StringDeserializer} and
-     * {@link StdoutPointPrintingListener}, and from a {@link GameConsistencyValidator}.
-     * @param stringDeserializer the {@link StringDeserializer} adapter.
-     * @param gameConsistencyValidator the {@link GameConsistencyValidator}.
-     * @param stdoutPointPrintingProbe the {@link StdoutPointPrintingListener} adapter.
-     * @return a {@link TennisGameProcessor} initialized with our adapters.
+     * @param tennisGamePrinterAssembly the {@link TennisGamePrinterAssembly}.
+     * @return a {@link CharGameConsistencyValidator}, as our players are always identified by a {@link Character}, which
+     * validates the points read by our deserializers without boxing any of them.
      */
     @Bean
-    public TennisGameProcessor<String, Character> tennisGameProcessor(
-            final StringDeserializer stringDeserializer,
-            final GameConsistencyValidator<Character> gameConsistencyValidator,
-            final StdoutPointPrintingListener stdoutPointPrintingProbe) {
-        return new TennisGameProcessor<>(
-                stringDeserializer,
-                gameConsistencyValidator,
-                stdoutPointPrintingProbe,
-                TennisGame::new
-        );
+    public GameConsistencyValidator<Character> gameConsistencyValidator(final TennisGamePrinterAssembly tennisGamePrinterAssembly) {
+        return tennisGamePrinterAssembly.getGameConsistencyValidator();
+    }
+
+    /**
+     * Exposes the {@link PipelineMetrics} over JMX, along with the cache usage of the {@link CachingTennisGameProcessor},
+     * until the application is closed.
+     * @param tennisGamePrinterAssembly the {@link TennisGamePrinterAssembly}.
+     * @param tennisGameProcessor the {@link CachingTennisGameProcessor} whose cache usage is exposed.
+     * @return a registered {@link JmxPipelineMetrics}.
+     * @throws JMException if the metrics could not be registered.
+     */
+    @Bean
+    public JmxPipelineMetrics jmxPipelineMetrics(final TennisGamePrinterAssembly tennisGamePrinterAssembly,
+                                                 final CachingTennisGameProcessor<String, Character> tennisGameProcessor) throws JMException {
+        return tennisGamePrinterAssembly.jmxPipelineMetrics(tennisGameProcessor);
+    }
+
+    /**
+     * Creates the {@link CachingTennisGameProcessor} of the interactive input and of the TCP server.
+     * @param tennisGamePrinterAssembly the {@link TennisGamePrinterAssembly}.
+     * @param cacheMaximumSize the maximum number of games whose outcome is remembered.
+     * @param cacheMaximumWeight the maximum number of points remembered across all games.
+     * @return a {@link CachingTennisGameProcessor} initialized with our adapters.
+     */
+    @Bean
+    public CachingTennisGameProcessor<String, Character> tennisGameProcessor(
+            final TennisGamePrinterAssembly tennisGamePrinterAssembly,
+            @Value("${tennis-game-printer.cache.maximum-size:1024}") final int cacheMaximumSize,
+            @Value("${tennis-game-printer.cache.maximum-weight:1048576}") final long cacheMaximumWeight) {
+        return tennisGamePrinterAssembly.tennisGameProcessor(cacheMaximumSize, cacheMaximumWeight);
     }
 
     /**
      * Creates a new {@link TennisGameInputReader} to read user input.
+     * @param tennisGamePrinterAssembly the {@link TennisGamePrinterAssembly}.
      * @param tennisGameProcessor the {@link TennisGameProcessor} that will process the input.
      * @return a {@link TennisGameInputReader} initialized with the provided {@link TennisGameProcessor} and a {@link Scanner}.
      */
     @Bean
-    public TennisGameInputReader tennisGamePrinterRunner(final TennisGameProcessor<String, Character> tennisGameProcessor) {
-        return new TennisGameInputReader(tennisGameProcessor, new Scanner(System.in));
+    public TennisGameInputReader tennisGamePrinterRunner(final TennisGamePrinterAssembly tennisGamePrinterAssembly,
+                                                         final TennisGameProcessor<String, Character> tennisGameProcessor) {
+        return tennisGamePrinterAssembly.tennisGameInputReader(tennisGameProcessor, new Scanner(System.in));
+    }
+
+    /**
+     * @param tennisGamePrinterAssembly the {@link TennisGamePrinterAssembly}.
+     * @return a {@link TennisGameProcessor} which processes the games of a batch file.
+     */
+    @Bean
+    public TennisGameProcessor<ByteBuffer, Character> batchTennisGameProcessor(final TennisGamePrinterAssembly tennisGamePrinterAssembly) {
+        return tennisGamePrinterAssembly.batchTennisGameProcessor();
+    }
+
+    /**
+     * Creates a new {@link TennisGameBatchFileReader} to read batch files.
+     * @param tennisGamePrinterAssembly the {@link TennisGamePrinterAssembly}.
+     * @param batchTennisGameProcessor the {@link TennisGameProcessor} that will process each game of a batch file.
+     * @return a {@link TennisGameBatchFileReader} initialized with the provided {@link TennisGameProcessor}.
+     */
+    @Bean
+    public TennisGameBatchFileReader tennisGameBatchFileReader(final TennisGamePrinterAssembly tennisGamePrinterAssembly,
+                                                               final TennisGameProcessor<ByteBuffer, Character> batchTennisGameProcessor) {
+        return tennisGamePrinterAssembly.tennisGameBatchFileReader(batchTennisGameProcessor);
+    }
+
+    /**
+     * Creates a new {@link TennisGameServer} to serve games over TCP, which is only started on demand.
+     * @param tennisGamePrinterAssembly the {@link TennisGamePrinterAssembly}.
+     * @param tennisGameProcessor the {@link TennisGameProcessor} that will process the games of every connection.
+     * @param port the port to listen on.
+     * @return a {@link TennisGameServer} initialized with the provided {@link TennisGameProcessor}.
+     */
+    @Bean
+    public TennisGameServer tennisGameServer(final TennisGamePrinterAssembly tennisGamePrinterAssembly,
+                                             final TennisGameProcessor<String, Character> tennisGameProcessor,
+                                             @Value("${tennis-game-printer.server.port:7070}") final int port) {
+        return tennisGamePrinterAssembly.tennisGameServer(tennisGameProcessor, port);
     }
 }
@@ -1,29 +1,68 @@
 package fr.tennisgameprinter.entrypoint;
 
+import fr.tennisgameprinter.adapters.input.TennisGameBatchFileReader;
 import fr.tennisgameprinter.adapters.input.TennisGameInputReader;
+import fr.tennisgameprinter.adapters.network.TennisGameServer;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 
+import java.nio.file.Path;
+import java.util.Arrays;
+
 /**
  * The application's entrypoint.
  */
 @SpringBootApplication
 @ComponentScan(basePackages = "fr.tennisgameprinter")
 public class TennisGamePrinter {
+
+    /** The prefix of the argument that holds the path of a batch file to process. */
+    private static final String BATCH_ARGUMENT = "--batch=";
+    /** The argument that starts the TCP server. */
+    private static final String SERVER_ARGUMENT = "--server";
+    /** The argument that processes the piped standard input without prompting. */
+    private static final String PIPE_ARGUMENT = "--pipe";
+    /** The argument that streams a single game of any length from the standard input without prompting. */
+    private static final String STREAM_ARGUMENT = "--stream";
+
     public static void main(String[] args) {
         SpringApplication.run(TennisGamePrinter.class, args);
     }
 
     /**
-     * Starts our {@link TennisGameInputReader} when the application starts.
+     * Processes the batch file provided through the {@code --batch=<file>} argument when the application starts, serves
+     * games over TCP until shutdown when the {@code --server} argument is provided, filters the piped standard input when
+     * the {@code --pipe} argument is provided, streams a single game from the standard input when the {@code --stream}
+     * argument is provided, or starts our {@link TennisGameInputReader} otherwise.
      * @param tennisGameInputReader the {@link TennisGameInputReader}.
+     * @param tennisGameBatchFileReader the {@link TennisGameBatchFileReader}.
+     * @param tennisGameServer the {@link TennisGameServer}.
      * @return a {@link CommandLineRunner} that is run by Spring.
      */
     @Bean
-    CommandLineRunner run(final TennisGameInputReader tennisGameInputReader) {
-        return args -> tennisGameInputReader.start();
+    CommandLineRunner run(final TennisGameInputReader tennisGameInputReader,
+                          final TennisGameBatchFileReader tennisGameBatchFileReader,
+                          final TennisGameServer tennisGameServer) {
+        return args -> {
+            var batchFile = Arrays.stream(args)
+                    .filter(arg -> arg.startsWith(BATCH_ARGUMENT))
+                    .map(arg -> Path.of(arg.substring(BATCH_ARGUMENT.length())))
+                    .findFirst();
+            if (batchFile.isPresent()) {
+                tennisGameBatchFileReader.process(batchFile.get());
+            } else if (Arrays.asList(args).contains(SERVER_ARGUMENT)) {
+                tennisGameServer.start();
+                tennisGameServer.awaitTermination();
+            } else if (Arrays.asList(args).contains(PIPE_ARGUMENT)) {
+                tennisGameInputReader.startPipe(System.in, System.out);
+            } else if (Arrays.asList(args).contains(STREAM_ARGUMENT)) {
+                tennisGameInputReader.startStream(System.in, System.out);
+            } else {
+                tennisGameInputReader.start();
+            }
+        };
     }
 }
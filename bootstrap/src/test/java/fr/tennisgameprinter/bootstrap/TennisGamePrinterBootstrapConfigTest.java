@@ -1,6 +1,8 @@
 package fr.tennisgameprinter.bootstrap;
 
+import fr.tennisgameprinter.adapters.input.TennisGameBatchFileReader;
 import fr.tennisgameprinter.adapters.input.TennisGameInputReader;
+import fr.tennisgameprinter.adapters.metrics.JmxPipelineMetrics;
 import fr.tennisgameprinter.domain.TennisGameProcessor;
 import fr.tennisgameprinter.domain.game.input.TennisGameInput;
 import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
@@ -9,6 +11,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContext;
 
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(classes = TennisGamePrinterBootstrapConfig.class)
@@ -23,6 +28,9 @@ class TennisGamePrinterBootstrapConfigTest {
     @Autowired
     private TennisGameInputReader tennisGameInputReader;
 
+    @Autowired
+    private TennisGameBatchFileReader tennisGameBatchFileReader;
+
     @Test
     void testApplicationContext() {
         assertNotNull(applicationContext, "Spring application context should be created.");
@@ -38,6 +46,17 @@ class TennisGamePrinterBootstrapConfigTest {
         assertNotNull(tennisGameInputReader, "TennisGameInputReader bean should be created.");
     }
 
+    @Test
+    void testTennisGameBatchFileReaderBeanExists() {
+        assertNotNull(tennisGameBatchFileReader, "TennisGameBatchFileReader bean should be created.");
+    }
+
+    @Test
+    void testPipelineMetricsAreRegistered() throws Exception {
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(JmxPipelineMetrics.OBJECT_NAME)),
+                "PipelineMetrics should be registered over JMX.");
+    }
+
     @Test
     void testTennisGameProcessor_consistentGame() {
         assertDoesNotThrow(() -> tennisGameProcessor.process(new TennisGameInput<>("AAABA", 'A', 'B')),
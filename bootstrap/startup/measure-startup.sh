@@ -0,0 +1,63 @@
+#!/usr/bin/env bash
+# Measures the time-to-first-prompt and the resident set size (RSS) at that point, of the default jar against the
+# startup-optimized distribution. Each run starts the application, waits until it prompts for input, reads its RSS
+# from /proc, then exits it through the 'exit' command. It thus only runs on Linux.
+#
+# Usage, once the distribution is built with 'mvn package -Pstartup -DskipTests' : ./bootstrap/startup/measure-startup.sh [runs]
+set -euo pipefail
+
+RUNS="${1:-10}"
+BOOTSTRAP="$(cd "$(dirname "$0")/.." && pwd)"
+DEFAULT_JAR="$BOOTSTRAP/target/bootstrap-1.0-SNAPSHOT.jar"
+DISTRIBUTION="$BOOTSTRAP/target/startup"
+
+if [[ ! -f "$DISTRIBUTION/application.jsa" ]]; then
+    echo "$DISTRIBUTION is missing, please run 'mvn package -Pstartup -DskipTests' first." >&2
+    exit 1
+fi
+
+WORK="$(mktemp -d)"
+trap 'rm -rf "$WORK"' EXIT
+
+# Starts the provided command, and prints its time-to-first-prompt in milliseconds and its RSS in kilobytes.
+measure_once() {
+    local input="$WORK/input" output="$WORK/output" start now pid rss
+    rm -f "$input" "$output"
+    mkfifo "$input"
+    start=$(date +%s%N)
+    "$@" < "$input" > "$output" 2>&1 &
+    pid=$!
+    # keeps the standard input of the application open until it is asked to exit
+    exec 3> "$input"
+    until grep -q "^> " "$output" 2> /dev/null; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "the application exited before prompting for input :" >&2
+            cat "$output" >&2
+            exit 1
+        fi
+        sleep 0.005
+    done
+    now=$(date +%s%N)
+    rss=$(awk '/^VmRSS:/ { print $2 }' "/proc/$pid/status")
+    echo exit >&3
+    exec 3>&-
+    wait "$pid"
+    echo "$(( (now - start) / 1000000 )) $rss"
+}
+
+# Prints the average time-to-first-prompt and RSS of the provided command over every run.
+measure() {
+    local name="$1" total_ms=0 total_rss=0
+    shift
+    # warms up the file system cache
+    measure_once "$@" > /dev/null
+    for ((run = 0; run < RUNS; ++run)); do
+        read -r ms rss < <(measure_once "$@")
+        total_ms=$(( total_ms + ms ))
+        total_rss=$(( total_rss + rss ))
+    done
+    printf '%-10s time-to-first-prompt %5d ms / RSS %6d KB, averaged over %d runs\n' "$name" $(( total_ms / RUNS )) $(( total_rss / RUNS )) "$RUNS"
+}
+
+measure "default" java -jar "$DEFAULT_JAR"
+measure "optimized" java -XX:SharedArchiveFile="$DISTRIBUTION/application.jsa" -Dspring.aot.enabled=true -jar "$DISTRIBUTION/bootstrap-1.0-SNAPSHOT.jar"
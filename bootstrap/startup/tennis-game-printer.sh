@@ -0,0 +1,18 @@
+#!/usr/bin/env bash
+# Runs the startup-optimized distribution of the application, that is, the extracted jar along with its AppCDS archive
+# and its Spring AOT-processed bean definitions. Every argument is forwarded to the application.
+#
+# Usage, once the distribution is built with 'mvn package -Pstartup -DskipTests' : ./bootstrap/startup/tennis-game-printer.sh [args]
+set -euo pipefail
+
+DISTRIBUTION="$(cd "$(dirname "$0")/.." && pwd)/target/startup"
+
+if [[ ! -f "$DISTRIBUTION/application.jsa" ]]; then
+    echo "$DISTRIBUTION is missing, please run 'mvn package -Pstartup -DskipTests' first." >&2
+    exit 1
+fi
+
+exec java \
+    -XX:SharedArchiveFile="$DISTRIBUTION/application.jsa" \
+    -Dspring.aot.enabled=true \
+    -jar "$DISTRIBUTION/bootstrap-1.0-SNAPSHOT.jar" "$@"
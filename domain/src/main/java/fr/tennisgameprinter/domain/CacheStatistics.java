@@ -0,0 +1,19 @@
+package fr.tennisgameprinter.domain;
+
+/**
+ * A snapshot of the statistics of a {@link CachingTennisGameProcessor}.
+ * @param hits the number of games which were replayed from the cache.
+ * @param misses the number of games which had to be processed.
+ * @param evictions the number of games which were evicted from the cache to honour its size and weight bounds.
+ * @param size the number of games currently held by the cache.
+ */
+public record CacheStatistics(long hits, long misses, long evictions, int size) {
+
+    /**
+     * @return the ratio of games which were replayed from the cache, or 0 if no game was processed yet.
+     */
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
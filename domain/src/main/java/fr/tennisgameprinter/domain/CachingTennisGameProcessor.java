@@ -0,0 +1,257 @@
+package fr.tennisgameprinter.domain;
+
+import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+import fr.tennisgameprinter.domain.ports.deserializer.InputDeserializer;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.exception.StacklessInconsistentGameException;
+import fr.tennisgameprinter.domain.validator.listener.BufferingGameStateListener;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link TennisGameProcessor} which remembers the outcome of the most recently processed games, so that a game which
+ * is processed again is replayed to the {@link GameStateListener} without being deserialized, validated nor simulated.
+ * <p>
+ * Games are identified by their whole {@link TennisGameInput}, that is, their input and the identifiers of both players,
+ * which must thus be immutable values with a proper {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ * The outcome of a game is either the sequence of its points, or the {@link ValidationResult} of its inconsistency, which
+ * is replayed as a {@link StacklessInconsistentGameException}.
+ * <p>
+ * The cache is bounded both by the number of games it holds, and by its weight, that is, the total number of points
+ * of their inputs: this bounds both the point outcomes buffered for the consistent games, as a consistent game has
+ * exactly one per point, and the inputs held by the keys of every game, inconsistent ones included. Once either bound is exceeded, the least recently
+ * processed games are evicted. A game that weighs more than the whole weight bound is processed without being
+ * remembered, so that a single huge game can neither flush the cache nor be pinned by it.
+ * <p>
+ * The points of each game are buffered into the {@link BufferingGameStateListener} returned by {@link #newBuffer(TennisGameInput)},
+ * a generic one by default, which a {@link CharCachingTennisGameProcessor} specializes for players identified by a {@code char}.
+ * @param <I> the type of the input.
+ * @param <P> the type of players' identifier.
+ */
+public class CachingTennisGameProcessor<I, P> extends TennisGameProcessor<I, P> {
+
+    /**
+     * The outcome of a processed game.
+     * @param points the buffered points of the game, or {@code null} if the game is inconsistent.
+     * @param validationResult the {@link ValidationResult} of the game.
+     * @param weight the weight of the game, that is, the number of points of its input, and at least one.
+     * @param <P> the type of players' identifier.
+     */
+    private record GameOutcome<P>(BufferingGameStateListener<P> points, ValidationResult validationResult, int weight) {
+    }
+
+    /**
+     * The default maximum weight of the cache, in points. Since the point outcomes of a game are shared
+     * {@code CanonicalPoints}, each of them only costs a reference in its buffer, or a single byte once char-specialized,
+     * next to its point in the input.
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 1 << 20;
+
+    private final Map<TennisGameInput<I, P>, GameOutcome<P>> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maximumSize;
+    private final long maximumWeight;
+    /** The total weight of the games held by the cache, guarded by the cache. */
+    private long weight;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new {@link CachingTennisGameProcessor} with the provided {@link InputDeserializer}, {@link GameConsistencyValidator},
+     * {@link GameStateListener}, {@link TennisGameFactory} and {@link SimulationMode}, which remembers the outcome of
+     * at most {@code maximumSize} games, weighing at most {@link #DEFAULT_MAXIMUM_WEIGHT} points.
+     * @param inputDeserializer the {@link InputDeserializer} responsible for deserializing the input.
+     * @param gameConsistencyValidator the {@link GameConsistencyValidator} which validates the consistency of the input.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     * @param tennisGameFactory the {@link TennisGameFactory} which allows creating {@link TennisGame} instances.
+     * @param simulationMode the {@link SimulationMode} which defines how many times each game is simulated.
+     * @param maximumSize the maximum number of games whose outcome is remembered.
+     */
+    public CachingTennisGameProcessor(final InputDeserializer<I, P> inputDeserializer,
+                                      final GameConsistencyValidator<P> gameConsistencyValidator,
+                                      final GameStateListener<P> gameStateListener,
+                                      final TennisGameFactory<P> tennisGameFactory,
+                                      final SimulationMode simulationMode,
+                                      final int maximumSize) {
+        this(inputDeserializer, gameConsistencyValidator, gameStateListener, tennisGameFactory, simulationMode, NO_PIPELINE_METRICS, maximumSize);
+    }
+
+    /**
+     * Creates a new {@link CachingTennisGameProcessor} with the provided {@link InputDeserializer}, {@link GameConsistencyValidator},
+     * {@link GameStateListener}, {@link TennisGameFactory} and {@link SimulationMode}, which remembers the outcome of
+     * at most {@code maximumSize} games, weighing at most {@link #DEFAULT_MAXIMUM_WEIGHT} points, and records each stage of the pipeline of the games it actually processes into
+     * the provided {@link PipelineMetrics}. Replayed games skip every stage, yet are counted among the games or rejections, and among the replays.
+     * @param inputDeserializer the {@link InputDeserializer} responsible for deserializing the input.
+     * @param gameConsistencyValidator the {@link GameConsistencyValidator} which validates the consistency of the input.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     * @param tennisGameFactory the {@link TennisGameFactory} which allows creating {@link TennisGame} instances.
+     * @param simulationMode the {@link SimulationMode} which defines how many times each game is simulated.
+     * @param pipelineMetrics the {@link PipelineMetrics} to record each stage of the pipeline into.
+     * @param maximumSize the maximum number of games whose outcome is remembered.
+     */
+    public CachingTennisGameProcessor(final InputDeserializer<I, P> inputDeserializer,
+                                      final GameConsistencyValidator<P> gameConsistencyValidator,
+                                      final GameStateListener<P> gameStateListener,
+                                      final TennisGameFactory<P> tennisGameFactory,
+                                      final SimulationMode simulationMode,
+                                      final PipelineMetrics pipelineMetrics,
+                                      final int maximumSize) {
+        this(inputDeserializer, gameConsistencyValidator, gameStateListener, tennisGameFactory, simulationMode, pipelineMetrics, maximumSize, DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * Creates a new {@link CachingTennisGameProcessor} with the provided {@link InputDeserializer}, {@link GameConsistencyValidator},
+     * {@link GameStateListener}, {@link TennisGameFactory} and {@link SimulationMode}, which remembers the outcome of
+     * at most {@code maximumSize} games, weighing at most {@code maximumWeight} points, and records each stage
+     * of the pipeline of the games it actually processes into the provided {@link PipelineMetrics}.
+     * @param inputDeserializer the {@link InputDeserializer} responsible for deserializing the input.
+     * @param gameConsistencyValidator the {@link GameConsistencyValidator} which validates the consistency of the input.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     * @param tennisGameFactory the {@link TennisGameFactory} which allows creating {@link TennisGame} instances.
+     * @param simulationMode the {@link SimulationMode} which defines how many times each game is simulated.
+     * @param pipelineMetrics the {@link PipelineMetrics} to record each stage of the pipeline into.
+     * @param maximumSize the maximum number of games whose outcome is remembered.
+     * @param maximumWeight the maximum number of points remembered across all games.
+     */
+    public CachingTennisGameProcessor(final InputDeserializer<I, P> inputDeserializer,
+                                      final GameConsistencyValidator<P> gameConsistencyValidator,
+                                      final GameStateListener<P> gameStateListener,
+                                      final TennisGameFactory<P> tennisGameFactory,
+                                      final SimulationMode simulationMode,
+                                      final PipelineMetrics pipelineMetrics,
+                                      final int maximumSize,
+                                      final long maximumWeight) {
+        super(inputDeserializer, gameConsistencyValidator, gameStateListener, tennisGameFactory, simulationMode, pipelineMetrics);
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("the maximum size of the cache must be positive.");
+        }
+        if (maximumWeight < 1) {
+            throw new IllegalArgumentException("the maximum weight of the cache must be positive.");
+        }
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Replays the outcome of the provided {@link TennisGameInput} should it have been processed recently, or processes it
+     * and remembers its outcome otherwise.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     */
+    @Override
+    public void process(final TennisGameInput<I, P> tennisGameInput, final GameStateListener<P> gameStateListener) {
+        tryProcess(tennisGameInput, gameStateListener).throwIfInvalid();
+    }
+
+    /**
+     * Replays the outcome of the provided {@link TennisGameInput} should it have been processed recently, or processes it
+     * and remembers its outcome otherwise, without throwing upon an inconsistent game.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     * @return the {@link ValidationResult} of the game.
+     */
+    @Override
+    public ValidationResult tryProcess(final TennisGameInput<I, P> tennisGameInput, final GameStateListener<P> gameStateListener) {
+        GameOutcome<P> gameOutcome;
+        synchronized (cache) {
+            gameOutcome = cache.get(tennisGameInput);
+        }
+        if (gameOutcome == null) {
+            misses.increment();
+            gameOutcome = simulate(tennisGameInput);
+            remember(tennisGameInput, gameOutcome);
+        } else {
+            hits.increment();
+            countReplay(gameOutcome);
+        }
+        if (gameOutcome.validationResult().isValid()) {
+            gameOutcome.points().replayTo(gameStateListener);
+        }
+        return gameOutcome.validationResult();
+    }
+
+    /**
+     * Counts the provided replayed outcome into the {@link PipelineMetrics}, while they are switched on, just like a
+     * processed game.
+     * @param gameOutcome the replayed outcome.
+     */
+    private void countReplay(final GameOutcome<P> gameOutcome) {
+        PipelineMetrics pipelineMetrics = getPipelineMetrics();
+        if (!pipelineMetrics.isEnabled()) {
+            return;
+        }
+        if (gameOutcome.validationResult().isValid()) {
+            BufferingGameStateListener<P> points = gameOutcome.points();
+            pipelineMetrics.onGame(points.getPointsCounter(), points.getDeucesCounter(), points.getAdvantagesCounter());
+        } else {
+            pipelineMetrics.onRejection();
+        }
+        pipelineMetrics.onReplay();
+    }
+
+    /**
+     * @return a snapshot of the statistics of the cache.
+     */
+    public CacheStatistics getStatistics() {
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    /**
+     * Remembers the outcome of the provided {@link TennisGameInput}, unless it weighs more than the whole cache, then
+     * evicts the least recently processed games until both bounds of the cache are honoured.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @param gameOutcome the outcome of the game.
+     */
+    private void remember(final TennisGameInput<I, P> tennisGameInput, final GameOutcome<P> gameOutcome) {
+        int gameWeight = gameOutcome.weight();
+        if (gameWeight > maximumWeight) {
+            return;
+        }
+        synchronized (cache) {
+            GameOutcome<P> previousOutcome = cache.put(tennisGameInput, gameOutcome);
+            weight += gameWeight - (previousOutcome == null ? 0 : previousOutcome.weight());
+            Iterator<GameOutcome<P>> eldest = cache.values().iterator();
+            while (cache.size() > maximumSize || weight > maximumWeight) {
+                weight -= eldest.next().weight();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Processes the provided {@link TennisGameInput} against a {@link BufferingGameStateListener}, and weighs its outcome
+     * by the number of points of its input.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @return the outcome of the game.
+     */
+    private GameOutcome<P> simulate(final TennisGameInput<I, P> tennisGameInput) {
+        PointSource<P> inputPoints = deserialize(tennisGameInput.input());
+        BufferingGameStateListener<P> points = newBuffer(tennisGameInput);
+        ValidationResult validationResult = super.tryProcess(tennisGameInput, inputPoints, points);
+        return new GameOutcome<>(validationResult.isValid() ? points : null, validationResult, Math.max(1, inputPoints.size()));
+    }
+
+    /**
+     * Creates the {@link BufferingGameStateListener} which buffers the points of the provided {@link TennisGameInput}
+     * while it is processed for the first time.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @return a new {@link BufferingGameStateListener}.
+     */
+    protected BufferingGameStateListener<P> newBuffer(final TennisGameInput<I, P> tennisGameInput) {
+        return new BufferingGameStateListener<>();
+    }
+}
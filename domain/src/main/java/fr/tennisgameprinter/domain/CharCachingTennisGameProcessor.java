@@ -0,0 +1,63 @@
+package fr.tennisgameprinter.domain;
+
+import fr.tennisgameprinter.domain.game.engine.CharTennisGame;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+import fr.tennisgameprinter.domain.ports.deserializer.InputDeserializer;
+import fr.tennisgameprinter.domain.ports.listener.CharGameStateListener;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.listener.BufferingGameStateListener;
+import fr.tennisgameprinter.domain.validator.listener.CharBufferingGameStateListener;
+
+/**
+ * A {@link CachingTennisGameProcessor} of players identified by a primitive {@code char}, which simulates each game
+ * through a {@link CharTennisGame}, and buffers its points into a {@link CharBufferingGameStateListener}.
+ * <p>
+ * The points of a game are thus buffered as the bytes of their transitions through primitive callbacks, then replayed
+ * through the primitive callbacks of a {@link CharGameStateListener}, so that neither processing nor replaying a game
+ * boxes nor allocates anything per point.
+ * @param <I> the type of the input.
+ */
+public class CharCachingTennisGameProcessor<I> extends CachingTennisGameProcessor<I, Character> {
+
+    /**
+     * Creates a new {@link CharCachingTennisGameProcessor} with the provided {@link InputDeserializer}, {@link GameConsistencyValidator},
+     * {@link GameStateListener} and {@link SimulationMode}, which remembers the outcome of at most {@code maximumSize}
+     * games, weighing at most {@code maximumWeight} points, and records each stage of the pipeline of the games it
+     * actually processes into the provided {@link PipelineMetrics}.
+     * @param inputDeserializer the {@link InputDeserializer} responsible for deserializing the input.
+     * @param gameConsistencyValidator the {@link GameConsistencyValidator} which validates the consistency of the input.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome, preferably a {@link CharGameStateListener}.
+     * @param simulationMode the {@link SimulationMode} which defines how many times each game is simulated.
+     * @param pipelineMetrics the {@link PipelineMetrics} to record each stage of the pipeline into.
+     * @param maximumSize the maximum number of games whose outcome is remembered.
+     * @param maximumWeight the maximum number of points remembered across all games.
+     */
+    public CharCachingTennisGameProcessor(final InputDeserializer<I, Character> inputDeserializer,
+                                          final GameConsistencyValidator<Character> gameConsistencyValidator,
+                                          final GameStateListener<Character> gameStateListener,
+                                          final SimulationMode simulationMode,
+                                          final PipelineMetrics pipelineMetrics,
+                                          final int maximumSize,
+                                          final long maximumWeight) {
+        super(inputDeserializer, gameConsistencyValidator, gameStateListener, CharTennisGame::new, simulationMode,
+                pipelineMetrics, maximumSize, maximumWeight);
+    }
+
+    /**
+     * Creates the {@link CharBufferingGameStateListener} which buffers the points of the provided {@link TennisGameInput}
+     * while it is processed for the first time, or a generic {@link BufferingGameStateListener} should either of its
+     * players be unidentified, so that the game gets rejected just like by any {@link CachingTennisGameProcessor}.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @return a new {@link CharBufferingGameStateListener}.
+     */
+    @Override
+    protected BufferingGameStateListener<Character> newBuffer(final TennisGameInput<I, Character> tennisGameInput) {
+        if (tennisGameInput.firstPlayerId() == null || tennisGameInput.secondPlayerId() == null) {
+            return super.newBuffer(tennisGameInput);
+        }
+        return new CharBufferingGameStateListener(tennisGameInput.firstPlayerId(), tennisGameInput.secondPlayerId());
+    }
+}
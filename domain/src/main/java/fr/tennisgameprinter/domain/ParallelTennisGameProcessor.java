@@ -0,0 +1,125 @@
+package fr.tennisgameprinter.domain;
+
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.validator.listener.BufferingGameStateListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A service which processes many {@link TennisGameInput} at once, by simulating each underlying tennis game on the
+ * provided {@link ExecutorService} (a {@link java.util.concurrent.ForkJoinPool}, virtual threads...).
+ * <p>
+ * Each game is simulated against its own {@link BufferingGameStateListener}, and the buffered point outcomes are then
+ * replayed to the {@link GameStateListener} of the underlying {@link TennisGameProcessor} from the calling thread.
+ * The point outcomes of each game thus reach this listener contiguously and in input order, and the listener does not need
+ * to be thread-safe. At most {@code maxGamesInFlight} games are being simulated or waiting for their turn at once, which
+ * bounds the memory held by the buffered point outcomes.
+ * @param <I> the type of the input.
+ * @param <P> the type of players' identifier.
+ */
+public class ParallelTennisGameProcessor<I, P> {
+
+    private final TennisGameProcessor<I, P> tennisGameProcessor;
+    private final ExecutorService executorService;
+    private final int maxGamesInFlight;
+
+    /**
+     * Creates a new {@link ParallelTennisGameProcessor} with the provided {@link TennisGameProcessor}, {@link ExecutorService}
+     * and maximum number of games in flight.
+     * @param tennisGameProcessor the {@link TennisGameProcessor} which processes each game.
+     * @param executorService the {@link ExecutorService} on which each game is processed.
+     * @param maxGamesInFlight the maximum number of games being processed or waiting for their turn at once.
+     */
+    public ParallelTennisGameProcessor(final TennisGameProcessor<I, P> tennisGameProcessor,
+                                       final ExecutorService executorService,
+                                       final int maxGamesInFlight) {
+        this.tennisGameProcessor = Objects.requireNonNull(tennisGameProcessor, "the provided tennis game processor must not be null.");
+        this.executorService = Objects.requireNonNull(executorService, "the provided executor service must not be null.");
+        if (maxGamesInFlight < 1) {
+            throw new IllegalArgumentException("the maximum number of games in flight must be positive.");
+        }
+        this.maxGamesInFlight = maxGamesInFlight;
+    }
+
+    /**
+     * Processes each provided {@link TennisGameInput} and simulates the underlying tennis games.
+     * @param tennisGameInputs the {@link Stream} of {@link TennisGameInput}.
+     * @param inconsistentGameHandler the handler notified, in input order, of each game that turned out to be inconsistent.
+     * @see #process(Iterable, Consumer)
+     */
+    public void process(final Stream<TennisGameInput<I, P>> tennisGameInputs,
+                        final Consumer<? super InconsistentGameException> inconsistentGameHandler) {
+        process(tennisGameInputs::iterator, inconsistentGameHandler);
+    }
+
+    /**
+     * Processes each provided {@link TennisGameInput} and simulates the underlying tennis games.
+     * The {@link GameStateListener} of the underlying {@link TennisGameProcessor} is notified of each point of each game,
+     * in input order, while the provided handler is notified of each game that turned out to be inconsistent, in place
+     * of its points. Should processing a game fail with any other exception, the games still in flight are cancelled
+     * and the exception is rethrown once every previous game has been notified.
+     * @param tennisGameInputs the {@link Iterable} of {@link TennisGameInput}.
+     * @param inconsistentGameHandler the handler notified, in input order, of each game that turned out to be inconsistent.
+     */
+    public void process(final Iterable<TennisGameInput<I, P>> tennisGameInputs,
+                        final Consumer<? super InconsistentGameException> inconsistentGameHandler) {
+        Objects.requireNonNull(inconsistentGameHandler, "the provided inconsistent game handler must not be null.");
+        Deque<Future<BufferingGameStateListener<P>>> gamesInFlight = new ArrayDeque<>(maxGamesInFlight);
+        try {
+            for (TennisGameInput<I, P> tennisGameInput : tennisGameInputs) {
+                if (gamesInFlight.size() == maxGamesInFlight) {
+                    notify(gamesInFlight.poll(), inconsistentGameHandler);
+                }
+                gamesInFlight.add(executorService.submit(() -> simulate(tennisGameInput)));
+            }
+            while (!gamesInFlight.isEmpty()) {
+                notify(gamesInFlight.poll(), inconsistentGameHandler);
+            }
+        } finally {
+            gamesInFlight.forEach(gameInFlight -> gameInFlight.cancel(true));
+        }
+    }
+
+    /**
+     * Simulates the tennis game held by the provided {@link TennisGameInput}, and buffers its point outcomes.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @return the {@link BufferingGameStateListener} holding the point outcomes of the game.
+     */
+    private BufferingGameStateListener<P> simulate(final TennisGameInput<I, P> tennisGameInput) {
+        BufferingGameStateListener<P> bufferingGameStateListener = new BufferingGameStateListener<>();
+        tennisGameProcessor.process(tennisGameInput, bufferingGameStateListener);
+        return bufferingGameStateListener;
+    }
+
+    /**
+     * Waits for the provided game to be simulated, then replays its point outcomes to the {@link GameStateListener},
+     * or notifies the provided handler should the game be inconsistent.
+     * @param gameInFlight the {@link Future} of the game.
+     * @param inconsistentGameHandler the handler notified of inconsistent games.
+     */
+    private void notify(final Future<BufferingGameStateListener<P>> gameInFlight,
+                        final Consumer<? super InconsistentGameException> inconsistentGameHandler) {
+        try {
+            gameInFlight.get().replayTo(tennisGameProcessor.getGameStateListener());
+        } catch (ExecutionException e) {
+            switch (e.getCause()) {
+                case InconsistentGameException inconsistentGameException -> inconsistentGameHandler.accept(inconsistentGameException);
+                case RuntimeException runtimeException -> throw runtimeException;
+                case Error error -> throw error;
+                default -> throw new IllegalStateException("the tennis game could not be processed.", e.getCause());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for a tennis game to be processed.", e);
+        }
+    }
+}
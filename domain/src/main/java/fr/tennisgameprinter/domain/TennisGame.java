@@ -1,27 +1,31 @@
 package fr.tennisgameprinter.domain;
 
+import fr.tennisgameprinter.domain.game.engine.TennisGameEngine;
 import fr.tennisgameprinter.domain.game.player.Player;
 import fr.tennisgameprinter.domain.game.point.input.Point;
-import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
-import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
 import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
 import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
 
 import java.util.List;
 import java.util.Objects;
 
 /**
- * A stateful representation of a tennis game.
+ * A stateful representation of a tennis game, which is the reference {@link TennisGameEngine}.
  * @param <P> the type of players' identifier.
  */
-public class TennisGame<P> {
+public class TennisGame<P> implements TennisGameEngine<P> {
 
     /** The first {@link Player}. */
     private final Player<P> firstPlayer;
     /** The second {@link Player}. */
     private final Player<P> secondPlayer;
     /** The {@link GameStateListener} to notify after processing a {@link Point}. */
-    private final GameStateListener<P> gameStateListener;
+    private GameStateListener<P> gameStateListener;
+    /** The {@link CanonicalPoints} of both players, which are notified rather than allocating a point outcome per point. */
+    private CanonicalPoints<P> canonicalPoints;
 
     /** Whether this game is over. */
     private boolean isGameOver;
@@ -36,50 +40,104 @@ public class TennisGame<P> {
         this.firstPlayer = Objects.requireNonNull(firstPlayer, "the provided first player must not be null.");
         this.secondPlayer = Objects.requireNonNull(secondPlayer, "the provided second player must not be null.");
         this.gameStateListener = Objects.requireNonNull(gameStateListener, "the provided game listener must not be null");
+        this.canonicalPoints = CanonicalPoints.of(firstPlayer.getId(), secondPlayer.getId());
+    }
+
+    /**
+     * Resets this game to its very first point, between players identified by the provided identifiers, so that it may
+     * process a new game without allocating a new {@link TennisGame}.
+     * @param firstPlayerId the identifier of the first player.
+     * @param secondPlayerId the identifier of the second player.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point.
+     */
+    @Override
+    public void reset(final P firstPlayerId, final P secondPlayerId, final GameStateListener<P> gameStateListener) {
+        firstPlayer.reset(firstPlayerId);
+        secondPlayer.reset(secondPlayerId);
+        this.gameStateListener = Objects.requireNonNull(gameStateListener, "the provided game listener must not be null");
+        canonicalPoints = CanonicalPoints.of(firstPlayerId, secondPlayerId);
+        isGameOver = false;
+    }
+
+    @Override
+    public void detach() {
+        gameStateListener = null;
     }
 
     /**
      * Processes the provided list of {@link Point}.
      * @param points the list of {@link Point} representing the tennis game.
      */
+    @Override
     public void process(final List<Point<P>> points) {
         for (Point<P> point : points) {
             if (isGameOver) {
                 break;
             } else {
-                this.process(point);
+                this.process(point.isWonBy(firstPlayer));
             }
         }
     }
 
     /**
-     * Processes a single {@link Point}.
-     * @param point the {@link Point} to process.
+     * Processes the provided {@link PointSource}, without allocating anything to read each point.
+     * Points that were not won by the first player are considered won by the second player.
+     * @param points the {@link PointSource} representing the tennis game.
      */
-    private void process(final Point<P> point) {
-        if (isVictoryByPoints(point) || isVictoryOnAdvantage(point)) {
+    @Override
+    public void process(final PointSource<P> points) {
+        P firstPlayerId = firstPlayer.getId();
+        for (int i = 0; i < points.size() && !isGameOver; ++i) {
+            this.process(points.isWonBy(i, firstPlayerId));
+        }
+    }
+
+    /**
+     * Processes the provided {@link PointStream} in a single pass, reading its points until the game is over or every point
+     * was read, so that a game of any length is processed with constant memory.
+     * Points that were not won by the first player are considered won by the second player.
+     * @param points the {@link PointStream} representing the tennis game.
+     */
+    @Override
+    public void process(final PointStream<P> points) {
+        P firstPlayerId = firstPlayer.getId();
+        P winner;
+        while (!isGameOver && (winner = points.next()) != null) {
+            this.process(firstPlayerId.equals(winner));
+        }
+    }
+
+    /**
+     * Processes a single point.
+     * @param isWonByFirstPlayer whether the point was won by the first player.
+     */
+    private void process(final boolean isWonByFirstPlayer) {
+        Player<P> winner = isWonByFirstPlayer ? firstPlayer : secondPlayer;
+        Player<P> loser = isWonByFirstPlayer ? secondPlayer : firstPlayer;
+        if (isVictoryByPoints(winner, loser) || isVictoryOnAdvantage(winner)) {
             isGameOver = true;
             return;
         }
-        give(point);
+        winner.winsPointOver(loser);
         if (isDeuce()) {
             gameStateListener.onDeuce();
             return;
         }
         if (advantageToFirstPlayer()) {
-            gameStateListener.onAdvantage(new AdvantagePoint<>(firstPlayer.getId()));
+            gameStateListener.onAdvantage(canonicalPoints.firstPlayerAdvantage());
             return;
         }
         if (advantageToSecondPlayer()) {
-            gameStateListener.onAdvantage(new AdvantagePoint<>(secondPlayer.getId()));
+            gameStateListener.onAdvantage(canonicalPoints.secondPlayerAdvantage());
             return;
         }
-        gameStateListener.onPoint(new RegularPoint<>(firstPlayer.getId(), secondPlayer.getId(), firstPlayer.getScore(), secondPlayer.getScore()));
+        gameStateListener.onPoint(canonicalPoints.regularPoint(firstPlayer.getScore(), secondPlayer.getScore()));
     }
 
     /**
      * @return whether this game is over.
      */
+    @Override
     public boolean isGameOver() {
         return isGameOver;
     }
@@ -98,16 +156,6 @@ public class TennisGame<P> {
         return firstPlayer.hasAdvantage();
     }
 
-    /**
-     * Gives the point to the {@link Player} that actually won it.
-     * @param point the {@link Point} to give.
-     */
-    private void give(final Point<P> point) {
-        Player<P> winner = point.isWonBy(firstPlayer) ? firstPlayer : secondPlayer;
-        Player<P> loser = (winner == firstPlayer) ? secondPlayer : firstPlayer;
-        winner.winsPointOver(loser);
-    }
-
     /**
      * @return whether the current game state is a deuce.
      */
@@ -116,40 +164,40 @@ public class TennisGame<P> {
     }
 
     /**
-     * Asserts whether there is a victory by points when processing the provided {@link Point}.
-     * @param point the {@link Point} which might lead a player to victory.
-     * @return true if the provided {@link Point} leads to a victory, false otherwise.
+     * Asserts whether there is a victory by points when the provided winner wins a point over the provided loser.
+     * @param winner the {@link Player} who won the point, which might lead him to victory.
+     * @param loser the {@link Player} who lost the point.
+     * @return true if the point leads to a victory, false otherwise.
      */
-    private boolean isVictoryByPoints(final Point<P> point) {
-        if (point.isWonBy(firstPlayer) && firstPlayer.getScore() == 40 && secondPlayer.getScore() < 40) {
-            gameStateListener.onVictory(new VictoryPoint<>(firstPlayer.getId()));
-            return true;
-        } else if (point.isWonBy(secondPlayer) && secondPlayer.getScore() == 40 && firstPlayer.getScore() < 40) {
-            gameStateListener.onVictory(new VictoryPoint<>(secondPlayer.getId()));
+    private boolean isVictoryByPoints(final Player<P> winner, final Player<P> loser) {
+        if (winner.getScore() == 40 && loser.getScore() < 40) {
+            gameStateListener.onVictory(victoryOf(winner));
             return true;
         }
         return false;
     }
 
     /**
-     * Asserts whether there is a victory due to an advantage when processing the provided {@link Point}.
-     * @param point the {@link Point} which might lead a player to victory.
-     * @return true if the provided {@link Point} leads to a victory, false otherwise.
+     * Asserts whether there is a victory due to an advantage when the provided winner wins a point.
+     * @param winner the {@link Player} who won the point, which might lead him to victory.
+     * @return true if the point leads to a victory, false otherwise.
      */
-    private boolean isVictoryOnAdvantage(final Point<P> point) {
-        if (noPlayerHasAdvantage()) {
-            return false;
-        }
-        if (point.isWonBy(firstPlayer) && firstPlayer.hasAdvantage()) {
-            gameStateListener.onVictory(new VictoryPoint<>(firstPlayer.getId()));
-            return true;
-        } else if (point.isWonBy(secondPlayer) && secondPlayer.hasAdvantage()) {
-            gameStateListener.onVictory(new VictoryPoint<>(secondPlayer.getId()));
+    private boolean isVictoryOnAdvantage(final Player<P> winner) {
+        if (winner.hasAdvantage()) {
+            gameStateListener.onVictory(victoryOf(winner));
             return true;
         }
         return false;
     }
 
+    /**
+     * @param winner the {@link Player} who won the game.
+     * @return the {@link VictoryPoint} of the provided winner.
+     */
+    private VictoryPoint<P> victoryOf(final Player<P> winner) {
+        return winner == firstPlayer ? canonicalPoints.firstPlayerVictory() : canonicalPoints.secondPlayerVictory();
+    }
+
     /**
      * @return whether no player has the advantage.
      */
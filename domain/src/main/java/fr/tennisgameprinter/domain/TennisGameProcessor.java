@@ -1,14 +1,27 @@
 package fr.tennisgameprinter.domain;
 
+import fr.tennisgameprinter.domain.game.engine.TennisGameEngine;
 import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
 import fr.tennisgameprinter.domain.game.input.TennisGameInput;
-import fr.tennisgameprinter.domain.game.player.Player;
-import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+import fr.tennisgameprinter.domain.metrics.PipelineStage;
 import fr.tennisgameprinter.domain.ports.deserializer.InputDeserializer;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.deserializer.StreamingInputDeserializer;
+import fr.tennisgameprinter.domain.ports.listener.GameRejectionListener;
 import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
 import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.validator.exception.StacklessInconsistentGameException;
+import fr.tennisgameprinter.domain.validator.listener.BufferingGameStateListener;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
 
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -19,14 +32,20 @@ import java.util.Objects;
  */
 public class TennisGameProcessor<I, P> {
 
+    /** The {@link PipelineMetrics} of the processors created without any, which are never switched on. */
+    static final PipelineMetrics NO_PIPELINE_METRICS = new PipelineMetrics(false);
+
     private final InputDeserializer<I, P> inputDeserializer;
     private final GameConsistencyValidator<P> gameConsistencyValidator;
     private final GameStateListener<P> gameStateListener;
     private final TennisGameFactory<P> tennisGameFactory;
+    private final SimulationMode simulationMode;
+    private final PipelineMetrics pipelineMetrics;
 
     /**
      * Creates a new {@link TennisGameProcessor} with the provided {@link InputDeserializer}, {@link GameConsistencyValidator},
-     * {@link GameStateListener} and {@link TennisGameFactory}.
+     * {@link GameStateListener} and {@link TennisGameFactory}, which simulates each game with the
+     * {@link SimulationMode#VALIDATE_THEN_SIMULATE} mode.
      * @param inputDeserializer the {@link InputDeserializer} responsible for deserializing the input.
      * @param gameConsistencyValidator the {@link GameConsistencyValidator} which validates the consistency of the input.
      * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
@@ -36,10 +55,49 @@ public class TennisGameProcessor<I, P> {
                                final GameConsistencyValidator<P> gameConsistencyValidator,
                                final GameStateListener<P> gameStateListener,
                                final TennisGameFactory<P> tennisGameFactory) {
+        this(inputDeserializer, gameConsistencyValidator, gameStateListener, tennisGameFactory, SimulationMode.VALIDATE_THEN_SIMULATE);
+    }
+
+    /**
+     * Creates a new {@link TennisGameProcessor} with the provided {@link InputDeserializer}, {@link GameConsistencyValidator},
+     * {@link GameStateListener}, {@link TennisGameFactory} and {@link SimulationMode}.
+     * @param inputDeserializer the {@link InputDeserializer} responsible for deserializing the input.
+     * @param gameConsistencyValidator the {@link GameConsistencyValidator} which validates the consistency of the input.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     * @param tennisGameFactory the {@link TennisGameFactory} which allows creating {@link TennisGame} instances.
+     * @param simulationMode the {@link SimulationMode} which defines how many times each game is simulated.
+     */
+    public TennisGameProcessor(final InputDeserializer<I, P> inputDeserializer,
+                               final GameConsistencyValidator<P> gameConsistencyValidator,
+                               final GameStateListener<P> gameStateListener,
+                               final TennisGameFactory<P> tennisGameFactory,
+                               final SimulationMode simulationMode) {
+        this(inputDeserializer, gameConsistencyValidator, gameStateListener, tennisGameFactory, simulationMode, NO_PIPELINE_METRICS);
+    }
+
+    /**
+     * Creates a new {@link TennisGameProcessor} with the provided {@link InputDeserializer}, {@link GameConsistencyValidator},
+     * {@link GameStateListener}, {@link TennisGameFactory} and {@link SimulationMode}, which records each stage of its
+     * pipeline into the provided {@link PipelineMetrics} while they are switched on.
+     * @param inputDeserializer the {@link InputDeserializer} responsible for deserializing the input.
+     * @param gameConsistencyValidator the {@link GameConsistencyValidator} which validates the consistency of the input.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     * @param tennisGameFactory the {@link TennisGameFactory} which allows creating {@link TennisGame} instances.
+     * @param simulationMode the {@link SimulationMode} which defines how many times each game is simulated.
+     * @param pipelineMetrics the {@link PipelineMetrics} to record each stage of the pipeline into.
+     */
+    public TennisGameProcessor(final InputDeserializer<I, P> inputDeserializer,
+                               final GameConsistencyValidator<P> gameConsistencyValidator,
+                               final GameStateListener<P> gameStateListener,
+                               final TennisGameFactory<P> tennisGameFactory,
+                               final SimulationMode simulationMode,
+                               final PipelineMetrics pipelineMetrics) {
         this.inputDeserializer = Objects.requireNonNull(inputDeserializer, "the provided input deserializer must not be null.");
         this.gameConsistencyValidator = Objects.requireNonNull(gameConsistencyValidator, "the provided points consistency validator must not be null.");
         this.gameStateListener = Objects.requireNonNull(gameStateListener, "the provided game state listener must not be null.");
         this.tennisGameFactory = Objects.requireNonNull(tennisGameFactory," the provided tennis game factory must not be null.");
+        this.simulationMode = Objects.requireNonNull(simulationMode, "the provided simulation mode must not be null.");
+        this.pipelineMetrics = Objects.requireNonNull(pipelineMetrics, "the provided pipeline metrics must not be null.");
     }
 
     /**
@@ -48,10 +106,234 @@ public class TennisGameProcessor<I, P> {
      * @param tennisGameInput the {@link TennisGameInput}.
      */
     public void process(final TennisGameInput<I, P> tennisGameInput) {
-        List<Point<P>> points = inputDeserializer.deserialize(tennisGameInput.input());
+        process(tennisGameInput, gameStateListener);
+    }
+
+    /**
+     * Process the provided {@link TennisGameInput} and simulates the underlying tennis game.
+     * After each point is processed, the provided {@link GameStateListener} is notified of the current state of the game,
+     * in place of the one this {@link TennisGameProcessor} was created with.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     */
+    public void process(final TennisGameInput<I, P> tennisGameInput, final GameStateListener<P> gameStateListener) {
+        PointSource<P> points = deserialize(tennisGameInput.input());
+        if (pipelineMetrics.isEnabled()) {
+            processWithMetrics(tennisGameInput, points, gameStateListener);
+            return;
+        }
+        if (simulationMode == SimulationMode.SPECULATIVE) {
+            gameConsistencyValidator.validate(tennisGameInput.firstPlayerId(), tennisGameInput.secondPlayerId(), points, gameStateListener);
+            return;
+        }
         gameConsistencyValidator.validate(tennisGameInput.firstPlayerId(), tennisGameInput.secondPlayerId(), points);
-        Player<P> firstPlayer = new Player<>(tennisGameInput.firstPlayerId());
-        Player<P> secondPlayer = new Player<>(tennisGameInput.secondPlayerId());
-        tennisGameFactory.create(firstPlayer, secondPlayer, gameStateListener).process(points);
+        simulate(tennisGameInput, points, gameStateListener);
+    }
+
+    /**
+     * Processes the provided {@link TennisGameInput} just like {@link #process(TennisGameInput)}, yet returns the
+     * {@link ValidationResult} of an inconsistent game rather than throwing an {@link InconsistentGameException}.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult tryProcess(final TennisGameInput<I, P> tennisGameInput) {
+        return tryProcess(tennisGameInput, gameStateListener);
+    }
+
+    /**
+     * Processes the provided {@link TennisGameInput} just like {@link #process(TennisGameInput, GameStateListener)}, yet
+     * returns the {@link ValidationResult} of an inconsistent game rather than throwing an {@link InconsistentGameException},
+     * so that rejecting a game constructs no exception. When the metrics are switched on, the game is processed the
+     * throwing way in order to time each {@link PipelineStage}, and a {@link StacklessInconsistentGameException} is caught
+     * back into its {@link ValidationResult}.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult tryProcess(final TennisGameInput<I, P> tennisGameInput, final GameStateListener<P> gameStateListener) {
+        return tryProcess(tennisGameInput, deserialize(tennisGameInput.input()), gameStateListener);
+    }
+
+    /**
+     * Processes a game streamed point by point from the provided {@link PointStream}, typically read lazily by a
+     * {@link StreamingInputDeserializer}, in a single pass with constant memory whatever the length of the game, and
+     * returns its {@link ValidationResult} rather than throwing upon an inconsistent game. Streamed games are never
+     * buffered, whatever the {@link SimulationMode}.
+     * <p>
+     * Unlike the other methods, each point is notified to the provided {@link GameStateListener} as soon as it is read,
+     * so that the points of an inconsistent game may have been notified before a later point proves it inconsistent: the
+     * provided {@link GameRejectionListener} is then notified of how many of them were passed on.
+     * <p>
+     * When the metrics are switched on, the game is counted, and its single pass is timed as its
+     * {@link PipelineStage#SIMULATE} stage, as its validation and dispatch are interleaved with it.
+     * @param firstPlayerId the identifier of the first player.
+     * @param secondPlayerId the identifier of the second player.
+     * @param points the {@link PointStream} of the game, which is read until its end.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point as it is read.
+     * @param gameRejectionListener the {@link GameRejectionListener} which gets notified should the game be inconsistent.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult tryProcess(final P firstPlayerId, final P secondPlayerId, final PointStream<P> points,
+                                       final GameStateListener<P> gameStateListener, final GameRejectionListener gameRejectionListener) {
+        if (!pipelineMetrics.isEnabled()) {
+            return gameConsistencyValidator.check(firstPlayerId, secondPlayerId, points, gameStateListener, gameRejectionListener);
+        }
+        CountingGameStateListener<P> countingGameStateListener = new CountingGameStateListener<>(gameStateListener);
+        long start = System.nanoTime();
+        ValidationResult validationResult = gameConsistencyValidator.check(firstPlayerId, secondPlayerId, points, countingGameStateListener, gameRejectionListener);
+        pipelineMetrics.record(PipelineStage.SIMULATE, System.nanoTime() - start);
+        if (validationResult.isValid()) {
+            pipelineMetrics.onGame(countingGameStateListener.getPointsCounter(), countingGameStateListener.deuces, countingGameStateListener.advantages);
+        } else {
+            pipelineMetrics.onRejection();
+        }
+        return validationResult;
+    }
+
+    /**
+     * Processes the provided {@link PointSource}, already deserialized from the input of the provided
+     * {@link TennisGameInput}, just like {@link #tryProcess(TennisGameInput, GameStateListener)}.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @param points the {@link PointSource} deserialized from the input of the game.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     * @return the {@link ValidationResult} of the game.
+     */
+    ValidationResult tryProcess(final TennisGameInput<I, P> tennisGameInput, final PointSource<P> points, final GameStateListener<P> gameStateListener) {
+        if (pipelineMetrics.isEnabled()) {
+            try {
+                processWithMetrics(tennisGameInput, points, gameStateListener);
+                return ValidationResult.VALID;
+            } catch (StacklessInconsistentGameException e) {
+                return e.getValidationResult();
+            }
+        }
+        if (simulationMode == SimulationMode.SPECULATIVE) {
+            return gameConsistencyValidator.check(tennisGameInput.firstPlayerId(), tennisGameInput.secondPlayerId(), points, gameStateListener);
+        }
+        ValidationResult validationResult = gameConsistencyValidator.check(tennisGameInput.firstPlayerId(), tennisGameInput.secondPlayerId(), points);
+        if (validationResult.isValid()) {
+            simulate(tennisGameInput, points, gameStateListener);
+        }
+        return validationResult;
+    }
+
+    /**
+     * Deserializes the provided input into a {@link PointSource}, timing the {@link PipelineStage#DESERIALIZE} stage
+     * while the metrics are switched on.
+     * @param input the input.
+     * @return a {@link PointSource} over the points represented by the input.
+     */
+    PointSource<P> deserialize(final I input) {
+        if (!pipelineMetrics.isEnabled()) {
+            return inputDeserializer.deserializeToSource(input);
+        }
+        long start = System.nanoTime();
+        PointSource<P> points = inputDeserializer.deserializeToSource(input);
+        pipelineMetrics.record(PipelineStage.DESERIALIZE, System.nanoTime() - start);
+        return points;
+    }
+
+    /**
+     * Processes the provided {@link PointSource} of the provided {@link TennisGameInput} just like
+     * {@link #process(TennisGameInput, GameStateListener)}, while timing each later {@link PipelineStage}. In order to
+     * time the simulation apart from the dispatch to the {@link GameStateListener}, the outcome of each point is
+     * buffered whatever the {@link SimulationMode}, then dispatched.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @param points the {@link PointSource} deserialized from the input of the game.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     */
+    private void processWithMetrics(final TennisGameInput<I, P> tennisGameInput, final PointSource<P> points, final GameStateListener<P> gameStateListener) {
+        try {
+            long deserialized = System.nanoTime();
+            BufferingGameStateListener<P> pointOutcomes;
+            long simulationStart = deserialized;
+            if (simulationMode == SimulationMode.SPECULATIVE) {
+                pointOutcomes = gameConsistencyValidator.validateAndBuffer(tennisGameInput.firstPlayerId(), tennisGameInput.secondPlayerId(), points);
+            } else {
+                gameConsistencyValidator.validate(tennisGameInput.firstPlayerId(), tennisGameInput.secondPlayerId(), points);
+                simulationStart = System.nanoTime();
+                pipelineMetrics.record(PipelineStage.VALIDATE, simulationStart - deserialized);
+                pointOutcomes = new BufferingGameStateListener<>();
+                simulate(tennisGameInput, points, pointOutcomes);
+            }
+            long simulated = System.nanoTime();
+            pipelineMetrics.record(PipelineStage.SIMULATE, simulated - simulationStart);
+            pointOutcomes.replayTo(gameStateListener);
+            pipelineMetrics.record(PipelineStage.DISPATCH, System.nanoTime() - simulated);
+            pipelineMetrics.onGame(points.size(), pointOutcomes.getDeucesCounter(), pointOutcomes.getAdvantagesCounter());
+        } catch (InconsistentGameException e) {
+            pipelineMetrics.onRejection();
+            throw e;
+        }
+    }
+
+    /**
+     * Simulates the game of the provided {@link TennisGameInput} with a game of the {@link TennisGameFactory}, which is
+     * released once done so that a pooling factory may reuse it.
+     * @param tennisGameInput the {@link TennisGameInput}.
+     * @param points the {@link PointSource} of the game.
+     * @param gameStateListener the {@link GameStateListener} which gets notified of every point outcome.
+     */
+    private void simulate(final TennisGameInput<I, P> tennisGameInput, final PointSource<P> points, final GameStateListener<P> gameStateListener) {
+        TennisGameEngine<P> tennisGame = tennisGameFactory.create(tennisGameInput.firstPlayerId(), tennisGameInput.secondPlayerId(), gameStateListener);
+        tennisGame.process(points);
+        tennisGameFactory.release(tennisGame);
+    }
+
+    /**
+     * @return the {@link GameStateListener} which gets notified of every point outcome.
+     */
+    GameStateListener<P> getGameStateListener() {
+        return gameStateListener;
+    }
+
+    /**
+     * @return the {@link PipelineMetrics} to record each stage of the pipeline into.
+     */
+    PipelineMetrics getPipelineMetrics() {
+        return pipelineMetrics;
+    }
+
+    /**
+     * A {@link ProcessedPointsCounter} that also counts the deuces and advantages of a streamed game, while passing each
+     * point on to another {@link GameStateListener}, so that the game is counted into the {@link PipelineMetrics}
+     * without being buffered.
+     * @param <P> the type of players' identifier.
+     */
+    private static final class CountingGameStateListener<P> extends ProcessedPointsCounter<P> {
+
+        private final GameStateListener<P> gameStateListener;
+        private int deuces;
+        private int advantages;
+
+        private CountingGameStateListener(final GameStateListener<P> gameStateListener) {
+            this.gameStateListener = gameStateListener;
+        }
+
+        @Override
+        public void onPoint(final RegularPoint<P> regularPoint) {
+            super.onPoint(regularPoint);
+            gameStateListener.onPoint(regularPoint);
+        }
+
+        @Override
+        public void onAdvantage(final AdvantagePoint<P> advantagePoint) {
+            super.onAdvantage(advantagePoint);
+            advantages++;
+            gameStateListener.onAdvantage(advantagePoint);
+        }
+
+        @Override
+        public void onDeuce() {
+            super.onDeuce();
+            deuces++;
+            gameStateListener.onDeuce();
+        }
+
+        @Override
+        public void onVictory(final VictoryPoint<P> victoryPoint) {
+            super.onVictory(victoryPoint);
+            gameStateListener.onVictory(victoryPoint);
+        }
     }
 }
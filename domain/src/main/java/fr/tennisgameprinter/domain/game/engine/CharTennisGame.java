@@ -0,0 +1,148 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointStream;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.listener.CharGameStateListener;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link TennisGameEngine} of players identified by a primitive {@code char}, which advances through the precomputed
+ * transitions of {@link GameStates} just like a {@link TableDrivenTennisGame}, and can be plugged in anywhere a
+ * {@link TennisGameFactory} of {@link Character} is expected through {@code CharTennisGame::new}.
+ * <p>
+ * Each winner read from a {@link CharPointSource} or a {@link CharPointStream} is compared as a primitive, and a {@link CharGameStateListener} is
+ * notified through its primitive callbacks, so that simulating a game neither unboxes nor allocates anything. Any other
+ * {@link PointSource} or {@link GameStateListener} is still supported, the generic way.
+ */
+public class CharTennisGame implements TennisGameEngine<Character> {
+
+    /** The identifier of the first player. */
+    private char firstPlayerId;
+    /** The identifier of the second player. */
+    private char secondPlayerId;
+    /** The {@link GameStateListener} to notify after processing a point. */
+    private GameStateListener<Character> gameStateListener;
+    /** The same listener when it is a {@link CharGameStateListener}, and null otherwise. */
+    private CharGameStateListener charGameStateListener;
+    /** The {@link CanonicalPoints} of both players, which are notified to a listener that is not a {@link CharGameStateListener}. */
+    private CanonicalPoints<Character> canonicalPoints;
+
+    /** The current state, as encoded by {@link GameStates}. */
+    private int state = GameStates.INITIAL;
+
+    /**
+     * Creates a new {@link CharTennisGame} with the provided two provided {@link Player}s and {@link GameStateListener}.
+     * @param firstPlayer the first player.
+     * @param secondPlayer the second player.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point, preferably a {@link CharGameStateListener}.
+     */
+    public CharTennisGame(final Player<Character> firstPlayer, final Player<Character> secondPlayer, final GameStateListener<Character> gameStateListener) {
+        this.firstPlayerId = Objects.requireNonNull(firstPlayer, "the provided first player must not be null.").getId();
+        this.secondPlayerId = Objects.requireNonNull(secondPlayer, "the provided second player must not be null.").getId();
+        this.gameStateListener = Objects.requireNonNull(gameStateListener, "the provided game listener must not be null");
+        this.canonicalPoints = CanonicalPoints.of(firstPlayer.getId(), secondPlayer.getId());
+        this.charGameStateListener = gameStateListener instanceof CharGameStateListener listener ? listener : null;
+    }
+
+    @Override
+    public void process(final List<Point<Character>> points) {
+        for (Point<Character> point : points) {
+            if (state == GameStates.GAME_OVER) {
+                break;
+            }
+            advance(point.winner() == firstPlayerId);
+        }
+    }
+
+    @Override
+    public void process(final PointSource<Character> points) {
+        if (points instanceof CharPointSource charPoints) {
+            process(charPoints);
+            return;
+        }
+        for (int i = 0; i < points.size() && state != GameStates.GAME_OVER; ++i) {
+            advance(points.winner(i) == firstPlayerId);
+        }
+    }
+
+    /**
+     * Processes the provided {@link CharPointSource}, comparing each winner as a primitive.
+     * Points that were not won by the first player are considered won by the second player.
+     * @param points the {@link CharPointSource} representing the tennis game.
+     */
+    public void process(final CharPointSource points) {
+        int size = points.size();
+        for (int i = 0; i < size && state != GameStates.GAME_OVER; ++i) {
+            advance(points.charWinner(i) == firstPlayerId);
+        }
+    }
+
+    @Override
+    public void process(final PointStream<Character> points) {
+        if (points instanceof CharPointStream charPoints) {
+            process(charPoints);
+            return;
+        }
+        Character winner;
+        while (state != GameStates.GAME_OVER && (winner = points.next()) != null) {
+            advance(winner == firstPlayerId);
+        }
+    }
+
+    /**
+     * Processes the provided {@link CharPointStream} in a single pass, comparing each winner as a primitive.
+     * Points that were not won by the first player are considered won by the second player.
+     * @param points the {@link CharPointStream} representing the tennis game.
+     */
+    public void process(final CharPointStream points) {
+        int winner;
+        while (state != GameStates.GAME_OVER && (winner = points.nextChar()) != CharPointStream.END_OF_STREAM) {
+            advance(winner == firstPlayerId);
+        }
+    }
+
+    @Override
+    public void reset(final Character firstPlayerId, final Character secondPlayerId, final GameStateListener<Character> gameStateListener) {
+        this.firstPlayerId = firstPlayerId;
+        this.secondPlayerId = secondPlayerId;
+        this.canonicalPoints = CanonicalPoints.of(firstPlayerId, secondPlayerId);
+        this.gameStateListener = Objects.requireNonNull(gameStateListener, "the provided game listener must not be null");
+        this.charGameStateListener = gameStateListener instanceof CharGameStateListener listener ? listener : null;
+        this.state = GameStates.INITIAL;
+    }
+
+    @Override
+    public void detach() {
+        this.gameStateListener = null;
+        this.charGameStateListener = null;
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return state == GameStates.GAME_OVER;
+    }
+
+    /**
+     * Advances this game by a single point, and notifies the {@link GameStateListener} of its outcome.
+     * @param isWonByFirstPlayer whether the point was won by the first player.
+     */
+    private void advance(final boolean isWonByFirstPlayer) {
+        int transition = GameStates.transition(state, isWonByFirstPlayer);
+        state = GameStates.nextState(transition);
+        if (charGameStateListener != null) {
+            GameStates.notify(charGameStateListener, transition, firstPlayerId, secondPlayerId);
+        } else {
+            GameStates.notify(gameStateListener, transition, canonicalPoints);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+/**
+ * Precomputed lookahead tables that advance a game encoded by {@link GameStates} by {@link #CHUNK_SIZE} points at once.
+ * <p>
+ * A chunk packs the outcomes of {@link #CHUNK_SIZE} consecutive points into a byte, where bit {@code k} is set when the
+ * {@code k}-th point was won by the second player. For each (state, chunk) pair, the tables hold the resulting state as
+ * well as the sequence of transitions to replay, each transition taking a byte of a {@code long}. When the game ends
+ * within a chunk, the sequence stops at the victory and the resulting state is {@link GameStates#GAME_OVER}.
+ */
+public final class GameStateChunks {
+
+    /** The amount of points packed into a chunk. */
+    public static final int CHUNK_SIZE = 8;
+
+    /** The amount of distinct chunks. */
+    private static final int CHUNK_COUNT = 1 << CHUNK_SIZE;
+
+    /** The resulting states, indexed by {@code state * 256 + chunk}. */
+    private static final byte[] NEXT_STATES = new byte[GameStates.STATE_COUNT * CHUNK_COUNT];
+    /** The amount of transitions to replay, indexed by {@code state * 256 + chunk}. */
+    private static final byte[] TRANSITION_COUNTS = new byte[GameStates.STATE_COUNT * CHUNK_COUNT];
+    /** The transitions to replay, one per byte starting with the lowest, indexed by {@code state * 256 + chunk}. */
+    private static final long[] TRANSITIONS = new long[GameStates.STATE_COUNT * CHUNK_COUNT];
+
+    static {
+        for (int state = 0; state < GameStates.STATE_COUNT; ++state) {
+            for (int chunk = 0; chunk < CHUNK_COUNT; ++chunk) {
+                int index = index(state, chunk);
+                int currentState = state;
+                int transitionCount = 0;
+                long transitions = 0;
+                for (int k = 0; k < CHUNK_SIZE && currentState != GameStates.GAME_OVER; ++k) {
+                    int transition = GameStates.transition(currentState, ((chunk >>> k) & 1) == 0);
+                    transitions |= (long) transition << (Byte.SIZE * transitionCount++);
+                    currentState = GameStates.nextState(transition);
+                }
+                NEXT_STATES[index] = (byte) currentState;
+                TRANSITION_COUNTS[index] = (byte) transitionCount;
+                TRANSITIONS[index] = transitions;
+            }
+        }
+    }
+
+    private GameStateChunks() {
+    }
+
+    /**
+     * @param state the current state.
+     * @param chunk the chunk of points.
+     * @return the index of the provided state and chunk within the lookahead tables.
+     */
+    public static int index(final int state, final int chunk) {
+        return (state << CHUNK_SIZE) | chunk;
+    }
+
+    /**
+     * @param index an index returned by {@link #index(int, int)}.
+     * @return the state reached after processing the chunk.
+     */
+    public static int nextState(final int index) {
+        return NEXT_STATES[index];
+    }
+
+    /**
+     * @param index an index returned by {@link #index(int, int)}.
+     * @return the amount of transitions to replay, which is lower than {@link #CHUNK_SIZE} when the game ends within the chunk.
+     */
+    public static int transitionCount(final int index) {
+        return TRANSITION_COUNTS[index];
+    }
+
+    /**
+     * @param index an index returned by {@link #index(int, int)}.
+     * @return the transitions to replay, one per byte starting with the lowest.
+     */
+    public static long transitions(final int index) {
+        return TRANSITIONS[index];
+    }
+}
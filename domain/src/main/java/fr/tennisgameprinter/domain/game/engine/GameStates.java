@@ -0,0 +1,226 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
+import fr.tennisgameprinter.domain.ports.listener.CharGameStateListener;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+/**
+ * A compact encoding of every reachable state of a tennis game as a small integer, along with a precomputed table of
+ * transitions between those states.
+ * <p>
+ * States {@code 0} to {@code 15} encode the score indices of both players as {@code firstScoreIndex * 4 + secondScoreIndex},
+ * state {@code 15} thus being a deuce. The three remaining states are {@link #ADVANTAGE_FIRST}, {@link #ADVANTAGE_SECOND}
+ * and {@link #GAME_OVER}.
+ * <p>
+ * A transition packs the next state in its five lowest bits and the event to notify in its three highest bits, so that
+ * advancing a game by one point is a single table lookup.
+ */
+public final class GameStates {
+
+    /** A indexed array which allows to map a score index to the actual score. */
+    private static final int[] SCORE = {0, 15, 30, 40};
+
+    /** The state where both players have a score of 40 and no player has the advantage. */
+    public static final int DEUCE = 15;
+    /** The state where the first player has the advantage. */
+    public static final int ADVANTAGE_FIRST = 16;
+    /** The state where the second player has the advantage. */
+    public static final int ADVANTAGE_SECOND = 17;
+    /** The state of a game that is over. */
+    public static final int GAME_OVER = 18;
+    /** The amount of states. */
+    public static final int STATE_COUNT = 19;
+    /** The state of a game that has just started. */
+    public static final int INITIAL = 0;
+
+    /** The event of a regular point, whose scores are given by the next state. */
+    public static final int EVENT_REGULAR = 0;
+    /** The event of a deuce. */
+    public static final int EVENT_DEUCE = 1;
+    /** The event of the first player acquiring the advantage. */
+    public static final int EVENT_ADVANTAGE_FIRST = 2;
+    /** The event of the second player acquiring the advantage. */
+    public static final int EVENT_ADVANTAGE_SECOND = 3;
+    /** The event of the first player's victory. */
+    public static final int EVENT_VICTORY_FIRST = 4;
+    /** The event of the second player's victory. */
+    public static final int EVENT_VICTORY_SECOND = 5;
+    /** The absence of event, as a game that is over ignores any further point. */
+    public static final int EVENT_NONE = 6;
+
+    /** The amount of bits of a transition that hold the next state. */
+    private static final int STATE_BITS = 5;
+    /** The mask that extracts the next state from a transition. */
+    private static final int STATE_MASK = (1 << STATE_BITS) - 1;
+
+    /** The transitions, indexed by {@code state * 2}, plus one when the point was won by the second player. */
+    private static final byte[] TRANSITIONS = new byte[STATE_COUNT * 2];
+
+    static {
+        for (int state = 0; state < STATE_COUNT; ++state) {
+            TRANSITIONS[state * 2] = computeTransition(state, true);
+            TRANSITIONS[state * 2 + 1] = computeTransition(state, false);
+        }
+    }
+
+    private GameStates() {
+    }
+
+    /**
+     * @param state the current state.
+     * @param isWonByFirstPlayer whether the point was won by the first player.
+     * @return the transition that follows the provided state when a point is won.
+     */
+    public static int transition(final int state, final boolean isWonByFirstPlayer) {
+        return TRANSITIONS[isWonByFirstPlayer ? state << 1 : (state << 1) | 1] & 0xFF;
+    }
+
+    /**
+     * @param transition a transition.
+     * @return the state that the provided transition leads to.
+     */
+    public static int nextState(final int transition) {
+        return transition & STATE_MASK;
+    }
+
+    /**
+     * @param transition a transition.
+     * @return the event that the provided transition notifies.
+     */
+    public static int event(final int transition) {
+        return transition >>> STATE_BITS;
+    }
+
+    /**
+     * @param state a state.
+     * @return the score of the first player in the provided state, which must be neither an advantage nor a game over.
+     */
+    public static int firstPlayerScore(final int state) {
+        return SCORE[state >> 2];
+    }
+
+    /**
+     * @param state a state.
+     * @return the score of the second player in the provided state, which must be neither an advantage nor a game over.
+     */
+    public static int secondPlayerScore(final int state) {
+        return SCORE[state & 3];
+    }
+
+    /**
+     * @param firstPlayerScore the score of the first player.
+     * @param secondPlayerScore the score of the second player.
+     * @return the state of the provided scores.
+     * @throws IllegalArgumentException if either score is not a regular score.
+     */
+    public static int state(final int firstPlayerScore, final int secondPlayerScore) {
+        return scoreIndex(firstPlayerScore) << 2 | scoreIndex(secondPlayerScore);
+    }
+
+    /**
+     * Notifies the provided {@link GameStateListener} of the event of the provided transition, the way a
+     * {@code TennisGame} would, with the provided {@link CanonicalPoints} rather than a newly allocated point outcome.
+     * @param gameStateListener the {@link GameStateListener} to notify.
+     * @param transition the transition.
+     * @param canonicalPoints the {@link CanonicalPoints} of both players.
+     * @param <P> the type of players' identifier.
+     */
+    public static <P> void notify(final GameStateListener<P> gameStateListener, final int transition, final CanonicalPoints<P> canonicalPoints) {
+        switch (event(transition)) {
+            case EVENT_REGULAR -> {
+                int state = nextState(transition);
+                gameStateListener.onPoint(canonicalPoints.regularPoint(firstPlayerScore(state), secondPlayerScore(state)));
+            }
+            case EVENT_DEUCE -> gameStateListener.onDeuce();
+            case EVENT_ADVANTAGE_FIRST -> gameStateListener.onAdvantage(canonicalPoints.firstPlayerAdvantage());
+            case EVENT_ADVANTAGE_SECOND -> gameStateListener.onAdvantage(canonicalPoints.secondPlayerAdvantage());
+            case EVENT_VICTORY_FIRST -> gameStateListener.onVictory(canonicalPoints.firstPlayerVictory());
+            case EVENT_VICTORY_SECOND -> gameStateListener.onVictory(canonicalPoints.secondPlayerVictory());
+            default -> {
+                // a game that is over ignores any further point
+            }
+        }
+    }
+
+    /**
+     * Notifies the provided {@link CharGameStateListener} of the event of the provided transition, the way a
+     * {@code TennisGame} would, yet through its primitive callbacks.
+     * @param charGameStateListener the {@link CharGameStateListener} to notify.
+     * @param transition the transition.
+     * @param firstPlayerId the identifier of the first player.
+     * @param secondPlayerId the identifier of the second player.
+     */
+    public static void notify(final CharGameStateListener charGameStateListener, final int transition, final char firstPlayerId, final char secondPlayerId) {
+        switch (event(transition)) {
+            case EVENT_REGULAR -> {
+                int state = nextState(transition);
+                charGameStateListener.onPoint(firstPlayerId, secondPlayerId, firstPlayerScore(state), secondPlayerScore(state));
+            }
+            case EVENT_DEUCE -> charGameStateListener.onDeuce();
+            case EVENT_ADVANTAGE_FIRST -> charGameStateListener.onAdvantage(firstPlayerId);
+            case EVENT_ADVANTAGE_SECOND -> charGameStateListener.onAdvantage(secondPlayerId);
+            case EVENT_VICTORY_FIRST -> charGameStateListener.onVictory(firstPlayerId);
+            case EVENT_VICTORY_SECOND -> charGameStateListener.onVictory(secondPlayerId);
+            default -> {
+                // a game that is over ignores any further point
+            }
+        }
+    }
+
+    /**
+     * Computes the transition that follows the provided state when a point is won.
+     * @param state the current state.
+     * @param isWonByFirstPlayer whether the point was won by the first player.
+     * @return the transition.
+     */
+    private static byte computeTransition(final int state, final boolean isWonByFirstPlayer) {
+        if (state == GAME_OVER) {
+            return pack(GAME_OVER, EVENT_NONE);
+        }
+        if (state == ADVANTAGE_FIRST || state == ADVANTAGE_SECOND) {
+            boolean isWonByAdvantagedPlayer = (state == ADVANTAGE_FIRST) == isWonByFirstPlayer;
+            return isWonByAdvantagedPlayer ? pack(GAME_OVER, victory(isWonByFirstPlayer)) : pack(DEUCE, EVENT_DEUCE);
+        }
+        if (state == DEUCE) {
+            return isWonByFirstPlayer ? pack(ADVANTAGE_FIRST, EVENT_ADVANTAGE_FIRST) : pack(ADVANTAGE_SECOND, EVENT_ADVANTAGE_SECOND);
+        }
+        int winnerScoreIndex = isWonByFirstPlayer ? state >> 2 : state & 3;
+        if (winnerScoreIndex == 3) {
+            return pack(GAME_OVER, victory(isWonByFirstPlayer));
+        }
+        int nextState = isWonByFirstPlayer ? state + 4 : state + 1;
+        return pack(nextState, nextState == DEUCE ? EVENT_DEUCE : EVENT_REGULAR);
+    }
+
+    /**
+     * @param isWonByFirstPlayer whether the point was won by the first player.
+     * @return the victory event of the player who won the point.
+     */
+    private static int victory(final boolean isWonByFirstPlayer) {
+        return isWonByFirstPlayer ? EVENT_VICTORY_FIRST : EVENT_VICTORY_SECOND;
+    }
+
+    /**
+     * @param score the score of a player.
+     * @return the index of the provided score.
+     * @throws IllegalArgumentException if the provided score is not a regular score.
+     */
+    private static int scoreIndex(final int score) {
+        return switch (score) {
+            case 0 -> 0;
+            case 15 -> 1;
+            case 30 -> 2;
+            case 40 -> 3;
+            default -> throw new IllegalArgumentException("the provided score is not a regular score: " + score);
+        };
+    }
+
+    /**
+     * @param nextState the next state.
+     * @param event the event to notify.
+     * @return the transition that packs the provided next state and event.
+     */
+    public static byte pack(final int nextState, final int event) {
+        return (byte) ((event << STATE_BITS) | nextState);
+    }
+}
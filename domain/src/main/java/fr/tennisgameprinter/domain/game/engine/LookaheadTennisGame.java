@@ -0,0 +1,129 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link TennisGameEngine} that consumes its points in chunks of {@link GameStateChunks#CHUNK_SIZE}, and advances its state
+ * through the precomputed lookahead tables of {@link GameStateChunks}, which suits long games with many deuces. The
+ * points that do not fill a whole chunk at the end of the input are processed one at a time through {@link GameStates}.
+ * It notifies its {@link GameStateListener} exactly like a {@link TennisGame}, and can be plugged in anywhere a
+ * {@link TennisGameFactory} is expected through {@code LookaheadTennisGame::new}.
+ * <p>
+ * The provided {@link Player}s only lend their identifier, and are not kept.
+ * @param <P> the type of players' identifier.
+ */
+public class LookaheadTennisGame<P> implements TennisGameEngine<P> {
+
+    /** The identifier of the first player. */
+    private P firstPlayerId;
+    /** The {@link GameStateListener} to notify after processing a point. */
+    private GameStateListener<P> gameStateListener;
+    /** The {@link CanonicalPoints} of both players, which are notified rather than allocating a point outcome per point. */
+    private CanonicalPoints<P> canonicalPoints;
+
+    /** The current state, as encoded by {@link GameStates}. */
+    private int state = GameStates.INITIAL;
+
+    /**
+     * Creates a new {@link LookaheadTennisGame} with the provided two provided {@link Player}s and {@link GameStateListener}.
+     * @param firstPlayer the first player.
+     * @param secondPlayer the second player.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point.
+     */
+    public LookaheadTennisGame(final Player<P> firstPlayer, final Player<P> secondPlayer, final GameStateListener<P> gameStateListener) {
+        this.firstPlayerId = Objects.requireNonNull(firstPlayer, "the provided first player must not be null.").getId();
+        this.gameStateListener = Objects.requireNonNull(gameStateListener, "the provided game listener must not be null");
+        this.canonicalPoints = CanonicalPoints.of(firstPlayerId, Objects.requireNonNull(secondPlayer, "the provided second player must not be null.").getId());
+    }
+
+    @Override
+    public void process(final List<Point<P>> points) {
+        process(PointSource.of(points));
+    }
+
+    @Override
+    public void process(final PointSource<P> points) {
+        int size = points.size();
+        int i = 0;
+        for (; i + GameStateChunks.CHUNK_SIZE <= size && state != GameStates.GAME_OVER; i += GameStateChunks.CHUNK_SIZE) {
+            advance(chunk(points, i));
+        }
+        for (; i < size && state != GameStates.GAME_OVER; ++i) {
+            int transition = GameStates.transition(state, points.isWonBy(i, firstPlayerId));
+            state = GameStates.nextState(transition);
+            GameStates.notify(gameStateListener, transition, canonicalPoints);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Points are processed one at a time through {@link GameStates}, as reading a whole chunk ahead would consume points
+     * of the stream past the end of the game.
+     */
+    @Override
+    public void process(final PointStream<P> points) {
+        P winner;
+        while (state != GameStates.GAME_OVER && (winner = points.next()) != null) {
+            int transition = GameStates.transition(state, firstPlayerId.equals(winner));
+            state = GameStates.nextState(transition);
+            GameStates.notify(gameStateListener, transition, canonicalPoints);
+        }
+    }
+
+    @Override
+    public void reset(final P firstPlayerId, final P secondPlayerId, final GameStateListener<P> gameStateListener) {
+        this.firstPlayerId = firstPlayerId;
+        this.canonicalPoints = CanonicalPoints.of(firstPlayerId, secondPlayerId);
+        this.gameStateListener = Objects.requireNonNull(gameStateListener, "the provided game listener must not be null");
+        this.state = GameStates.INITIAL;
+    }
+
+    @Override
+    public void detach() {
+        this.gameStateListener = null;
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return state == GameStates.GAME_OVER;
+    }
+
+    /**
+     * Packs the outcomes of the {@link GameStateChunks#CHUNK_SIZE} points starting at the provided index into a chunk.
+     * @param points the {@link PointSource}.
+     * @param from the index of the first point of the chunk.
+     * @return the chunk, where bit {@code k} is set when the {@code k}-th point was won by the second player.
+     */
+    private int chunk(final PointSource<P> points, final int from) {
+        int chunk = 0;
+        for (int k = 0; k < GameStateChunks.CHUNK_SIZE; ++k) {
+            chunk |= (points.isWonBy(from + k, firstPlayerId) ? 0 : 1) << k;
+        }
+        return chunk;
+    }
+
+    /**
+     * Advances this game by a whole chunk, and replays the outcome of each of its points to the {@link GameStateListener}.
+     * @param chunk the chunk of points.
+     */
+    private void advance(final int chunk) {
+        int index = GameStateChunks.index(state, chunk);
+        long transitions = GameStateChunks.transitions(index);
+        int transitionCount = GameStateChunks.transitionCount(index);
+        for (int k = 0; k < transitionCount; ++k) {
+            GameStates.notify(gameStateListener, (int) (transitions >>> (Byte.SIZE * k)) & 0xFF, canonicalPoints);
+        }
+        state = GameStateChunks.nextState(index);
+    }
+}
@@ -0,0 +1,111 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An arena holding the state of many tennis games at once, outside the heap. Each game lives in a slot, and its whole
+ * state, as encoded by {@link GameStates}, takes a single byte of a direct {@link ByteBuffer}. Holding tens of millions
+ * of games thus only takes as many megabytes, without any object per game nor any pressure on the garbage collector.
+ * <p>
+ * The players of each game are not stored, and are instead provided along with each point, as the {@link CanonicalPoints}
+ * the caller resolves once per match, so that it is free to derive them from the slot, and never looks them up per point.
+ * Each point notifies the provided {@link GameStateListener} exactly like a {@link TennisGame}.
+ * <p>
+ * Slots are independent from each other, and different slots may thus be used from different threads, as long as each
+ * slot is only ever used from a single thread at a time.
+ */
+public class OffHeapGameStateArena {
+
+    /** The state of each slot, one byte per slot. */
+    private final ByteBuffer states;
+
+    /**
+     * Creates a new {@link OffHeapGameStateArena} holding the provided number of slots, each one holding a game that has
+     * just started.
+     * @param capacity the number of slots.
+     */
+    public OffHeapGameStateArena(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("the capacity of the arena must be positive.");
+        }
+        // a freshly allocated direct buffer is zeroed, that is, every slot already holds the initial state
+        this.states = ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Processes a point of the game held by the provided slot, and notifies the {@link GameStateListener} of its outcome.
+     * @param slot the slot of the game.
+     * @param canonicalPoints the {@link CanonicalPoints} of both players of the game.
+     * @param winner the identifier of the player who won the point.
+     * @param gameStateListener the {@link GameStateListener} to notify.
+     * @param <P> the type of players' identifier.
+     * @throws InconsistentGameException if the provided player is not part of the game, or if the game is already over.
+     */
+    public <P> void onPoint(final int slot, final CanonicalPoints<P> canonicalPoints, final P winner, final GameStateListener<P> gameStateListener) {
+        boolean isWonByFirstPlayer = canonicalPoints.getFirstPlayerId().equals(winner);
+        if (!isWonByFirstPlayer && !canonicalPoints.getSecondPlayerId().equals(winner)) {
+            throw new InconsistentGameException("The provided tennis game points contain a non-declared player.");
+        }
+        if (states.get(slot) == GameStates.GAME_OVER) {
+            throw new InconsistentGameException("The provided tennis game is inconsistent as it showcased more points than needed to end the game.");
+        }
+        advance(slot, isWonByFirstPlayer, canonicalPoints, gameStateListener);
+    }
+
+    /**
+     * Processes the provided points for the game held by the provided slot, exactly like {@link TennisGame#process(PointSource)},
+     * that is, until the game is over.
+     * @param slot the slot of the game.
+     * @param canonicalPoints the {@link CanonicalPoints} of both players of the game.
+     * @param points the {@link PointSource}.
+     * @param gameStateListener the {@link GameStateListener} to notify.
+     * @param <P> the type of players' identifier.
+     */
+    public <P> void process(final int slot, final CanonicalPoints<P> canonicalPoints, final PointSource<P> points, final GameStateListener<P> gameStateListener) {
+        P firstPlayerId = canonicalPoints.getFirstPlayerId();
+        for (int i = 0; i < points.size() && states.get(slot) != GameStates.GAME_OVER; ++i) {
+            advance(slot, points.isWonBy(i, firstPlayerId), canonicalPoints, gameStateListener);
+        }
+    }
+
+    /**
+     * @param slot the slot of the game.
+     * @return whether one of the players won the game held by the provided slot.
+     */
+    public boolean isGameOver(final int slot) {
+        return states.get(slot) == GameStates.GAME_OVER;
+    }
+
+    /**
+     * Resets the provided slot, which then holds a game that has just started.
+     * @param slot the slot of the game.
+     */
+    public void reset(final int slot) {
+        states.put(slot, (byte) GameStates.INITIAL);
+    }
+
+    /**
+     * @return the number of slots.
+     */
+    public int capacity() {
+        return states.capacity();
+    }
+
+    /**
+     * Advances the game held by the provided slot by a single point, and notifies the {@link GameStateListener} of its outcome.
+     */
+    private <P> void advance(final int slot,
+                             final boolean isWonByFirstPlayer,
+                             final CanonicalPoints<P> canonicalPoints,
+                             final GameStateListener<P> gameStateListener) {
+        int transition = GameStates.transition(states.get(slot), isWonByFirstPlayer);
+        states.put(slot, (byte) GameStates.nextState(transition));
+        GameStates.notify(gameStateListener, transition, canonicalPoints);
+    }
+}
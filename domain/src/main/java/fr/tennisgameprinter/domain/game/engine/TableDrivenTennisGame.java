@@ -0,0 +1,99 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link TennisGameEngine} that encodes its whole state as a small integer, and advances it through the precomputed
+ * transitions of {@link GameStates}. It notifies its {@link GameStateListener} exactly like a {@link TennisGame}, and
+ * can be plugged in anywhere a {@link TennisGameFactory} is expected through {@code TableDrivenTennisGame::new}.
+ * <p>
+ * The provided {@link Player}s only lend their identifier, and are not kept.
+ * @param <P> the type of players' identifier.
+ */
+public class TableDrivenTennisGame<P> implements TennisGameEngine<P> {
+
+    /** The identifier of the first player. */
+    private P firstPlayerId;
+    /** The {@link GameStateListener} to notify after processing a point. */
+    private GameStateListener<P> gameStateListener;
+    /** The {@link CanonicalPoints} of both players, which are notified rather than allocating a point outcome per point. */
+    private CanonicalPoints<P> canonicalPoints;
+
+    /** The current state, as encoded by {@link GameStates}. */
+    private int state = GameStates.INITIAL;
+
+    /**
+     * Creates a new {@link TableDrivenTennisGame} with the provided two provided {@link Player}s and {@link GameStateListener}.
+     * @param firstPlayer the first player.
+     * @param secondPlayer the second player.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point.
+     */
+    public TableDrivenTennisGame(final Player<P> firstPlayer, final Player<P> secondPlayer, final GameStateListener<P> gameStateListener) {
+        this.firstPlayerId = Objects.requireNonNull(firstPlayer, "the provided first player must not be null.").getId();
+        this.gameStateListener = Objects.requireNonNull(gameStateListener, "the provided game listener must not be null");
+        this.canonicalPoints = CanonicalPoints.of(firstPlayerId, Objects.requireNonNull(secondPlayer, "the provided second player must not be null.").getId());
+    }
+
+    @Override
+    public void process(final List<Point<P>> points) {
+        for (Point<P> point : points) {
+            if (state == GameStates.GAME_OVER) {
+                break;
+            }
+            advance(firstPlayerId.equals(point.winner()));
+        }
+    }
+
+    @Override
+    public void process(final PointSource<P> points) {
+        for (int i = 0; i < points.size() && state != GameStates.GAME_OVER; ++i) {
+            advance(points.isWonBy(i, firstPlayerId));
+        }
+    }
+
+    @Override
+    public void process(final PointStream<P> points) {
+        P winner;
+        while (state != GameStates.GAME_OVER && (winner = points.next()) != null) {
+            advance(firstPlayerId.equals(winner));
+        }
+    }
+
+    @Override
+    public void reset(final P firstPlayerId, final P secondPlayerId, final GameStateListener<P> gameStateListener) {
+        this.firstPlayerId = firstPlayerId;
+        this.canonicalPoints = CanonicalPoints.of(firstPlayerId, secondPlayerId);
+        this.gameStateListener = Objects.requireNonNull(gameStateListener, "the provided game listener must not be null");
+        this.state = GameStates.INITIAL;
+    }
+
+    @Override
+    public void detach() {
+        this.gameStateListener = null;
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return state == GameStates.GAME_OVER;
+    }
+
+    /**
+     * Advances this game by a single point, and notifies the {@link GameStateListener} of its outcome.
+     * @param isWonByFirstPlayer whether the point was won by the first player.
+     */
+    private void advance(final boolean isWonByFirstPlayer) {
+        int transition = GameStates.transition(state, isWonByFirstPlayer);
+        state = GameStates.nextState(transition);
+        GameStates.notify(gameStateListener, transition, canonicalPoints);
+    }
+}
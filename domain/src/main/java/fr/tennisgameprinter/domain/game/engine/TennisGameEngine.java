@@ -0,0 +1,59 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+import java.util.List;
+
+/**
+ * Represents an engine simulating a single tennis game at a time, which notifies its {@link GameStateListener} of the
+ * outcome of each point exactly like a {@link TennisGame}, and is created by a {@link TennisGameFactory}.
+ * @param <P> the type of players' identifier.
+ */
+public interface TennisGameEngine<P> {
+
+    /**
+     * Processes the provided list of {@link Point}.
+     * @param points the list of {@link Point} representing the tennis game.
+     */
+    void process(List<Point<P>> points);
+
+    /**
+     * Processes the provided {@link PointSource}, without allocating anything to read each point.
+     * Points that were not won by the first player are considered won by the second player.
+     * @param points the {@link PointSource} representing the tennis game.
+     */
+    void process(PointSource<P> points);
+
+    /**
+     * Processes the provided {@link PointStream} in a single pass, reading its points until the game is over or every point
+     * was read, so that a game of any length is processed with constant memory.
+     * Points that were not won by the first player are considered won by the second player.
+     * @param points the {@link PointStream} representing the tennis game.
+     */
+    void process(PointStream<P> points);
+
+    /**
+     * Resets this engine to the very first point of a new game, between players identified by the provided identifiers,
+     * whose points are notified to the provided {@link GameStateListener}.
+     * @param firstPlayerId the identifier of the first player.
+     * @param secondPlayerId the identifier of the second player.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point.
+     */
+    void reset(P firstPlayerId, P secondPlayerId, GameStateListener<P> gameStateListener);
+
+    /**
+     * Detaches this engine from its {@link GameStateListener} once its game is done, so that an idle engine keeps no
+     * reference to the listener of its last game. The engine must be reset before processing any further point.
+     */
+    void detach();
+
+    /**
+     * @return whether the game is over.
+     */
+    boolean isGameOver();
+}
@@ -0,0 +1,79 @@
+package fr.tennisgameprinter.domain.game.factory;
+
+import fr.tennisgameprinter.domain.game.engine.TennisGameEngine;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+import java.util.Objects;
+
+/**
+ * A {@link TennisGameFactory} that pools the {@link TennisGameEngine}s created by another {@link TennisGameFactory}: the
+ * last game handed back through {@link #release(TennisGameEngine)} on a thread is reset for the next game created on that
+ * same thread, whatever its {@link GameStateListener}, rather than creating a new one, so that a thread processing one
+ * game after another causes no object churn.
+ * <p>
+ * Each thread keeps at most a single idle game, which is never touched by any other thread, so that this factory may be
+ * shared by many threads without any synchronization, and a pooled game is handed out to a single caller until it is
+ * released again. A released game is detached from its listener, so that the pool never keeps a caller's listener, and
+ * games that are never released are never pooled.
+ * @param <P> the type of players' identifier.
+ */
+public class PoolingTennisGameFactory<P> implements TennisGameFactory<P> {
+
+    /** The {@link TennisGameFactory} creating the pooled games. */
+    private final TennisGameFactory<P> tennisGameFactory;
+    /** The idle game of each thread, if any. */
+    private final ThreadLocal<TennisGameEngine<P>> idleGames = new ThreadLocal<>();
+
+    /**
+     * Creates a new {@link PoolingTennisGameFactory} pooling the games created by the provided {@link TennisGameFactory}.
+     * @param tennisGameFactory the {@link TennisGameFactory} creating the pooled games.
+     */
+    public PoolingTennisGameFactory(final TennisGameFactory<P> tennisGameFactory) {
+        this.tennisGameFactory = Objects.requireNonNull(tennisGameFactory, "the provided tennis game factory must not be null.");
+    }
+
+    @Override
+    public TennisGameEngine<P> create(final Player<P> playerA, final Player<P> playerB, final GameStateListener<P> listener) {
+        TennisGameEngine<P> tennisGame = acquire();
+        if (tennisGame != null) {
+            tennisGame.reset(playerA.getId(), playerB.getId(), listener);
+            return tennisGame;
+        }
+        return tennisGameFactory.create(playerA, playerB, listener);
+    }
+
+    @Override
+    public TennisGameEngine<P> create(final P firstPlayerId, final P secondPlayerId, final GameStateListener<P> listener) {
+        TennisGameEngine<P> tennisGame = acquire();
+        if (tennisGame != null) {
+            tennisGame.reset(firstPlayerId, secondPlayerId, listener);
+            return tennisGame;
+        }
+        return tennisGameFactory.create(firstPlayerId, secondPlayerId, listener);
+    }
+
+    /**
+     * Detaches the provided {@link TennisGameEngine} from its listener, and pools it as the idle game of the current
+     * thread, unless this thread already has one.
+     * @param tennisGame the {@link TennisGameEngine} the caller is done with.
+     */
+    @Override
+    public void release(final TennisGameEngine<P> tennisGame) {
+        tennisGame.detach();
+        if (idleGames.get() == null) {
+            idleGames.set(tennisGame);
+        }
+    }
+
+    /**
+     * @return the idle game of the current thread, which is no longer pooled, or null if there is none.
+     */
+    private TennisGameEngine<P> acquire() {
+        TennisGameEngine<P> tennisGame = idleGames.get();
+        if (tennisGame != null) {
+            idleGames.set(null);
+        }
+        return tennisGame;
+    }
+}
@@ -1,14 +1,35 @@
 package fr.tennisgameprinter.domain.game.factory;
 
 import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.engine.TennisGameEngine;
 import fr.tennisgameprinter.domain.game.player.Player;
 import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
 
 /**
- * Represents a class which handles the creation of a {@link TennisGame}.
+ * Represents a class which handles the creation of a {@link TennisGameEngine}, such as a {@link TennisGame}.
  * @param <P> the type of players' identifier.
  */
 @FunctionalInterface
 public interface TennisGameFactory<P> {
-    TennisGame<P> create(Player<P> playerA, Player<P> playerB, GameStateListener<P> listener);
+    TennisGameEngine<P> create(Player<P> playerA, Player<P> playerB, GameStateListener<P> listener);
+
+    /**
+     * Creates a {@link TennisGameEngine} between the players identified by the provided identifiers, which lets a factory
+     * reusing its games spare the allocation of both {@link Player}s.
+     * @param firstPlayerId the identifier of the first player.
+     * @param secondPlayerId the identifier of the second player.
+     * @param listener the {@link GameStateListener} to notify of each point.
+     * @return the {@link TennisGameEngine}.
+     */
+    default TennisGameEngine<P> create(final P firstPlayerId, final P secondPlayerId, final GameStateListener<P> listener) {
+        return create(new Player<>(firstPlayerId), new Player<>(secondPlayerId), listener);
+    }
+
+    /**
+     * Hands back a {@link TennisGameEngine} created by this factory once the caller is done with it, which a factory may then
+     * reset for a later game. The game must no longer be used once released. Releasing a game does nothing by default.
+     * @param tennisGame the {@link TennisGameEngine} the caller is done with.
+     */
+    default void release(final TennisGameEngine<P> tennisGame) {
+    }
 }
@@ -0,0 +1,17 @@
+package fr.tennisgameprinter.domain.game.mode;
+
+/**
+ * The ways a tennis game can be simulated once its input has been deserialized.
+ */
+public enum SimulationMode {
+    /**
+     * The game is first simulated to validate its consistency, then simulated a second time to notify the actual
+     * listener of each point.
+     */
+    VALIDATE_THEN_SIMULATE,
+    /**
+     * The game is simulated a single time while the outcome of each point is buffered. The buffered outcomes are only
+     * forwarded to the actual listener once the game is proven consistent, and dropped otherwise.
+     */
+    SPECULATIVE
+}
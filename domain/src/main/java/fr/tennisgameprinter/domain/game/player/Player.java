@@ -13,7 +13,7 @@ public class Player<P> {
     private static final int[] SCORE = {0, 15, 30, 40};
 
     /** The identifier of the player. */
-    private final P id;
+    private P id;
     /** Whether this player has the advantage. */
     private boolean hasAdvantage;
     /** An index indicating the score of the player. */
@@ -27,6 +27,17 @@ public class Player<P> {
         this.id = Objects.requireNonNull(id, "the provided id must not be null.");
     }
 
+    /**
+     * Resets this player to a score of zero and no advantage, identified by the provided identifier, so that it may take
+     * part in a new game.
+     * @param id the identifier of the player.
+     */
+    public void reset(final P id) {
+        this.id = Objects.requireNonNull(id, "the provided id must not be null.");
+        this.hasAdvantage = false;
+        this.scoreIndex = 0;
+    }
+
     /**
      * @return The identifier of this player.
      */
@@ -1,9 +1,16 @@
 package fr.tennisgameprinter.domain.game.point.output;
 
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
 /**
  * A record which represents a tennis point where the advantage was obtained by a player.
  * @param advantagedPlayerId the identifier of the player who obtained the advantage.
  * @param <P> the type of the player's identifier.
  */
-public record AdvantagePoint<P> (P advantagedPlayerId) {
+public record AdvantagePoint<P> (P advantagedPlayerId) implements PointOutcome<P> {
+
+    @Override
+    public void notifyTo(final GameStateListener<P> gameStateListener) {
+        gameStateListener.onAdvantage(this);
+    }
 }
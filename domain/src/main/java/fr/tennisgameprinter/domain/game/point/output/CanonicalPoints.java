@@ -0,0 +1,147 @@
+package fr.tennisgameprinter.domain.game.point.output;
+
+import java.util.Objects;
+
+/**
+ * The canonical point outcomes of a pair of players: as a game between two known players only ever notifies 16 regular
+ * points, 2 advantages and 2 victories, each of them is allocated once per pair of players and handed out to every game
+ * between them, rather than allocated for each point.
+ * <p>
+ * Canonical instances are shared across games and threads, which is safe as point outcomes are immutable records.
+ * They are remembered by a bounded, direct-mapped cache of {@value #CACHE_SLOTS} slots, where each pair of players only
+ * ever lives in the slot of its hash, and evicts the pair that lived there before. The cache thus never takes more than
+ * a few hundred kilobytes, whatever the number of pairs of players, and a lookup only costs a hash, an array read and
+ * two comparisons, without any allocation nor any synchronization. In exchange, pairs of players that share a slot and
+ * keep alternating evict each other, and allocate their point outcomes again upon each miss, which is why a component
+ * that processes many points between the same players should resolve its {@link CanonicalPoints} once, and keep them.
+ * @param <P> the type of players' identifier.
+ */
+public final class CanonicalPoints<P> {
+
+    /** The number of slots of the cache, which must be a power of two. */
+    static final int CACHE_SLOTS = 1024;
+
+    /** The scores a player can have in a regular point, in increasing order. */
+    private static final int[] SCORES = {0, 15, 30, 40};
+
+    /**
+     * The canonical point outcomes of the most recent pair of players of each slot. Slots are read and written without
+     * synchronization, which is safe as every field of {@link CanonicalPoints} is final: a thread either sees a fully
+     * constructed instance, or a stale one, in which case it merely allocates a new one.
+     */
+    private static final CanonicalPoints<?>[] CACHE = new CanonicalPoints<?>[CACHE_SLOTS];
+
+    private final P firstPlayerId;
+    private final P secondPlayerId;
+    /** The regular points, indexed by the index of the first player's score times 4, plus the one of the second player's score. */
+    private final RegularPoint<P>[] regularPoints;
+    private final AdvantagePoint<P> firstPlayerAdvantage;
+    private final AdvantagePoint<P> secondPlayerAdvantage;
+    private final VictoryPoint<P> firstPlayerVictory;
+    private final VictoryPoint<P> secondPlayerVictory;
+
+    @SuppressWarnings("unchecked")
+    private CanonicalPoints(final P firstPlayerId, final P secondPlayerId) {
+        this.firstPlayerId = firstPlayerId;
+        this.secondPlayerId = secondPlayerId;
+        this.regularPoints = new RegularPoint[SCORES.length * SCORES.length];
+        for (int first = 0; first < SCORES.length; ++first) {
+            for (int second = 0; second < SCORES.length; ++second) {
+                regularPoints[first * SCORES.length + second] = new RegularPoint<>(firstPlayerId, secondPlayerId, SCORES[first], SCORES[second]);
+            }
+        }
+        this.firstPlayerAdvantage = new AdvantagePoint<>(firstPlayerId);
+        this.secondPlayerAdvantage = new AdvantagePoint<>(secondPlayerId);
+        this.firstPlayerVictory = new VictoryPoint<>(firstPlayerId);
+        this.secondPlayerVictory = new VictoryPoint<>(secondPlayerId);
+    }
+
+    /**
+     * @param firstPlayerId the identifier of the first player.
+     * @param secondPlayerId the identifier of the second player.
+     * @param <P> the type of players' identifier.
+     * @return the canonical point outcomes of the provided pair of players.
+     */
+    @SuppressWarnings("unchecked")
+    public static <P> CanonicalPoints<P> of(final P firstPlayerId, final P secondPlayerId) {
+        int hash = 31 * Objects.hashCode(firstPlayerId) + Objects.hashCode(secondPlayerId);
+        int slot = (hash ^ (hash >>> 16)) & (CACHE_SLOTS - 1);
+        CanonicalPoints<?> canonicalPoints = CACHE[slot];
+        if (canonicalPoints == null || !Objects.equals(canonicalPoints.firstPlayerId, firstPlayerId)
+                || !Objects.equals(canonicalPoints.secondPlayerId, secondPlayerId)) {
+            canonicalPoints = new CanonicalPoints<>(firstPlayerId, secondPlayerId);
+            CACHE[slot] = canonicalPoints;
+        }
+        return (CanonicalPoints<P>) canonicalPoints;
+    }
+
+    /**
+     * @return the identifier of the first player.
+     */
+    public P getFirstPlayerId() {
+        return firstPlayerId;
+    }
+
+    /**
+     * @return the identifier of the second player.
+     */
+    public P getSecondPlayerId() {
+        return secondPlayerId;
+    }
+
+    /**
+     * @param firstPlayerScore the score of the first player.
+     * @param secondPlayerScore the score of the second player.
+     * @return the {@link RegularPoint} of the provided scores.
+     */
+    public RegularPoint<P> regularPoint(final int firstPlayerScore, final int secondPlayerScore) {
+        int firstScoreIndex = scoreIndex(firstPlayerScore);
+        int secondScoreIndex = scoreIndex(secondPlayerScore);
+        if (firstScoreIndex >= 0 && secondScoreIndex >= 0) {
+            return regularPoints[firstScoreIndex * SCORES.length + secondScoreIndex];
+        }
+        return new RegularPoint<>(firstPlayerId, secondPlayerId, firstPlayerScore, secondPlayerScore);
+    }
+
+    /**
+     * @return the {@link AdvantagePoint} of the first player.
+     */
+    public AdvantagePoint<P> firstPlayerAdvantage() {
+        return firstPlayerAdvantage;
+    }
+
+    /**
+     * @return the {@link AdvantagePoint} of the second player.
+     */
+    public AdvantagePoint<P> secondPlayerAdvantage() {
+        return secondPlayerAdvantage;
+    }
+
+    /**
+     * @return the {@link VictoryPoint} of the first player.
+     */
+    public VictoryPoint<P> firstPlayerVictory() {
+        return firstPlayerVictory;
+    }
+
+    /**
+     * @return the {@link VictoryPoint} of the second player.
+     */
+    public VictoryPoint<P> secondPlayerVictory() {
+        return secondPlayerVictory;
+    }
+
+    /**
+     * @param score the score of a player.
+     * @return the index of the provided score within {@link #SCORES}, or -1 if it is not a regular score.
+     */
+    private static int scoreIndex(final int score) {
+        return switch (score) {
+            case 0 -> 0;
+            case 15 -> 1;
+            case 30 -> 2;
+            case 40 -> 3;
+            default -> -1;
+        };
+    }
+}
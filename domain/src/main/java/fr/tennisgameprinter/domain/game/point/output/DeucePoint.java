@@ -0,0 +1,27 @@
+package fr.tennisgameprinter.domain.game.point.output;
+
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+/**
+ * A record which represents a deuce, which carries no payload, and is thus shared by every game through {@link #deuce()}.
+ * @param <P> the type of players' identifier.
+ */
+public record DeucePoint<P> () implements PointOutcome<P> {
+
+    /** The deuce shared by every game. */
+    private static final DeucePoint<?> DEUCE = new DeucePoint<>();
+
+    /**
+     * @param <P> the type of players' identifier.
+     * @return the deuce shared by every game.
+     */
+    @SuppressWarnings("unchecked")
+    public static <P> DeucePoint<P> deuce() {
+        return (DeucePoint<P>) DEUCE;
+    }
+
+    @Override
+    public void notifyTo(final GameStateListener<P> gameStateListener) {
+        gameStateListener.onDeuce();
+    }
+}
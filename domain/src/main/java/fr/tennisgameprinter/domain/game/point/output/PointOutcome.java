@@ -0,0 +1,17 @@
+package fr.tennisgameprinter.domain.game.point.output;
+
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+/**
+ * A point outcome, shared by the components that store point outcomes before notifying them: either a
+ * {@link RegularPoint}, an {@link AdvantagePoint}, a {@link DeucePoint} or a {@link VictoryPoint}.
+ * @param <P> the type of players' identifier.
+ */
+public sealed interface PointOutcome<P> permits RegularPoint, AdvantagePoint, DeucePoint, VictoryPoint {
+
+    /**
+     * Notifies the provided {@link GameStateListener} of this point outcome, through the matching callback.
+     * @param gameStateListener the {@link GameStateListener} to notify.
+     */
+    void notifyTo(GameStateListener<P> gameStateListener);
+}
@@ -1,5 +1,7 @@
 package fr.tennisgameprinter.domain.game.point.output;
 
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
 /**
  * A record which represents a regular tennis point when no deuce has occurred yet.
  * @param playerId the identifier of the first player.
@@ -8,5 +10,10 @@ package fr.tennisgameprinter.domain.game.point.output;
  * @param otherPlayerScore the score of the second player.
  * @param <P> the type of players' identifier.
  */
-public record RegularPoint<P> (P playerId, P otherPlayerId, int playerScore, int otherPlayerScore) {
+public record RegularPoint<P> (P playerId, P otherPlayerId, int playerScore, int otherPlayerScore) implements PointOutcome<P> {
+
+    @Override
+    public void notifyTo(final GameStateListener<P> gameStateListener) {
+        gameStateListener.onPoint(this);
+    }
 }
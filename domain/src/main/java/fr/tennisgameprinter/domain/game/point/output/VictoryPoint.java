@@ -1,9 +1,16 @@
 package fr.tennisgameprinter.domain.game.point.output;
 
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
 /**
  * A record which represents a victory point.
  * @param winner the identifier of the winner.
  * @param <P> the type of the winner's identifier.
  */
-public record VictoryPoint<P> (P winner) {
+public record VictoryPoint<P> (P winner) implements PointOutcome<P> {
+
+    @Override
+    public void notifyTo(final GameStateListener<P> gameStateListener) {
+        gameStateListener.onVictory(this);
+    }
 }
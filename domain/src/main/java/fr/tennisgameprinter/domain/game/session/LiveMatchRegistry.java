@@ -0,0 +1,169 @@
+package fr.tennisgameprinter.domain.game.session;
+
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A registry of the live matches being played at once, each one identified by a match identifier of type {@code K}
+ * and backed by its own {@link TennisGameSession}.
+ * <p>
+ * A match is created upon its first point, with the {@link GameStateListener} provided for its identifier, and is
+ * evicted as soon as its {@link VictoryPoint} is notified, or once no point was played for longer than the idle timeout
+ * upon {@link #evictIdleMatches()}. A point played for an evicted match thus starts a new match. A match whose first
+ * point is rejected is evicted right away, so that an inconsistent point never leaves an empty match behind.
+ * <p>
+ * Matches are held in a {@link ConcurrentHashMap}, and each match is only locked while one of its points is processed,
+ * so that points played for different matches never contend with each other. Points played for the same match from
+ * different threads are processed one at a time, in the order they acquire the lock of the match.
+ * @param <K> the type of matches' identifier.
+ * @param <P> the type of players' identifier.
+ */
+public class LiveMatchRegistry<K, P> {
+
+    /**
+     * A live match, guarded by its own monitor.
+     * @param <P> the type of players' identifier.
+     */
+    private static final class LiveMatch<P> {
+
+        /** The session that simulates the match. */
+        private final TennisGameSession<P> tennisGameSession;
+        /** The instant the last point of the match was played, in nanoseconds. */
+        private long lastPointNanos;
+        /** Whether the match was evicted, in which case it must not process any other point. */
+        private boolean evicted;
+
+        private LiveMatch(final TennisGameSession<P> tennisGameSession, final long creationNanos) {
+            this.tennisGameSession = tennisGameSession;
+            this.lastPointNanos = creationNanos;
+        }
+    }
+
+    private final Map<K, LiveMatch<P>> liveMatches = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends GameStateListener<P>> gameStateListenerFactory;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Creates a new {@link LiveMatchRegistry}, which evicts the matches that stay idle for longer than the provided timeout.
+     * @param gameStateListenerFactory the factory of the {@link GameStateListener} to notify of each point of a match, given its identifier.
+     * @param idleTimeout the duration after which a match with no new point is considered idle.
+     */
+    public LiveMatchRegistry(final Function<? super K, ? extends GameStateListener<P>> gameStateListenerFactory, final Duration idleTimeout) {
+        this(gameStateListenerFactory, idleTimeout, System::nanoTime);
+    }
+
+    /**
+     * Creates a new {@link LiveMatchRegistry}, which evicts the matches that stay idle for longer than the provided timeout,
+     * as measured by the provided clock.
+     * @param gameStateListenerFactory the factory of the {@link GameStateListener} to notify of each point of a match, given its identifier.
+     * @param idleTimeout the duration after which a match with no new point is considered idle.
+     * @param nanoClock the clock which gives the current instant, in nanoseconds.
+     */
+    public LiveMatchRegistry(final Function<? super K, ? extends GameStateListener<P>> gameStateListenerFactory,
+                             final Duration idleTimeout,
+                             final LongSupplier nanoClock) {
+        this.gameStateListenerFactory = Objects.requireNonNull(gameStateListenerFactory, "the provided game state listener factory must not be null.");
+        Objects.requireNonNull(idleTimeout, "the provided idle timeout must not be null.");
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("the provided idle timeout must be positive.");
+        }
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = Objects.requireNonNull(nanoClock, "the provided clock must not be null.");
+    }
+
+    /**
+     * Processes a point of the provided match, which is created should it not be live yet, and notifies the
+     * {@link GameStateListener} of the match of its outcome. The match is evicted once its game is over.
+     * @param matchId the identifier of the match.
+     * @param firstPlayerId the identifier of the first player, which must match the one the match was created with.
+     * @param secondPlayerId the identifier of the second player, which must match the one the match was created with.
+     * @param winner the identifier of the player who won the point.
+     * @throws InconsistentGameException if the provided players are not the ones of the live match, if the provided
+     * winner is not part of the match, or if both players share the same identifier.
+     */
+    public void onPoint(final K matchId, final P firstPlayerId, final P secondPlayerId, final P winner) {
+        Objects.requireNonNull(matchId, "the provided match identifier must not be null.");
+        while (true) {
+            LiveMatch<P> liveMatch = liveMatches.computeIfAbsent(matchId, id -> new LiveMatch<>(
+                    new TennisGameSession<>(firstPlayerId, secondPlayerId, gameStateListenerFactory.apply(id)),
+                    nanoClock.getAsLong()
+            ));
+            synchronized (liveMatch) {
+                if (liveMatch.evicted) {
+                    // the match was evicted while we were waiting for its lock, so the point belongs to a new match
+                    continue;
+                }
+                if (!liveMatch.tennisGameSession.isPlayedBy(firstPlayerId, secondPlayerId)) {
+                    throw new InconsistentGameException("The provided players are not the ones of the live match.");
+                }
+                try {
+                    liveMatch.tennisGameSession.onPoint(winner);
+                } catch (InconsistentGameException e) {
+                    if (!liveMatch.tennisGameSession.hasStarted()) {
+                        // the first point of the match was rejected, so the match never really started
+                        evict(matchId, liveMatch);
+                    }
+                    throw e;
+                }
+                liveMatch.lastPointNanos = nanoClock.getAsLong();
+                if (liveMatch.tennisGameSession.isGameOver()) {
+                    evict(matchId, liveMatch);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Evicts every match whose last point was played longer than the idle timeout ago.
+     * @return the number of evicted matches.
+     */
+    public int evictIdleMatches() {
+        int evictedMatches = 0;
+        long now = nanoClock.getAsLong();
+        for (Map.Entry<K, LiveMatch<P>> entry : liveMatches.entrySet()) {
+            LiveMatch<P> liveMatch = entry.getValue();
+            synchronized (liveMatch) {
+                if (!liveMatch.evicted && now - liveMatch.lastPointNanos >= idleTimeoutNanos) {
+                    evict(entry.getKey(), liveMatch);
+                    ++evictedMatches;
+                }
+            }
+        }
+        return evictedMatches;
+    }
+
+    /**
+     * @param matchId the identifier of the match.
+     * @return whether the provided match is live, that is, whether it has started and was not evicted yet.
+     */
+    public boolean isLive(final K matchId) {
+        return liveMatches.containsKey(matchId);
+    }
+
+    /**
+     * @return the number of live matches.
+     */
+    public int size() {
+        return liveMatches.size();
+    }
+
+    /**
+     * Evicts the provided match, whose lock must be held by the calling thread.
+     * @param matchId the identifier of the match.
+     * @param liveMatch the match.
+     */
+    private void evict(final K matchId, final LiveMatch<P> liveMatch) {
+        liveMatch.evicted = true;
+        liveMatches.remove(matchId, liveMatch);
+    }
+}
@@ -0,0 +1,91 @@
+package fr.tennisgameprinter.domain.game.session;
+
+import fr.tennisgameprinter.domain.game.engine.GameStates;
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+
+import java.util.Objects;
+
+/**
+ * A live tennis game, fed one point at a time as the points are played, rather than as a whole sequence of points.
+ * <p>
+ * Each point is validated and simulated in constant time, through the precomputed transitions of {@link GameStates},
+ * and the {@link GameStateListener} is notified of its outcome right away. A point won by a non-declared player, or a
+ * point played after the game is over, is rejected with an {@link InconsistentGameException} and leaves the session untouched.
+ * <p>
+ * This session is stateful, and is thus not meant to be shared across threads.
+ * @param <P> the type of players' identifier.
+ */
+public class TennisGameSession<P> {
+
+    /** The identifier of the first player. */
+    private final P firstPlayerId;
+    /** The identifier of the second player. */
+    private final P secondPlayerId;
+    /** The {@link GameStateListener} to notify after processing a point. */
+    private final GameStateListener<P> gameStateListener;
+    /** The {@link CanonicalPoints} of both players. */
+    private final CanonicalPoints<P> canonicalPoints;
+
+    /** The current state, as encoded by {@link GameStates}. */
+    private int state = GameStates.INITIAL;
+
+    /**
+     * Creates a new {@link TennisGameSession} between the two provided players.
+     * @param firstPlayerId the identifier of the first player.
+     * @param secondPlayerId the identifier of the second player.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point.
+     * @throws InconsistentGameException if both players share the same identifier.
+     */
+    public TennisGameSession(final P firstPlayerId, final P secondPlayerId, final GameStateListener<P> gameStateListener) {
+        this.firstPlayerId = Objects.requireNonNull(firstPlayerId, "the provided first player identifier must not be null.");
+        this.secondPlayerId = Objects.requireNonNull(secondPlayerId, "the provided second player identifier must not be null.");
+        this.gameStateListener = Objects.requireNonNull(gameStateListener, "the provided game state listener must not be null.");
+        if (firstPlayerId.equals(secondPlayerId)) {
+            throw new InconsistentGameException("A tennis game must have two different players.");
+        }
+        this.canonicalPoints = CanonicalPoints.of(firstPlayerId, secondPlayerId);
+    }
+
+    /**
+     * Processes a point won by the provided player, and notifies the {@link GameStateListener} of its outcome.
+     * @param winner the identifier of the player who won the point.
+     * @throws InconsistentGameException if the provided player is not part of this game, or if this game is already over.
+     */
+    public void onPoint(final P winner) {
+        boolean isWonByFirstPlayer = firstPlayerId.equals(winner);
+        if (!isWonByFirstPlayer && !secondPlayerId.equals(winner)) {
+            throw new InconsistentGameException("The provided tennis game points contain a non-declared player.");
+        }
+        if (state == GameStates.GAME_OVER) {
+            throw new InconsistentGameException("The provided tennis game is inconsistent as it showcased more points than needed to end the game.");
+        }
+        int transition = GameStates.transition(state, isWonByFirstPlayer);
+        state = GameStates.nextState(transition);
+        GameStates.notify(gameStateListener, transition, canonicalPoints);
+    }
+
+    /**
+     * @param firstPlayerId the identifier of the first player.
+     * @param secondPlayerId the identifier of the second player.
+     * @return whether this game is played between the provided players, in the same order.
+     */
+    public boolean isPlayedBy(final P firstPlayerId, final P secondPlayerId) {
+        return this.firstPlayerId.equals(firstPlayerId) && this.secondPlayerId.equals(secondPlayerId);
+    }
+
+    /**
+     * @return whether at least one point was processed.
+     */
+    public boolean hasStarted() {
+        return state != GameStates.INITIAL;
+    }
+
+    /**
+     * @return whether one of the players won the game.
+     */
+    public boolean isGameOver() {
+        return state == GameStates.GAME_OVER;
+    }
+}
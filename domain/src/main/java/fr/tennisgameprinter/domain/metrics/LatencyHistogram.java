@@ -0,0 +1,125 @@
+package fr.tennisgameprinter.domain.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size histogram of latencies, in the style of HdrHistogram: values are counted in log-linear buckets, so that
+ * recording a value is a couple of shifts and a single atomic increment, without any allocation, while any recorded
+ * value is reported with a relative error below 1/64, that is, about 1.6%.
+ * <p>
+ * Values below {@value #SUB_BUCKET_COUNT} are counted exactly. Any larger value is counted in one of the
+ * {@value #HALF_SUB_BUCKET_COUNT} linear sub-buckets of its power of two. Values up to 2^40 nanoseconds, that is about
+ * 18 minutes, are tracked, and larger values are clamped.
+ * <p>
+ * This histogram may be recorded into from many threads at once.
+ */
+public class LatencyHistogram {
+
+    /** The amount of values counted exactly, and twice the amount of sub-buckets of each power of two. */
+    static final int SUB_BUCKET_COUNT = 128;
+    /** The amount of sub-buckets of each power of two, as a power of two. */
+    private static final int SUB_BUCKET_BITS = 6;
+    /** The amount of sub-buckets of each power of two. */
+    static final int HALF_SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** The highest trackable value, above which values are clamped. */
+    static final long HIGHEST_TRACKABLE_VALUE = (1L << 40) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(bucketIndex(HIGHEST_TRACKABLE_VALUE) + 1);
+    private final LongAdder totalValue = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records the provided value, which is clamped between 0 and {@link #HIGHEST_TRACKABLE_VALUE}.
+     * @param value the value, usually in nanoseconds.
+     */
+    public void record(final long value) {
+        long clampedValue = Math.min(Math.max(value, 0), HIGHEST_TRACKABLE_VALUE);
+        counts.getAndIncrement(bucketIndex(clampedValue));
+        totalValue.add(clampedValue);
+        long max = maxValue.get();
+        while (clampedValue > max && !maxValue.compareAndSet(max, clampedValue)) {
+            max = maxValue.get();
+        }
+    }
+
+    /**
+     * @return the amount of recorded values.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); ++i) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * @return the mean of the recorded values, or 0 if no value was recorded.
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) totalValue.sum() / count;
+    }
+
+    /**
+     * @return the largest recorded value, or 0 if no value was recorded.
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 100.
+     * @return the highest value that is equivalent, within the precision of this histogram, to the provided percentile
+     * of the recorded values, or 0 if no value was recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("the provided percentile must be between 0 and 100.");
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * getCount()));
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length(); ++i) {
+            cumulativeCount += counts.get(i);
+            if (cumulativeCount >= rank) {
+                return Math.min(highestEquivalentValue(i), maxValue.get());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Forgets every recorded value. Values recorded concurrently may or may not be forgotten.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); ++i) {
+            counts.set(i, 0);
+        }
+        totalValue.reset();
+        maxValue.set(0);
+    }
+
+    /**
+     * @param value a value between 0 and {@link #HIGHEST_TRACKABLE_VALUE}.
+     * @return the index of the bucket which counts the provided value.
+     */
+    static int bucketIndex(final long value) {
+        int exponent = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (exponent << SUB_BUCKET_BITS) + (int) (value >>> exponent);
+    }
+
+    /**
+     * @param bucketIndex the index of a bucket.
+     * @return the highest value counted by the provided bucket.
+     */
+    static long highestEquivalentValue(final int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int exponent = (bucketIndex >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = bucketIndex - ((long) exponent << SUB_BUCKET_BITS);
+        return ((subBucket + 1) << exponent) - 1;
+    }
+}
@@ -0,0 +1,156 @@
+package fr.tennisgameprinter.domain.metrics;
+
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of the pipeline of a {@link TennisGameProcessor}: a {@link LatencyHistogram} per {@link PipelineStage},
+ * in nanoseconds, along with counters of the processed games, points, deuces and advantages, of the rejected games, and
+ * of the games replayed from a cache, which are counted among the processed or rejected games as well.
+ * <p>
+ * Metrics may be switched on and off at runtime. While they are off, a {@link TennisGameProcessor} processes each game
+ * exactly as if it had no metrics, at the cost of a single volatile read per game.
+ * <p>
+ * These metrics may be recorded into from many threads at once.
+ */
+public class PipelineMetrics {
+
+    private final Map<PipelineStage, LatencyHistogram> latencies = new EnumMap<>(PipelineStage.class);
+    private final LongAdder games = new LongAdder();
+    private final LongAdder points = new LongAdder();
+    private final LongAdder deuces = new LongAdder();
+    private final LongAdder advantages = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder replays = new LongAdder();
+
+    private volatile boolean enabled;
+
+    /**
+     * Creates a new {@link PipelineMetrics}, which is initially switched on or off.
+     * @param enabled whether the metrics are initially switched on.
+     */
+    public PipelineMetrics(final boolean enabled) {
+        for (PipelineStage pipelineStage : PipelineStage.values()) {
+            latencies.put(pipelineStage, new LatencyHistogram());
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return whether the metrics are switched on.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switches the metrics on or off. Games being processed while the metrics are switched may or may not be recorded.
+     * @param enabled whether the metrics are switched on.
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Records the duration of a stage of the pipeline.
+     * @param pipelineStage the {@link PipelineStage}.
+     * @param nanos the duration of the stage, in nanoseconds.
+     */
+    public void record(final PipelineStage pipelineStage, final long nanos) {
+        latencies.get(pipelineStage).record(nanos);
+    }
+
+    /**
+     * Counts a consistent game.
+     * @param gamePoints the amount of points of the game.
+     * @param gameDeuces the amount of deuces of the game.
+     * @param gameAdvantages the amount of advantages of the game.
+     */
+    public void onGame(final int gamePoints, final int gameDeuces, final int gameAdvantages) {
+        games.increment();
+        points.add(gamePoints);
+        deuces.add(gameDeuces);
+        advantages.add(gameAdvantages);
+    }
+
+    /**
+     * Counts an inconsistent game.
+     */
+    public void onRejection() {
+        rejections.increment();
+    }
+
+    /**
+     * Counts a game replayed from a cache, which skipped every stage of the pipeline. The game itself must still be
+     * counted through {@link #onGame(int, int, int)} or {@link #onRejection()}.
+     */
+    public void onReplay() {
+        replays.increment();
+    }
+
+    /**
+     * @param pipelineStage the {@link PipelineStage}.
+     * @return the {@link LatencyHistogram} of the provided stage, in nanoseconds.
+     */
+    public LatencyHistogram getLatency(final PipelineStage pipelineStage) {
+        return latencies.get(pipelineStage);
+    }
+
+    /**
+     * @return the amount of consistent games.
+     */
+    public long getGames() {
+        return games.sum();
+    }
+
+    /**
+     * @return the amount of points of the consistent games.
+     */
+    public long getPoints() {
+        return points.sum();
+    }
+
+    /**
+     * @return the amount of deuces of the consistent games.
+     */
+    public long getDeuces() {
+        return deuces.sum();
+    }
+
+    /**
+     * @return the amount of advantages of the consistent games.
+     */
+    public long getAdvantages() {
+        return advantages.sum();
+    }
+
+    /**
+     * @return the amount of inconsistent games.
+     */
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * @return the amount of games replayed from a cache, whether consistent or not.
+     */
+    public long getReplays() {
+        return replays.sum();
+    }
+
+    /**
+     * Forgets every recorded latency, and resets every counter.
+     */
+    public void reset() {
+        latencies.values().forEach(LatencyHistogram::reset);
+        games.reset();
+        points.reset();
+        deuces.reset();
+        advantages.reset();
+        rejections.reset();
+        replays.reset();
+    }
+}
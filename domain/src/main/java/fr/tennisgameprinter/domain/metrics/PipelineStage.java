@@ -0,0 +1,21 @@
+package fr.tennisgameprinter.domain.metrics;
+
+import fr.tennisgameprinter.domain.TennisGameProcessor;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+
+/**
+ * The stages of the pipeline of a {@link TennisGameProcessor}, each one being timed by {@link PipelineMetrics}.
+ */
+public enum PipelineStage {
+    /** The deserialization of the input into points. */
+    DESERIALIZE,
+    /**
+     * The validation of the points. With {@link SimulationMode#SPECULATIVE}, a game is validated while being simulated,
+     * and this single pass is recorded as {@link #SIMULATE}.
+     */
+    VALIDATE,
+    /** The simulation of the game, whose point outcomes are buffered. */
+    SIMULATE,
+    /** The dispatch of the buffered point outcomes to the listener. */
+    DISPATCH
+}
@@ -0,0 +1,24 @@
+package fr.tennisgameprinter.domain.ports.deserializer;
+
+/**
+ * A {@link PointSource} whose winners are identified by a primitive {@code char}, so that a char-specialized engine can
+ * read and compare each winner without unboxing a {@link Character} nor calling {@link Character#equals(Object)}.
+ */
+public interface CharPointSource extends PointSource<Character> {
+
+    /**
+     * @param index the index of the point.
+     * @return the identifier of the winner of the point at the provided index.
+     */
+    char charWinner(int index);
+
+    @Override
+    default Character winner(final int index) {
+        return charWinner(index);
+    }
+
+    @Override
+    default boolean isWonBy(final int index, final Character playerId) {
+        return charWinner(index) == playerId;
+    }
+}
@@ -0,0 +1,26 @@
+package fr.tennisgameprinter.domain.ports.deserializer;
+
+import java.io.UncheckedIOException;
+
+/**
+ * A {@link PointStream} whose winners are identified by a primitive {@code char}, so that a char-specialized engine can
+ * read and compare each winner without boxing a {@link Character}.
+ */
+public interface CharPointStream extends PointStream<Character> {
+
+    /** The value returned by {@link #nextChar()} once every point was read. */
+    int END_OF_STREAM = -1;
+
+    /**
+     * Reads the winner of the next point.
+     * @return the identifier of the winner of the next point, or {@link #END_OF_STREAM} once every point was read.
+     * @throws UncheckedIOException if the underlying input could not be read.
+     */
+    int nextChar();
+
+    @Override
+    default Character next() {
+        int winner = nextChar();
+        return winner == END_OF_STREAM ? null : (char) winner;
+    }
+}
@@ -13,4 +13,15 @@ import java.util.List;
  */
 public interface InputDeserializer<I, P> {
     List<Point<P>> deserialize(final I input);
+
+    /**
+     * Deserializes the provided input into a {@link PointSource}. Implementations should override this method to read
+     * the winners straight from the input, as the default implementation simply wraps the result of
+     * {@link #deserialize(Object)}.
+     * @param input the input.
+     * @return a {@link PointSource} over the points represented by the input.
+     */
+    default PointSource<P> deserializeToSource(final I input) {
+        return PointSource.of(deserialize(input));
+    }
 }
@@ -0,0 +1,28 @@
+package fr.tennisgameprinter.domain.ports.deserializer;
+
+import fr.tennisgameprinter.domain.game.point.input.Point;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link PointSource} that reads the winners from a {@link List} of {@link Point}s.
+ * @param points the {@link List} of {@link Point}s.
+ * @param <P> the type of the players' identifier.
+ */
+record ListPointSource<P>(List<Point<P>> points) implements PointSource<P> {
+
+    ListPointSource {
+        Objects.requireNonNull(points, "the provided points must not be null.");
+    }
+
+    @Override
+    public int size() {
+        return points.size();
+    }
+
+    @Override
+    public P winner(final int index) {
+        return points.get(index).winner();
+    }
+}
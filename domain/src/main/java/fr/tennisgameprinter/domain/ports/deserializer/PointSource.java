@@ -0,0 +1,43 @@
+package fr.tennisgameprinter.domain.ports.deserializer;
+
+import fr.tennisgameprinter.domain.game.point.input.Point;
+
+import java.util.List;
+
+/**
+ * Represents an indexed sequence of tennis points, where each point is identified by its winner. Unlike a {@link List}
+ * of {@link Point}s, implementations may read the winners straight from the original input, without allocating anything
+ * per point.
+ * @param <P> the type of the players' identifier.
+ */
+public interface PointSource<P> {
+
+    /**
+     * @return the amount of points in this sequence.
+     */
+    int size();
+
+    /**
+     * @param index the index of the point.
+     * @return the identifier of the winner of the point at the provided index.
+     */
+    P winner(int index);
+
+    /**
+     * @param index the index of the point.
+     * @param playerId the identifier of a player.
+     * @return whether the point at the provided index was won by the player identified by the provided identifier.
+     */
+    default boolean isWonBy(final int index, final P playerId) {
+        return playerId.equals(winner(index));
+    }
+
+    /**
+     * @param points a {@link List} of {@link Point}s.
+     * @param <P> the type of the players' identifier.
+     * @return a {@link PointSource} that reads the winners from the provided {@link List} of {@link Point}s.
+     */
+    static <P> PointSource<P> of(final List<Point<P>> points) {
+        return new ListPointSource<>(points);
+    }
+}
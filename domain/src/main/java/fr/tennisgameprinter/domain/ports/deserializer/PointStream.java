@@ -0,0 +1,34 @@
+package fr.tennisgameprinter.domain.ports.deserializer;
+
+import fr.tennisgameprinter.domain.game.point.input.Point;
+
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Represents a sequence of tennis points, where each point is identified by its winner, which can only be read once and
+ * in order. Unlike a {@link List} of {@link Point}s or a {@link PointSource}, the amount of points is unknown until every
+ * point is read, so that implementations may read the winners lazily from an input that does not fit in memory.
+ * @param <P> the type of the players' identifier.
+ */
+@FunctionalInterface
+public interface PointStream<P> {
+
+    /**
+     * Reads the winner of the next point.
+     * @return the identifier of the winner of the next point, or {@code null} once every point was read.
+     * @throws UncheckedIOException if the underlying input could not be read.
+     */
+    P next();
+
+    /**
+     * @param points an {@link Iterable} of {@link Point}s.
+     * @param <P> the type of the players' identifier.
+     * @return a {@link PointStream} that reads the winners from the provided {@link Iterable} of {@link Point}s.
+     */
+    static <P> PointStream<P> of(final Iterable<Point<P>> points) {
+        Iterator<Point<P>> iterator = points.iterator();
+        return () -> iterator.hasNext() ? iterator.next().winner() : null;
+    }
+}
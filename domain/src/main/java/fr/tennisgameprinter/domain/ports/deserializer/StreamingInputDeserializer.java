@@ -0,0 +1,18 @@
+package fr.tennisgameprinter.domain.ports.deserializer;
+
+/**
+ * Represents a deserializer of an input of type {@link I} which represents a sequence of tennis points identified by
+ * their respective winner, and returns a {@link PointStream} that reads each winner lazily from the input, so that a game
+ * of any length is processed in a single pass with constant memory.
+ * @param <I> the type of the input.
+ * @param <P> the type of the players' identifier.
+ */
+@FunctionalInterface
+public interface StreamingInputDeserializer<I, P> {
+
+    /**
+     * @param input the input, which is read as the {@link PointStream} is, and is neither buffered whole nor closed.
+     * @return a {@link PointStream} over the points represented by the input.
+     */
+    PointStream<P> deserializeToStream(I input);
+}
@@ -0,0 +1,48 @@
+package fr.tennisgameprinter.domain.ports.listener;
+
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+
+/**
+ * A {@link GameStateListener} of players identified by a primitive {@code char}, which a char-specialized engine
+ * notifies of each point without allocating any {@link RegularPoint}, {@link AdvantagePoint} nor {@link VictoryPoint}.
+ * <p>
+ * It remains a regular {@link GameStateListener}: any point outcome notified the generic way is unpacked and forwarded
+ * to the primitive callbacks.
+ */
+public interface CharGameStateListener extends GameStateListener<Character> {
+
+    /**
+     * @param playerId the identifier of the first player.
+     * @param otherPlayerId the identifier of the second player.
+     * @param playerScore the score of the first player.
+     * @param otherPlayerScore the score of the second player.
+     */
+    void onPoint(char playerId, char otherPlayerId, int playerScore, int otherPlayerScore);
+
+    /**
+     * @param advantagedPlayerId the identifier of the player who obtained the advantage.
+     */
+    void onAdvantage(char advantagedPlayerId);
+
+    /**
+     * @param winner the identifier of the winner.
+     */
+    void onVictory(char winner);
+
+    @Override
+    default void onPoint(final RegularPoint<Character> regularPoint) {
+        onPoint(regularPoint.playerId(), regularPoint.otherPlayerId(), regularPoint.playerScore(), regularPoint.otherPlayerScore());
+    }
+
+    @Override
+    default void onAdvantage(final AdvantagePoint<Character> advantagePoint) {
+        onAdvantage(advantagePoint.advantagedPlayerId().charValue());
+    }
+
+    @Override
+    default void onVictory(final VictoryPoint<Character> victoryPoint) {
+        onVictory(victoryPoint.winner().charValue());
+    }
+}
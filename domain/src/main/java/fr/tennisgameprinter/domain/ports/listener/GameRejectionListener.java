@@ -0,0 +1,20 @@
+package fr.tennisgameprinter.domain.ports.listener;
+
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+
+/**
+ * An interface which represents a listener that gets notified of the rejection of a game streamed point by point.
+ * <p>
+ * Since the points of a streamed game are notified to its {@link GameStateListener} as soon as they are read, a game may
+ * only be proven inconsistent once some of its points were already notified: this listener is then told how many of
+ * them, so that any implementation can retract or annotate the partial output accordingly.
+ */
+@FunctionalInterface
+public interface GameRejectionListener {
+
+    /**
+     * @param validationResult the {@link ValidationResult} of the inconsistent game.
+     * @param pointsNotified how many points of the game were already notified to its {@link GameStateListener}.
+     */
+    void onRejection(ValidationResult validationResult, int pointsNotified);
+}
@@ -0,0 +1,163 @@
+package fr.tennisgameprinter.domain.validator;
+
+import fr.tennisgameprinter.domain.game.engine.CharTennisGame;
+import fr.tennisgameprinter.domain.game.engine.GameStates;
+import fr.tennisgameprinter.domain.game.factory.PoolingTennisGameFactory;
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointStream;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+
+/**
+ * A {@link GameConsistencyValidator} of players identified by a primitive {@code char}, which validates any
+ * {@link CharPointSource} or {@link CharPointStream} in a single primitive pass over the transitions of
+ * {@link GameStates}, without simulating a game nor notifying any listener. Any other input is validated the generic way, with {@link CharTennisGame}s.
+ * <p>
+ * Since validating a {@link CharPointSource} is much cheaper than simulating it, a consistent game is then simulated
+ * straight against the {@link GameStateListener} to notify, rather than buffered during the validation and replayed.
+ * The game is still simulated a single time, and the listener is still never notified of an inconsistent game.
+ * <p>
+ * Games are rejected with the exact same messages and {@link ValidationResult}s as a {@link GameConsistencyValidator}.
+ */
+public class CharGameConsistencyValidator extends GameConsistencyValidator<Character> {
+
+    /** The {@link PoolingTennisGameFactory} of the {@link CharTennisGame}s simulating each game, once validated or the generic way. */
+    private final PoolingTennisGameFactory<Character> charTennisGameFactory;
+
+    /**
+     * Creates a new {@link CharGameConsistencyValidator}, which reuses its {@link CharTennisGame}s across games.
+     */
+    public CharGameConsistencyValidator() {
+        this(new PoolingTennisGameFactory<>(CharTennisGame::new));
+    }
+
+    /**
+     * Creates a new {@link CharGameConsistencyValidator} with the provided {@link PoolingTennisGameFactory} of {@link CharTennisGame}s.
+     * @param charTennisGameFactory the {@link PoolingTennisGameFactory} of {@link CharTennisGame}s.
+     */
+    private CharGameConsistencyValidator(final PoolingTennisGameFactory<Character> charTennisGameFactory) {
+        super(charTennisGameFactory);
+        this.charTennisGameFactory = charTennisGameFactory;
+    }
+
+    @Override
+    public ValidationResult check(final Character firstPlayer, final Character secondPlayer, final PointSource<Character> points) {
+        if (points instanceof CharPointSource charPoints && firstPlayer != null && secondPlayer != null) {
+            return check(firstPlayer.charValue(), secondPlayer.charValue(), charPoints);
+        }
+        return super.check(firstPlayer, secondPlayer, points);
+    }
+
+    @Override
+    public ValidationResult check(final Character firstPlayer, final Character secondPlayer, final PointSource<Character> points,
+                                  final GameStateListener<Character> gameStateListener) {
+        if (points instanceof CharPointSource charPoints && firstPlayer != null && secondPlayer != null) {
+            ValidationResult validationResult = check(firstPlayer.charValue(), secondPlayer.charValue(), charPoints);
+            if (validationResult.isValid()) {
+                CharTennisGame charTennisGame = (CharTennisGame) charTennisGameFactory.create(firstPlayer, secondPlayer, gameStateListener);
+                charTennisGame.process(charPoints);
+                charTennisGameFactory.release(charTennisGame);
+            }
+            return validationResult;
+        }
+        return super.check(firstPlayer, secondPlayer, points, gameStateListener);
+    }
+
+    @Override
+    public ValidationResult check(final Character firstPlayer, final Character secondPlayer, final PointStream<Character> points) {
+        if (points instanceof CharPointStream charPoints && firstPlayer != null && secondPlayer != null) {
+            return check(firstPlayer.charValue(), secondPlayer.charValue(), charPoints);
+        }
+        return super.check(firstPlayer, secondPlayer, points);
+    }
+
+    /**
+     * Validates that the provided player identifiers and {@link CharPointSource} form a consistent game.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link CharPointSource}.
+     * @throws InconsistentGameException when the game is inconsistent.
+     */
+    public void validate(final char firstPlayer, final char secondPlayer, final CharPointSource points) {
+        check(firstPlayer, secondPlayer, points).throwIfInvalid();
+    }
+
+    /**
+     * Checks whether the provided player identifiers and {@link CharPointSource} form a consistent game.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link CharPointSource}.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult check(final char firstPlayer, final char secondPlayer, final CharPointSource points) {
+        if (firstPlayer == secondPlayer) {
+            return ValidationResult.samePlayers();
+        }
+        int size = points.size();
+        int state = GameStates.INITIAL;
+        int pointsProcessed = 0;
+        for (int i = 0; i < size; ++i) {
+            char winner = points.charWinner(i);
+            if (winner != firstPlayer && winner != secondPlayer) {
+                return ValidationResult.unknownPlayer(i);
+            }
+            if (state != GameStates.GAME_OVER) {
+                state = GameStates.nextState(GameStates.transition(state, winner == firstPlayer));
+                pointsProcessed++;
+            }
+        }
+        if (pointsProcessed != size) {
+            return ValidationResult.tooManyPoints(pointsProcessed);
+        } else if (state != GameStates.GAME_OVER) {
+            return ValidationResult.tooFewPoints(size);
+        }
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * Validates that the provided player identifiers and {@link CharPointStream} form a consistent game, in a single pass.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link CharPointStream}, which is read until its end.
+     * @throws InconsistentGameException when the game is inconsistent.
+     */
+    public void validate(final char firstPlayer, final char secondPlayer, final CharPointStream points) {
+        check(firstPlayer, secondPlayer, points).throwIfInvalid();
+    }
+
+    /**
+     * Checks whether the provided player identifiers and {@link CharPointStream} form a consistent game, in a single pass.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link CharPointStream}, which is read until its end.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult check(final char firstPlayer, final char secondPlayer, final CharPointStream points) {
+        if (firstPlayer == secondPlayer) {
+            return ValidationResult.samePlayers();
+        }
+        int state = GameStates.INITIAL;
+        int pointsProcessed = 0;
+        int pointsRead = 0;
+        int winner;
+        while ((winner = points.nextChar()) != CharPointStream.END_OF_STREAM) {
+            if (winner != firstPlayer && winner != secondPlayer) {
+                return ValidationResult.unknownPlayer(pointsRead);
+            }
+            if (state != GameStates.GAME_OVER) {
+                state = GameStates.nextState(GameStates.transition(state, winner == firstPlayer));
+                pointsProcessed++;
+            }
+            pointsRead++;
+        }
+        if (pointsProcessed != pointsRead) {
+            return ValidationResult.tooManyPoints(pointsProcessed);
+        } else if (state != GameStates.GAME_OVER) {
+            return ValidationResult.tooFewPoints(pointsRead);
+        }
+        return ValidationResult.VALID;
+    }
+}
@@ -1,29 +1,66 @@
 package fr.tennisgameprinter.domain.validator;
 
 import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.engine.TennisGameEngine;
+import fr.tennisgameprinter.domain.game.factory.PoolingTennisGameFactory;
 import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
-import fr.tennisgameprinter.domain.game.player.Player;
 import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.listener.GameRejectionListener;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
 import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.validator.exception.StacklessInconsistentGameException;
+import fr.tennisgameprinter.domain.validator.listener.BufferingGameStateListener;
 import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
  * Handles the validation of a sequence of {@link Point}, making sure that the provided points form a consistent game.
  * To do so, the validation process uses a {@link TennisGameFactory} to simulate a tennis game, while validating
  * that the game is consistent in terms of players, but also in terms of processed points.
+ * <p>
+ * Each {@code validate} method throws a {@link StacklessInconsistentGameException} upon an inconsistent game, while each
+ * {@code check} method returns the {@link ValidationResult} of the game instead, without constructing any exception,
+ * which suits inputs that are often inconsistent.
+ * <p>
+ * A {@link PointStream} is validated in a single pass with constant memory, whatever the length of the game: the points
+ * read past the end of the game are only counted and checked to belong to the players.
+ * <p>
+ * The listeners notified of each simulated point are reused across games, and every simulated game is released to the
+ * {@link TennisGameFactory} once checked, so that a {@link PoolingTennisGameFactory}
+ * reuses the same game on each thread, and validating a game allocates nothing.
  * @param <P> the type of players' identifier.
  */
 public class GameConsistencyValidator<P> {
 
+    /** The {@link GameRejectionListener} of the streamed games whose points are notified to no one. */
+    private static final GameRejectionListener IGNORED_REJECTION = (validationResult, pointsNotified) -> { };
+    /** The maximum amount of idle listeners of each kind this validator keeps for later games. */
+    static final int MAXIMUM_IDLE_LISTENERS = 16;
+
     /** The {@link TennisGameFactory} used to simulate tennis games. */
     private final TennisGameFactory<P> tennisGameFactory;
-    /** The {@link Supplier} of {@link ProcessedPointsCounter} used to count the processed points when simulating the tennis game. */
-    private final Supplier<ProcessedPointsCounter<P>> processedPointsCounterSupplier;
+    /** The {@link ProcessedPointsCounter}s used to count the processed points when simulating the tennis game. */
+    private final ListenerPool<ProcessedPointsCounter<P>> processedPointsCounters;
+    /** The {@link BufferingGameStateListener}s used to buffer the outcome of each point until the game is proven consistent. */
+    private final ListenerPool<BufferingGameStateListener<P>> bufferingGameStateListeners =
+            new ListenerPool<>(BufferingGameStateListener::new, MAXIMUM_IDLE_LISTENERS);
+
+    /**
+     * Creates a new {@link GameConsistencyValidator} with the provided {@link TennisGameFactory}, which reuses its
+     * {@link ProcessedPointsCounter}s across games.
+     * @param tennisGameFactory the {@link TennisGameFactory}
+     */
+    public GameConsistencyValidator(final TennisGameFactory<P> tennisGameFactory) {
+        this(tennisGameFactory, new ListenerPool<>(ProcessedPointsCounter::new, MAXIMUM_IDLE_LISTENERS));
+    }
 
     /**
      * Creates a new {@link GameConsistencyValidator} with the provided {@link TennisGameFactory} and {@link Supplier} of {@link ProcessedPointsCounter}.
@@ -31,8 +68,19 @@ public class GameConsistencyValidator<P> {
      * @param processedPointsCounterSupplier a {@link Supplier} of {@link ProcessedPointsCounter} used to count the processed points.
      */
     public GameConsistencyValidator(final TennisGameFactory<P> tennisGameFactory, final Supplier<ProcessedPointsCounter<P>> processedPointsCounterSupplier) {
+        this(tennisGameFactory, new ListenerPool<>(Objects.requireNonNull(processedPointsCounterSupplier,
+                "the provided processed pointers counter supplier must not be null."), 0));
+    }
+
+    /**
+     * Creates a new {@link GameConsistencyValidator} with the provided {@link TennisGameFactory} and {@link ListenerPool}
+     * of {@link ProcessedPointsCounter}.
+     * @param tennisGameFactory the {@link TennisGameFactory}
+     * @param processedPointsCounters the {@link ListenerPool} of {@link ProcessedPointsCounter} used to count the processed points.
+     */
+    private GameConsistencyValidator(final TennisGameFactory<P> tennisGameFactory, final ListenerPool<ProcessedPointsCounter<P>> processedPointsCounters) {
         this.tennisGameFactory = Objects.requireNonNull(tennisGameFactory, "the provided tennis game factory must not be null.");
-        this.processedPointsCounterSupplier = Objects.requireNonNull(processedPointsCounterSupplier, "the provided processed pointers counter supplier must not be null.");
+        this.processedPointsCounters = processedPointsCounters;
     }
 
     /**
@@ -43,56 +91,389 @@ public class GameConsistencyValidator<P> {
      * @throws InconsistentGameException when the game is inconsistent.
      */
     public void validate(final P firstPlayer, final P secondPlayer, final List<Point<P>> points) {
-        validatePlayers(firstPlayer, secondPlayer);
-        validateAllPointsBelongToPlayers(firstPlayer, secondPlayer, points);
+        check(firstPlayer, secondPlayer, points).throwIfInvalid();
+    }
 
-        Player<P> playerA = new Player<>(firstPlayer);
-        Player<P> playerB = new Player<>(secondPlayer);
-        ProcessedPointsCounter<P> processedPointsCounter = processedPointsCounterSupplier.get();
-        TennisGame<P> tennisGame = tennisGameFactory.create(playerA, playerB, processedPointsCounter);
+    /**
+     * Validates that the provided player identifiers and {@link PointSource} form a consistent game.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link PointSource}.
+     * @throws InconsistentGameException when the game is inconsistent.
+     */
+    public void validate(final P firstPlayer, final P secondPlayer, final PointSource<P> points) {
+        check(firstPlayer, secondPlayer, points).throwIfInvalid();
+    }
 
-        tennisGame.process(points);
+    /**
+     * Validates that the provided player identifiers and {@link PointStream} form a consistent game, in a single pass.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link PointStream}, which is read until its end.
+     * @throws InconsistentGameException when the game is inconsistent.
+     */
+    public void validate(final P firstPlayer, final P secondPlayer, final PointStream<P> points) {
+        check(firstPlayer, secondPlayer, points).throwIfInvalid();
+    }
 
-        validateGameCompletion(points.size(), processedPointsCounter.getPointsCounter(), tennisGame.isGameOver());
+    /**
+     * Validates that the provided player identifiers and {@link Point}s form a consistent game by simulating it a single
+     * time, while buffering the outcome of each point. The provided {@link GameStateListener} is only notified of the
+     * buffered outcomes once the game is proven consistent, and is never notified otherwise.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a list of {@link Point}.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point once the game is proven consistent.
+     * @throws InconsistentGameException when the game is inconsistent.
+     */
+    public void validate(final P firstPlayer, final P secondPlayer, final List<Point<P>> points, final GameStateListener<P> gameStateListener) {
+        check(firstPlayer, secondPlayer, points, gameStateListener).throwIfInvalid();
     }
 
     /**
-     * Validates the completion of a {@link TennisGame}.
+     * Validates that the provided player identifiers and {@link PointSource} form a consistent game by simulating it a
+     * single time, while buffering the outcome of each point. The provided {@link GameStateListener} is only notified of
+     * the buffered outcomes once the game is proven consistent, and is never notified otherwise.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link PointSource}.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point once the game is proven consistent.
+     * @throws InconsistentGameException when the game is inconsistent.
+     */
+    public void validate(final P firstPlayer, final P secondPlayer, final PointSource<P> points, final GameStateListener<P> gameStateListener) {
+        check(firstPlayer, secondPlayer, points, gameStateListener).throwIfInvalid();
+    }
+
+    /**
+     * Validates that the provided player identifiers and {@link PointStream} form a consistent game by simulating it in a
+     * single pass, while notifying the provided {@link GameStateListener} of each point as it is read.
+     * <p>
+     * Unlike the other {@code validate} methods, nothing is buffered so that memory stays constant: the listener may thus
+     * be notified of the points of a game that is only proven inconsistent afterwards, by a point read later on. The
+     * provided {@link GameRejectionListener} is then notified of how many points were passed on, before throwing.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link PointStream}, which is read until its end.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point as it is read.
+     * @param gameRejectionListener the {@link GameRejectionListener} to notify should the game be inconsistent.
+     * @throws InconsistentGameException when the game is inconsistent.
+     */
+    public void validate(final P firstPlayer, final P secondPlayer, final PointStream<P> points,
+                         final GameStateListener<P> gameStateListener, final GameRejectionListener gameRejectionListener) {
+        check(firstPlayer, secondPlayer, points, gameStateListener, gameRejectionListener).throwIfInvalid();
+    }
+
+    /**
+     * Validates that the provided player identifiers and {@link PointSource} form a consistent game by simulating it a
+     * single time, while buffering the outcome of each point.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link PointSource}.
+     * @return the {@link BufferingGameStateListener} holding the outcome of each point of the consistent game.
+     * @throws InconsistentGameException when the game is inconsistent.
+     */
+    public BufferingGameStateListener<P> validateAndBuffer(final P firstPlayer, final P secondPlayer, final PointSource<P> points) {
+        BufferingGameStateListener<P> bufferingGameStateListener = new BufferingGameStateListener<>();
+        checkAndBuffer(firstPlayer, secondPlayer, points, bufferingGameStateListener).throwIfInvalid();
+        return bufferingGameStateListener;
+    }
+
+    /**
+     * Checks whether the provided player identifiers and {@link Point}s form a consistent game.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a list of {@link Point}.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult check(final P firstPlayer, final P secondPlayer, final List<Point<P>> points) {
+        ValidationResult validationResult = checkPlayers(firstPlayer, secondPlayer, points);
+        if (!validationResult.isValid()) {
+            return validationResult;
+        }
+        ProcessedPointsCounter<P> processedPointsCounter = processedPointsCounters.acquire();
+        validationResult = simulate(firstPlayer, secondPlayer, points.size(), tennisGame -> tennisGame.process(points), processedPointsCounter);
+        processedPointsCounters.release(processedPointsCounter);
+        return validationResult;
+    }
+
+    /**
+     * Checks whether the provided player identifiers and {@link PointSource} form a consistent game.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link PointSource}.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult check(final P firstPlayer, final P secondPlayer, final PointSource<P> points) {
+        ValidationResult validationResult = checkPlayers(firstPlayer, secondPlayer, points);
+        if (!validationResult.isValid()) {
+            return validationResult;
+        }
+        ProcessedPointsCounter<P> processedPointsCounter = processedPointsCounters.acquire();
+        validationResult = simulate(firstPlayer, secondPlayer, points.size(), tennisGame -> tennisGame.process(points), processedPointsCounter);
+        processedPointsCounters.release(processedPointsCounter);
+        return validationResult;
+    }
+
+    /**
+     * Checks whether the provided player identifiers and {@link PointStream} form a consistent game, in a single pass.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link PointStream}, which is read until its end.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult check(final P firstPlayer, final P secondPlayer, final PointStream<P> points) {
+        ProcessedPointsCounter<P> processedPointsCounter = processedPointsCounters.acquire();
+        processedPointsCounter.reset();
+        ValidationResult validationResult = simulate(firstPlayer, secondPlayer, points, processedPointsCounter, IGNORED_REJECTION);
+        processedPointsCounters.release(processedPointsCounter);
+        return validationResult;
+    }
+
+    /**
+     * Checks whether the provided player identifiers and {@link Point}s form a consistent game just like
+     * {@link #validate(Object, Object, List, GameStateListener)}, notifying the provided {@link GameStateListener} of each
+     * point once the game is proven consistent, and never otherwise.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a list of {@link Point}.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point once the game is proven consistent.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult check(final P firstPlayer, final P secondPlayer, final List<Point<P>> points, final GameStateListener<P> gameStateListener) {
+        ValidationResult validationResult = checkPlayers(firstPlayer, secondPlayer, points);
+        if (!validationResult.isValid()) {
+            return validationResult;
+        }
+        BufferingGameStateListener<P> bufferingGameStateListener = bufferingGameStateListeners.acquire();
+        validationResult = simulate(firstPlayer, secondPlayer, points.size(), tennisGame -> tennisGame.process(points), bufferingGameStateListener);
+        if (validationResult.isValid()) {
+            bufferingGameStateListener.replayTo(gameStateListener);
+        }
+        bufferingGameStateListeners.release(bufferingGameStateListener);
+        return validationResult;
+    }
+
+    /**
+     * Checks whether the provided player identifiers and {@link PointSource} form a consistent game just like
+     * {@link #validate(Object, Object, PointSource, GameStateListener)}, notifying the provided {@link GameStateListener}
+     * of each point once the game is proven consistent, and never otherwise.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link PointSource}.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point once the game is proven consistent.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult check(final P firstPlayer, final P secondPlayer, final PointSource<P> points, final GameStateListener<P> gameStateListener) {
+        BufferingGameStateListener<P> bufferingGameStateListener = bufferingGameStateListeners.acquire();
+        ValidationResult validationResult = checkAndBuffer(firstPlayer, secondPlayer, points, bufferingGameStateListener);
+        if (validationResult.isValid()) {
+            bufferingGameStateListener.replayTo(gameStateListener);
+        }
+        bufferingGameStateListeners.release(bufferingGameStateListener);
+        return validationResult;
+    }
+
+    /**
+     * Checks whether the provided player identifiers and {@link PointStream} form a consistent game just like
+     * {@link #validate(Object, Object, PointStream, GameStateListener, GameRejectionListener)}, notifying the provided
+     * {@link GameStateListener} of each point as it is read, which may happen before the game is proven inconsistent, in
+     * which case the provided {@link GameRejectionListener} is notified of how many points were passed on.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link PointStream}, which is read until its end.
+     * @param gameStateListener the {@link GameStateListener} to notify of each point as it is read.
+     * @param gameRejectionListener the {@link GameRejectionListener} to notify should the game be inconsistent.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult check(final P firstPlayer, final P secondPlayer, final PointStream<P> points,
+                                  final GameStateListener<P> gameStateListener, final GameRejectionListener gameRejectionListener) {
+        Objects.requireNonNull(gameRejectionListener, "the provided game rejection listener must not be null");
+        return simulate(firstPlayer, secondPlayer, points, gameStateListener, gameRejectionListener);
+    }
+
+    /**
+     * Checks whether the provided player identifiers and {@link PointSource} form a consistent game by simulating it a
+     * single time, while buffering the outcome of each point into the provided {@link BufferingGameStateListener}, which
+     * is reset first.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points a {@link PointSource}.
+     * @param bufferingGameStateListener the {@link BufferingGameStateListener} to buffer the outcome of each point into.
+     * @return the {@link ValidationResult} of the game.
+     */
+    public ValidationResult checkAndBuffer(final P firstPlayer, final P secondPlayer, final PointSource<P> points,
+                                           final BufferingGameStateListener<P> bufferingGameStateListener) {
+        ValidationResult validationResult = checkPlayers(firstPlayer, secondPlayer, points);
+        if (!validationResult.isValid()) {
+            return validationResult;
+        }
+        return simulate(firstPlayer, secondPlayer, points.size(), tennisGame -> tennisGame.process(points), bufferingGameStateListener);
+    }
+
+    /**
+     * Simulates the game between the provided players, and checks its completion. The simulated game is released to the
+     * {@link TennisGameFactory} once checked.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param totalPoints the total amount of points that require validation.
+     * @param pointsProcessing the processing of the points by the simulated {@link TennisGameEngine}.
+     * @param processedPointsCounter the {@link ProcessedPointsCounter} notified of each point during the simulation, which
+     *                               is reset first as it may be reused across games.
+     * @return the {@link ValidationResult} of the game.
+     */
+    private ValidationResult simulate(final P firstPlayer, final P secondPlayer, final int totalPoints,
+                                      final Consumer<TennisGameEngine<P>> pointsProcessing, final ProcessedPointsCounter<P> processedPointsCounter) {
+        processedPointsCounter.reset();
+        TennisGameEngine<P> tennisGame = tennisGameFactory.create(firstPlayer, secondPlayer, processedPointsCounter);
+
+        pointsProcessing.accept(tennisGame);
+        boolean isGameOver = tennisGame.isGameOver();
+        tennisGameFactory.release(tennisGame);
+
+        return checkGameCompletion(totalPoints, processedPointsCounter.getPointsCounter(), isGameOver);
+    }
+
+    /**
+     * Simulates the game between the provided players in a single pass over the provided {@link PointStream}, then reads
+     * the rest of the stream to count the points past the end of the game, and checks its completion. The simulated game
+     * is released to the {@link TennisGameFactory} once over.
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @param points the {@link PointStream}.
+     * @param gameStateListener the {@link GameStateListener} notified of each point during the simulation.
+     * @param gameRejectionListener the {@link GameRejectionListener} notified should the game be inconsistent.
+     * @return the {@link ValidationResult} of the game.
+     */
+    private ValidationResult simulate(final P firstPlayer, final P secondPlayer, final PointStream<P> points,
+                                      final GameStateListener<P> gameStateListener, final GameRejectionListener gameRejectionListener) {
+        if (!arePlayersConsistent(firstPlayer, secondPlayer)) {
+            gameRejectionListener.onRejection(ValidationResult.samePlayers(), 0);
+            return ValidationResult.samePlayers();
+        }
+        PlayersPointStream<P> playersPoints = new PlayersPointStream<>(firstPlayer, secondPlayer, points);
+        TennisGameEngine<P> tennisGame = tennisGameFactory.create(firstPlayer, secondPlayer, gameStateListener);
+
+        tennisGame.process(playersPoints);
+        int pointsProcessed = playersPoints.pointsRead;
+        boolean isGameOver = tennisGame.isGameOver();
+        tennisGameFactory.release(tennisGame);
+        while (playersPoints.next() != null) {
+            // the points past the end of the game are only counted and checked
+        }
+
+        ValidationResult validationResult = playersPoints.unknownPlayerIndex != ValidationResult.NO_POINT
+                ? ValidationResult.unknownPlayer(playersPoints.unknownPlayerIndex)
+                : checkGameCompletion(playersPoints.pointsRead, pointsProcessed, isGameOver);
+        if (!validationResult.isValid()) {
+            gameRejectionListener.onRejection(validationResult, pointsProcessed);
+        }
+        return validationResult;
+    }
+
+    /**
+     * Checks the completion of a {@link TennisGame}.
      * @param totalPoints the total amount of {@link Point}s that required validation.
      * @param pointsProcessed how many {@link Point}s were actually processed when simulating the game.
      * @param isGameOver whether the {@link TennisGame} is ended after processing all {@link Point}s.
+     * @return the {@link ValidationResult} of the game.
      */
-    private void validateGameCompletion(final int totalPoints, final int pointsProcessed, final boolean isGameOver) {
+    private ValidationResult checkGameCompletion(final int totalPoints, final int pointsProcessed, final boolean isGameOver) {
         if (pointsProcessed != totalPoints) {
-            throw new InconsistentGameException("The provided tennis game is inconsistent as it showcased more points than needed to end the game.");
+            return ValidationResult.tooManyPoints(pointsProcessed);
         } else if (!isGameOver) {
-            throw new InconsistentGameException("The provided tennis game is inconsistent as it showcased less points than needed to end the game.");
+            return ValidationResult.tooFewPoints(totalPoints);
         }
+        return ValidationResult.VALID;
     }
 
     /**
-     * Validates that the provided {@link List} of {@link Point}s belong to the players whose identifier is provided.
+     * Checks that the players are consistent for a {@link TennisGame}, and that the provided {@link List} of {@link Point}s
+     * belong to them.
      * @param firstPlayer the identifier of the first player.
      * @param secondPlayer the identifier of the second player.
      * @param points the {@link List} of {@link Point}s.
+     * @return the {@link ValidationResult} of the players.
      */
-    private void validateAllPointsBelongToPlayers(final P firstPlayer, final P secondPlayer, final List<Point<P>> points) {
+    private ValidationResult checkPlayers(final P firstPlayer, final P secondPlayer, final List<Point<P>> points) {
+        if (!arePlayersConsistent(firstPlayer, secondPlayer)) {
+            return ValidationResult.samePlayers();
+        }
         Set<P> playersIdSet = Set.of(firstPlayer, secondPlayer);
+        int pointIndex = 0;
         for (Point<P> point : points) {
             if (!playersIdSet.contains(point.winner())) {
-                throw new InconsistentGameException("The provided tennis game points contain a non-declared player.");
+                return ValidationResult.unknownPlayer(pointIndex);
             }
+            pointIndex++;
         }
+        return ValidationResult.VALID;
     }
 
     /**
-     * Validates that the players are consistent for a {@link TennisGame}.
+     * Checks that the players are consistent for a {@link TennisGame}, and that the provided {@link PointSource} only
+     * holds points that belong to them.
      * @param firstPlayer the identifier of the first player.
      * @param secondPlayer the identifier of the second player.
+     * @param points the {@link PointSource}.
+     * @return the {@link ValidationResult} of the players.
      */
-    private void validatePlayers(P firstPlayer, P secondPlayer) {
-        if (firstPlayer == null || secondPlayer == null || firstPlayer.equals(secondPlayer)) {
-            throw new InconsistentGameException("A tennis game must have two different players.");
+    private ValidationResult checkPlayers(final P firstPlayer, final P secondPlayer, final PointSource<P> points) {
+        if (!arePlayersConsistent(firstPlayer, secondPlayer)) {
+            return ValidationResult.samePlayers();
+        }
+        for (int i = 0; i < points.size(); ++i) {
+            if (!points.isWonBy(i, firstPlayer) && !points.isWonBy(i, secondPlayer)) {
+                return ValidationResult.unknownPlayer(i);
+            }
+        }
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * @param firstPlayer the identifier of the first player.
+     * @param secondPlayer the identifier of the second player.
+     * @return whether the players are consistent for a {@link TennisGame}.
+     */
+    private boolean arePlayersConsistent(final P firstPlayer, final P secondPlayer) {
+        return firstPlayer != null && secondPlayer != null && !firstPlayer.equals(secondPlayer);
+    }
+
+    /**
+     * A {@link PointStream} that counts the points read from another one, and ends at the first point which does not
+     * belong to the players, so that a game is never simulated past it.
+     * @param <P> the type of players' identifier.
+     */
+    private static final class PlayersPointStream<P> implements PointStream<P> {
+
+        private final P firstPlayer;
+        private final P secondPlayer;
+        private final PointStream<P> points;
+        /** How many points belonging to the players were read. */
+        private int pointsRead;
+        /** The index of the first point which does not belong to the players, or {@link ValidationResult#NO_POINT}. */
+        private int unknownPlayerIndex = ValidationResult.NO_POINT;
+
+        private PlayersPointStream(final P firstPlayer, final P secondPlayer, final PointStream<P> points) {
+            this.firstPlayer = firstPlayer;
+            this.secondPlayer = secondPlayer;
+            this.points = points;
+        }
+
+        @Override
+        public P next() {
+            if (unknownPlayerIndex != ValidationResult.NO_POINT) {
+                return null;
+            }
+            P winner = points.next();
+            if (winner == null) {
+                return null;
+            }
+            if (!firstPlayer.equals(winner) && !secondPlayer.equals(winner)) {
+                unknownPlayerIndex = pointsRead;
+                return null;
+            }
+            pointsRead++;
+            return winner;
         }
     }
 }
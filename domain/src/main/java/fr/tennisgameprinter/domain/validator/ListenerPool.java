@@ -0,0 +1,66 @@
+package fr.tennisgameprinter.domain.validator;
+
+import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of idle {@link ProcessedPointsCounter}s, which a {@link GameConsistencyValidator} reuses across games
+ * rather than creating new ones, so that its {@link TennisGameFactory} may in turn reuse the game created with each of them.
+ * <p>
+ * The pool is shared by every thread and guarded by itself, so that it suits platform and virtual threads alike. It never
+ * pools a listener which counted more than {@value #MAXIMUM_POOLED_POINTS} points, so that the buffer of an unusually
+ * long game is never pinned.
+ * @param <L> the type of pooled listeners.
+ */
+final class ListenerPool<L extends ProcessedPointsCounter<?>> {
+
+    /** The maximum amount of points counted by a listener for it to be pooled. */
+    static final int MAXIMUM_POOLED_POINTS = 1024;
+
+    /** The {@link Supplier} of listeners, called whenever the pool is empty. */
+    private final Supplier<L> listenerSupplier;
+    /** The maximum amount of idle listeners, beyond which released listeners are not pooled. */
+    private final int maximumIdleListeners;
+    /** The idle listeners, guarded by this pool. */
+    private final Deque<L> idleListeners = new ArrayDeque<>();
+
+    /**
+     * Creates a new {@link ListenerPool}.
+     * @param listenerSupplier the {@link Supplier} of listeners, called whenever the pool is empty.
+     * @param maximumIdleListeners the maximum amount of idle listeners, which may be zero to never pool any listener.
+     */
+    ListenerPool(final Supplier<L> listenerSupplier, final int maximumIdleListeners) {
+        this.listenerSupplier = Objects.requireNonNull(listenerSupplier, "the provided listener supplier must not be null.");
+        this.maximumIdleListeners = maximumIdleListeners;
+    }
+
+    /**
+     * @return an idle listener, which is no longer pooled, or a new one if there is none.
+     */
+    L acquire() {
+        L listener;
+        synchronized (this) {
+            listener = idleListeners.pollFirst();
+        }
+        return listener != null ? listener : listenerSupplier.get();
+    }
+
+    /**
+     * Resets and pools the provided listener, unless the pool is full or the listener counted too many points. The
+     * listener must no longer be used once released.
+     * @param listener the listener the caller is done with.
+     */
+    void release(final L listener) {
+        synchronized (this) {
+            if (idleListeners.size() < maximumIdleListeners && listener.getPointsCounter() <= MAXIMUM_POOLED_POINTS) {
+                listener.reset();
+                idleListeners.addFirst(listener);
+            }
+        }
+    }
+}
@@ -8,4 +8,13 @@ public class InconsistentGameException extends RuntimeException {
     public InconsistentGameException(final String message) {
         super(message);
     }
+
+    /**
+     * Creates a new {@link InconsistentGameException} with the provided message, which may skip filling its stack trace.
+     * @param message the message.
+     * @param writableStackTrace whether the stack trace is filled.
+     */
+    protected InconsistentGameException(final String message, final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
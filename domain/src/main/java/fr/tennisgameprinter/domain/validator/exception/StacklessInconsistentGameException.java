@@ -0,0 +1,30 @@
+package fr.tennisgameprinter.domain.validator.exception;
+
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+
+/**
+ * An {@link InconsistentGameException} which carries the {@link ValidationResult} of the inconsistent game, and skips
+ * filling its stack trace, as the validation of a malformed input is an expected outcome rather than a failure worth
+ * tracing back. It costs little more than the allocation of the exception itself.
+ */
+public class StacklessInconsistentGameException extends InconsistentGameException {
+
+    /** The {@link ValidationResult} of the inconsistent game. */
+    private final transient ValidationResult validationResult;
+
+    /**
+     * Creates a new {@link StacklessInconsistentGameException} from the provided {@link ValidationResult}.
+     * @param validationResult the {@link ValidationResult} of an inconsistent game.
+     */
+    public StacklessInconsistentGameException(final ValidationResult validationResult) {
+        super(validationResult.getMessage(), false);
+        this.validationResult = validationResult;
+    }
+
+    /**
+     * @return the {@link ValidationResult} of the inconsistent game.
+     */
+    public ValidationResult getValidationResult() {
+        return validationResult;
+    }
+}
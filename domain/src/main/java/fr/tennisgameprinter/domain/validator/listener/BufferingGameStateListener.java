@@ -0,0 +1,86 @@
+package fr.tennisgameprinter.domain.validator.listener;
+
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.DeucePoint;
+import fr.tennisgameprinter.domain.game.point.output.PointOutcome;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A stateful {@link ProcessedPointsCounter} that also buffers every point outcome it gets notified of, so that they can
+ * later be replayed, in order, to another {@link GameStateListener}.
+ * @param <P> the type of players' identifier.
+ */
+public class BufferingGameStateListener<P> extends ProcessedPointsCounter<P> {
+
+    /** The buffered point outcomes, in the order they were notified. */
+    private final List<PointOutcome<P>> events = new ArrayList<>();
+    private int advantagesCounter;
+    private int deucesCounter;
+
+    @Override
+    public void onPoint(final RegularPoint<P> regularPoint) {
+        super.onPoint(regularPoint);
+        events.add(regularPoint);
+    }
+
+    @Override
+    public void onAdvantage(final AdvantagePoint<P> advantagePoint) {
+        super.onAdvantage(advantagePoint);
+        events.add(advantagePoint);
+        advantagesCounter++;
+    }
+
+    @Override
+    public void onDeuce() {
+        super.onDeuce();
+        events.add(DeucePoint.deuce());
+        deucesCounter++;
+    }
+
+    @Override
+    public void onVictory(final VictoryPoint<P> victoryPoint) {
+        super.onVictory(victoryPoint);
+        events.add(victoryPoint);
+    }
+
+    /**
+     * Resets the counters to zero and empties the buffered point outcomes, so that this component may buffer the points
+     * of another game.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        events.clear();
+        advantagesCounter = 0;
+        deucesCounter = 0;
+    }
+
+    /**
+     * @return the amount of advantages that this component was notified of.
+     */
+    public int getAdvantagesCounter() {
+        return advantagesCounter;
+    }
+
+    /**
+     * @return the amount of deuces that this component was notified of.
+     */
+    public int getDeucesCounter() {
+        return deucesCounter;
+    }
+
+    /**
+     * Replays every buffered point outcome, in order, to the provided {@link GameStateListener}.
+     * @param gameStateListener the {@link GameStateListener} to notify.
+     */
+    public void replayTo(final GameStateListener<P> gameStateListener) {
+        for (PointOutcome<P> event : events) {
+            event.notifyTo(gameStateListener);
+        }
+    }
+}
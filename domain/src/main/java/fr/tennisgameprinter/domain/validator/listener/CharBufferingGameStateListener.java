@@ -0,0 +1,157 @@
+package fr.tennisgameprinter.domain.validator.listener;
+
+import fr.tennisgameprinter.domain.game.engine.CharTennisGame;
+import fr.tennisgameprinter.domain.game.engine.GameStates;
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.CharGameStateListener;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+import java.util.Arrays;
+
+/**
+ * A {@link BufferingGameStateListener} of players identified by a primitive {@code char}, which buffers each point
+ * outcome as the single byte of its transition, as encoded by {@link GameStates}, rather than as a point outcome.
+ * <p>
+ * A {@link CharTennisGame} notifies it through its primitive callbacks, and it replays its transitions through the
+ * primitive callbacks of a {@link CharGameStateListener}, so that neither buffering nor replaying a game boxes nor
+ * allocates anything per point. Any point outcome notified the generic way is unpacked, and any other
+ * {@link GameStateListener} is replayed the canonical point outcomes of both players.
+ */
+public class CharBufferingGameStateListener extends BufferingGameStateListener<Character> implements CharGameStateListener {
+
+    /** The initial capacity of the buffer, which is enough for most games. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The identifier of the first player. */
+    private final char firstPlayerId;
+    /** The identifier of the second player. */
+    private final char secondPlayerId;
+    /** The {@link CanonicalPoints} of both players, which are replayed to a listener that is not a {@link CharGameStateListener}. */
+    private final CanonicalPoints<Character> canonicalPoints;
+    /** The buffered transitions, in the order they were notified. */
+    private byte[] transitions = new byte[INITIAL_CAPACITY];
+    private int transitionsCounter;
+    private int advantagesCounter;
+    private int deucesCounter;
+
+    /**
+     * Creates a new {@link CharBufferingGameStateListener} of the points of a game between the provided players.
+     * @param firstPlayerId the identifier of the first player.
+     * @param secondPlayerId the identifier of the second player.
+     */
+    public CharBufferingGameStateListener(final char firstPlayerId, final char secondPlayerId) {
+        this.firstPlayerId = firstPlayerId;
+        this.secondPlayerId = secondPlayerId;
+        this.canonicalPoints = CanonicalPoints.of(firstPlayerId, secondPlayerId);
+    }
+
+    @Override
+    public void onPoint(final char playerId, final char otherPlayerId, final int playerScore, final int otherPlayerScore) {
+        int state = playerId == firstPlayerId ? GameStates.state(playerScore, otherPlayerScore) : GameStates.state(otherPlayerScore, playerScore);
+        buffer(GameStates.pack(state, GameStates.EVENT_REGULAR));
+    }
+
+    @Override
+    public void onAdvantage(final char advantagedPlayerId) {
+        buffer(advantagedPlayerId == firstPlayerId
+                ? GameStates.pack(GameStates.ADVANTAGE_FIRST, GameStates.EVENT_ADVANTAGE_FIRST)
+                : GameStates.pack(GameStates.ADVANTAGE_SECOND, GameStates.EVENT_ADVANTAGE_SECOND));
+        advantagesCounter++;
+    }
+
+    @Override
+    public void onDeuce() {
+        buffer(GameStates.pack(GameStates.DEUCE, GameStates.EVENT_DEUCE));
+        deucesCounter++;
+    }
+
+    @Override
+    public void onVictory(final char winner) {
+        buffer(winner == firstPlayerId
+                ? GameStates.pack(GameStates.GAME_OVER, GameStates.EVENT_VICTORY_FIRST)
+                : GameStates.pack(GameStates.GAME_OVER, GameStates.EVENT_VICTORY_SECOND));
+    }
+
+    @Override
+    public void onPoint(final RegularPoint<Character> regularPoint) {
+        CharGameStateListener.super.onPoint(regularPoint);
+    }
+
+    @Override
+    public void onAdvantage(final AdvantagePoint<Character> advantagePoint) {
+        CharGameStateListener.super.onAdvantage(advantagePoint);
+    }
+
+    @Override
+    public void onVictory(final VictoryPoint<Character> victoryPoint) {
+        CharGameStateListener.super.onVictory(victoryPoint);
+    }
+
+    /**
+     * Resets the counters to zero and empties the buffered transitions, so that this component may buffer the points
+     * of another game between the same players.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        transitionsCounter = 0;
+        advantagesCounter = 0;
+        deucesCounter = 0;
+    }
+
+    /**
+     * @return the amount of points that this component was notified of.
+     */
+    @Override
+    public int getPointsCounter() {
+        return transitionsCounter;
+    }
+
+    /**
+     * @return the amount of advantages that this component was notified of.
+     */
+    @Override
+    public int getAdvantagesCounter() {
+        return advantagesCounter;
+    }
+
+    /**
+     * @return the amount of deuces that this component was notified of.
+     */
+    @Override
+    public int getDeucesCounter() {
+        return deucesCounter;
+    }
+
+    /**
+     * Replays every buffered transition, in order, to the provided {@link GameStateListener}, through its primitive
+     * callbacks should it be a {@link CharGameStateListener}.
+     * @param gameStateListener the {@link GameStateListener} to notify.
+     */
+    @Override
+    public void replayTo(final GameStateListener<Character> gameStateListener) {
+        if (gameStateListener instanceof CharGameStateListener charGameStateListener) {
+            for (int i = 0; i < transitionsCounter; ++i) {
+                GameStates.notify(charGameStateListener, transitions[i] & 0xFF, firstPlayerId, secondPlayerId);
+            }
+        } else {
+            for (int i = 0; i < transitionsCounter; ++i) {
+                GameStates.notify(gameStateListener, transitions[i] & 0xFF, canonicalPoints);
+            }
+        }
+    }
+
+    /**
+     * Appends the provided transition to the buffer, which grows as needed.
+     * @param transition the transition.
+     */
+    private void buffer(final byte transition) {
+        if (transitionsCounter == transitions.length) {
+            transitions = Arrays.copyOf(transitions, transitionsCounter * 2);
+        }
+        transitions[transitionsCounter++] = transition;
+    }
+}
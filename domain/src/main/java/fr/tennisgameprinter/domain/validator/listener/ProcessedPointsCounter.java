@@ -34,6 +34,13 @@ public class ProcessedPointsCounter<P> implements GameStateListener<P> {
         pointsCounter++;
     }
 
+    /**
+     * Resets the points counter to zero, so that this component may count the points of another game.
+     */
+    public void reset() {
+        pointsCounter = 0;
+    }
+
     /**
      * @return the amount of points that this component was notified of.
      */
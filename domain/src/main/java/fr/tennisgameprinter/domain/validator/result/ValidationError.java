@@ -0,0 +1,30 @@
+package fr.tennisgameprinter.domain.validator.result;
+
+/**
+ * The category of an inconsistent tennis game, along with the message it is rejected with.
+ */
+public enum ValidationError {
+
+    /** Both players share the same identifier. */
+    SAME_PLAYERS("A tennis game must have two different players."),
+    /** A point was won by a player who is not part of the game. */
+    UNKNOWN_PLAYER("The provided tennis game points contain a non-declared player."),
+    /** Some points were played after the game was over. */
+    TOO_MANY_POINTS("The provided tennis game is inconsistent as it showcased more points than needed to end the game."),
+    /** The game is not over once every point is played. */
+    TOO_FEW_POINTS("The provided tennis game is inconsistent as it showcased less points than needed to end the game.");
+
+    /** The message an inconsistent game of this category is rejected with. */
+    private final String message;
+
+    ValidationError(final String message) {
+        this.message = message;
+    }
+
+    /**
+     * @return the message an inconsistent game of this category is rejected with.
+     */
+    public String getMessage() {
+        return message;
+    }
+}
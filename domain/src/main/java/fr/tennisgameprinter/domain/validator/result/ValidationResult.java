@@ -0,0 +1,79 @@
+package fr.tennisgameprinter.domain.validator.result;
+
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.validator.exception.StacklessInconsistentGameException;
+
+/**
+ * The result of the validation of a tennis game, which tells whether the game is consistent, and otherwise why and where
+ * it is not, without constructing any exception.
+ * @param error the {@link ValidationError} of the game, or {@code null} if the game is consistent.
+ * @param pointIndex the index of the offending point, that is, the first point won by a non-declared player, the first
+ *                   point played after the game was over, or the index right after the last point of a game that is not
+ *                   over. It is {@link #NO_POINT} when the game is consistent, or when both players share the same identifier.
+ */
+public record ValidationResult(ValidationError error, int pointIndex) {
+
+    /** The index of the offending point of a result which does not involve any point. */
+    public static final int NO_POINT = -1;
+
+    /** The result of a consistent game. */
+    public static final ValidationResult VALID = new ValidationResult(null, NO_POINT);
+
+    /** The result of a game whose players share the same identifier. */
+    private static final ValidationResult SAME_PLAYERS = new ValidationResult(ValidationError.SAME_PLAYERS, NO_POINT);
+
+    /**
+     * @return the result of a game whose players share the same identifier.
+     */
+    public static ValidationResult samePlayers() {
+        return SAME_PLAYERS;
+    }
+
+    /**
+     * @param pointIndex the index of the first point won by a non-declared player.
+     * @return the result of a game whose points contain a non-declared player.
+     */
+    public static ValidationResult unknownPlayer(final int pointIndex) {
+        return new ValidationResult(ValidationError.UNKNOWN_PLAYER, pointIndex);
+    }
+
+    /**
+     * @param pointIndex the index of the first point played after the game was over.
+     * @return the result of a game which showcased more points than needed to end the game.
+     */
+    public static ValidationResult tooManyPoints(final int pointIndex) {
+        return new ValidationResult(ValidationError.TOO_MANY_POINTS, pointIndex);
+    }
+
+    /**
+     * @param pointIndex the index right after the last point of the game.
+     * @return the result of a game which showcased less points than needed to end the game.
+     */
+    public static ValidationResult tooFewPoints(final int pointIndex) {
+        return new ValidationResult(ValidationError.TOO_FEW_POINTS, pointIndex);
+    }
+
+    /**
+     * @return whether the game is consistent.
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * @return the message the game is rejected with, or {@code null} if the game is consistent.
+     */
+    public String getMessage() {
+        return error == null ? null : error.getMessage();
+    }
+
+    /**
+     * Throws a {@link StacklessInconsistentGameException} should the game be inconsistent.
+     * @throws InconsistentGameException when the game is inconsistent.
+     */
+    public void throwIfInvalid() {
+        if (error != null) {
+            throw new StacklessInconsistentGameException(this);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package fr.tennisgameprinter.domain;
+
+import fr.tennisgameprinter.domain.game.engine.RecordingGameStateListener;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+import fr.tennisgameprinter.domain.metrics.PipelineStage;
+import fr.tennisgameprinter.domain.ports.deserializer.InputDeserializer;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingTennisGameProcessorTest {
+
+    /** An {@link InputDeserializer} that deserializes each character of a String into a {@link Point}. */
+    private final InputDeserializer<String, Character> inputDeserializer =
+            spy(new InputDeserializer<String, Character>() {
+                @Override
+                public List<Point<Character>> deserialize(final String input) {
+                    return input.chars().mapToObj(winner -> new Point<>((char) winner)).toList();
+                }
+            });
+
+    @Test
+    void testProcess_withRepeatedGame() {
+        // GIVEN our CachingTennisGameProcessor
+        RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+        CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor = cachingTennisGameProcessor(gameStateListener, 8);
+        // AND the points notified when processing a game once
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAABBBAA", 'A', 'B'));
+        List<Object> expectedPoints = List.copyOf(gameStateListener.getEvents());
+        gameStateListener.getEvents().clear();
+
+        // WHEN we process the same game again
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAABBBAA", 'A', 'B'));
+
+        // THEN the exact same points were notified
+        assertEquals(expectedPoints, gameStateListener.getEvents());
+        // AND the game was only deserialized once
+        verify(inputDeserializer, times(1)).deserializeToSource("AAABBBAA");
+        // AND the statistics match our expectations
+        assertEquals(new CacheStatistics(1, 1, 0, 1), cachingTennisGameProcessor.getStatistics());
+        assertEquals(0.5, cachingTennisGameProcessor.getStatistics().hitRatio());
+    }
+
+    @Test
+    void testProcess_withRepeatedInconsistentGame() {
+        // GIVEN our CachingTennisGameProcessor
+        RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+        CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor = cachingTennisGameProcessor(gameStateListener, 8);
+        // AND an inconsistent game, which was already processed once
+        TennisGameInput<String, Character> tennisGameInput = new TennisGameInput<>("AAA", 'A', 'B');
+        InconsistentGameException expectedException = assertThrows(InconsistentGameException.class, () -> cachingTennisGameProcessor.process(tennisGameInput));
+
+        // WHEN we process the same game again, THEN the same inconsistency is thrown
+        InconsistentGameException inconsistentGameException = assertThrows(InconsistentGameException.class, () -> cachingTennisGameProcessor.process(tennisGameInput));
+        assertEquals(expectedException.getMessage(), inconsistentGameException.getMessage());
+        // AND no point was ever notified
+        assertTrue(gameStateListener.getEvents().isEmpty());
+        // AND the game was only deserialized once
+        verify(inputDeserializer, times(1)).deserializeToSource("AAA");
+        assertEquals(new CacheStatistics(1, 1, 0, 1), cachingTennisGameProcessor.getStatistics());
+    }
+
+    @Test
+    void testProcess_withDifferentPlayers() {
+        // GIVEN our CachingTennisGameProcessor
+        CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor = cachingTennisGameProcessor(new RecordingGameStateListener(), 8);
+        // WHEN we process the same input between different players
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAAA", 'A', 'B'));
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAAA", 'A', 'C'));
+        // THEN each game was processed on its own
+        assertEquals(new CacheStatistics(0, 2, 0, 2), cachingTennisGameProcessor.getStatistics());
+    }
+
+    @Test
+    void testProcess_withEviction() {
+        // GIVEN our CachingTennisGameProcessor, which only remembers two games
+        CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor = cachingTennisGameProcessor(new RecordingGameStateListener(), 2);
+        // AND two games that were processed, the first one being the most recently processed
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAAA", 'A', 'B'));
+        cachingTennisGameProcessor.process(new TennisGameInput<>("BBBB", 'A', 'B'));
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAAA", 'A', 'B'));
+
+        // WHEN we process a third game
+        cachingTennisGameProcessor.process(new TennisGameInput<>("ABAAA", 'A', 'B'));
+
+        // THEN the least recently processed game was evicted
+        assertEquals(new CacheStatistics(1, 3, 1, 2), cachingTennisGameProcessor.getStatistics());
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAAA", 'A', 'B'));
+        cachingTennisGameProcessor.process(new TennisGameInput<>("BBBB", 'A', 'B'));
+        verify(inputDeserializer, times(1)).deserializeToSource("AAAA");
+        verify(inputDeserializer, times(2)).deserializeToSource("BBBB");
+        assertEquals(new CacheStatistics(2, 4, 2, 2), cachingTennisGameProcessor.getStatistics());
+    }
+
+    @Test
+    void testProcess_withWeightEviction() {
+        // GIVEN our CachingTennisGameProcessor, which remembers many games yet only ten point outcomes
+        CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor = cachingTennisGameProcessor(new RecordingGameStateListener(), 8, 10);
+        // AND two games of four point outcomes each that were processed
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAAA", 'A', 'B'));
+        cachingTennisGameProcessor.process(new TennisGameInput<>("BBBB", 'A', 'B'));
+
+        // WHEN we process a game of five point outcomes
+        cachingTennisGameProcessor.process(new TennisGameInput<>("ABAAA", 'A', 'B'));
+
+        // THEN the least recently processed game was evicted to honour the weight bound
+        assertEquals(new CacheStatistics(0, 3, 1, 2), cachingTennisGameProcessor.getStatistics());
+    }
+
+    @Test
+    void testProcess_withGameHeavierThanCache() {
+        // GIVEN our CachingTennisGameProcessor, which only remembers four point outcomes, and holds a game
+        RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+        CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor = cachingTennisGameProcessor(gameStateListener, 8, 4);
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAAA", 'A', 'B'));
+
+        // WHEN we process a game of eight point outcomes twice
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAABBBAA", 'A', 'B'));
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAABBBAA", 'A', 'B'));
+
+        // THEN its points were notified both times
+        assertEquals(4 + 2 * 8, gameStateListener.getEvents().size());
+        // AND it was never remembered, nor did it evict the game held by the cache
+        verify(inputDeserializer, times(2)).deserializeToSource("AAABBBAA");
+        assertEquals(new CacheStatistics(0, 3, 0, 1), cachingTennisGameProcessor.getStatistics());
+    }
+
+    @Test
+    void testProcess_withLongInconsistentGame() {
+        // GIVEN our CachingTennisGameProcessor, which only remembers ten points, and holds a game of four points
+        CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor = cachingTennisGameProcessor(new RecordingGameStateListener(), 8, 10);
+        cachingTennisGameProcessor.process(new TennisGameInput<>("AAAA", 'A', 'B'));
+        // AND an inconsistent game whose input holds twelve points
+        TennisGameInput<String, Character> tennisGameInput = new TennisGameInput<>("ABABABABABAB", 'A', 'B');
+
+        // WHEN we process the inconsistent game twice
+        assertThrows(InconsistentGameException.class, () -> cachingTennisGameProcessor.process(tennisGameInput));
+        assertThrows(InconsistentGameException.class, () -> cachingTennisGameProcessor.process(tennisGameInput));
+
+        // THEN it weighed its whole input, and was thus never remembered
+        verify(inputDeserializer, times(2)).deserializeToSource("ABABABABABAB");
+        assertEquals(new CacheStatistics(0, 3, 0, 1), cachingTennisGameProcessor.getStatistics());
+
+        // WHEN we process an inconsistent game whose input holds eight points
+        assertThrows(InconsistentGameException.class, () -> cachingTennisGameProcessor.process(new TennisGameInput<>("ABABABAB", 'A', 'B')));
+
+        // THEN it evicted the game of four points to honour the weight bound
+        assertEquals(new CacheStatistics(0, 4, 1, 1), cachingTennisGameProcessor.getStatistics());
+    }
+
+    @Test
+    void testProcess_withPipelineMetrics() {
+        // GIVEN switched on PipelineMetrics
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(true);
+        // AND our CachingTennisGameProcessor, which records into them
+        CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor = new CachingTennisGameProcessor<>(
+                inputDeserializer,
+                new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                new RecordingGameStateListener(),
+                TennisGame::new,
+                SimulationMode.SPECULATIVE,
+                pipelineMetrics,
+                8
+        );
+
+        // WHEN we process a consistent and an inconsistent game twice each
+        for (int i = 0; i < 2; ++i) {
+            cachingTennisGameProcessor.tryProcess(new TennisGameInput<>("AAABBBAA", 'A', 'B'));
+            cachingTennisGameProcessor.tryProcess(new TennisGameInput<>("AAA", 'A', 'B'));
+        }
+
+        // THEN the replayed games were counted just like the processed ones
+        assertEquals(2, pipelineMetrics.getGames());
+        assertEquals(2 * 8, pipelineMetrics.getPoints());
+        assertEquals(2, pipelineMetrics.getDeuces());
+        assertEquals(2, pipelineMetrics.getAdvantages());
+        assertEquals(2, pipelineMetrics.getRejections());
+        // AND they were counted among the replays
+        assertEquals(2, pipelineMetrics.getReplays());
+        // AND they skipped every stage of the pipeline
+        assertEquals(2, pipelineMetrics.getLatency(PipelineStage.DESERIALIZE).getCount());
+    }
+
+    @Test
+    void testConstructor_withInvalidMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () -> cachingTennisGameProcessor(new RecordingGameStateListener(), 0));
+    }
+
+    @Test
+    void testConstructor_withInvalidMaximumWeight() {
+        assertThrows(IllegalArgumentException.class, () -> cachingTennisGameProcessor(new RecordingGameStateListener(), 8, 0));
+    }
+
+    /**
+     * @param gameStateListener the {@link RecordingGameStateListener} to notify.
+     * @param maximumSize the maximum number of games whose outcome is remembered.
+     * @return a {@link CachingTennisGameProcessor} made of real components, which notifies the provided listener.
+     */
+    private CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor(final RecordingGameStateListener gameStateListener,
+                                                                                     final int maximumSize) {
+        return new CachingTennisGameProcessor<>(
+                inputDeserializer,
+                new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                gameStateListener,
+                TennisGame::new,
+                SimulationMode.SPECULATIVE,
+                maximumSize
+        );
+    }
+
+    /**
+     * @param gameStateListener the {@link RecordingGameStateListener} to notify.
+     * @param maximumSize the maximum number of games whose outcome is remembered.
+     * @param maximumWeight the maximum number of points remembered across all games.
+     * @return a {@link CachingTennisGameProcessor} made of real components, which notifies the provided listener.
+     */
+    private CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor(final RecordingGameStateListener gameStateListener,
+                                                                                     final int maximumSize,
+                                                                                     final long maximumWeight) {
+        return new CachingTennisGameProcessor<>(
+                inputDeserializer,
+                new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                gameStateListener,
+                TennisGame::new,
+                SimulationMode.SPECULATIVE,
+                TennisGameProcessor.NO_PIPELINE_METRICS,
+                maximumSize,
+                maximumWeight
+        );
+    }
+
+    @Test
+    void testTryProcess_withRepeatedInconsistentGame() {
+        // GIVEN our CachingTennisGameProcessor
+        RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+        CachingTennisGameProcessor<String, Character> cachingTennisGameProcessor = cachingTennisGameProcessor(gameStateListener, 8);
+
+        // WHEN we try to process the same inconsistent game twice
+        ValidationResult firstValidationResult = cachingTennisGameProcessor.tryProcess(new TennisGameInput<>("AAAAB", 'A', 'B'));
+        ValidationResult secondValidationResult = cachingTennisGameProcessor.tryProcess(new TennisGameInput<>("AAAAB", 'A', 'B'));
+
+        // THEN both attempts are rejected with the same result, without throwing
+        assertEquals(ValidationResult.tooManyPoints(4), firstValidationResult);
+        assertEquals(firstValidationResult, secondValidationResult);
+        // AND no point was notified
+        assertTrue(gameStateListener.getEvents().isEmpty());
+        // AND the game was only deserialized once
+        verify(inputDeserializer, times(1)).deserializeToSource("AAAAB");
+        // AND processing it the throwing way still throws an InconsistentGameException with the same message
+        InconsistentGameException inconsistentGameException = assertThrows(InconsistentGameException.class,
+                () -> cachingTennisGameProcessor.process(new TennisGameInput<>("AAAAB", 'A', 'B')));
+        assertEquals(firstValidationResult.getMessage(), inconsistentGameException.getMessage());
+    }
+}
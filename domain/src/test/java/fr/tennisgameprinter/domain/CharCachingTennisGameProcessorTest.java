@@ -0,0 +1,102 @@
+package fr.tennisgameprinter.domain;
+
+import fr.tennisgameprinter.domain.game.engine.RecordingGameStateListener;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.InputDeserializer;
+import fr.tennisgameprinter.domain.ports.listener.CharGameStateListener;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.CharGameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class CharCachingTennisGameProcessorTest {
+
+    /** An {@link InputDeserializer} that deserializes each character of a String into a {@link Point}. */
+    private final InputDeserializer<String, Character> inputDeserializer = input -> input.chars().mapToObj(winner -> new Point<>((char) winner)).toList();
+
+    @Test
+    void testProcess_withRepeatedGame() {
+        // GIVEN a CharGameStateListener
+        CharGameStateListener charGameStateListener = mock(CharGameStateListener.class);
+        // AND our CharCachingTennisGameProcessor, which already processed a game once
+        CharCachingTennisGameProcessor<String> charCachingTennisGameProcessor = charCachingTennisGameProcessor(charGameStateListener);
+        charCachingTennisGameProcessor.process(new TennisGameInput<>("AAABBBAA", 'A', 'B'));
+        clearInvocations(charGameStateListener);
+
+        // WHEN we process the same game again
+        charCachingTennisGameProcessor.process(new TennisGameInput<>("AAABBBAA", 'A', 'B'));
+
+        // THEN its points were replayed through the primitive callbacks of the CharGameStateListener
+        InOrder inOrder = inOrder(charGameStateListener);
+        inOrder.verify(charGameStateListener).onPoint('A', 'B', 15, 0);
+        inOrder.verify(charGameStateListener).onPoint('A', 'B', 30, 0);
+        inOrder.verify(charGameStateListener).onPoint('A', 'B', 40, 0);
+        inOrder.verify(charGameStateListener).onPoint('A', 'B', 40, 15);
+        inOrder.verify(charGameStateListener).onPoint('A', 'B', 40, 30);
+        inOrder.verify(charGameStateListener).onDeuce();
+        inOrder.verify(charGameStateListener).onAdvantage('A');
+        inOrder.verify(charGameStateListener).onVictory('A');
+        verifyNoMoreInteractions(charGameStateListener);
+        // AND the game was replayed
+        assertEquals(new CacheStatistics(1, 1, 0, 1), charCachingTennisGameProcessor.getStatistics());
+    }
+
+    @Test
+    void testProcess_withGenericListener() {
+        // GIVEN the points notified by a CachingTennisGameProcessor to a generic listener
+        RecordingGameStateListener expectedListener = new RecordingGameStateListener();
+        new CachingTennisGameProcessor<>(inputDeserializer, new CharGameConsistencyValidator(), expectedListener,
+                TennisGame::new, SimulationMode.SPECULATIVE, 8).process(new TennisGameInput<>("ABABABABBB", 'A', 'B'));
+        // AND our CharCachingTennisGameProcessor, which notifies a generic listener
+        RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+        CharCachingTennisGameProcessor<String> charCachingTennisGameProcessor = charCachingTennisGameProcessor(gameStateListener);
+
+        // WHEN we process the same game twice
+        charCachingTennisGameProcessor.process(new TennisGameInput<>("ABABABABBB", 'A', 'B'));
+        charCachingTennisGameProcessor.process(new TennisGameInput<>("ABABABABBB", 'A', 'B'));
+
+        // THEN the exact same points were notified each time
+        assertEquals(expectedListener.getEvents(), gameStateListener.getEvents().subList(0, expectedListener.getEvents().size()));
+        assertEquals(expectedListener.getEvents(), gameStateListener.getEvents().subList(expectedListener.getEvents().size(), gameStateListener.getEvents().size()));
+    }
+
+    @Test
+    void testProcess_withRepeatedInconsistentGame() {
+        // GIVEN a CharGameStateListener
+        CharGameStateListener charGameStateListener = mock(CharGameStateListener.class);
+        // AND our CharCachingTennisGameProcessor
+        CharCachingTennisGameProcessor<String> charCachingTennisGameProcessor = charCachingTennisGameProcessor(charGameStateListener);
+
+        // WHEN we process the same inconsistent game twice, THEN it is rejected each time
+        assertThrows(InconsistentGameException.class, () -> charCachingTennisGameProcessor.process(new TennisGameInput<>("AAAAB", 'A', 'B')));
+        assertThrows(InconsistentGameException.class, () -> charCachingTennisGameProcessor.process(new TennisGameInput<>("AAAAB", 'A', 'B')));
+        // AND the CharGameStateListener was never notified
+        verifyNoInteractions(charGameStateListener);
+    }
+
+    /**
+     * @param gameStateListener the {@link GameStateListener} to notify.
+     * @return a {@link CharCachingTennisGameProcessor} made of real components, which notifies the provided listener.
+     */
+    private CharCachingTennisGameProcessor<String> charCachingTennisGameProcessor(
+            final GameStateListener<Character> gameStateListener) {
+        return new CharCachingTennisGameProcessor<>(
+                inputDeserializer,
+                new CharGameConsistencyValidator(),
+                gameStateListener,
+                SimulationMode.SPECULATIVE,
+                TennisGameProcessor.NO_PIPELINE_METRICS,
+                8,
+                CachingTennisGameProcessor.DEFAULT_MAXIMUM_WEIGHT
+        );
+    }
+}
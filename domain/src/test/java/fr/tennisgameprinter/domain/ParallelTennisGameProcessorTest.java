@@ -0,0 +1,153 @@
+package fr.tennisgameprinter.domain;
+
+import fr.tennisgameprinter.domain.game.engine.RecordingGameStateListener;
+import fr.tennisgameprinter.domain.game.input.TennisGameInput;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.InputDeserializer;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelTennisGameProcessorTest {
+
+    /** An {@link InputDeserializer} that deserializes each character of a String into a {@link Point}. */
+    private static final InputDeserializer<String, Character> STRING_DESERIALIZER =
+            input -> input.chars().mapToObj(winner -> new Point<>((char) winner)).toList();
+
+    @Test
+    void testProcess_withForkJoinPool() {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            testProcess(forkJoinPool);
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testProcess_withVirtualThreads() {
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            testProcess(virtualThreads);
+        }
+    }
+
+    /**
+     * Checks that processing games in parallel on the provided {@link ExecutorService} notifies the exact same points,
+     * in the exact same order, as processing them one after the other.
+     * @param executorService the {@link ExecutorService}.
+     */
+    private void testProcess(final ExecutorService executorService) {
+        // GIVEN many random games, some of which are inconsistent
+        Random random = new Random(42);
+        List<TennisGameInput<String, Character>> tennisGameInputs = IntStream.range(0, 2000)
+                .mapToObj(i -> new TennisGameInput<>(randomGame(random), 'A', 'B'))
+                .toList();
+        // AND the points notified when processing these games one after the other
+        RecordingGameStateListener expectedGameStateListener = new RecordingGameStateListener();
+        List<String> expectedInconsistentGames = new ArrayList<>();
+        TennisGameProcessor<String, Character> sequentialTennisGameProcessor = tennisGameProcessor(expectedGameStateListener);
+        for (TennisGameInput<String, Character> tennisGameInput : tennisGameInputs) {
+            try {
+                sequentialTennisGameProcessor.process(tennisGameInput);
+            } catch (InconsistentGameException e) {
+                expectedGameStateListener.getEvents().add(e.getMessage());
+                expectedInconsistentGames.add(e.getMessage());
+            }
+        }
+        // AND our ParallelTennisGameProcessor, which only keeps a few games in flight
+        RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+        ParallelTennisGameProcessor<String, Character> parallelTennisGameProcessor =
+                new ParallelTennisGameProcessor<>(tennisGameProcessor(gameStateListener), executorService, 16);
+        List<String> inconsistentGames = new ArrayList<>();
+        Consumer<InconsistentGameException> inconsistentGameHandler = e -> {
+            gameStateListener.getEvents().add(e.getMessage());
+            inconsistentGames.add(e.getMessage());
+        };
+
+        // WHEN we process these games in parallel
+        parallelTennisGameProcessor.process(tennisGameInputs.stream(), inconsistentGameHandler);
+
+        // THEN the exact same points and inconsistencies were notified, in the exact same order
+        assertFalse(expectedInconsistentGames.isEmpty());
+        assertEquals(expectedInconsistentGames, inconsistentGames);
+        assertEquals(expectedGameStateListener.getEvents(), gameStateListener.getEvents());
+    }
+
+    @Test
+    void testProcess_withUnexpectedException() {
+        // GIVEN an InputDeserializer that fails on a specific input
+        InputDeserializer<String, Character> inputDeserializer = input -> {
+            if (input.equals("boom")) {
+                throw new IllegalStateException("boom");
+            }
+            return STRING_DESERIALIZER.deserialize(input);
+        };
+        // AND our ParallelTennisGameProcessor
+        RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+        TennisGameProcessor<String, Character> tennisGameProcessor = new TennisGameProcessor<>(
+                inputDeserializer, new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new), gameStateListener, TennisGame::new);
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            ParallelTennisGameProcessor<String, Character> parallelTennisGameProcessor =
+                    new ParallelTennisGameProcessor<>(tennisGameProcessor, virtualThreads, 4);
+            Stream<TennisGameInput<String, Character>> tennisGameInputs = Stream.of("AAAA", "boom", "BBBB")
+                    .map(input -> new TennisGameInput<>(input, 'A', 'B'));
+
+            // WHEN we process these games, THEN the unexpected exception is rethrown
+            IllegalStateException illegalStateException = assertThrows(IllegalStateException.class,
+                    () -> parallelTennisGameProcessor.process(tennisGameInputs, e -> fail("no game is inconsistent")));
+            assertEquals("boom", illegalStateException.getMessage());
+        }
+        // AND only the games preceding the failing one were notified
+        assertEquals(4, gameStateListener.getEvents().size());
+    }
+
+    @Test
+    void testConstructor_withInvalidMaxGamesInFlight() {
+        TennisGameProcessor<String, Character> tennisGameProcessor = tennisGameProcessor(new RecordingGameStateListener());
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            assertThrows(IllegalArgumentException.class, () -> new ParallelTennisGameProcessor<>(tennisGameProcessor, virtualThreads, 0));
+        }
+    }
+
+    /**
+     * @param gameStateListener the {@link GameStateListener} to notify.
+     * @return a {@link TennisGameProcessor} made of real components, which notifies the provided {@link GameStateListener}.
+     */
+    private static TennisGameProcessor<String, Character> tennisGameProcessor(final GameStateListener<Character> gameStateListener) {
+        return new TennisGameProcessor<>(
+                STRING_DESERIALIZER,
+                new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new),
+                gameStateListener,
+                TennisGame::new,
+                SimulationMode.SPECULATIVE
+        );
+    }
+
+    /**
+     * @param random the {@link Random} to draw winners from.
+     * @return a random game, which may be too short, too long or contain an unknown player.
+     */
+    private static String randomGame(final Random random) {
+        StringBuilder game = new StringBuilder();
+        int length = 1 + random.nextInt(20);
+        for (int i = 0; i < length; ++i) {
+            game.append(random.nextInt(50) == 0 ? 'C' : random.nextBoolean() ? 'A' : 'B');
+        }
+        return game.toString();
+    }
+}
@@ -1,19 +1,30 @@
 package fr.tennisgameprinter.domain;
 
+import fr.tennisgameprinter.domain.game.engine.RecordingGameStateListener;
 import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
 import fr.tennisgameprinter.domain.game.input.TennisGameInput;
-import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.mode.SimulationMode;
 import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+import fr.tennisgameprinter.domain.metrics.PipelineStage;
 import fr.tennisgameprinter.domain.ports.deserializer.InputDeserializer;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.listener.GameRejectionListener;
 import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
 import fr.tennisgameprinter.domain.validator.GameConsistencyValidator;
 import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.validator.listener.BufferingGameStateListener;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class TennisGameProcessorTest {
@@ -22,12 +33,12 @@ class TennisGameProcessorTest {
     void testProcess() {
         // GIVEN a String input that represents a sequence of points between players identified as 'A' and 'B'
         String input = "AAABBA";
-        // AND an InputDeserializer that deserializes a String and returns a list of Points that identifies each winner as a Character
+        // AND an InputDeserializer that deserializes a String and returns a PointSource that identifies each winner as a Character
         InputDeserializer<String, Character> inputDeserializer = mock(InputDeserializer.class);
         Point<Character> pointA = new Point<>('A');
         Point<Character> pointB = new Point<>('B');
-        List<Point<Character>> points = List.of(pointA, pointA, pointA, pointB, pointB, pointB, pointA);
-        when(inputDeserializer.deserialize(input)).thenReturn(points);
+        PointSource<Character> points = PointSource.of(List.of(pointA, pointA, pointA, pointB, pointB, pointB, pointA));
+        when(inputDeserializer.deserializeToSource(input)).thenReturn(points);
         // AND a GameConsistencyValidator
         GameConsistencyValidator<Character> gameConsistencyValidator = mock(GameConsistencyValidator.class);
         // AND a GameStateListener
@@ -35,7 +46,7 @@ class TennisGameProcessorTest {
         // AND a TennisGameFactory that allows creating a TennisGame
         TennisGameFactory<Character> tennisGameFactory = mock(TennisGameFactory.class);
         TennisGame<Character> tennisGame = mock(TennisGame.class);
-        when(tennisGameFactory.create(any(Player.class), any(Player.class), eq(gameStateListener))).thenReturn(tennisGame);
+        when(tennisGameFactory.create(eq('A'), eq('B'), eq(gameStateListener))).thenReturn(tennisGame);
         // AND our TennisGameProcessor built from the previously defined dependencies
         TennisGameProcessor<String, Character> tennisGameProcessor = new TennisGameProcessor<>(inputDeserializer, gameConsistencyValidator, gameStateListener, tennisGameFactory);
         // AND our TennisGameInput which defines that our tennis game is composed of our input and players identified by 'A' and 'B'
@@ -45,15 +56,11 @@ class TennisGameProcessorTest {
         tennisGameProcessor.process(tennisGameInput);
 
         // THEN our input deserializer was properly called to deserialize the input
-        verify(inputDeserializer).deserialize(input);
+        verify(inputDeserializer).deserializeToSource(input);
         // AND the game consistency validator has validated that the sequence of points was valid
         verify(gameConsistencyValidator).validate('A', 'B', points);
         // AND the tennis game factory was created with the expected players and GameStateListener
-        verify(tennisGameFactory).create(
-                argThat(player -> player.getId().equals('A')),
-                argThat(player -> player.getId().equals('B')),
-                eq(gameStateListener)
-        );
+        verify(tennisGameFactory).create(eq('A'), eq('B'), eq(gameStateListener));
         // AND the tennis game factory has processed our points
         verify(tennisGame).process(points);
     }
@@ -62,12 +69,12 @@ class TennisGameProcessorTest {
     void testProcess_withValidationException() {
         // GIVEN a String input that represents a sequence of points between players identified as 'A' and 'B', yet forms an inconsistent (unfinished) game
         String input = "AAABB";
-        // AND a deserializer that deserializes a String and returns a list of Points that identifies each player as a Character
+        // AND a deserializer that deserializes a String and returns a PointSource that identifies each player as a Character
         InputDeserializer<String, Character> inputDeserializer = mock(InputDeserializer.class);
         Point<Character> pointA = new Point<>('A');
         Point<Character> pointB = new Point<>('B');
-        List<Point<Character>> points = List.of(pointA, pointA, pointA, pointB, pointB, pointB, pointA);
-        when(inputDeserializer.deserialize(input)).thenReturn(points);
+        PointSource<Character> points = PointSource.of(List.of(pointA, pointA, pointA, pointB, pointB, pointB, pointA));
+        when(inputDeserializer.deserializeToSource(input)).thenReturn(points);
         // AND a GameConsistencyValidator
         GameConsistencyValidator<Character> gameConsistencyValidator = mock(GameConsistencyValidator.class);
         doThrow(new InconsistentGameException("the game is inconsistent")).when(gameConsistencyValidator).validate('A', 'B', points);
@@ -76,7 +83,7 @@ class TennisGameProcessorTest {
         // AND a TennisGameFactory that allows creating a TennisGame
         TennisGameFactory<Character> tennisGameFactory = mock(TennisGameFactory.class);
         TennisGame<Character> tennisGame = mock(TennisGame.class);
-        when(tennisGameFactory.create(any(Player.class), any(Player.class), eq(gameStateListener))).thenReturn(tennisGame);
+        when(tennisGameFactory.create(eq('A'), eq('B'), eq(gameStateListener))).thenReturn(tennisGame);
         // AND our TennisGameProcessor built from the previously defined dependencies
         TennisGameProcessor<String, Character> tennisGameProcessor = new TennisGameProcessor<>(inputDeserializer, gameConsistencyValidator, gameStateListener, tennisGameFactory);
         // AND our TennisGameInput which defines that our tennis game is composed of our input and players identified by 'A' and 'B'
@@ -88,4 +95,227 @@ class TennisGameProcessorTest {
         assertEquals("the game is inconsistent", inconsistentGameException.getMessage());
     }
 
+    @Test
+    void testProcess_withSpeculativeSimulationMode() {
+        // GIVEN a String input that represents a sequence of points between players identified as 'A' and 'B'
+        String input = "AAABBA";
+        // AND an InputDeserializer that deserializes a String and returns a PointSource that identifies each winner as a Character
+        InputDeserializer<String, Character> inputDeserializer = mock(InputDeserializer.class);
+        Point<Character> pointA = new Point<>('A');
+        Point<Character> pointB = new Point<>('B');
+        PointSource<Character> points = PointSource.of(List.of(pointA, pointA, pointA, pointB, pointB, pointB, pointA));
+        when(inputDeserializer.deserializeToSource(input)).thenReturn(points);
+        // AND a GameConsistencyValidator
+        GameConsistencyValidator<Character> gameConsistencyValidator = mock(GameConsistencyValidator.class);
+        // AND a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        // AND a TennisGameFactory
+        TennisGameFactory<Character> tennisGameFactory = mock(TennisGameFactory.class);
+        // AND our TennisGameProcessor built from the previously defined dependencies, which simulates each game a single time
+        TennisGameProcessor<String, Character> tennisGameProcessor = new TennisGameProcessor<>(inputDeserializer, gameConsistencyValidator, gameStateListener, tennisGameFactory, SimulationMode.SPECULATIVE);
+        // AND our TennisGameInput which defines that our tennis game is composed of our input and players identified by 'A' and 'B'
+        TennisGameInput<String, Character> tennisGameInput = new TennisGameInput<>(input, 'A', 'B');
+
+        // WHEN we process the TennisGameInput
+        tennisGameProcessor.process(tennisGameInput);
+
+        // THEN our input deserializer was properly called to deserialize the input
+        verify(inputDeserializer).deserializeToSource(input);
+        // AND the game consistency validator has validated the points while notifying our GameStateListener
+        verify(gameConsistencyValidator).validate('A', 'B', points, gameStateListener);
+        // AND the game was never simulated a second time
+        verifyNoInteractions(tennisGameFactory);
+    }
+
+    @Test
+    void testProcess_withProvidedGameStateListener() {
+        // GIVEN a String input that represents a sequence of points between players identified as 'A' and 'B'
+        String input = "AAAA";
+        // AND an InputDeserializer that deserializes a String and returns a PointSource that identifies each winner as a Character
+        InputDeserializer<String, Character> inputDeserializer = mock(InputDeserializer.class);
+        Point<Character> pointA = new Point<>('A');
+        PointSource<Character> points = PointSource.of(List.of(pointA, pointA, pointA, pointA));
+        when(inputDeserializer.deserializeToSource(input)).thenReturn(points);
+        // AND a GameConsistencyValidator
+        GameConsistencyValidator<Character> gameConsistencyValidator = mock(GameConsistencyValidator.class);
+        // AND two GameStateListener, the first one being the one our TennisGameProcessor is created with
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        GameStateListener<Character> providedGameStateListener = mock(GameStateListener.class);
+        // AND a TennisGameFactory that allows creating a TennisGame
+        TennisGameFactory<Character> tennisGameFactory = mock(TennisGameFactory.class);
+        TennisGame<Character> tennisGame = mock(TennisGame.class);
+        when(tennisGameFactory.create(eq('A'), eq('B'), eq(providedGameStateListener))).thenReturn(tennisGame);
+        // AND our TennisGameProcessor built from the previously defined dependencies
+        TennisGameProcessor<String, Character> tennisGameProcessor = new TennisGameProcessor<>(inputDeserializer, gameConsistencyValidator, gameStateListener, tennisGameFactory);
+
+        // WHEN we process the TennisGameInput with the second GameStateListener
+        tennisGameProcessor.process(new TennisGameInput<>(input, 'A', 'B'), providedGameStateListener);
+
+        // THEN the tennis game was created with the provided GameStateListener, and has processed our points
+        verify(tennisGameFactory).create(eq('A'), eq('B'), eq(providedGameStateListener));
+        verify(tennisGame).process(points);
+        // AND the GameStateListener our TennisGameProcessor was created with was left untouched
+        verifyNoInteractions(gameStateListener);
+    }
+
+    @Test
+    void testProcess_withPipelineMetrics() {
+        for (SimulationMode simulationMode : SimulationMode.values()) {
+            // GIVEN an InputDeserializer that deserializes a String into points whose winner is identified by a Character
+            InputDeserializer<String, Character> inputDeserializer = input -> {
+                List<Point<Character>> points = new ArrayList<>();
+                for (char winner : input.toCharArray()) {
+                    points.add(new Point<>(winner));
+                }
+                return points;
+            };
+            // AND switched on PipelineMetrics
+            PipelineMetrics pipelineMetrics = new PipelineMetrics(true);
+            // AND two TennisGameProcessor, the first one recording into these metrics, the second one without any metrics
+            RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+            RecordingGameStateListener expectedGameStateListener = new RecordingGameStateListener();
+            GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+            TennisGameProcessor<String, Character> tennisGameProcessor =
+                    new TennisGameProcessor<>(inputDeserializer, gameConsistencyValidator, gameStateListener, TennisGame::new, simulationMode, pipelineMetrics);
+            TennisGameProcessor<String, Character> expectedTennisGameProcessor =
+                    new TennisGameProcessor<>(inputDeserializer, gameConsistencyValidator, expectedGameStateListener, TennisGame::new, simulationMode);
+
+            // WHEN both processors process a consistent game, with two deuces and two advantages, and an inconsistent game
+            for (TennisGameProcessor<String, Character> processor : List.of(tennisGameProcessor, expectedTennisGameProcessor)) {
+                processor.process(new TennisGameInput<>("AAABBBABAA", 'A', 'B'));
+                assertThrows(InconsistentGameException.class, () -> processor.process(new TennisGameInput<>("AAA", 'A', 'B')));
+            }
+
+            // THEN the listener of both processors were notified of the exact same points
+            assertEquals(expectedGameStateListener.getEvents(), gameStateListener.getEvents());
+            // AND the game, its points, deuces and advantages, as well as the rejected game, were counted
+            assertEquals(1, pipelineMetrics.getGames());
+            assertEquals(10, pipelineMetrics.getPoints());
+            assertEquals(2, pipelineMetrics.getDeuces());
+            assertEquals(2, pipelineMetrics.getAdvantages());
+            assertEquals(1, pipelineMetrics.getRejections());
+            // AND both games were deserialized, yet only the consistent one was simulated and dispatched
+            assertEquals(2, pipelineMetrics.getLatency(PipelineStage.DESERIALIZE).getCount());
+            assertEquals(1, pipelineMetrics.getLatency(PipelineStage.SIMULATE).getCount());
+            assertEquals(1, pipelineMetrics.getLatency(PipelineStage.DISPATCH).getCount());
+            // AND the validation was only timed apart from the simulation when not speculative
+            assertEquals(simulationMode == SimulationMode.SPECULATIVE ? 0 : 1, pipelineMetrics.getLatency(PipelineStage.VALIDATE).getCount(), simulationMode.name());
+        }
+    }
+
+    @Test
+    void testProcess_withSwitchedOffPipelineMetrics() {
+        // GIVEN a String input that represents a sequence of points between players identified as 'A' and 'B'
+        String input = "AAAA";
+        // AND an InputDeserializer that deserializes a String and returns a PointSource that identifies each winner as a Character
+        InputDeserializer<String, Character> inputDeserializer = mock(InputDeserializer.class);
+        Point<Character> pointA = new Point<>('A');
+        PointSource<Character> points = PointSource.of(List.of(pointA, pointA, pointA, pointA));
+        when(inputDeserializer.deserializeToSource(input)).thenReturn(points);
+        // AND a GameConsistencyValidator
+        GameConsistencyValidator<Character> gameConsistencyValidator = mock(GameConsistencyValidator.class);
+        // AND a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        // AND switched off PipelineMetrics
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(false);
+        // AND our TennisGameProcessor built from the previously defined dependencies
+        TennisGameProcessor<String, Character> tennisGameProcessor = new TennisGameProcessor<>(
+                inputDeserializer, gameConsistencyValidator, gameStateListener, mock(TennisGameFactory.class), SimulationMode.SPECULATIVE, pipelineMetrics);
+
+        // WHEN we process the TennisGameInput
+        tennisGameProcessor.process(new TennisGameInput<>(input, 'A', 'B'));
+
+        // THEN the game was processed just like without any metrics
+        verify(gameConsistencyValidator).validate('A', 'B', points, gameStateListener);
+        // AND nothing was recorded
+        assertEquals(0, pipelineMetrics.getGames());
+        assertEquals(0, pipelineMetrics.getLatency(PipelineStage.DESERIALIZE).getCount());
+
+        // WHEN the metrics are switched on, and we process the TennisGameInput again
+        pipelineMetrics.setEnabled(true);
+        when(gameConsistencyValidator.validateAndBuffer('A', 'B', points)).thenReturn(new BufferingGameStateListener<>());
+        tennisGameProcessor.process(new TennisGameInput<>(input, 'A', 'B'));
+
+        // THEN the game was recorded
+        assertEquals(1, pipelineMetrics.getGames());
+        assertEquals(1, pipelineMetrics.getLatency(PipelineStage.DESERIALIZE).getCount());
+    }
+
+    @Test
+    void testTryProcess() {
+        for (boolean metricsEnabled : new boolean[]{false, true}) {
+            for (SimulationMode simulationMode : SimulationMode.values()) {
+                // GIVEN an InputDeserializer that deserializes a String into points whose winner is identified by a Character
+                InputDeserializer<String, Character> inputDeserializer = input -> input.chars().mapToObj(winner -> new Point<>((char) winner)).toList();
+                // AND our TennisGameProcessor made of real components
+                RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+                TennisGameProcessor<String, Character> tennisGameProcessor = new TennisGameProcessor<>(inputDeserializer,
+                        new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new), gameStateListener,
+                        TennisGame::new, simulationMode, new PipelineMetrics(metricsEnabled));
+
+                // WHEN we try to process a game won by a non-declared player
+                ValidationResult validationResult = tennisGameProcessor.tryProcess(new TennisGameInput<>("AABCA", 'A', 'B'));
+                // THEN it is rejected without throwing, along with its offending point
+                assertEquals(ValidationResult.unknownPlayer(3), validationResult, simulationMode.name());
+                // AND no point was notified
+                assertTrue(gameStateListener.getEvents().isEmpty());
+
+                // WHEN we try to process a consistent game
+                validationResult = tennisGameProcessor.tryProcess(new TennisGameInput<>("AAAA", 'A', 'B'));
+                // THEN it is valid, and each of its points was notified
+                assertTrue(validationResult.isValid());
+                assertEquals(4, gameStateListener.getEvents().size());
+            }
+        }
+    }
+
+    @Test
+    void testTryProcess_withPointStream() {
+        for (boolean metricsEnabled : new boolean[]{false, true}) {
+            // GIVEN our TennisGameProcessor made of real components, whose InputDeserializer is never used
+            PipelineMetrics pipelineMetrics = new PipelineMetrics(metricsEnabled);
+            RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+            TennisGameProcessor<String, Character> tennisGameProcessor = new TennisGameProcessor<>(mock(InputDeserializer.class),
+                    new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new), gameStateListener,
+                    TennisGame::new, SimulationMode.SPECULATIVE, pipelineMetrics);
+            // AND a GameStateListener and a GameRejectionListener
+            RecordingGameStateListener streamedGameStateListener = new RecordingGameStateListener();
+            GameRejectionListener gameRejectionListener = mock(GameRejectionListener.class);
+
+            // WHEN we process a consistent game, with two deuces and two advantages, streamed point by point
+            ValidationResult validationResult = tennisGameProcessor.tryProcess('A', 'B', PointStream.of(toList("AAABBBABAA")),
+                    streamedGameStateListener, gameRejectionListener);
+            // THEN it is valid, and each of its points was notified to the provided GameStateListener
+            assertTrue(validationResult.isValid());
+            assertEquals(10, streamedGameStateListener.getEvents().size());
+            verifyNoInteractions(gameRejectionListener);
+            streamedGameStateListener.getEvents().clear();
+
+            // WHEN we process a streamed game whose last point comes after the victory
+            validationResult = tennisGameProcessor.tryProcess('A', 'B', PointStream.of(toList("AAAAB")),
+                    streamedGameStateListener, gameRejectionListener);
+            // THEN it is rejected without throwing
+            assertEquals(ValidationResult.tooManyPoints(4), validationResult);
+            // AND its points were notified, along with the rejection of the four points that were passed on
+            assertEquals(4, streamedGameStateListener.getEvents().size());
+            verify(gameRejectionListener).onRejection(ValidationResult.tooManyPoints(4), 4);
+            // AND the GameStateListener our TennisGameProcessor was created with was left untouched
+            assertTrue(gameStateListener.getEvents().isEmpty());
+            // AND both games were counted only while the metrics are switched on
+            assertEquals(metricsEnabled ? 1 : 0, pipelineMetrics.getGames());
+            assertEquals(metricsEnabled ? 10 : 0, pipelineMetrics.getPoints());
+            assertEquals(metricsEnabled ? 2 : 0, pipelineMetrics.getDeuces());
+            assertEquals(metricsEnabled ? 2 : 0, pipelineMetrics.getAdvantages());
+            assertEquals(metricsEnabled ? 1 : 0, pipelineMetrics.getRejections());
+            assertEquals(metricsEnabled ? 2 : 0, pipelineMetrics.getLatency(PipelineStage.SIMULATE).getCount());
+        }
+    }
+
+    /**
+     * @param points the winner of each point, as a String.
+     * @return the {@link List} of {@link Point}s won by each provided winner.
+     */
+    private static List<Point<Character>> toList(final String points) {
+        return points.chars().mapToObj(winner -> new Point<>((char) winner)).toList();
+    }
 }
@@ -5,9 +5,13 @@ import fr.tennisgameprinter.domain.game.point.input.Point;
 import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
 import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
 import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
 import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
+import java.util.Iterator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -164,5 +168,93 @@ class TennisGameTest {
         assertTrue(tennisGame.isGameOver());
     }
 
+    @Test
+    void testProcess_withPointSource() {
+        // GIVEN a PointSource which includes a single deuce and results in player B's victory
+        Point<Character> pointA = new Point<>('A');
+        Point<Character> pointB = new Point<>('B');
+        PointSource<Character> points = PointSource.of(List.of(pointA, pointB, pointA, pointB, pointA, pointB, pointB, pointB, pointA));
+        // AND our two Player instances that are identified by those points
+        Player<Character> playerA = new Player<>('A');
+        Player<Character> playerB = new Player<>('B');
+        // AND a GameStateListener instance
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        // AND our TennisGame instance
+        TennisGame<Character> tennisGame = new TennisGame<>(playerA, playerB, gameStateListener);
 
-}
\ No newline at end of file
+        // WHEN we attempt to process the points
+        tennisGame.process(points);
+
+        // THEN the GameStateListener was notified of each point in order, and of nothing after player B's victory
+        InOrder inOrder = inOrder(gameStateListener);
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 15, 0));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 15, 15));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 30, 15));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 30, 30));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 40, 30));
+        inOrder.verify(gameStateListener).onDeuce();
+        inOrder.verify(gameStateListener).onAdvantage(new AdvantagePoint<>('B'));
+        inOrder.verify(gameStateListener).onVictory(new VictoryPoint<>('B'));
+        verifyNoMoreInteractions(gameStateListener);
+        // AND the game is over
+        assertTrue(tennisGame.isGameOver());
+    }
+
+    @Test
+    void testProcess_withPointStream() {
+        // GIVEN a PointStream which results in player A's victory, followed by a point after the victory
+        Point<Character> pointA = new Point<>('A');
+        Point<Character> pointB = new Point<>('B');
+        Iterator<Point<Character>> iterator = List.of(pointA, pointB, pointA, pointA, pointA, pointB).iterator();
+        PointStream<Character> points = () -> iterator.hasNext() ? iterator.next().winner() : null;
+        // AND a GameStateListener instance
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        // AND our TennisGame instance
+        TennisGame<Character> tennisGame = new TennisGame<>(new Player<>('A'), new Player<>('B'), gameStateListener);
+
+        // WHEN we attempt to process the points
+        tennisGame.process(points);
+
+        // THEN the GameStateListener was notified of each point in order, up to player A's victory
+        InOrder inOrder = inOrder(gameStateListener);
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 15, 0));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 15, 15));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 30, 15));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 40, 15));
+        inOrder.verify(gameStateListener).onVictory(new VictoryPoint<>('A'));
+        verifyNoMoreInteractions(gameStateListener);
+        // AND the game is over
+        assertTrue(tennisGame.isGameOver());
+        // AND the point after the victory was never read from the stream
+        assertTrue(iterator.hasNext());
+    }
+
+    @Test
+    void testReset() {
+        // GIVEN a game won by player A
+        Player<Character> playerA = new Player<>('A');
+        Player<Character> playerB = new Player<>('B');
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        TennisGame<Character> tennisGame = new TennisGame<>(playerA, playerB, gameStateListener);
+        tennisGame.process(List.of(new Point<>('A'), new Point<>('A'), new Point<>('A'), new Point<>('A')));
+        clearInvocations(gameStateListener);
+
+        // WHEN we reset the game between players C and D
+        tennisGame.reset('C', 'D', gameStateListener);
+        // THEN the game is no longer over
+        assertFalse(tennisGame.isGameOver());
+
+        // WHEN the game processes the points of player D's victory
+        tennisGame.process(List.of(new Point<>('D'), new Point<>('C'), new Point<>('D'), new Point<>('D'), new Point<>('D')));
+        // THEN the GameStateListener was notified of the points between players C and D, from a score of zero
+        InOrder inOrder = inOrder(gameStateListener);
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('C', 'D', 0, 15));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('C', 'D', 15, 15));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('C', 'D', 15, 30));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('C', 'D', 15, 40));
+        inOrder.verify(gameStateListener).onVictory(new VictoryPoint<>('D'));
+        verifyNoMoreInteractions(gameStateListener);
+        // AND the game is over
+        assertTrue(tennisGame.isGameOver());
+    }
+}
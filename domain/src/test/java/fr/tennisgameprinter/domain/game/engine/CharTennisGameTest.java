@@ -0,0 +1,162 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointStream;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.listener.CharGameStateListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharTennisGameTest {
+
+    @Test
+    void testProcess_matchesTennisGame() {
+        // GIVEN every sequence of up to twelve points between players identified as 'A' and 'B'
+        for (int length = 0; length <= 12; ++length) {
+            for (int sequence = 0; sequence < (1 << length); ++sequence) {
+                String points = toPoints(sequence, length);
+                // AND a TennisGame as well as a CharTennisGame notifying a CharGameStateListener
+                RecordingGameStateListener expected = new RecordingGameStateListener();
+                TennisGame<Character> tennisGame = new TennisGame<>(new Player<>('A'), new Player<>('B'), expected);
+                RecordingCharGameStateListener actual = new RecordingCharGameStateListener();
+                CharTennisGame charTennisGame = new CharTennisGame(new Player<>('A'), new Player<>('B'), actual);
+
+                // WHEN both games process the points
+                tennisGame.process(PointSource.of(toList(points)));
+                charTennisGame.process(charPointSource(points));
+
+                // THEN both games notified their listener of the exact same points
+                assertEquals(expected.getEvents(), actual.getEvents(), "Mismatch for the points " + points);
+                // AND the CharTennisGame only ever used the primitive callbacks
+                assertEquals(actual.getEvents().size(), actual.primitiveNotifications);
+                // AND both games agree on whether the game is over
+                assertEquals(tennisGame.isGameOver(), charTennisGame.isGameOver());
+            }
+        }
+    }
+
+    @Test
+    void testProcess_withGenericListener() {
+        // GIVEN the points of a game which includes a deuce and results in player B's victory
+        String points = "AAABBBBBA";
+        // AND a TennisGame as well as a CharTennisGame, both notifying a GameStateListener that is not char-specialized
+        RecordingGameStateListener expected = new RecordingGameStateListener();
+        new TennisGame<>(new Player<>('A'), new Player<>('B'), expected).process(toList(points));
+        RecordingGameStateListener actual = new RecordingGameStateListener();
+        CharTennisGame charTennisGame = new CharTennisGame(new Player<>('A'), new Player<>('B'), actual);
+
+        // WHEN the CharTennisGame processes the list of points
+        charTennisGame.process(toList(points));
+
+        // THEN it notified its listener of the exact same points, the last point coming after player B's victory
+        assertTrue(charTennisGame.isGameOver());
+        assertEquals(8, actual.getEvents().size());
+        assertEquals(expected.getEvents(), actual.getEvents());
+    }
+
+    @Test
+    void testProcess_withCharPointStream_matchesCharPointSource() {
+        // GIVEN every sequence of up to twelve points between players identified as 'A' and 'B'
+        for (int length = 0; length <= 12; ++length) {
+            for (int sequence = 0; sequence < (1 << length); ++sequence) {
+                String points = toPoints(sequence, length);
+                // AND two CharTennisGames notifying a CharGameStateListener
+                RecordingCharGameStateListener expected = new RecordingCharGameStateListener();
+                CharTennisGame charTennisGame = new CharTennisGame(new Player<>('A'), new Player<>('B'), expected);
+                RecordingCharGameStateListener actual = new RecordingCharGameStateListener();
+                CharTennisGame streamingCharTennisGame = new CharTennisGame(new Player<>('A'), new Player<>('B'), actual);
+
+                // WHEN the games process the points, from a CharPointSource and from a CharPointStream
+                charTennisGame.process(charPointSource(points));
+                int[] pointsRead = new int[1];
+                streamingCharTennisGame.process((CharPointStream) () -> pointsRead[0] < points.length() ? points.charAt(pointsRead[0]++) : CharPointStream.END_OF_STREAM);
+
+                // THEN both games notified their listener of the exact same points, through the primitive callbacks
+                assertEquals(expected.getEvents(), actual.getEvents(), "Mismatch for the points " + points);
+                assertEquals(actual.getEvents().size(), actual.primitiveNotifications);
+                // AND both games agree on whether the game is over
+                assertEquals(charTennisGame.isGameOver(), streamingCharTennisGame.isGameOver());
+                // AND the streaming game read no point past the end of the game
+                assertEquals(actual.getEvents().size(), pointsRead[0]);
+            }
+        }
+    }
+
+    /**
+     * @param sequence the bits of the sequence, where a set bit represents a point won by 'B'.
+     * @param length the length of the sequence.
+     * @return the winners of the points represented by the provided sequence.
+     */
+    private static String toPoints(final int sequence, final int length) {
+        StringBuilder points = new StringBuilder();
+        for (int i = 0; i < length; ++i) {
+            points.append(((sequence >> i) & 1) == 0 ? 'A' : 'B');
+        }
+        return points.toString();
+    }
+
+    private static List<Point<Character>> toList(final String points) {
+        List<Point<Character>> list = new ArrayList<>();
+        for (char winner : points.toCharArray()) {
+            list.add(new Point<>(winner));
+        }
+        return list;
+    }
+
+    private static CharPointSource charPointSource(final String points) {
+        return new CharPointSource() {
+            @Override
+            public int size() {
+                return points.length();
+            }
+
+            @Override
+            public char charWinner(final int index) {
+                return points.charAt(index);
+            }
+        };
+    }
+
+    /**
+     * A {@link RecordingGameStateListener} that is also a {@link CharGameStateListener}, and counts the notifications
+     * received through the primitive callbacks.
+     */
+    private static class RecordingCharGameStateListener extends RecordingGameStateListener implements CharGameStateListener {
+
+        private int primitiveNotifications;
+
+        @Override
+        public void onPoint(final char playerId, final char otherPlayerId, final int playerScore, final int otherPlayerScore) {
+            primitiveNotifications++;
+            onPoint(new RegularPoint<>(playerId, otherPlayerId, playerScore, otherPlayerScore));
+        }
+
+        @Override
+        public void onAdvantage(final char advantagedPlayerId) {
+            primitiveNotifications++;
+            onAdvantage(new AdvantagePoint<>(advantagedPlayerId));
+        }
+
+        @Override
+        public void onDeuce() {
+            primitiveNotifications++;
+            super.onDeuce();
+        }
+
+        @Override
+        public void onVictory(final char winner) {
+            primitiveNotifications++;
+            onVictory(new VictoryPoint<>(winner));
+        }
+    }
+}
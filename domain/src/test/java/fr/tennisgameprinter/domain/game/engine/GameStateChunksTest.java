@@ -0,0 +1,42 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameStateChunksTest {
+
+    @Test
+    void testChunk_matchesSingleTransitions() {
+        // GIVEN every state and every chunk
+        for (int state = 0; state < GameStates.STATE_COUNT; ++state) {
+            for (int chunk = 0; chunk < 256; ++chunk) {
+                // WHEN we look the chunk up
+                int index = GameStateChunks.index(state, chunk);
+                // THEN its transitions match the transitions of each of its points, until the game is over
+                int expectedState = state;
+                int expectedTransitionCount = 0;
+                for (int k = 0; k < GameStateChunks.CHUNK_SIZE && expectedState != GameStates.GAME_OVER; ++k) {
+                    int transition = GameStates.transition(expectedState, ((chunk >>> k) & 1) == 0);
+                    assertEquals(transition, (int) (GameStateChunks.transitions(index) >>> (8 * k)) & 0xFF);
+                    expectedState = GameStates.nextState(transition);
+                    expectedTransitionCount++;
+                }
+                assertEquals(expectedTransitionCount, GameStateChunks.transitionCount(index));
+                // AND the resulting state matches the state reached through single transitions
+                assertEquals(expectedState, GameStateChunks.nextState(index));
+            }
+        }
+    }
+
+    @Test
+    void testChunk_withVictoryWithinTheChunk() {
+        // GIVEN a chunk where the first player wins the first four points of the game
+        int index = GameStateChunks.index(GameStates.INITIAL, 0b11110000);
+        // THEN only four transitions are replayed, the last one being the first player's victory
+        assertEquals(4, GameStateChunks.transitionCount(index));
+        assertEquals(GameStates.EVENT_VICTORY_FIRST, GameStates.event((int) (GameStateChunks.transitions(index) >>> 24) & 0xFF));
+        // AND the game is over
+        assertEquals(GameStates.GAME_OVER, GameStateChunks.nextState(index));
+    }
+}
@@ -0,0 +1,83 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class GameStatesTest {
+
+    @Test
+    void testTransition_fromInitialState() {
+        // WHEN the first player wins the first point
+        int transition = GameStates.transition(GameStates.INITIAL, true);
+        // THEN the first player has a score of 15 while the second player has a score of 0
+        int state = GameStates.nextState(transition);
+        assertEquals(15, GameStates.firstPlayerScore(state));
+        assertEquals(0, GameStates.secondPlayerScore(state));
+        // AND the transition notifies a regular point
+        assertEquals(GameStates.EVENT_REGULAR, GameStates.event(transition));
+    }
+
+    @Test
+    void testTransition_towardsDeuce() {
+        // GIVEN a state where the first player has a score of 40 and the second player has a score of 30
+        int state = 3 * 4 + 2;
+        // WHEN the second player wins the point
+        int transition = GameStates.transition(state, false);
+        // THEN the game reaches a deuce
+        assertEquals(GameStates.DEUCE, GameStates.nextState(transition));
+        assertEquals(GameStates.EVENT_DEUCE, GameStates.event(transition));
+    }
+
+    @Test
+    void testTransition_aroundAdvantage() {
+        // WHEN the second player wins the point on a deuce, THEN the second player has the advantage
+        int transition = GameStates.transition(GameStates.DEUCE, false);
+        assertEquals(GameStates.ADVANTAGE_SECOND, GameStates.nextState(transition));
+        assertEquals(GameStates.EVENT_ADVANTAGE_SECOND, GameStates.event(transition));
+        // WHEN the first player then wins the point, THEN the game is back to a deuce
+        transition = GameStates.transition(GameStates.ADVANTAGE_SECOND, true);
+        assertEquals(GameStates.DEUCE, GameStates.nextState(transition));
+        assertEquals(GameStates.EVENT_DEUCE, GameStates.event(transition));
+        // WHEN the first player wins the point on its own advantage, THEN the first player wins the game
+        transition = GameStates.transition(GameStates.ADVANTAGE_FIRST, true);
+        assertEquals(GameStates.GAME_OVER, GameStates.nextState(transition));
+        assertEquals(GameStates.EVENT_VICTORY_FIRST, GameStates.event(transition));
+    }
+
+    @Test
+    void testTransition_fromGameOver() {
+        // WHEN any player wins a point after the game is over, THEN the game stays over without any event
+        for (boolean isWonByFirstPlayer : new boolean[]{true, false}) {
+            int transition = GameStates.transition(GameStates.GAME_OVER, isWonByFirstPlayer);
+            assertEquals(GameStates.GAME_OVER, GameStates.nextState(transition));
+            assertEquals(GameStates.EVENT_NONE, GameStates.event(transition));
+        }
+    }
+
+    @Test
+    void testState() {
+        // WHEN we encode the scores of both players, THEN they match the scores decoded from the state
+        int state = GameStates.state(40, 15);
+        assertEquals(40, GameStates.firstPlayerScore(state));
+        assertEquals(15, GameStates.secondPlayerScore(state));
+        // AND a score which is not a regular score is rejected
+        assertThrows(IllegalArgumentException.class, () -> GameStates.state(50, 0));
+    }
+
+    @Test
+    void testNotify() {
+        // GIVEN a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        // WHEN we notify it of the transition where the second player scores a point from a 30 - 15 score
+        GameStates.notify(gameStateListener, GameStates.transition(2 * 4 + 1, false), CanonicalPoints.of('A', 'B'));
+        // THEN it was notified of a regular point with the expected scores
+        verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 30, 30));
+        verifyNoMoreInteractions(gameStateListener);
+    }
+}
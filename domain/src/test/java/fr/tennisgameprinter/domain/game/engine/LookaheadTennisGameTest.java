@@ -0,0 +1,101 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookaheadTennisGameTest {
+
+    @Test
+    void testProcess_matchesTennisGame() {
+        // GIVEN every sequence of up to eighteen points between players identified as 'A' and 'B'
+        for (int length = 0; length <= 18; ++length) {
+            for (int sequence = 0; sequence < (1 << length); ++sequence) {
+                // THEN a LookaheadTennisGame notifies the exact same points as a TennisGame
+                assertSameOutcome(toPoints(sequence, length));
+            }
+        }
+    }
+
+    @Test
+    void testProcess_withLongDeuceBattles_matchesTennisGame() {
+        // GIVEN long games that go through many deuces, with points after the victory
+        Random random = new Random(42);
+        for (int game = 0; game < 200; ++game) {
+            List<Point<Character>> points = new ArrayList<>(toPoints(0b111000, 6));
+            int deuces = random.nextInt(100);
+            for (int deuce = 0; deuce < deuces; ++deuce) {
+                points.addAll(random.nextBoolean() ? toPoints(0b10, 2) : toPoints(0b01, 2));
+            }
+            points.addAll(toPoints(random.nextInt(1 << 10), 10));
+            // THEN a LookaheadTennisGame notifies the exact same points as a TennisGame
+            assertSameOutcome(points);
+        }
+    }
+
+    @Test
+    void testProcess_withList() {
+        // GIVEN a list of Point instances where player A wins the game within the first chunk
+        Point<Character> pointA = new Point<>('A');
+        Point<Character> pointB = new Point<>('B');
+        List<Point<Character>> points = List.of(pointA, pointB, pointA, pointA, pointA, pointB, pointB, pointB, pointB);
+        // AND our LookaheadTennisGame instance
+        RecordingGameStateListener recordingGameStateListener = new RecordingGameStateListener();
+        LookaheadTennisGame<Character> lookaheadTennisGame = new LookaheadTennisGame<>(new Player<>('A'), new Player<>('B'), recordingGameStateListener);
+
+        // WHEN we attempt to process the points
+        lookaheadTennisGame.process(points);
+
+        // THEN the game is over
+        assertTrue(lookaheadTennisGame.isGameOver());
+        // AND the listener was notified of five points, as the other points came after player A's victory
+        assertEquals(5, recordingGameStateListener.getEvents().size());
+    }
+
+    /**
+     * Asserts that a {@link LookaheadTennisGame}, whether it reads a {@link PointSource} or a {@link PointStream}, and a
+     * {@link TennisGame} notify the exact same points.
+     * @param points the list of {@link Point}s to process.
+     */
+    private static void assertSameOutcome(final List<Point<Character>> points) {
+        RecordingGameStateListener expected = new RecordingGameStateListener();
+        TennisGame<Character> tennisGame = new TennisGame<>(new Player<>('A'), new Player<>('B'), expected);
+        RecordingGameStateListener actual = new RecordingGameStateListener();
+        LookaheadTennisGame<Character> lookaheadTennisGame = new LookaheadTennisGame<>(new Player<>('A'), new Player<>('B'), actual);
+
+        tennisGame.process(points);
+        lookaheadTennisGame.process(PointSource.of(points));
+
+        assertEquals(expected.getEvents(), actual.getEvents(), "Mismatch for the points " + points);
+        assertEquals(tennisGame.isGameOver(), lookaheadTennisGame.isGameOver());
+
+        RecordingGameStateListener streamed = new RecordingGameStateListener();
+        LookaheadTennisGame<Character> streamingLookaheadTennisGame = new LookaheadTennisGame<>(new Player<>('A'), new Player<>('B'), streamed);
+        streamingLookaheadTennisGame.process(PointStream.of(points));
+
+        assertEquals(expected.getEvents(), streamed.getEvents(), "Mismatch for the streamed points " + points);
+        assertEquals(tennisGame.isGameOver(), streamingLookaheadTennisGame.isGameOver());
+    }
+
+    /**
+     * @param sequence the bits of the sequence, where a set bit represents a point won by 'B'.
+     * @param length the length of the sequence.
+     * @return the list of {@link Point}s represented by the provided sequence.
+     */
+    private static List<Point<Character>> toPoints(final int sequence, final int length) {
+        List<Point<Character>> points = new ArrayList<>();
+        for (int i = 0; i < length; ++i) {
+            points.add(new Point<>(((sequence >> i) & 1) == 0 ? 'A' : 'B'));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,117 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.game.point.output.CanonicalPoints;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapGameStateArenaTest {
+
+    @Test
+    void testOnPoint_matchesTennisGame() {
+        // GIVEN every sequence of twelve points between players identified as 'A' and 'B', each one held by its own slot
+        int length = 12;
+        int games = 1 << length;
+        OffHeapGameStateArena offHeapGameStateArena = new OffHeapGameStateArena(games);
+        CanonicalPoints<Character> players = CanonicalPoints.of('A', 'B');
+        List<RecordingGameStateListener> actual = new ArrayList<>();
+        for (int slot = 0; slot < games; ++slot) {
+            actual.add(new RecordingGameStateListener());
+        }
+
+        // WHEN the points of all games are played in an interleaved fashion, until each game is over
+        for (int i = 0; i < length; ++i) {
+            for (int slot = 0; slot < games; ++slot) {
+                if (!offHeapGameStateArena.isGameOver(slot)) {
+                    offHeapGameStateArena.onPoint(slot, players, winner(slot, i), actual.get(slot));
+                }
+            }
+        }
+
+        // THEN each game notified its listener of the exact same points as a TennisGame would have
+        for (int slot = 0; slot < games; ++slot) {
+            List<Point<Character>> points = new ArrayList<>();
+            for (int i = 0; i < length; ++i) {
+                points.add(new Point<>(winner(slot, i)));
+            }
+            RecordingGameStateListener expected = new RecordingGameStateListener();
+            TennisGame<Character> tennisGame = new TennisGame<>(new Player<>('A'), new Player<>('B'), expected);
+            tennisGame.process(points);
+            assertEquals(expected.getEvents(), actual.get(slot).getEvents(), "Mismatch for the points " + points);
+            assertEquals(tennisGame.isGameOver(), offHeapGameStateArena.isGameOver(slot));
+        }
+    }
+
+    @Test
+    void testProcess() {
+        // GIVEN points which include a deuce and result in player B's victory, followed by an extra point
+        Point<Character> pointA = new Point<>('A');
+        Point<Character> pointB = new Point<>('B');
+        List<Point<Character>> points = List.of(pointA, pointA, pointA, pointB, pointB, pointB, pointB, pointB, pointA);
+        // AND the points notified by a TennisGame
+        RecordingGameStateListener expected = new RecordingGameStateListener();
+        new TennisGame<>(new Player<>('A'), new Player<>('B'), expected).process(points);
+        // AND our OffHeapGameStateArena
+        OffHeapGameStateArena offHeapGameStateArena = new OffHeapGameStateArena(4);
+
+        // WHEN the points are processed for the game held by a slot
+        RecordingGameStateListener actual = new RecordingGameStateListener();
+        offHeapGameStateArena.process(2, CanonicalPoints.of('A', 'B'), PointSource.of(points), actual);
+
+        // THEN the exact same points were notified
+        assertEquals(expected.getEvents(), actual.getEvents());
+        // AND only the game held by this slot is over
+        assertTrue(offHeapGameStateArena.isGameOver(2));
+        assertFalse(offHeapGameStateArena.isGameOver(1));
+        assertFalse(offHeapGameStateArena.isGameOver(3));
+    }
+
+    @Test
+    void testOnPoint_afterVictory() {
+        // GIVEN our OffHeapGameStateArena, where the game held by a slot was won by player A
+        OffHeapGameStateArena offHeapGameStateArena = new OffHeapGameStateArena(1);
+        CanonicalPoints<Character> players = CanonicalPoints.of('A', 'B');
+        RecordingGameStateListener recordingGameStateListener = new RecordingGameStateListener();
+        for (int i = 0; i < 4; ++i) {
+            offHeapGameStateArena.onPoint(0, players, 'A', recordingGameStateListener);
+        }
+        // WHEN another point is played, THEN an InconsistentGameException is thrown
+        assertThrows(InconsistentGameException.class, () -> offHeapGameStateArena.onPoint(0, players, 'A', recordingGameStateListener));
+        assertEquals(4, recordingGameStateListener.getEvents().size());
+
+        // WHEN the slot is reset, THEN it holds a game that has just started
+        offHeapGameStateArena.reset(0);
+        assertFalse(offHeapGameStateArena.isGameOver(0));
+        offHeapGameStateArena.onPoint(0, players, 'B', recordingGameStateListener);
+        assertEquals(5, recordingGameStateListener.getEvents().size());
+    }
+
+    @Test
+    void testOnPoint_withNonDeclaredPlayer() {
+        OffHeapGameStateArena offHeapGameStateArena = new OffHeapGameStateArena(1);
+        assertThrows(InconsistentGameException.class, () -> offHeapGameStateArena.onPoint(0, CanonicalPoints.of('A', 'B'), 'C', new RecordingGameStateListener()));
+    }
+
+    @Test
+    void testConstructor() {
+        assertEquals(1_000, new OffHeapGameStateArena(1_000).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapGameStateArena(0));
+    }
+
+    /**
+     * @param sequence the bits of the sequence, where a set bit represents a point won by 'B'.
+     * @param index the index of the point.
+     * @return the winner of the point.
+     */
+    private static char winner(final int sequence, final int index) {
+        return ((sequence >> index) & 1) == 0 ? 'A' : 'B';
+    }
+}
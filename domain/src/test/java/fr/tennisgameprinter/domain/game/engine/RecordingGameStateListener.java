@@ -0,0 +1,41 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link GameStateListener} that records every notification, which allows comparing the notifications of two engines or two processors.
+ */
+public class RecordingGameStateListener implements GameStateListener<Character> {
+
+    private final List<Object> events = new ArrayList<>();
+
+    @Override
+    public void onPoint(final RegularPoint<Character> regularPoint) {
+        events.add(regularPoint);
+    }
+
+    @Override
+    public void onAdvantage(final AdvantagePoint<Character> advantagePoint) {
+        events.add(advantagePoint);
+    }
+
+    @Override
+    public void onDeuce() {
+        events.add("Deuce");
+    }
+
+    @Override
+    public void onVictory(final VictoryPoint<Character> victoryPoint) {
+        events.add(victoryPoint);
+    }
+
+    public List<Object> getEvents() {
+        return events;
+    }
+}
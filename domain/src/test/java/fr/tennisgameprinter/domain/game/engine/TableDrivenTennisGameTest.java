@@ -0,0 +1,96 @@
+package fr.tennisgameprinter.domain.game.engine;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableDrivenTennisGameTest {
+
+    @Test
+    void testProcess_matchesTennisGame() {
+        // GIVEN every sequence of up to twelve points between players identified as 'A' and 'B'
+        for (int length = 0; length <= 12; ++length) {
+            for (int sequence = 0; sequence < (1 << length); ++sequence) {
+                List<Point<Character>> points = toPoints(sequence, length);
+                // AND a TennisGame as well as a TableDrivenTennisGame
+                RecordingGameStateListener expected = new RecordingGameStateListener();
+                TennisGame<Character> tennisGame = new TennisGame<>(new Player<>('A'), new Player<>('B'), expected);
+                RecordingGameStateListener actual = new RecordingGameStateListener();
+                TableDrivenTennisGame<Character> tableDrivenTennisGame = new TableDrivenTennisGame<>(new Player<>('A'), new Player<>('B'), actual);
+
+                // WHEN both games process the points
+                tennisGame.process(points);
+                tableDrivenTennisGame.process(PointSource.of(points));
+
+                // THEN both games notified their listener of the exact same points
+                assertEquals(expected.getEvents(), actual.getEvents(), "Mismatch for the points " + points);
+                // AND both games agree on whether the game is over
+                assertEquals(tennisGame.isGameOver(), tableDrivenTennisGame.isGameOver());
+            }
+        }
+    }
+
+    @Test
+    void testProcess_withPointStream_matchesTennisGame() {
+        // GIVEN every sequence of up to twelve points between players identified as 'A' and 'B'
+        for (int length = 0; length <= 12; ++length) {
+            for (int sequence = 0; sequence < (1 << length); ++sequence) {
+                List<Point<Character>> points = toPoints(sequence, length);
+                // AND a TennisGame as well as a TableDrivenTennisGame
+                RecordingGameStateListener expected = new RecordingGameStateListener();
+                TennisGame<Character> tennisGame = new TennisGame<>(new Player<>('A'), new Player<>('B'), expected);
+                RecordingGameStateListener actual = new RecordingGameStateListener();
+                TableDrivenTennisGame<Character> tableDrivenTennisGame = new TableDrivenTennisGame<>(new Player<>('A'), new Player<>('B'), actual);
+
+                // WHEN both games process the points, the TableDrivenTennisGame reading them from a PointStream
+                tennisGame.process(points);
+                tableDrivenTennisGame.process(PointStream.of(points));
+
+                // THEN both games notified their listener of the exact same points
+                assertEquals(expected.getEvents(), actual.getEvents(), "Mismatch for the points " + points);
+                // AND both games agree on whether the game is over
+                assertEquals(tennisGame.isGameOver(), tableDrivenTennisGame.isGameOver());
+            }
+        }
+    }
+
+    @Test
+    void testProcess_withList() {
+        // GIVEN a list of Point instances which includes a deuce and results in player B's victory
+        Point<Character> pointA = new Point<>('A');
+        Point<Character> pointB = new Point<>('B');
+        List<Point<Character>> points = List.of(pointA, pointA, pointA, pointB, pointB, pointB, pointB, pointB, pointA);
+        // AND our TableDrivenTennisGame instance
+        RecordingGameStateListener recordingGameStateListener = new RecordingGameStateListener();
+        TableDrivenTennisGame<Character> tableDrivenTennisGame = new TableDrivenTennisGame<>(new Player<>('A'), new Player<>('B'), recordingGameStateListener);
+
+        // WHEN we attempt to process the points
+        tableDrivenTennisGame.process(points);
+
+        // THEN the game is over
+        assertTrue(tableDrivenTennisGame.isGameOver());
+        // AND the listener was notified of eight points, as the last point came after player B's victory
+        assertEquals(8, recordingGameStateListener.getEvents().size());
+    }
+
+    /**
+     * @param sequence the bits of the sequence, where a set bit represents a point won by 'B'.
+     * @param length the length of the sequence.
+     * @return the list of {@link Point}s represented by the provided sequence.
+     */
+    private static List<Point<Character>> toPoints(final int sequence, final int length) {
+        List<Point<Character>> points = new ArrayList<>();
+        for (int i = 0; i < length; ++i) {
+            points.add(new Point<>(((sequence >> i) & 1) == 0 ? 'A' : 'B'));
+        }
+        return points;
+    }
+}
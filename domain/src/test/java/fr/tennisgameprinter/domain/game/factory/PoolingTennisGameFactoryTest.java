@@ -0,0 +1,137 @@
+package fr.tennisgameprinter.domain.game.factory;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.engine.CharTennisGame;
+import fr.tennisgameprinter.domain.game.engine.LookaheadTennisGame;
+import fr.tennisgameprinter.domain.game.engine.RecordingGameStateListener;
+import fr.tennisgameprinter.domain.game.engine.TableDrivenTennisGame;
+import fr.tennisgameprinter.domain.game.engine.TennisGameEngine;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PoolingTennisGameFactoryTest {
+
+    @Test
+    void testCreate_resetsPooledGame() {
+        // GIVEN every game engine
+        for (TennisGameFactory<Character> engine : List.<TennisGameFactory<Character>>of(TennisGame::new, TableDrivenTennisGame::new, LookaheadTennisGame::new, CharTennisGame::new)) {
+            // AND a PoolingTennisGameFactory of this engine
+            PoolingTennisGameFactory<Character> poolingTennisGameFactory = new PoolingTennisGameFactory<>(engine);
+            RecordingGameStateListener listener = new RecordingGameStateListener();
+            // AND a released game which processed the points of player A's victory after a deuce
+            TennisGameEngine<Character> tennisGame = poolingTennisGameFactory.create('A', 'B', listener);
+            tennisGame.process(toList("AAABBBAA"));
+            poolingTennisGameFactory.release(tennisGame);
+            listener.getEvents().clear();
+
+            // WHEN we create a game between players B and A with another listener
+            RecordingGameStateListener otherListener = new RecordingGameStateListener();
+            TennisGameEngine<Character> pooledTennisGame = poolingTennisGameFactory.create('B', 'A', otherListener);
+            // AND it processes the points of player A's victory
+            pooledTennisGame.process(toList("ABAAA"));
+
+            // THEN the pooled game was reused
+            assertSame(tennisGame, pooledTennisGame);
+            // AND it notified the other listener of the exact same points as a new game between players B and A
+            RecordingGameStateListener expected = new RecordingGameStateListener();
+            new TennisGame<>(new Player<>('B'), new Player<>('A'), expected).process(toList("ABAAA"));
+            assertEquals(expected.getEvents(), otherListener.getEvents());
+            assertTrue(pooledTennisGame.isGameOver());
+            // AND the listener of the released game was no longer notified
+            assertTrue(listener.getEvents().isEmpty());
+        }
+    }
+
+    @Test
+    void testCreate_withPlayers() {
+        // GIVEN a PoolingTennisGameFactory and a game it created, then released
+        PoolingTennisGameFactory<Character> poolingTennisGameFactory = new PoolingTennisGameFactory<>(TableDrivenTennisGame::new);
+        TennisGameEngine<Character> tennisGame = poolingTennisGameFactory.create(new Player<>('A'), new Player<>('B'), new RecordingGameStateListener());
+        poolingTennisGameFactory.release(tennisGame);
+        // WHEN we create a game from players
+        // THEN the pooled game is reused as well
+        assertSame(tennisGame, poolingTennisGameFactory.create(new Player<>('B'), new Player<>('A'), new RecordingGameStateListener()));
+    }
+
+    @Test
+    void testCreate_withoutRelease() {
+        // GIVEN a PoolingTennisGameFactory and a game it created, which is never released
+        PoolingTennisGameFactory<Character> poolingTennisGameFactory = new PoolingTennisGameFactory<>(TableDrivenTennisGame::new);
+        RecordingGameStateListener listener = new RecordingGameStateListener();
+        TennisGameEngine<Character> tennisGame = poolingTennisGameFactory.create('A', 'B', listener);
+        // WHEN we create another game
+        TennisGameEngine<Character> otherTennisGame = poolingTennisGameFactory.create('A', 'B', listener);
+        // THEN it is another game, as the first one may still be in use
+        assertNotSame(tennisGame, otherTennisGame);
+    }
+
+    @Test
+    void testCreate_withManyListeners() {
+        // GIVEN a PoolingTennisGameFactory and a game it created, then released
+        PoolingTennisGameFactory<Character> poolingTennisGameFactory = new PoolingTennisGameFactory<>(TableDrivenTennisGame::new);
+        TennisGameEngine<Character> tennisGame = poolingTennisGameFactory.create('A', 'B', new RecordingGameStateListener());
+        poolingTennisGameFactory.release(tennisGame);
+        // WHEN we create and release many games, each with its own listener
+        for (int i = 0; i < 1_000; ++i) {
+            TennisGameEngine<Character> otherTennisGame = poolingTennisGameFactory.create('A', 'B', new RecordingGameStateListener());
+            // THEN the pooled game is reused every time
+            assertSame(tennisGame, otherTennisGame);
+            poolingTennisGameFactory.release(otherTennisGame);
+        }
+    }
+
+    @Test
+    void testCreate_onAnotherThread() throws InterruptedException {
+        // GIVEN a PoolingTennisGameFactory and a game it created, then released
+        PoolingTennisGameFactory<Character> poolingTennisGameFactory = new PoolingTennisGameFactory<>(TableDrivenTennisGame::new);
+        RecordingGameStateListener listener = new RecordingGameStateListener();
+        TennisGameEngine<Character> tennisGame = poolingTennisGameFactory.create('A', 'B', listener);
+        poolingTennisGameFactory.release(tennisGame);
+        // WHEN another thread creates a game
+        AtomicReference<TennisGameEngine<Character>> otherTennisGame = new AtomicReference<>();
+        Thread.ofVirtual().start(() -> otherTennisGame.set(poolingTennisGameFactory.create('A', 'B', listener))).join();
+        // THEN it is another game, as each thread only reuses the games it released
+        assertNotNull(otherTennisGame.get());
+        assertNotSame(tennisGame, otherTennisGame.get());
+        // AND the released game is still pooled for the current thread
+        assertSame(tennisGame, poolingTennisGameFactory.create('A', 'B', listener));
+    }
+
+    @Test
+    void testRelease_detachesListener() {
+        // GIVEN a PoolingTennisGameFactory and a game it created
+        TennisGameEngine<Character> tennisGame = mock(TennisGameEngine.class);
+        PoolingTennisGameFactory<Character> poolingTennisGameFactory = new PoolingTennisGameFactory<>((playerA, playerB, listener) -> tennisGame);
+        poolingTennisGameFactory.create('A', 'B', new RecordingGameStateListener());
+        // WHEN the game is released
+        poolingTennisGameFactory.release(tennisGame);
+        // THEN it is detached from its listener
+        verify(tennisGame).detach();
+    }
+
+    @Test
+    void testRelease_withIdleGame() {
+        // GIVEN a PoolingTennisGameFactory and two games it created, then released
+        PoolingTennisGameFactory<Character> poolingTennisGameFactory = new PoolingTennisGameFactory<>(TableDrivenTennisGame::new);
+        TennisGameEngine<Character> tennisGame = poolingTennisGameFactory.create('A', 'B', new RecordingGameStateListener());
+        TennisGameEngine<Character> otherTennisGame = poolingTennisGameFactory.create('A', 'B', new RecordingGameStateListener());
+        poolingTennisGameFactory.release(tennisGame);
+        poolingTennisGameFactory.release(otherTennisGame);
+        // WHEN we create two games
+        // THEN only the first released game is reused, as a thread keeps a single idle game
+        assertSame(tennisGame, poolingTennisGameFactory.create('A', 'B', new RecordingGameStateListener()));
+        assertNotSame(otherTennisGame, poolingTennisGameFactory.create('A', 'B', new RecordingGameStateListener()));
+    }
+
+    private static List<Point<Character>> toList(final String points) {
+        return points.chars().mapToObj(winner -> new Point<>((char) winner)).toList();
+    }
+}
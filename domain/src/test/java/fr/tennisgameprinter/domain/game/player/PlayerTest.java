@@ -63,4 +63,24 @@ class PlayerTest {
         assertFalse(secondPlayer.hasAdvantage());
     }
 
-}
\ No newline at end of file
+    @Test
+    void testReset() {
+        // GIVEN a player identified as 'A' who has the advantage over a player identified as 'B'
+        Player<Character> firstPlayer = new Player<>('A');
+        Player<Character> secondPlayer = new Player<>('B');
+        for (int i = 0; i < 3; ++i) {
+            firstPlayer.winsPointOver(secondPlayer);
+            secondPlayer.winsPointOver(firstPlayer);
+        }
+        firstPlayer.winsPointOver(secondPlayer);
+        // WHEN we reset the first player as a player identified as 'C'
+        firstPlayer.reset('C');
+        // THEN it is identified as 'C'
+        assertEquals('C', firstPlayer.getId());
+        // AND it has a score of zero, without the advantage
+        assertEquals(0, firstPlayer.getScore());
+        assertFalse(firstPlayer.hasAdvantage());
+        // AND it cannot be reset without an identifier
+        assertThrows(NullPointerException.class, () -> firstPlayer.reset(null));
+    }
+}
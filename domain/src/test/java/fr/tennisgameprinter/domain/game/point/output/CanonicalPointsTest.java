@@ -0,0 +1,83 @@
+package fr.tennisgameprinter.domain.game.point.output;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.engine.RecordingGameStateListener;
+import fr.tennisgameprinter.domain.game.engine.TableDrivenTennisGame;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CanonicalPointsTest {
+
+    @Test
+    void testOf() {
+        // WHEN we get the canonical points of the same pair of players twice
+        CanonicalPoints<String> canonicalPoints = CanonicalPoints.of("Nadal", "Federer");
+        // THEN the same instance is handed out
+        assertSame(canonicalPoints, CanonicalPoints.of(new String("Nadal"), new String("Federer")));
+        // AND the pair of players in the opposite order gets its own instance
+        CanonicalPoints<String> reversed = CanonicalPoints.of("Federer", "Nadal");
+        assertNotSame(canonicalPoints, reversed);
+        assertEquals("Federer", reversed.getFirstPlayerId());
+        assertEquals("Nadal", reversed.getSecondPlayerId());
+    }
+
+    @Test
+    void testOf_withCollidingPairs() {
+        // GIVEN two pairs of players which share the same slot of the cache
+        CanonicalPoints<Integer> first = CanonicalPoints.of(0, 0);
+        // WHEN the second pair evicts the first one
+        CanonicalPoints<Integer> second = CanonicalPoints.of(0, CanonicalPoints.CACHE_SLOTS);
+        // THEN each pair still gets the point outcomes of its own players
+        assertNotSame(first, second);
+        assertEquals(new VictoryPoint<>(CanonicalPoints.CACHE_SLOTS), second.secondPlayerVictory());
+        CanonicalPoints<Integer> again = CanonicalPoints.of(0, 0);
+        assertNotSame(second, again);
+        assertEquals(new RegularPoint<>(0, 0, 15, 0), again.regularPoint(15, 0));
+    }
+
+    @Test
+    void testRegularPoint() {
+        // GIVEN the canonical points of players 'A' and 'B'
+        CanonicalPoints<Character> canonicalPoints = CanonicalPoints.of('A', 'B');
+        // WHEN we get the regular point of a given score twice
+        RegularPoint<Character> regularPoint = canonicalPoints.regularPoint(30, 15);
+        // THEN the same instance is handed out, which matches the regular point of that score
+        assertSame(regularPoint, canonicalPoints.regularPoint(30, 15));
+        assertEquals(new RegularPoint<>('A', 'B', 30, 15), regularPoint);
+        // AND any other score is still rendered, though not canonical
+        assertEquals(new RegularPoint<>('A', 'B', 45, 0), canonicalPoints.regularPoint(45, 0));
+    }
+
+    @Test
+    void testAdvantagesAndVictories() {
+        // GIVEN the canonical points of players 'A' and 'B'
+        CanonicalPoints<Character> canonicalPoints = CanonicalPoints.of('A', 'B');
+        // THEN each advantage and victory matches its player, and is canonical
+        assertEquals(new AdvantagePoint<>('A'), canonicalPoints.firstPlayerAdvantage());
+        assertEquals(new AdvantagePoint<>('B'), canonicalPoints.secondPlayerAdvantage());
+        assertEquals(new VictoryPoint<>('A'), canonicalPoints.firstPlayerVictory());
+        assertEquals(new VictoryPoint<>('B'), canonicalPoints.secondPlayerVictory());
+        assertSame(canonicalPoints.firstPlayerVictory(), canonicalPoints.firstPlayerVictory());
+    }
+
+    @Test
+    void testTennisGames_notifyCanonicalPoints() {
+        // GIVEN a game which includes a deuce and an advantage
+        List<Point<Character>> points = "AAABBBABAA".chars().mapToObj(winner -> new Point<>((char) winner)).toList();
+        // WHEN both a TennisGame and a TableDrivenTennisGame process it
+        RecordingGameStateListener tennisGameEvents = new RecordingGameStateListener();
+        new TennisGame<>(new Player<>('A'), new Player<>('B'), tennisGameEvents).process(points);
+        RecordingGameStateListener tableDrivenEvents = new RecordingGameStateListener();
+        new TableDrivenTennisGame<>(new Player<>('A'), new Player<>('B'), tableDrivenEvents).process(points);
+        // THEN both games notified the very same point outcome instances
+        assertEquals(tennisGameEvents.getEvents().size(), tableDrivenEvents.getEvents().size());
+        for (int i = 0; i < tennisGameEvents.getEvents().size(); ++i) {
+            assertSame(tennisGameEvents.getEvents().get(i), tableDrivenEvents.getEvents().get(i));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package fr.tennisgameprinter.domain.game.point.output;
+
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+class PointOutcomeTest {
+
+    @Test
+    void testNotifyTo() {
+        // GIVEN a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+
+        // WHEN each kind of point outcome notifies it
+        new RegularPoint<>('A', 'B', 15, 0).notifyTo(gameStateListener);
+        new AdvantagePoint<>('A').notifyTo(gameStateListener);
+        DeucePoint.<Character>deuce().notifyTo(gameStateListener);
+        new VictoryPoint<>('A').notifyTo(gameStateListener);
+
+        // THEN each of them was notified through the matching callback
+        verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 15, 0));
+        verify(gameStateListener).onAdvantage(new AdvantagePoint<>('A'));
+        verify(gameStateListener).onDeuce();
+        verify(gameStateListener).onVictory(new VictoryPoint<>('A'));
+        verifyNoMoreInteractions(gameStateListener);
+    }
+
+    @Test
+    void testDeuce() {
+        // WHEN we get the deuce of two kinds of players, THEN it is the same shared instance
+        assertSame(DeucePoint.<Character>deuce(), DeucePoint.<String>deuce());
+    }
+}
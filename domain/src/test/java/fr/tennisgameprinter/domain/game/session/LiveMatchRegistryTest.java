@@ -0,0 +1,166 @@
+package fr.tennisgameprinter.domain.game.session;
+
+import fr.tennisgameprinter.domain.game.engine.RecordingGameStateListener;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class LiveMatchRegistryTest {
+
+    @Test
+    void testOnPoint_createsMatchOnFirstPoint() {
+        // GIVEN our LiveMatchRegistry, which creates a recording listener per match
+        Map<String, RecordingGameStateListener> gameStateListeners = new ConcurrentHashMap<>();
+        LiveMatchRegistry<String, Character> liveMatchRegistry =
+                new LiveMatchRegistry<>(matchId -> gameStateListeners.computeIfAbsent(matchId, id -> new RecordingGameStateListener()), Duration.ofMinutes(1));
+        assertFalse(liveMatchRegistry.isLive("court-1"));
+
+        // WHEN points are played for two matches
+        liveMatchRegistry.onPoint("court-1", 'A', 'B', 'A');
+        liveMatchRegistry.onPoint("court-2", 'A', 'B', 'B');
+        liveMatchRegistry.onPoint("court-1", 'A', 'B', 'A');
+
+        // THEN both matches are live
+        assertTrue(liveMatchRegistry.isLive("court-1"));
+        assertTrue(liveMatchRegistry.isLive("court-2"));
+        assertEquals(2, liveMatchRegistry.size());
+        // AND each match notified its own listener of its own points
+        assertEquals(List.of(new RegularPoint<>('A', 'B', 15, 0), new RegularPoint<>('A', 'B', 30, 0)), gameStateListeners.get("court-1").getEvents());
+        assertEquals(List.of(new RegularPoint<>('A', 'B', 0, 15)), gameStateListeners.get("court-2").getEvents());
+    }
+
+    @Test
+    void testOnPoint_evictsMatchAfterVictory() {
+        // GIVEN our LiveMatchRegistry
+        RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+        LiveMatchRegistry<String, Character> liveMatchRegistry = new LiveMatchRegistry<>(matchId -> gameStateListener, Duration.ofMinutes(1));
+
+        // WHEN a whole game is played for a match
+        for (int i = 0; i < 4; ++i) {
+            liveMatchRegistry.onPoint("court-1", 'A', 'B', 'B');
+        }
+
+        // THEN the victory was notified
+        assertEquals(new VictoryPoint<>('B'), gameStateListener.getEvents().get(3));
+        // AND the match was evicted
+        assertFalse(liveMatchRegistry.isLive("court-1"));
+        assertEquals(0, liveMatchRegistry.size());
+        // AND a further point starts a new match
+        liveMatchRegistry.onPoint("court-1", 'A', 'B', 'A');
+        assertEquals(new RegularPoint<>('A', 'B', 15, 0), gameStateListener.getEvents().get(4));
+    }
+
+    @Test
+    void testEvictIdleMatches() {
+        // GIVEN our LiveMatchRegistry, with a clock we control and an idle timeout of ten seconds
+        AtomicLong nanoClock = new AtomicLong();
+        LiveMatchRegistry<String, Character> liveMatchRegistry =
+                new LiveMatchRegistry<>(matchId -> new RecordingGameStateListener(), Duration.ofSeconds(10), nanoClock::get);
+        // AND a match whose last point was played eleven seconds ago, and another one whose last point was played five seconds ago
+        liveMatchRegistry.onPoint("court-1", 'A', 'B', 'A');
+        nanoClock.addAndGet(Duration.ofSeconds(6).toNanos());
+        liveMatchRegistry.onPoint("court-2", 'A', 'B', 'A');
+        nanoClock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        // WHEN we evict idle matches
+        int evictedMatches = liveMatchRegistry.evictIdleMatches();
+
+        // THEN only the first match was evicted
+        assertEquals(1, evictedMatches);
+        assertFalse(liveMatchRegistry.isLive("court-1"));
+        assertTrue(liveMatchRegistry.isLive("court-2"));
+    }
+
+    @Test
+    void testOnPoint_withNonDeclaredPlayer() {
+        // GIVEN our LiveMatchRegistry, with a live match
+        LiveMatchRegistry<String, Character> liveMatchRegistry = new LiveMatchRegistry<>(matchId -> new RecordingGameStateListener(), Duration.ofMinutes(1));
+        liveMatchRegistry.onPoint("court-1", 'A', 'B', 'A');
+        // WHEN a point is won by a non-declared player, THEN an InconsistentGameException is thrown
+        assertThrows(InconsistentGameException.class, () -> liveMatchRegistry.onPoint("court-1", 'A', 'B', 'C'));
+        // AND the match is still live
+        assertTrue(liveMatchRegistry.isLive("court-1"));
+    }
+
+    @Test
+    void testOnPoint_withRejectedFirstPoint() {
+        // GIVEN our LiveMatchRegistry
+        LiveMatchRegistry<String, Character> liveMatchRegistry = new LiveMatchRegistry<>(matchId -> new RecordingGameStateListener(), Duration.ofMinutes(1));
+        // WHEN the first point of a match is won by a non-declared player, THEN an InconsistentGameException is thrown
+        assertThrows(InconsistentGameException.class, () -> liveMatchRegistry.onPoint("court-1", 'A', 'B', 'C'));
+        // AND the match is not live
+        assertFalse(liveMatchRegistry.isLive("court-1"));
+        assertEquals(0, liveMatchRegistry.size());
+    }
+
+    @Test
+    void testOnPoint_withMismatchedPlayers() {
+        // GIVEN our LiveMatchRegistry, with a live match between A and B
+        RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+        LiveMatchRegistry<String, Character> liveMatchRegistry = new LiveMatchRegistry<>(matchId -> gameStateListener, Duration.ofMinutes(1));
+        liveMatchRegistry.onPoint("court-1", 'A', 'B', 'A');
+        // WHEN a point of the same match is played between other players, THEN an InconsistentGameException is thrown
+        assertThrows(InconsistentGameException.class, () -> liveMatchRegistry.onPoint("court-1", 'C', 'D', 'C'));
+        // AND the point was not processed
+        assertEquals(List.of(new RegularPoint<>('A', 'B', 15, 0)), gameStateListener.getEvents());
+    }
+
+    @Test
+    void testOnPoint_withConcurrentPoints() throws InterruptedException {
+        // GIVEN our LiveMatchRegistry, which counts the victories of each match
+        Map<Integer, AtomicLong> victories = new ConcurrentHashMap<>();
+        LiveMatchRegistry<Integer, Character> liveMatchRegistry = new LiveMatchRegistry<>(matchId -> new RecordingGameStateListener() {
+            @Override
+            public void onVictory(final VictoryPoint<Character> victoryPoint) {
+                victories.computeIfAbsent(matchId, id -> new AtomicLong()).incrementAndGet();
+            }
+        }, Duration.ofMinutes(1));
+        // AND many threads, which all play 100 points won by player A for each of 16 matches
+        int threads = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threads)) {
+            for (int thread = 0; thread < threads; ++thread) {
+                executorService.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int point = 0; point < 100; ++point) {
+                        for (int matchId = 0; matchId < 16; ++matchId) {
+                            liveMatchRegistry.onPoint(matchId, 'A', 'B', 'A');
+                        }
+                    }
+                });
+            }
+            // WHEN all threads play their points at once
+            start.countDown();
+        }
+
+        // THEN each match was won exactly once every four points, with no point lost nor processed twice
+        for (int matchId = 0; matchId < 16; ++matchId) {
+            assertEquals(threads * 100 / 4, victories.get(matchId).get());
+        }
+        assertEquals(0, liveMatchRegistry.size());
+    }
+
+    @Test
+    void testConstructor_withInvalidIdleTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> new LiveMatchRegistry<String, Character>(matchId -> mock(GameStateListener.class), Duration.ZERO));
+    }
+}
@@ -0,0 +1,108 @@
+package fr.tennisgameprinter.domain.game.session;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.engine.RecordingGameStateListener;
+import fr.tennisgameprinter.domain.game.player.Player;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TennisGameSessionTest {
+
+    @Test
+    void testOnPoint_matchesTennisGame() {
+        // GIVEN every sequence of up to twelve points between players identified as 'A' and 'B'
+        for (int length = 0; length <= 12; ++length) {
+            for (int sequence = 0; sequence < (1 << length); ++sequence) {
+                List<Point<Character>> points = new ArrayList<>();
+                for (int i = 0; i < length; ++i) {
+                    points.add(new Point<>((sequence >> i & 1) == 0 ? 'A' : 'B'));
+                }
+                // AND a TennisGame as well as our TennisGameSession
+                RecordingGameStateListener expected = new RecordingGameStateListener();
+                TennisGame<Character> tennisGame = new TennisGame<>(new Player<>('A'), new Player<>('B'), expected);
+                RecordingGameStateListener actual = new RecordingGameStateListener();
+                TennisGameSession<Character> tennisGameSession = new TennisGameSession<>('A', 'B', actual);
+
+                // WHEN the TennisGame processes the points, and our session is fed each point until the game is over
+                tennisGame.process(points);
+                for (Point<Character> point : points) {
+                    if (tennisGameSession.isGameOver()) {
+                        break;
+                    }
+                    tennisGameSession.onPoint(point.winner());
+                }
+
+                // THEN both notified their listener of the exact same points
+                assertEquals(expected.getEvents(), actual.getEvents(), "Mismatch for the points " + points);
+                // AND both agree on whether the game is over
+                assertEquals(tennisGame.isGameOver(), tennisGameSession.isGameOver());
+            }
+        }
+    }
+
+    @Test
+    void testOnPoint_notifiesImmediately() {
+        // GIVEN our TennisGameSession
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        TennisGameSession<Character> tennisGameSession = new TennisGameSession<>('A', 'B', gameStateListener);
+        // WHEN a single point is played, THEN the listener is notified of it right away
+        tennisGameSession.onPoint('B');
+        verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 0, 15));
+        // AND the game is not over yet
+        assertFalse(tennisGameSession.isGameOver());
+        verifyNoMoreInteractions(gameStateListener);
+    }
+
+    @Test
+    void testOnPoint_afterVictory() {
+        // GIVEN our TennisGameSession, whose game was won by player A
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        TennisGameSession<Character> tennisGameSession = new TennisGameSession<>('A', 'B', gameStateListener);
+        for (int i = 0; i < 4; ++i) {
+            tennisGameSession.onPoint('A');
+        }
+        assertTrue(tennisGameSession.isGameOver());
+        verify(gameStateListener).onVictory(new VictoryPoint<>('A'));
+
+        // WHEN another point is played, THEN an InconsistentGameException is thrown
+        InconsistentGameException inconsistentGameException = assertThrows(InconsistentGameException.class, () -> tennisGameSession.onPoint('B'));
+        assertEquals("The provided tennis game is inconsistent as it showcased more points than needed to end the game.", inconsistentGameException.getMessage());
+        // AND the listener was not notified of it
+        verify(gameStateListener, times(3)).onPoint(any());
+        verifyNoMoreInteractions(gameStateListener);
+    }
+
+    @Test
+    void testOnPoint_withNonDeclaredPlayer() {
+        // GIVEN our TennisGameSession, where player A scored a point
+        RecordingGameStateListener gameStateListener = new RecordingGameStateListener();
+        TennisGameSession<Character> tennisGameSession = new TennisGameSession<>('A', 'B', gameStateListener);
+        tennisGameSession.onPoint('A');
+
+        // WHEN a point is won by a non-declared player, THEN an InconsistentGameException is thrown
+        InconsistentGameException inconsistentGameException = assertThrows(InconsistentGameException.class, () -> tennisGameSession.onPoint('C'));
+        assertEquals("The provided tennis game points contain a non-declared player.", inconsistentGameException.getMessage());
+
+        // AND the session goes on as if the point never happened
+        tennisGameSession.onPoint('A');
+        assertEquals(new RegularPoint<>('A', 'B', 30, 0), gameStateListener.getEvents().get(1));
+    }
+
+    @Test
+    void testConstructor_withSamePlayers() {
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        InconsistentGameException inconsistentGameException = assertThrows(InconsistentGameException.class,
+                () -> new TennisGameSession<>('A', 'A', gameStateListener));
+        assertEquals("A tennis game must have two different players.", inconsistentGameException.getMessage());
+    }
+}
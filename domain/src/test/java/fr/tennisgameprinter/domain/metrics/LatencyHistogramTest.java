@@ -0,0 +1,92 @@
+package fr.tennisgameprinter.domain.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testRecord_withSmallValues() {
+        // GIVEN our LatencyHistogram
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        // WHEN we record the values from 1 to 100
+        for (int value = 1; value <= 100; ++value) {
+            latencyHistogram.record(value);
+        }
+        // THEN every statistic is exact, as small values are counted exactly
+        assertEquals(100, latencyHistogram.getCount());
+        assertEquals(50.5, latencyHistogram.getMean());
+        assertEquals(100, latencyHistogram.getMax());
+        assertEquals(1, latencyHistogram.getValueAtPercentile(0));
+        assertEquals(50, latencyHistogram.getValueAtPercentile(50));
+        assertEquals(99, latencyHistogram.getValueAtPercentile(99));
+        assertEquals(100, latencyHistogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testGetValueAtPercentile_isWithinPrecision() {
+        // GIVEN random values spread over many orders of magnitude
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = (long) Math.pow(10, random.nextDouble() * 9);
+        }
+        // AND our LatencyHistogram, which recorded all of them
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        for (long value : values) {
+            latencyHistogram.record(value);
+        }
+        // WHEN we compute some percentiles, THEN they are within 1/64 of the exact ones
+        Arrays.sort(values);
+        for (double percentile : new double[]{10, 50, 90, 99, 99.9}) {
+            long exactValue = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long value = latencyHistogram.getValueAtPercentile(percentile);
+            assertTrue(value >= exactValue && value <= exactValue + exactValue / 64,
+                    "percentile " + percentile + " : " + value + " is not within the precision of " + exactValue);
+        }
+        // AND the maximum is exact
+        assertEquals(values[values.length - 1], latencyHistogram.getMax());
+    }
+
+    @Test
+    void testBucketIndex_roundTrip() {
+        // GIVEN every bucket of our LatencyHistogram, WHEN we compute the highest value it counts,
+        // THEN this value is counted by this very bucket, and the value right after is counted by the next bucket
+        for (int bucketIndex = 0; bucketIndex < LatencyHistogram.bucketIndex(LatencyHistogram.HIGHEST_TRACKABLE_VALUE); ++bucketIndex) {
+            long highestEquivalentValue = LatencyHistogram.highestEquivalentValue(bucketIndex);
+            assertEquals(bucketIndex, LatencyHistogram.bucketIndex(highestEquivalentValue));
+            assertEquals(bucketIndex + 1, LatencyHistogram.bucketIndex(highestEquivalentValue + 1));
+        }
+    }
+
+    @Test
+    void testRecord_withOutOfRangeValues() {
+        // GIVEN our LatencyHistogram
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        // WHEN we record a negative value and a value above the highest trackable value
+        latencyHistogram.record(-1);
+        latencyHistogram.record(Long.MAX_VALUE);
+        // THEN both values are clamped
+        assertEquals(2, latencyHistogram.getCount());
+        assertEquals(0, latencyHistogram.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.HIGHEST_TRACKABLE_VALUE, latencyHistogram.getMax());
+    }
+
+    @Test
+    void testReset() {
+        // GIVEN our LatencyHistogram, which recorded a value
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        latencyHistogram.record(1_000);
+        // WHEN we reset it
+        latencyHistogram.reset();
+        // THEN it holds no value anymore
+        assertEquals(0, latencyHistogram.getCount());
+        assertEquals(0, latencyHistogram.getMean());
+        assertEquals(0, latencyHistogram.getMax());
+        assertEquals(0, latencyHistogram.getValueAtPercentile(99));
+    }
+}
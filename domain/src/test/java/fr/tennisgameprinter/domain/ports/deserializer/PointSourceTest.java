@@ -0,0 +1,35 @@
+package fr.tennisgameprinter.domain.ports.deserializer;
+
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointSourceTest {
+
+    @Test
+    void testOf() {
+        // GIVEN a list of Point instances
+        List<Point<Character>> points = List.of(new Point<>('A'), new Point<>('B'));
+        // WHEN we create a PointSource from this list
+        PointSource<Character> pointSource = PointSource.of(points);
+        // THEN it holds as many points as the list
+        assertEquals(2, pointSource.size());
+        // AND each winner matches the winner of the point at the same index
+        assertEquals('A', pointSource.winner(0));
+        assertEquals('B', pointSource.winner(1));
+        // AND each point is only won by its winner
+        assertTrue(pointSource.isWonBy(0, 'A'));
+        assertFalse(pointSource.isWonBy(0, 'B'));
+        assertTrue(pointSource.isWonBy(1, 'B'));
+        assertFalse(pointSource.isWonBy(1, 'A'));
+    }
+
+    @Test
+    void testOf_withNullList() {
+        // WHEN we create a PointSource from a null list, THEN a NullPointerException is thrown
+        assertThrows(NullPointerException.class, () -> PointSource.of(null));
+    }
+}
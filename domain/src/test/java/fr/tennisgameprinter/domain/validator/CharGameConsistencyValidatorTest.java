@@ -0,0 +1,140 @@
+package fr.tennisgameprinter.domain.validator;
+
+import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.engine.RecordingGameStateListener;
+import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.CharPointStream;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharGameConsistencyValidatorTest {
+
+    /** The characters the winners of the points are picked from, 'C' being a non-declared player. */
+    private static final char[] WINNERS = {'A', 'B', 'C'};
+
+    @Test
+    void testValidate_matchesGameConsistencyValidator() {
+        // GIVEN a GameConsistencyValidator as well as a CharGameConsistencyValidator
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+        CharGameConsistencyValidator charGameConsistencyValidator = new CharGameConsistencyValidator();
+        // AND every sequence of up to eight points won by 'A', 'B' or the non-declared 'C'
+        for (int length = 0; length <= 8; ++length) {
+            int sequences = (int) Math.pow(WINNERS.length, length);
+            for (int sequence = 0; sequence < sequences; ++sequence) {
+                String points = toPoints(sequence, length);
+                // WHEN both validators validate the points, while notifying a listener
+                RecordingGameStateListener expected = new RecordingGameStateListener();
+                String expectedInconsistency = inconsistency(() -> gameConsistencyValidator.validate('A', 'B', toPointSource(points), expected));
+                RecordingGameStateListener actual = new RecordingGameStateListener();
+                String actualInconsistency = inconsistency(() -> charGameConsistencyValidator.validate('A', 'B', charPointSource(points), actual));
+                // THEN both validators reject the exact same games, with the exact same message
+                assertEquals(expectedInconsistency, actualInconsistency, "Mismatch for the points " + points);
+                // AND both validators notified their listener of the exact same points
+                assertEquals(expected.getEvents(), actual.getEvents(), "Mismatch for the points " + points);
+            }
+        }
+    }
+
+    @Test
+    void testCheck_matchesGameConsistencyValidator() {
+        // GIVEN a GameConsistencyValidator as well as a CharGameConsistencyValidator
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+        CharGameConsistencyValidator charGameConsistencyValidator = new CharGameConsistencyValidator();
+        // AND every sequence of up to eight points won by 'A', 'B' or the non-declared 'C'
+        for (int length = 0; length <= 8; ++length) {
+            int sequences = (int) Math.pow(WINNERS.length, length);
+            for (int sequence = 0; sequence < sequences; ++sequence) {
+                String points = toPoints(sequence, length);
+                // WHEN both validators check the points
+                ValidationResult expected = gameConsistencyValidator.check('A', 'B', toPointSource(points));
+                ValidationResult actual = charGameConsistencyValidator.check('A', 'B', charPointSource(points));
+                // THEN both validators reject the exact same games, with the exact same category and offending point
+                assertEquals(expected, actual, "Mismatch for the points " + points);
+                // AND so does the CharGameConsistencyValidator when the points are streamed
+                assertEquals(expected, charGameConsistencyValidator.check('A', 'B', charPointStream(points)), "Mismatch for the points " + points);
+                assertEquals(expected, charGameConsistencyValidator.check((Character) 'A', (Character) 'B', charPointStream(points)), "Mismatch for the points " + points);
+            }
+        }
+        // AND both validators reject a game whose two players are the same alike
+        assertEquals(ValidationResult.samePlayers(), charGameConsistencyValidator.check('A', 'A', charPointSource("AAAA")));
+    }
+
+    @Test
+    void testValidate_withSamePlayers() {
+        // GIVEN our CharGameConsistencyValidator
+        CharGameConsistencyValidator charGameConsistencyValidator = new CharGameConsistencyValidator();
+        // WHEN we validate a game whose two players are the same, THEN an InconsistentGameException is thrown
+        InconsistentGameException inconsistentGameException = assertThrows(InconsistentGameException.class,
+                () -> charGameConsistencyValidator.validate('A', 'A', charPointSource("AAAA")));
+        // AND its message matches our expectation
+        assertEquals("A tennis game must have two different players.", inconsistentGameException.getMessage());
+    }
+
+    @Test
+    void testValidate_withNullPlayer() {
+        // GIVEN our CharGameConsistencyValidator
+        CharGameConsistencyValidator charGameConsistencyValidator = new CharGameConsistencyValidator();
+        // WHEN we validate a game whose first player is null, THEN an InconsistentGameException is thrown
+        InconsistentGameException inconsistentGameException = assertThrows(InconsistentGameException.class,
+                () -> charGameConsistencyValidator.validate(null, 'B', (PointSource<Character>) charPointSource("BBBB")));
+        // AND its message matches our expectation
+        assertEquals("A tennis game must have two different players.", inconsistentGameException.getMessage());
+    }
+
+    /**
+     * @param validation the validation to run.
+     * @return the message of the {@link InconsistentGameException} thrown by the validation, or null if none was thrown.
+     */
+    private static String inconsistency(final Runnable validation) {
+        try {
+            validation.run();
+            return null;
+        } catch (InconsistentGameException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * @param sequence the sequence, whose digits in base 3 each pick the winner of a point within {@link #WINNERS}.
+     * @param length the length of the sequence.
+     * @return the winners of the points represented by the provided sequence.
+     */
+    private static String toPoints(final int sequence, final int length) {
+        StringBuilder points = new StringBuilder();
+        for (int i = 0, remaining = sequence; i < length; ++i, remaining /= WINNERS.length) {
+            points.append(WINNERS[remaining % WINNERS.length]);
+        }
+        return points.toString();
+    }
+
+    private static PointSource<Character> toPointSource(final String points) {
+        return PointSource.of(points.chars().mapToObj(winner -> new Point<>((char) winner)).toList());
+    }
+
+    private static CharPointSource charPointSource(final String points) {
+        return new CharPointSource() {
+            @Override
+            public int size() {
+                return points.length();
+            }
+
+            @Override
+            public char charWinner(final int index) {
+                return points.charAt(index);
+            }
+        };
+    }
+
+    private static CharPointStream charPointStream(final String points) {
+        int[] pointsRead = new int[1];
+        return () -> pointsRead[0] < points.length() ? points.charAt(pointsRead[0]++) : CharPointStream.END_OF_STREAM;
+    }
+}
@@ -1,17 +1,26 @@
 package fr.tennisgameprinter.domain.validator;
 
 import fr.tennisgameprinter.domain.TennisGame;
+import fr.tennisgameprinter.domain.game.factory.PoolingTennisGameFactory;
 import fr.tennisgameprinter.domain.game.factory.TennisGameFactory;
 import fr.tennisgameprinter.domain.game.point.input.Point;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.deserializer.PointSource;
+import fr.tennisgameprinter.domain.ports.deserializer.PointStream;
+import fr.tennisgameprinter.domain.ports.listener.GameRejectionListener;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
 import fr.tennisgameprinter.domain.validator.exception.InconsistentGameException;
+import fr.tennisgameprinter.domain.validator.exception.StacklessInconsistentGameException;
 import fr.tennisgameprinter.domain.validator.listener.ProcessedPointsCounter;
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -84,11 +93,7 @@ class GameConsistencyValidatorTest {
         TennisGame<Character> tennisGame = mock(TennisGame.class);
         when(tennisGame.isGameOver()).thenReturn(true);
         TennisGameFactory<Character> tennisGameFactory = mock(TennisGameFactory.class);
-        when(tennisGameFactory.create(
-                argThat(player -> player.getId().equals('A')),
-                argThat(player -> player.getId().equals('B')),
-                eq(processedPointsCounter))
-        ).thenReturn(tennisGame);
+        when(tennisGameFactory.create(eq('A'), eq('B'), eq(processedPointsCounter))).thenReturn(tennisGame);
         // AND our validator
         GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(tennisGameFactory, () -> processedPointsCounter);
 
@@ -114,11 +119,7 @@ class GameConsistencyValidatorTest {
         TennisGame<Character> tennisGame = (TennisGame<Character>) mock(TennisGame.class);
         when(tennisGame.isGameOver()).thenReturn(true);
         TennisGameFactory<Character> tennisGameFactory = (TennisGameFactory<Character>) mock(TennisGameFactory.class);
-        when(tennisGameFactory.create(
-                argThat(player -> player.getId().equals('A')),
-                argThat(player -> player.getId().equals('B')),
-                eq(processedPointsCounter))
-        ).thenReturn(tennisGame);
+        when(tennisGameFactory.create(eq('A'), eq('B'), eq(processedPointsCounter))).thenReturn(tennisGame);
         // AND our validator
         GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(tennisGameFactory, () -> processedPointsCounter);
 
@@ -147,11 +148,7 @@ class GameConsistencyValidatorTest {
         TennisGame<Character> tennisGame = mock(TennisGame.class);
         when(tennisGame.isGameOver()).thenReturn(true);
         TennisGameFactory<Character> tennisGameFactory = mock(TennisGameFactory.class);
-        when(tennisGameFactory.create(
-                argThat(player -> player.getId().equals('A')),
-                argThat(player -> player.getId().equals('B')),
-                eq(processedPointsCounter))
-        ).thenReturn(tennisGame);
+        when(tennisGameFactory.create(eq('A'), eq('B'), eq(processedPointsCounter))).thenReturn(tennisGame);
         // AND our validator
         GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(tennisGameFactory, () -> processedPointsCounter);
 
@@ -177,11 +174,7 @@ class GameConsistencyValidatorTest {
         TennisGame<Character> tennisGame = mock(TennisGame.class);
         when(tennisGame.isGameOver()).thenReturn(false);
         TennisGameFactory<Character> tennisGameFactory = mock(TennisGameFactory.class);
-        when(tennisGameFactory.create(
-                argThat(player -> player.getId().equals('A')),
-                argThat(player -> player.getId().equals('B')),
-                eq(processedPointsCounter))
-        ).thenReturn(tennisGame);
+        when(tennisGameFactory.create(eq('A'), eq('B'), eq(processedPointsCounter))).thenReturn(tennisGame);
         // AND our validator
         GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(tennisGameFactory, () -> processedPointsCounter);
 
@@ -198,4 +191,241 @@ class GameConsistencyValidatorTest {
         inOrder.verify(tennisGame).isGameOver();
     }
 
-}
\ No newline at end of file
+    @Test
+    void testValidate_withGameStateListener() {
+        // GIVEN a list of Point where each winner is identified by a Character, which forms a consistent game
+        Point<Character> pointA = new Point<>('A');
+        Point<Character> pointB = new Point<>('B');
+        List<Point<Character>> points = List.of(pointA, pointA, pointA, pointB, pointA);
+        // AND a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        // AND our validator that simulates actual tennis games
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+
+        // WHEN we validate the input for players identified by 'A' and 'B'
+        assertDoesNotThrow(() -> gameConsistencyValidator.validate('A', 'B', points, gameStateListener));
+
+        // THEN no exception was thrown
+        // AND the GameStateListener was notified of each point in order, once the game was proven consistent
+        InOrder inOrder = inOrder(gameStateListener);
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 15, 0));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 30, 0));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 40, 0));
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 40, 15));
+        inOrder.verify(gameStateListener).onVictory(new VictoryPoint<>('A'));
+        verifyNoMoreInteractions(gameStateListener);
+    }
+
+    @Test
+    void testValidate_withGameStateListener_withLessPointsThanNeededToCloseTheGame() {
+        // GIVEN a list of Point where each winner is identified by a Character, which does not end the game
+        Point<Character> pointA = new Point<>('A');
+        Point<Character> pointB = new Point<>('B');
+        List<Point<Character>> points = List.of(pointA, pointA, pointB);
+        // AND a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        // AND our validator that simulates actual tennis games
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+
+        // WHEN we validate the input for players identified by 'A' and 'B'
+        // THEN an InconsistentGameException is thrown
+        InconsistentGameException inconsistentGameException = assertThrows(InconsistentGameException.class,
+                () -> gameConsistencyValidator.validate('A', 'B', points, gameStateListener),
+                "An InconsistentGameException should have been thrown as there were not enough points to end the game.");
+        // AND its message matches our expectation
+        assertEquals("The provided tennis game is inconsistent as it showcased less points than needed to end the game.", inconsistentGameException.getMessage());
+        // AND the GameStateListener was never notified of any point
+        verifyNoInteractions(gameStateListener);
+    }
+
+    @Test
+    void testValidate_withGameStateListener_withMorePointsThanNeededToCloseTheGame() {
+        // GIVEN a list of Point where each winner is identified by a Character, which goes on after the end of the game
+        Point<Character> pointA = new Point<>('A');
+        List<Point<Character>> points = List.of(pointA, pointA, pointA, pointA, pointA);
+        // AND a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        // AND our validator that simulates actual tennis games
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+
+        // WHEN we validate the input for players identified by 'A' and 'B'
+        // THEN an InconsistentGameException is thrown
+        InconsistentGameException inconsistentGameException = assertThrows(InconsistentGameException.class,
+                () -> gameConsistencyValidator.validate('A', 'B', points, gameStateListener),
+                "An InconsistentGameException should have been thrown as there were more points than needed to actually end the game.");
+        // AND its message matches our expectation
+        assertEquals("The provided tennis game is inconsistent as it showcased more points than needed to end the game.", inconsistentGameException.getMessage());
+        // AND the GameStateListener was never notified of any point
+        verifyNoInteractions(gameStateListener);
+    }
+
+    @Test
+    void testValidate_withPointSource() {
+        // GIVEN a PointSource where each winner is identified by a Character, which forms a consistent game
+        Point<Character> pointA = new Point<>('A');
+        Point<Character> pointB = new Point<>('B');
+        PointSource<Character> points = PointSource.of(List.of(pointA, pointA, pointA, pointB, pointA));
+        // AND a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        // AND our validator that simulates actual tennis games
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+
+        // WHEN we validate the input for players identified by 'A' and 'B', THEN no exception is thrown
+        assertDoesNotThrow(() -> gameConsistencyValidator.validate('A', 'B', points));
+        assertDoesNotThrow(() -> gameConsistencyValidator.validate('A', 'B', points, gameStateListener));
+        // AND the GameStateListener was notified of each point once the game was proven consistent
+        verify(gameStateListener, times(4)).onPoint(any());
+        verify(gameStateListener).onVictory(new VictoryPoint<>('A'));
+    }
+
+    @Test
+    void testValidate_withPointSource_withPlayerAndPointMismatch() {
+        // GIVEN a PointSource where each winner is identified by a Character
+        Point<Character> pointA = new Point<>('A');
+        Point<Character> pointB = new Point<>('B');
+        PointSource<Character> points = PointSource.of(List.of(pointA, pointA, pointA, pointB, pointA));
+        // AND our validator that simulates actual tennis games
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+
+        // WHEN we validate the input for players identified by 'A' and 'C', which does not match every winner of those points
+        // THEN an InconsistentGameException is thrown
+        InconsistentGameException inconsistentGameException = assertThrows(InconsistentGameException.class,
+                () -> gameConsistencyValidator.validate('A', 'C', points),
+                "An exception should have been caught as there is a mismatch between the points' winner and the provided players.");
+        // AND its message matches our expectation
+        assertEquals("The provided tennis game points contain a non-declared player.", inconsistentGameException.getMessage());
+    }
+
+    @Test
+    void testCheck() {
+        // GIVEN our validator that simulates actual tennis games
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+
+        // WHEN we check games of each kind, as a list of points, as a PointSource and as a PointStream
+        // THEN each consistent game is valid
+        assertCheck(gameConsistencyValidator, 'A', 'B', "AAABA", ValidationResult.VALID);
+        // AND each inconsistent game is rejected with its category, and the index of its offending point
+        assertCheck(gameConsistencyValidator, 'A', 'A', "AAAA", ValidationResult.samePlayers());
+        assertCheck(gameConsistencyValidator, null, 'B', "BBBB", ValidationResult.samePlayers());
+        assertCheck(gameConsistencyValidator, 'A', 'B', "AABCAC", ValidationResult.unknownPlayer(3));
+        assertCheck(gameConsistencyValidator, 'A', 'B', "AAAABB", ValidationResult.tooManyPoints(4));
+        assertCheck(gameConsistencyValidator, 'A', 'B', "AAABBB", ValidationResult.tooFewPoints(6));
+    }
+
+    @Test
+    void testCheck_withGameStateListener() {
+        // GIVEN our validator that simulates actual tennis games
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+        // AND a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+
+        // WHEN we check an inconsistent game, while notifying the GameStateListener
+        ValidationResult validationResult = gameConsistencyValidator.check('A', 'B', toPointSource("AAA"), gameStateListener);
+        // THEN the game is rejected as it showcased less points than needed
+        assertEquals(ValidationResult.tooFewPoints(3), validationResult);
+        // AND the GameStateListener was never notified
+        verifyNoInteractions(gameStateListener);
+
+        // WHEN we check a consistent game, while notifying the GameStateListener
+        validationResult = gameConsistencyValidator.check('A', 'B', toPointSource("AAAA"), gameStateListener);
+        // THEN the game is valid
+        assertTrue(validationResult.isValid());
+        // AND the GameStateListener was notified of each point
+        verify(gameStateListener, times(3)).onPoint(any());
+        verify(gameStateListener).onVictory(new VictoryPoint<>('A'));
+    }
+
+    @Test
+    void testCheck_withPointStream_withGameStateListener() {
+        // GIVEN our validator that simulates actual tennis games
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+        // AND a GameStateListener and a GameRejectionListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+        GameRejectionListener gameRejectionListener = mock(GameRejectionListener.class);
+
+        // WHEN we check a consistent game streamed to the GameStateListener
+        ValidationResult validationResult = gameConsistencyValidator.check('A', 'B', PointStream.of(toList("AAAA")), gameStateListener, gameRejectionListener);
+        // THEN the game is valid
+        assertTrue(validationResult.isValid());
+        // AND the GameStateListener was notified of each point
+        verify(gameStateListener, times(3)).onPoint(any());
+        verify(gameStateListener).onVictory(new VictoryPoint<>('A'));
+        // AND the GameRejectionListener was never notified
+        verifyNoInteractions(gameRejectionListener);
+        clearInvocations(gameStateListener);
+
+        // WHEN we check a game streamed to the GameStateListener, whose last point comes after the victory
+        validationResult = gameConsistencyValidator.check('A', 'B', PointStream.of(toList("AAAAB")), gameStateListener, gameRejectionListener);
+        // THEN the game is rejected as it showcased more points than needed
+        assertEquals(ValidationResult.tooManyPoints(4), validationResult);
+        // AND the GameStateListener was still notified of each point of the game, as they were read before the last one
+        verify(gameStateListener, times(3)).onPoint(any());
+        verify(gameStateListener).onVictory(new VictoryPoint<>('A'));
+        // AND the GameRejectionListener was told that these four points were passed on
+        verify(gameRejectionListener).onRejection(ValidationResult.tooManyPoints(4), 4);
+        clearInvocations(gameStateListener, gameRejectionListener);
+
+        // WHEN we check a streamed game whose first point was won by a non-declared player
+        validationResult = gameConsistencyValidator.check('A', 'B', PointStream.of(toList("CAAAA")), gameStateListener, gameRejectionListener);
+        // THEN the game is rejected with the index of its offending point
+        assertEquals(ValidationResult.unknownPlayer(0), validationResult);
+        // AND the GameStateListener was never notified
+        verifyNoInteractions(gameStateListener);
+        // AND the GameRejectionListener was told that no point was passed on
+        verify(gameRejectionListener).onRejection(ValidationResult.unknownPlayer(0), 0);
+    }
+
+    @Test
+    void testValidate_throwsStacklessInconsistentGameException() {
+        // GIVEN our validator that simulates actual tennis games
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(TennisGame::new, ProcessedPointsCounter::new);
+        // WHEN we validate a game which showcased more points than needed, THEN a StacklessInconsistentGameException is thrown
+        StacklessInconsistentGameException inconsistentGameException = assertThrows(StacklessInconsistentGameException.class,
+                () -> gameConsistencyValidator.validate('A', 'B', toPointSource("BBBBA")));
+        // AND it carries the result of the validation, without any stack trace
+        assertEquals(ValidationResult.tooManyPoints(4), inconsistentGameException.getValidationResult());
+        assertEquals("The provided tennis game is inconsistent as it showcased more points than needed to end the game.", inconsistentGameException.getMessage());
+        assertEquals(0, inconsistentGameException.getStackTrace().length);
+    }
+
+    @Test
+    void testCheck_reusesPooledGames() {
+        // GIVEN a PoolingTennisGameFactory which counts the games it actually creates
+        AtomicInteger createdGames = new AtomicInteger();
+        PoolingTennisGameFactory<Character> poolingTennisGameFactory = new PoolingTennisGameFactory<>((playerA, playerB, listener) -> {
+            createdGames.incrementAndGet();
+            return new TennisGame<>(playerA, playerB, listener);
+        });
+        // AND a validator reusing its listeners
+        GameConsistencyValidator<Character> gameConsistencyValidator = new GameConsistencyValidator<>(poolingTennisGameFactory);
+
+        // WHEN we check several games, with and without a listener to notify
+        for (int i = 0; i < 3; ++i) {
+            assertCheck(gameConsistencyValidator, 'A', 'B', "AAAA", ValidationResult.VALID);
+            assertCheck(gameConsistencyValidator, 'B', 'A', "AAA", ValidationResult.tooFewPoints(3));
+            assertEquals(ValidationResult.VALID, gameConsistencyValidator.check('A', 'B', toPointSource("BBBB"), mock(GameStateListener.class)));
+        }
+
+        // THEN a single game was created, and reset with the listener of every later game
+        assertEquals(1, createdGames.get());
+    }
+
+    /**
+     * Asserts that checking the provided game, as a list of points, as a {@link PointSource} and as a {@link PointStream},
+     * results in the provided {@link ValidationResult}.
+     */
+    private static void assertCheck(final GameConsistencyValidator<Character> gameConsistencyValidator, final Character firstPlayer,
+                                    final Character secondPlayer, final String points, final ValidationResult expected) {
+        assertEquals(expected, gameConsistencyValidator.check(firstPlayer, secondPlayer, toList(points)), "Mismatch for the points " + points);
+        assertEquals(expected, gameConsistencyValidator.check(firstPlayer, secondPlayer, toPointSource(points)), "Mismatch for the points " + points);
+        assertEquals(expected, gameConsistencyValidator.check(firstPlayer, secondPlayer, PointStream.of(toList(points))), "Mismatch for the points " + points);
+    }
+
+    private static List<Point<Character>> toList(final String points) {
+        return points.chars().mapToObj(winner -> new Point<>((char) winner)).toList();
+    }
+
+    private static PointSource<Character> toPointSource(final String points) {
+        return PointSource.of(toList(points));
+    }
+}
@@ -0,0 +1,33 @@
+package fr.tennisgameprinter.domain.validator.exception;
+
+import fr.tennisgameprinter.domain.validator.result.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StacklessInconsistentGameExceptionTest {
+
+    @Test
+    void testConstructor() {
+        // GIVEN the result of a game which showcased less points than needed
+        ValidationResult validationResult = ValidationResult.tooFewPoints(3);
+        // WHEN we create a StacklessInconsistentGameException from it
+        StacklessInconsistentGameException inconsistentGameException = new StacklessInconsistentGameException(validationResult);
+        // THEN its message is the message of the result
+        assertEquals("The provided tennis game is inconsistent as it showcased less points than needed to end the game.", inconsistentGameException.getMessage());
+        // AND it carries the result
+        assertSame(validationResult, inconsistentGameException.getValidationResult());
+        // AND it has no stack trace
+        assertEquals(0, inconsistentGameException.getStackTrace().length);
+    }
+
+    @Test
+    void testThrowIfInvalid() {
+        // WHEN a valid result is asked to throw, THEN nothing is thrown
+        assertDoesNotThrow(ValidationResult.VALID::throwIfInvalid);
+        // WHEN an invalid result is asked to throw, THEN a StacklessInconsistentGameException carrying it is thrown
+        StacklessInconsistentGameException inconsistentGameException = assertThrows(StacklessInconsistentGameException.class,
+                () -> ValidationResult.unknownPlayer(2).throwIfInvalid());
+        assertEquals(ValidationResult.unknownPlayer(2), inconsistentGameException.getValidationResult());
+    }
+}
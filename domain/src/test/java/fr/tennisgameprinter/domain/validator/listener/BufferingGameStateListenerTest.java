@@ -0,0 +1,79 @@
+package fr.tennisgameprinter.domain.validator.listener;
+
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class BufferingGameStateListenerTest {
+
+    @Test
+    void testReplayTo() {
+        // GIVEN our BufferingGameStateListener
+        BufferingGameStateListener<Character> bufferingGameStateListener = new BufferingGameStateListener<>();
+        // AND it was notified of a regular point, a deuce, an advantage and a victory
+        bufferingGameStateListener.onPoint(new RegularPoint<>('A', 'B', 40, 30));
+        bufferingGameStateListener.onDeuce();
+        bufferingGameStateListener.onAdvantage(new AdvantagePoint<>('A'));
+        bufferingGameStateListener.onVictory(new VictoryPoint<>('A'));
+        // AND a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+
+        // WHEN we replay the buffered points to the GameStateListener
+        bufferingGameStateListener.replayTo(gameStateListener);
+
+        // THEN the GameStateListener was notified of each point in the same order
+        InOrder inOrder = inOrder(gameStateListener);
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 40, 30));
+        inOrder.verify(gameStateListener).onDeuce();
+        inOrder.verify(gameStateListener).onAdvantage(new AdvantagePoint<>('A'));
+        inOrder.verify(gameStateListener).onVictory(new VictoryPoint<>('A'));
+        verifyNoMoreInteractions(gameStateListener);
+        // AND the buffered points were counted
+        assertEquals(4, bufferingGameStateListener.getPointsCounter());
+        // AND the buffered deuces and advantages were counted apart
+        assertEquals(1, bufferingGameStateListener.getDeucesCounter());
+        assertEquals(1, bufferingGameStateListener.getAdvantagesCounter());
+    }
+
+    @Test
+    void testReplayTo_withoutAnyPoint() {
+        // GIVEN our BufferingGameStateListener that was never notified
+        BufferingGameStateListener<Character> bufferingGameStateListener = new BufferingGameStateListener<>();
+        // AND a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+
+        // WHEN we replay the buffered points to the GameStateListener
+        bufferingGameStateListener.replayTo(gameStateListener);
+
+        // THEN the GameStateListener was never notified
+        verifyNoInteractions(gameStateListener);
+    }
+
+    @Test
+    void testReset() {
+        // GIVEN a buffering listener notified of a few points
+        BufferingGameStateListener<Character> bufferingGameStateListener = new BufferingGameStateListener<>();
+        bufferingGameStateListener.onPoint(new RegularPoint<>('A', 'B', 40, 40));
+        bufferingGameStateListener.onDeuce();
+        bufferingGameStateListener.onAdvantage(new AdvantagePoint<>('A'));
+        // AND a GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+
+        // WHEN we reset the buffering listener, then replay its points
+        bufferingGameStateListener.reset();
+        bufferingGameStateListener.replayTo(gameStateListener);
+
+        // THEN every counter is equal to zero
+        assertEquals(0, bufferingGameStateListener.getPointsCounter());
+        assertEquals(0, bufferingGameStateListener.getDeucesCounter());
+        assertEquals(0, bufferingGameStateListener.getAdvantagesCounter());
+        // AND no point was replayed
+        verifyNoInteractions(gameStateListener);
+    }
+}
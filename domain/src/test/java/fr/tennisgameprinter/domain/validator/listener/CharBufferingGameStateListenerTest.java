@@ -0,0 +1,110 @@
+package fr.tennisgameprinter.domain.validator.listener;
+
+import fr.tennisgameprinter.domain.game.point.output.AdvantagePoint;
+import fr.tennisgameprinter.domain.game.point.output.RegularPoint;
+import fr.tennisgameprinter.domain.game.point.output.VictoryPoint;
+import fr.tennisgameprinter.domain.ports.listener.CharGameStateListener;
+import fr.tennisgameprinter.domain.ports.listener.GameStateListener;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class CharBufferingGameStateListenerTest {
+
+    @Test
+    void testReplayTo_withCharGameStateListener() {
+        // GIVEN our CharBufferingGameStateListener
+        CharBufferingGameStateListener charBufferingGameStateListener = new CharBufferingGameStateListener('A', 'B');
+        // AND it was notified of a regular point, a deuce, an advantage and a victory through its primitive callbacks
+        charBufferingGameStateListener.onPoint('A', 'B', 40, 30);
+        charBufferingGameStateListener.onDeuce();
+        charBufferingGameStateListener.onAdvantage('B');
+        charBufferingGameStateListener.onVictory('B');
+        // AND a CharGameStateListener
+        CharGameStateListener charGameStateListener = mock(CharGameStateListener.class);
+
+        // WHEN we replay the buffered points to the CharGameStateListener
+        charBufferingGameStateListener.replayTo(charGameStateListener);
+
+        // THEN the CharGameStateListener was notified of each point in the same order, through its primitive callbacks
+        InOrder inOrder = inOrder(charGameStateListener);
+        inOrder.verify(charGameStateListener).onPoint('A', 'B', 40, 30);
+        inOrder.verify(charGameStateListener).onDeuce();
+        inOrder.verify(charGameStateListener).onAdvantage('B');
+        inOrder.verify(charGameStateListener).onVictory('B');
+        verifyNoMoreInteractions(charGameStateListener);
+        // AND the buffered points were counted
+        assertEquals(4, charBufferingGameStateListener.getPointsCounter());
+        // AND the buffered deuces and advantages were counted apart
+        assertEquals(1, charBufferingGameStateListener.getDeucesCounter());
+        assertEquals(1, charBufferingGameStateListener.getAdvantagesCounter());
+    }
+
+    @Test
+    void testReplayTo_withGameStateListener() {
+        // GIVEN our CharBufferingGameStateListener
+        CharBufferingGameStateListener charBufferingGameStateListener = new CharBufferingGameStateListener('A', 'B');
+        // AND it was notified of a regular point, a deuce, an advantage and a victory the generic way
+        charBufferingGameStateListener.onPoint(new RegularPoint<>('A', 'B', 40, 30));
+        charBufferingGameStateListener.onDeuce();
+        charBufferingGameStateListener.onAdvantage(new AdvantagePoint<>('A'));
+        charBufferingGameStateListener.onVictory(new VictoryPoint<>('A'));
+        // AND a generic GameStateListener
+        GameStateListener<Character> gameStateListener = mock(GameStateListener.class);
+
+        // WHEN we replay the buffered points to the GameStateListener
+        charBufferingGameStateListener.replayTo(gameStateListener);
+
+        // THEN the GameStateListener was notified of each point in the same order
+        InOrder inOrder = inOrder(gameStateListener);
+        inOrder.verify(gameStateListener).onPoint(new RegularPoint<>('A', 'B', 40, 30));
+        inOrder.verify(gameStateListener).onDeuce();
+        inOrder.verify(gameStateListener).onAdvantage(new AdvantagePoint<>('A'));
+        inOrder.verify(gameStateListener).onVictory(new VictoryPoint<>('A'));
+        verifyNoMoreInteractions(gameStateListener);
+    }
+
+    @Test
+    void testReplayTo_withLongGame() {
+        // GIVEN our CharBufferingGameStateListener, notified of more points than its initial capacity
+        CharBufferingGameStateListener charBufferingGameStateListener = new CharBufferingGameStateListener('A', 'B');
+        for (int i = 0; i < 100; ++i) {
+            charBufferingGameStateListener.onAdvantage('A');
+            charBufferingGameStateListener.onDeuce();
+        }
+        // AND a CharGameStateListener
+        CharGameStateListener charGameStateListener = mock(CharGameStateListener.class);
+
+        // WHEN we replay the buffered points to the CharGameStateListener
+        charBufferingGameStateListener.replayTo(charGameStateListener);
+
+        // THEN every point was replayed
+        verify(charGameStateListener, times(100)).onAdvantage('A');
+        verify(charGameStateListener, times(100)).onDeuce();
+        assertEquals(200, charBufferingGameStateListener.getPointsCounter());
+    }
+
+    @Test
+    void testReset() {
+        // GIVEN a char buffering listener notified of a few points
+        CharBufferingGameStateListener charBufferingGameStateListener = new CharBufferingGameStateListener('A', 'B');
+        charBufferingGameStateListener.onPoint('A', 'B', 40, 30);
+        charBufferingGameStateListener.onDeuce();
+        charBufferingGameStateListener.onAdvantage('A');
+        // AND a CharGameStateListener
+        CharGameStateListener charGameStateListener = mock(CharGameStateListener.class);
+
+        // WHEN we reset the char buffering listener, then replay its points
+        charBufferingGameStateListener.reset();
+        charBufferingGameStateListener.replayTo(charGameStateListener);
+
+        // THEN every counter is equal to zero
+        assertEquals(0, charBufferingGameStateListener.getPointsCounter());
+        assertEquals(0, charBufferingGameStateListener.getDeucesCounter());
+        assertEquals(0, charBufferingGameStateListener.getAdvantagesCounter());
+        // AND no point was replayed
+        verifyNoInteractions(charGameStateListener);
+    }
+}
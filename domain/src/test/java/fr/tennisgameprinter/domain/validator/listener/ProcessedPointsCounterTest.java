@@ -100,4 +100,15 @@ class ProcessedPointsCounterTest {
         // THEN it is equal to ten
         assertEquals(10, pointsCounter);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testReset() {
+        // GIVEN a counter notified of a few points
+        processedPointsCounter.onPoint(new RegularPoint<>('A', 'B', 15, 0));
+        processedPointsCounter.onDeuce();
+        // WHEN we reset it
+        processedPointsCounter.reset();
+        // THEN the points counter is equal to zero
+        assertEquals(0, processedPointsCounter.getPointsCounter());
+    }
+}
@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Compares the startup time of the Spring entrypoint against the one of the Spring-free launcher, by timing how long
+# each one takes to start, prompt for input, and exit upon the 'exit' command.
+#
+# Usage, from the project's root, once the project is packaged : ./launcher/compare-startup.sh [runs]
+set -euo pipefail
+
+RUNS="${1:-10}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+BOOTSTRAP_JAR="$ROOT/bootstrap/target/bootstrap-1.0-SNAPSHOT.jar"
+LAUNCHER_JAR="$ROOT/launcher/target/launcher.jar"
+
+for jar in "$BOOTSTRAP_JAR" "$LAUNCHER_JAR"; do
+    if [[ ! -f "$jar" ]]; then
+        echo "$jar is missing, please run 'mvn package -DskipTests' first." >&2
+        exit 1
+    fi
+done
+
+# Prints the average and minimum wall-clock time, in milliseconds, of starting the provided jar and exiting it.
+measure() {
+    local name="$1" jar="$2" total=0 min=""
+    # warms up the file system cache
+    echo exit | java -jar "$jar" > /dev/null
+    for ((run = 0; run < RUNS; ++run)); do
+        local start end elapsed
+        start=$(date +%s%N)
+        echo exit | java -jar "$jar" > /dev/null
+        end=$(date +%s%N)
+        elapsed=$(( (end - start) / 1000000 ))
+        total=$(( total + elapsed ))
+        if [[ -z "$min" || "$elapsed" -lt "$min" ]]; then
+            min=$elapsed
+        fi
+    done
+    printf '%-10s average %5d ms / min %5d ms over %d runs\n' "$name" $(( total / RUNS )) "$min" "$RUNS"
+}
+
+measure "spring" "$BOOTSTRAP_JAR"
+measure "launcher" "$LAUNCHER_JAR"
@@ -0,0 +1,144 @@
+package fr.tennisgameprinter.launcher;
+
+import fr.tennisgameprinter.adapters.assembly.TennisGamePrinterAssembly;
+import fr.tennisgameprinter.adapters.input.TennisGameBatchFileReader;
+import fr.tennisgameprinter.adapters.input.TennisGameInputReader;
+import fr.tennisgameprinter.adapters.metrics.JmxPipelineMetrics;
+import fr.tennisgameprinter.adapters.network.TennisGameServer;
+import fr.tennisgameprinter.domain.CachingTennisGameProcessor;
+import fr.tennisgameprinter.domain.metrics.PipelineMetrics;
+
+import javax.management.JMException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lightweight entrypoint of our application, which wires our components through a {@link TennisGamePrinterAssembly}
+ * rather than through Spring, so that short-lived invocations do not pay for the startup of a Spring context. It wires
+ * the exact same components as the bootstrap module, and accepts the exact same arguments.
+ */
+public class TennisGamePrinterLauncher {
+
+    /** The prefix of the argument that holds the path of a batch file to process. */
+    static final String BATCH_ARGUMENT = "--batch=";
+    /** The argument that starts the TCP server. */
+    static final String SERVER_ARGUMENT = "--server";
+    /** The argument that processes the piped standard input without prompting. */
+    static final String PIPE_ARGUMENT = "--pipe";
+    /** The argument that streams a single game of any length from the standard input without prompting. */
+    static final String STREAM_ARGUMENT = "--stream";
+    /** The prefix of the argument that holds the port of the TCP server. */
+    static final String SERVER_PORT_ARGUMENT = "--tennis-game-printer.server.port=";
+    /** The prefix of the argument that holds the maximum number of games whose outcome is remembered. */
+    static final String CACHE_MAXIMUM_SIZE_ARGUMENT = "--tennis-game-printer.cache.maximum-size=";
+    /** The prefix of the argument that holds the maximum number of points remembered across all games. */
+    static final String CACHE_MAXIMUM_WEIGHT_ARGUMENT = "--tennis-game-printer.cache.maximum-weight=";
+    /** The prefix of the argument that holds whether the pipeline metrics are initially switched on. */
+    static final String METRICS_ENABLED_ARGUMENT = "--tennis-game-printer.metrics.enabled=";
+
+    private final String[] args;
+    private final TennisGameInputReader tennisGameInputReader;
+    private final TennisGameBatchFileReader tennisGameBatchFileReader;
+    private final TennisGameServer tennisGameServer;
+    private final CachingTennisGameProcessor<String, Character> tennisGameProcessor;
+    private final TennisGamePrinterAssembly tennisGamePrinterAssembly;
+
+    /**
+     * Creates a new {@link TennisGamePrinterLauncher}, which wires our components according to the provided arguments.
+     * @param args the arguments of the application.
+     * @param scanner the {@link Scanner} which will read user input.
+     */
+    TennisGamePrinterLauncher(final String[] args, final Scanner scanner) {
+        this.args = args;
+        this.tennisGamePrinterAssembly = new TennisGamePrinterAssembly(
+                new PipelineMetrics(argument(METRICS_ENABLED_ARGUMENT).map(Boolean::parseBoolean).orElse(false)));
+        this.tennisGameProcessor = tennisGamePrinterAssembly.tennisGameProcessor(
+                argument(CACHE_MAXIMUM_SIZE_ARGUMENT).map(Integer::parseInt).orElse(TennisGamePrinterAssembly.DEFAULT_CACHE_MAXIMUM_SIZE),
+                argument(CACHE_MAXIMUM_WEIGHT_ARGUMENT).map(Long::parseLong).orElse(CachingTennisGameProcessor.DEFAULT_MAXIMUM_WEIGHT)
+        );
+        this.tennisGameInputReader = tennisGamePrinterAssembly.tennisGameInputReader(tennisGameProcessor, scanner);
+        this.tennisGameBatchFileReader = tennisGamePrinterAssembly.tennisGameBatchFileReader(tennisGamePrinterAssembly.batchTennisGameProcessor());
+        this.tennisGameServer = tennisGamePrinterAssembly.tennisGameServer(tennisGameProcessor,
+                argument(SERVER_PORT_ARGUMENT).map(Integer::parseInt).orElse(TennisGamePrinterAssembly.DEFAULT_SERVER_PORT));
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException, JMException {
+        new TennisGamePrinterLauncher(args, new Scanner(System.in)).run();
+    }
+
+    /**
+     * Processes the batch file provided through the {@code --batch=<file>} argument, serves games over TCP until
+     * shutdown when the {@code --server} argument is provided, filters the piped standard input when the {@code --pipe}
+     * argument is provided, streams a single game from the standard input when the {@code --stream} argument is provided,
+     * or starts our {@link TennisGameInputReader} otherwise.
+     * <p>
+     * The pipeline metrics are exposed over JMX meanwhile, so that they may be switched on at runtime, except for batch
+     * files, piped and streamed input whose metrics are not switched on upon startup, as initializing JMX would outweigh such
+     * short-lived invocations. JMX is initialized before serving games, and in the background of the interactive
+     * session, so that its prompt shows up without waiting for it.
+     * @throws IOException if the batch file or the piped input could not be read, or if the server could not be started.
+     * @throws InterruptedException if the thread was interrupted while serving games.
+     * @throws JMException if the pipeline metrics could not be exposed over JMX.
+     */
+    void run() throws IOException, InterruptedException, JMException {
+        Optional<Path> batchFile = argument(BATCH_ARGUMENT).map(Path::of);
+        boolean isServer = Arrays.asList(args).contains(SERVER_ARGUMENT);
+        boolean isPipe = Arrays.asList(args).contains(PIPE_ARGUMENT);
+        boolean isStream = Arrays.asList(args).contains(STREAM_ARGUMENT);
+        AtomicReference<JmxPipelineMetrics> jmxPipelineMetrics = new AtomicReference<>();
+        AtomicReference<JMException> jmxFailure = new AtomicReference<>();
+        Thread jmxRegistration = null;
+        if (isServer || tennisGamePrinterAssembly.getPipelineMetrics().isEnabled()) {
+            jmxPipelineMetrics.set(tennisGamePrinterAssembly.jmxPipelineMetrics(tennisGameProcessor));
+        } else if (batchFile.isEmpty() && !isPipe && !isStream) {
+            jmxRegistration = Thread.ofPlatform().daemon().name("jmx-registration").start(() -> {
+                try {
+                    jmxPipelineMetrics.set(tennisGamePrinterAssembly.jmxPipelineMetrics(tennisGameProcessor));
+                } catch (JMException e) {
+                    jmxFailure.set(e);
+                }
+            });
+        }
+        try {
+            if (batchFile.isPresent()) {
+                tennisGameBatchFileReader.process(batchFile.get());
+            } else if (isServer) {
+                try (tennisGameServer) {
+                    tennisGameServer.start();
+                    tennisGameServer.awaitTermination();
+                }
+            } else if (isPipe) {
+                tennisGameInputReader.startPipe(System.in, System.out);
+            } else if (isStream) {
+                tennisGameInputReader.startStream(System.in, System.out);
+            } else {
+                tennisGameInputReader.start();
+            }
+        } finally {
+            if (jmxRegistration != null) {
+                jmxRegistration.join();
+            }
+            if (jmxPipelineMetrics.get() != null) {
+                jmxPipelineMetrics.get().close();
+            }
+        }
+        if (jmxFailure.get() != null) {
+            throw jmxFailure.get();
+        }
+    }
+
+    /**
+     * @param prefix the prefix of the argument.
+     * @return the value of the first argument with the provided prefix, if any.
+     */
+    private Optional<String> argument(final String prefix) {
+        return Arrays.stream(args)
+                .filter(arg -> arg.startsWith(prefix))
+                .map(arg -> arg.substring(prefix.length()))
+                .findFirst();
+    }
+}
@@ -0,0 +1,131 @@
+package fr.tennisgameprinter.launcher;
+
+import fr.tennisgameprinter.adapters.metrics.JmxPipelineMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TennisGamePrinterLauncherTest {
+
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream standardOutput = System.out;
+    private final InputStream standardInput = System.in;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(standardOutput);
+        System.setIn(standardInput);
+    }
+
+    @Test
+    void testRun_withUserInput() throws IOException, InterruptedException, JMException {
+        // GIVEN a user input made of a consistent game, an inconsistent game, and the exit command
+        Scanner scanner = new Scanner("AAAA" + NEW_LINE + "AAA" + NEW_LINE + "exit" + NEW_LINE);
+        // AND our TennisGamePrinterLauncher, wired without any argument
+        TennisGamePrinterLauncher tennisGamePrinterLauncher = new TennisGamePrinterLauncher(new String[0], scanner);
+
+        // WHEN we run it
+        tennisGamePrinterLauncher.run();
+
+        // THEN each game was processed just like through the bootstrap module
+        assertEquals(
+                "Tennis Game Printer started. Type 'exit' to quit." + NEW_LINE
+                        + "> Player A : 15 / Player B : 0" + NEW_LINE
+                        + "Player A : 30 / Player B : 0" + NEW_LINE
+                        + "Player A : 40 / Player B : 0" + NEW_LINE
+                        + "Player A wins the game" + NEW_LINE
+                        + "> The provided tennis game is inconsistent as it showcased less points than needed to end the game." + NEW_LINE
+                        + "> Exiting Tennis Game Printer..." + NEW_LINE,
+                outContent.toString()
+        );        // AND the pipeline metrics exposed over JMX in the background of the session were unregistered on exit
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(JmxPipelineMetrics.OBJECT_NAME)));
+    }
+
+    @Test
+    void testRun_withBatchFile() throws IOException, InterruptedException, JMException {
+        // GIVEN a batch file
+        Path file = Files.writeString(tempDir.resolve("games.txt"), "AAAA\nBBBB\n");
+        // AND our TennisGamePrinterLauncher, wired with the batch argument
+        TennisGamePrinterLauncher tennisGamePrinterLauncher =
+                new TennisGamePrinterLauncher(new String[]{TennisGamePrinterLauncher.BATCH_ARGUMENT + file}, new Scanner(""));
+
+        // WHEN we run it
+        tennisGamePrinterLauncher.run();
+
+        // THEN both games of the batch file were processed
+        assertTrue(outContent.toString().contains("Player A wins the game" + NEW_LINE + "Player A : 0 / Player B : 15"));
+        assertTrue(outContent.toString().contains("Processed 2 games (0 invalid)"));
+    }
+
+    @Test
+    void testRun_withPipe() throws IOException, InterruptedException, JMException {
+        // GIVEN a piped input made of a consistent game and an inconsistent game
+        System.setIn(new ByteArrayInputStream(("AAAA" + NEW_LINE + "AAA" + NEW_LINE).getBytes()));
+        // AND our TennisGamePrinterLauncher, wired with the pipe argument
+        TennisGamePrinterLauncher tennisGamePrinterLauncher =
+                new TennisGamePrinterLauncher(new String[]{TennisGamePrinterLauncher.PIPE_ARGUMENT}, new Scanner(""));
+
+        // WHEN we run it
+        tennisGamePrinterLauncher.run();
+
+        // THEN each game was processed, without any prompt
+        assertEquals(
+                "Player A : 15 / Player B : 0" + NEW_LINE
+                        + "Player A : 30 / Player B : 0" + NEW_LINE
+                        + "Player A : 40 / Player B : 0" + NEW_LINE
+                        + "Player A wins the game" + NEW_LINE
+                        + "The provided tennis game is inconsistent as it showcased less points than needed to end the game." + NEW_LINE,
+                outContent.toString()
+        );
+    }
+
+    @Test
+    void testRun_withStream() throws IOException, InterruptedException, JMException {
+        // GIVEN a single game streamed through the standard input, whose last point comes after the victory
+        System.setIn(new ByteArrayInputStream(("AAAAB" + NEW_LINE).getBytes()));
+        // AND our TennisGamePrinterLauncher, wired with the stream argument
+        TennisGamePrinterLauncher tennisGamePrinterLauncher =
+                new TennisGamePrinterLauncher(new String[]{TennisGamePrinterLauncher.STREAM_ARGUMENT}, new Scanner(""));
+
+        // WHEN we run it
+        tennisGamePrinterLauncher.run();
+
+        // THEN the points read before the rejection were rendered, followed by the rejection, without any prompt
+        assertEquals(
+                "Player A : 15 / Player B : 0" + NEW_LINE
+                        + "Player A : 30 / Player B : 0" + NEW_LINE
+                        + "Player A : 40 / Player B : 0" + NEW_LINE
+                        + "Player A wins the game" + NEW_LINE
+                        + "The 4 points above were rejected. "
+                        + "The provided tennis game is inconsistent as it showcased more points than needed to end the game." + NEW_LINE,
+                outContent.toString()
+        );
+    }
+}